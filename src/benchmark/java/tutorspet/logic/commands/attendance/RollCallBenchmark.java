@@ -0,0 +1,135 @@
+package tutorspet.logic.commands.attendance;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * Measures the time taken and the memory allocated by each {@code add-attendance} and {@code edit-attendance}
+ * command of a roll-call, where the attendance of every student of a class is added, and then edited, for one week
+ * of a lesson. Each week of the lesson is a separate roll-call, and the weeks are filled in one after another.
+ *
+ * Run with {@code gradlew rollCallBenchmark}, optionally with the number of students and weeks as arguments, e.g.
+ * {@code gradlew rollCallBenchmark --args="30 13"}.
+ */
+public class RollCallBenchmark {
+
+    private static final int DEFAULT_STUDENT_COUNT = 300;
+    private static final int DEFAULT_WEEK_COUNT = 52;
+    private static final int WARMUP_WEEKS = 10;
+
+    private static final Index CLASS_INDEX = Index.fromOneBased(1);
+    private static final Index LESSON_INDEX = Index.fromOneBased(1);
+
+    /**
+     * Runs the benchmark and prints the median time and memory allocated per command.
+     */
+    public static void main(String[] args) throws CommandException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STUDENT_COUNT;
+        int weekCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WEEK_COUNT;
+        if (weekCount <= WARMUP_WEEKS) {
+            throw new IllegalArgumentException("The number of weeks must be more than " + WARMUP_WEEKS);
+        }
+        Model model = new ModelManager(createTutorsPet(studentCount, weekCount), new UserPrefs());
+
+        int measuredWeekCount = weekCount - WARMUP_WEEKS;
+        long[] addTimes = new long[measuredWeekCount];
+        long[] addAllocations = new long[measuredWeekCount];
+        long[] editTimes = new long[measuredWeekCount];
+        long[] editAllocations = new long[measuredWeekCount];
+        for (int weekNumber = 1; weekNumber <= weekCount; weekNumber++) {
+            Week week = new Week(Index.fromOneBased(weekNumber));
+            long start = System.nanoTime();
+            long startAllocation = getAllocatedBytes();
+            for (int i = 1; i <= studentCount; i++) {
+                new AddAttendanceCommand(CLASS_INDEX, LESSON_INDEX, Index.fromOneBased(i), week,
+                        new Attendance(i % (Attendance.UPPER_BOUND + 1))).execute(model);
+            }
+            long added = System.nanoTime();
+            long addedAllocation = getAllocatedBytes();
+            for (int i = 1; i <= studentCount; i++) {
+                EditAttendanceCommand.EditAttendanceDescriptor descriptor =
+                        new EditAttendanceCommand.EditAttendanceDescriptor();
+                descriptor.setParticipationScore((i + 1) % (Attendance.UPPER_BOUND + 1));
+                Command command = new EditAttendanceCommand(CLASS_INDEX, LESSON_INDEX, Index.fromOneBased(i), week,
+                        descriptor);
+                command.execute(model);
+            }
+            long edited = System.nanoTime();
+            long editedAllocation = getAllocatedBytes();
+
+            int run = weekNumber - 1 - WARMUP_WEEKS;
+            if (run >= 0) {
+                addTimes[run] = (added - start) / studentCount;
+                addAllocations[run] = (addedAllocation - startAllocation) / studentCount;
+                editTimes[run] = (edited - added) / studentCount;
+                editAllocations[run] = (editedAllocation - addedAllocation) / studentCount;
+            }
+        }
+
+        System.out.printf("%d students, %d weeks, medians of %d roll-calls%n", studentCount, weekCount,
+                measuredWeekCount);
+        System.out.printf("%-16s %14s %18s%n", "Command", "Time (us)", "Allocated (KiB)");
+        System.out.printf("%-16s %14.1f %18.1f%n", AddAttendanceCommand.COMMAND_WORD, median(addTimes) / 1e3,
+                median(addAllocations) / 1024.0);
+        System.out.printf("%-16s %14.1f %18.1f%n", EditAttendanceCommand.COMMAND_WORD, median(editTimes) / 1e3,
+                median(editAllocations) / 1024.0);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far.
+     */
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Returns TutorsPet data with a class of {@code studentCount} students and a lesson of {@code weekCount} weeks
+     * without any attendance.
+     */
+    private static TutorsPet createTutorsPet(int studentCount, int weekCount) {
+        TutorsPet tutorsPet = new TutorsPet();
+        Set<UUID> studentUuids = new HashSet<>();
+        for (int i = 0; i < studentCount; i++) {
+            Student student = new Student(new Name("Student " + i), new Telegram("student_" + i),
+                    new Email("student" + i + "@example.com"), Set.of());
+            tutorsPet.addStudent(student);
+            studentUuids.add(student.getUuid());
+        }
+
+        Lesson lesson = new Lesson(LocalTime.of(10, 0), LocalTime.of(12, 0), Day.MONDAY,
+                new NumberOfOccurrences(weekCount), new Venue("COM1 B1-03"));
+        tutorsPet.addModuleClass(new ModuleClass(new Name("CS2103T Tutorial"), studentUuids, List.of(lesson)));
+        return tutorsPet;
+    }
+}
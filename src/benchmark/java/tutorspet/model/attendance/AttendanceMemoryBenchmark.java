@@ -0,0 +1,93 @@
+package tutorspet.model.attendance;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compares the memory taken by the attendances of lessons when they are kept as one {@link AttendanceRecord} map
+ * for each week, as they were before {@link AttendanceMatrix}, and when they are kept in an
+ * {@link AttendanceRecordList}.
+ * This is a plain program rather than a JMH benchmark, as JMH is not a dependency of the project and measures time
+ * rather than retained memory. The memory is measured once in a single JVM after forcing garbage collection, so it
+ * only varies with the JVM's object layout, and needs no warmup.
+ *
+ * Run with {@code gradlew attendanceBenchmark}, optionally with the number of lessons, weeks and students as
+ * arguments, e.g. {@code gradlew attendanceBenchmark --args="50 52 300"}.
+ */
+public class AttendanceMemoryBenchmark {
+
+    private static final int DEFAULT_LESSON_COUNT = 20;
+    private static final int DEFAULT_WEEK_COUNT = 52;
+    private static final int DEFAULT_STUDENT_COUNT = 300;
+
+    /**
+     * Runs the benchmark and prints the memory retained by each layout.
+     */
+    public static void main(String[] args) {
+        int lessonCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LESSON_COUNT;
+        int weekCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WEEK_COUNT;
+        int studentCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_STUDENT_COUNT;
+        List<UUID> studentUuids = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            studentUuids.add(UUID.randomUUID());
+        }
+        long attendanceCount = (long) lessonCount * weekCount * studentCount;
+
+        long before = getUsedMemory();
+        List<List<AttendanceRecord>> recordLists = new ArrayList<>();
+        for (int i = 0; i < lessonCount; i++) {
+            recordLists.add(createRecords(weekCount, studentUuids));
+        }
+        long recordListMemory = getUsedMemory() - before;
+        if (recordLists.size() != lessonCount) {
+            throw new AssertionError();
+        }
+        recordLists = null;
+
+        before = getUsedMemory();
+        List<AttendanceRecordList> attendanceRecordLists = new ArrayList<>();
+        for (int i = 0; i < lessonCount; i++) {
+            attendanceRecordLists.add(new AttendanceRecordList(createRecords(weekCount, studentUuids)));
+        }
+        long attendanceRecordListMemory = getUsedMemory() - before;
+        if (attendanceRecordLists.size() != lessonCount) {
+            throw new AssertionError();
+        }
+
+        System.out.printf("%d lessons of %d weeks with %d students, %d attendances%n", lessonCount, weekCount,
+                studentCount, attendanceCount);
+        System.out.printf("%-22s %12s %16s%n", "Layout", "Memory (KiB)", "Per attendance (B)");
+        System.out.printf("%-22s %12.1f %16.1f%n", "AttendanceRecord maps", recordListMemory / 1024.0,
+                (double) recordListMemory / attendanceCount);
+        System.out.printf("%-22s %12.1f %16.1f%n", "AttendanceMatrix", attendanceRecordListMemory / 1024.0,
+                (double) attendanceRecordListMemory / attendanceCount);
+    }
+
+    /**
+     * Returns the records of a lesson where every student has an attendance in every week, with a separate
+     * {@code Attendance} for each score, like the records read from a data file.
+     */
+    private static List<AttendanceRecord> createRecords(int weekCount, List<UUID> studentUuids) {
+        List<AttendanceRecord> records = new ArrayList<>();
+        for (int week = 0; week < weekCount; week++) {
+            Map<UUID, Attendance> attendances = new HashMap<>();
+            int score = week;
+            for (UUID studentUuid : studentUuids) {
+                attendances.put(studentUuid, new Attendance(score++ % (Attendance.UPPER_BOUND + 1)));
+            }
+            records.add(new AttendanceRecord(attendances));
+        }
+        return records;
+    }
+
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
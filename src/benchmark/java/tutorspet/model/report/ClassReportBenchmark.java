@@ -0,0 +1,144 @@
+package tutorspet.model.report;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * Measures the time taken to compute the reports of every class with 1, 2, 4 and so on, up to the number of
+ * available processors, threads.
+ * The attendances of every lesson are loaded while the reports are computed, as for the first report after the
+ * application starts, since loading them is most of the work.
+ * This is a plain program rather than a JMH benchmark, as JMH is not a dependency of the project. It approximates
+ * JMH's warmup and measurement iterations with discarded and measured runs for each number of threads, and relies on
+ * gradle starting a new JVM for each run of the task in place of JMH's forks, so its results are noisier than those
+ * of JMH. The speedup can only be measured on a machine with several processors.
+ *
+ * Run with {@code gradlew classReportBenchmark}, optionally with the number of classes, students in each class and
+ * weeks as arguments, e.g. {@code gradlew classReportBenchmark --args="100 300 13"}.
+ */
+public class ClassReportBenchmark {
+
+    private static final int DEFAULT_CLASS_COUNT = 50;
+    private static final int DEFAULT_STUDENT_COUNT = 300;
+    private static final int DEFAULT_WEEK_COUNT = 13;
+    private static final int LESSONS_PER_CLASS = 2;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+
+    /**
+     * Runs the benchmark and prints the median time taken with each number of threads.
+     */
+    public static void main(String[] args) {
+        int classCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLASS_COUNT;
+        int studentCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_STUDENT_COUNT;
+        int weekCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_WEEK_COUNT;
+
+        Map<UUID, Student> students = new HashMap<>();
+        List<Set<UUID>> classStudentUuids = new ArrayList<>();
+        List<List<AttendanceRecord>> lessonRecords = new ArrayList<>();
+        for (int i = 0; i < classCount; i++) {
+            List<UUID> studentUuids = new ArrayList<>();
+            for (int j = 0; j < studentCount; j++) {
+                Student student = new Student(new Name("Student " + i + " " + j),
+                        new Telegram("student_" + i + "_" + j), new Email("student" + i + "_" + j + "@example.com"),
+                        Set.of());
+                students.put(student.getUuid(), student);
+                studentUuids.add(student.getUuid());
+            }
+            classStudentUuids.add(Set.copyOf(studentUuids));
+            for (int lesson = 0; lesson < LESSONS_PER_CLASS; lesson++) {
+                lessonRecords.add(createRecords(weekCount, studentUuids));
+            }
+        }
+
+        System.out.printf("%d classes of %d students with %d lessons of %d weeks, medians of %d runs%n", classCount,
+                studentCount, LESSONS_PER_CLASS, weekCount, MEASURED_RUNS);
+        System.out.printf("%-8s %12s %9s%n", "Threads", "Time (ms)", "Speedup");
+        if (Runtime.getRuntime().availableProcessors() == 1) {
+            System.out.println("Only one processor is available, so the speedup of more threads is not measured");
+        }
+        double singleThreadTime = 0;
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            long[] times = new long[MEASURED_RUNS];
+            for (int run = -WARMUP_RUNS; run < MEASURED_RUNS; run++) {
+                List<ModuleClass> moduleClasses = createModuleClasses(classStudentUuids, lessonRecords, weekCount);
+                long start = System.nanoTime();
+                List<ClassReport> classReports = ClassReport.of(moduleClasses, students::get, pool);
+                long time = System.nanoTime() - start;
+                if (classReports.size() != classCount) {
+                    throw new AssertionError();
+                }
+                if (run >= 0) {
+                    times[run] = time;
+                }
+            }
+            pool.shutdown();
+
+            double medianTime = median(times) / 1e6;
+            singleThreadTime = threads == 1 ? medianTime : singleThreadTime;
+            System.out.printf("%-8d %12.1f %9.2f%n", threads, medianTime, singleThreadTime / medianTime);
+        }
+    }
+
+    /**
+     * Returns classes whose lessons load {@code lessonRecords} when their attendances are first needed.
+     */
+    private static List<ModuleClass> createModuleClasses(List<Set<UUID>> classStudentUuids,
+            List<List<AttendanceRecord>> lessonRecords, int weekCount) {
+        List<ModuleClass> moduleClasses = new ArrayList<>();
+        for (int i = 0; i < classStudentUuids.size(); i++) {
+            List<Lesson> lessons = new ArrayList<>();
+            for (int lesson = 0; lesson < LESSONS_PER_CLASS; lesson++) {
+                List<AttendanceRecord> records = lessonRecords.get(i * LESSONS_PER_CLASS + lesson);
+                lessons.add(new Lesson(LocalTime.of(8 + 2 * lesson, 0), LocalTime.of(9 + 2 * lesson, 0),
+                        Day.MONDAY, new NumberOfOccurrences(weekCount), new Venue("COM1 B1-03"),
+                        new AttendanceRecordList(new NumberOfOccurrences(weekCount), () -> records)));
+            }
+            moduleClasses.add(new ModuleClass(new Name("Class " + i), classStudentUuids.get(i), lessons));
+        }
+        return moduleClasses;
+    }
+
+    /**
+     * Returns the records of a lesson where every student has an attendance in every week.
+     */
+    private static List<AttendanceRecord> createRecords(int weekCount, List<UUID> studentUuids) {
+        List<AttendanceRecord> records = new ArrayList<>();
+        for (int week = 0; week < weekCount; week++) {
+            Map<UUID, Attendance> attendances = new HashMap<>();
+            int score = week;
+            for (UUID studentUuid : studentUuids) {
+                attendances.put(studentUuid, new Attendance(score++ % (Attendance.UPPER_BOUND + 1)));
+            }
+            records.add(new AttendanceRecord(attendances));
+        }
+        return records;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,73 @@
+package tutorspet.model.student;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.tag.Tag;
+
+/**
+ * Measures the time taken to search students by keywords as they would be typed, one keystroke at a time, including
+ * keywords with typos.
+ * The first search, which builds the search index, is reported separately.
+ *
+ * Run with {@code gradlew searchBenchmark}, optionally with the number of students as an argument, e.g.
+ * {@code gradlew searchBenchmark --args="100000"}.
+ */
+public class StudentSearchBenchmark {
+
+    private static final int DEFAULT_STUDENT_COUNT = 50000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 11;
+    private static final long SEED = 2103;
+
+    private static final String[] GIVEN_NAMES = {"Alex", "Alice", "Benson", "Bernice", "Charlotte", "David", "Irfan",
+        "Roy", "Sarah", "Wei Ming", "Xin Yi", "Priya", "Kumar", "Hui Min", "Jun Jie", "Nurul"};
+    private static final String[] FAMILY_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Ng", "Wong", "Goh", "Lee", "Chua", "Koh", "Ong", "Teo"};
+    private static final String[] QUERIES = {"a", "al", "ale", "alex", "alex y", "alex yeo", "alxe", "balakrishan",
+        "student_4242", "year2"};
+
+    /**
+     * Runs the benchmark and prints the median time taken by each search.
+     */
+    public static void main(String[] args) {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STUDENT_COUNT;
+        UniqueStudentList students = createStudents(studentCount);
+
+        long start = System.nanoTime();
+        students.search(List.of("a"));
+        System.out.printf("%d students, first search with index build: %.1f ms%n", studentCount,
+                (System.nanoTime() - start) / 1e6);
+
+        System.out.printf("%-14s %8s %10s%n", "Keywords", "Results", "Time (ms)");
+        for (String query : QUERIES) {
+            List<String> keywords = Arrays.asList(query.split("\\s+"));
+            long[] times = new long[MEASURED_RUNS];
+            int resultCount = 0;
+            for (int run = -WARMUP_RUNS; run < MEASURED_RUNS; run++) {
+                start = System.nanoTime();
+                resultCount = students.search(keywords).size();
+                if (run >= 0) {
+                    times[run] = System.nanoTime() - start;
+                }
+            }
+            Arrays.sort(times);
+            System.out.printf("%-14s %8d %10.2f%n", query, resultCount, times[MEASURED_RUNS / 2] / 1e6);
+        }
+    }
+
+    private static UniqueStudentList createStudents(int studentCount) {
+        Random random = new Random(SEED);
+        UniqueStudentList students = new UniqueStudentList();
+        for (int i = 0; i < studentCount; i++) {
+            String name = GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)] + " "
+                    + FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)];
+            students.add(new Student(new Name(name), new Telegram("student_" + i),
+                    new Email("e" + (1000000 + i) + "@u.nus.edu"), Set.of(new Tag("year" + (i % 4 + 1)))));
+        }
+        return students;
+    }
+}
@@ -0,0 +1,176 @@
+package tutorspet.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import tutorspet.commons.core.StorageFormat;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * Compares the time taken to save and load TutorsPet data, and the size of the data files, in each
+ * {@link StorageFormat}. Saves are timed both for all of the data, and for a change to a single class, and loads
+ * both with and without lazily loaded attendance.
+ *
+ * Run with {@code gradlew benchmark}, optionally with the number of students as an argument, e.g.
+ * {@code gradlew benchmark --args=5000}.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int DEFAULT_STUDENT_COUNT = 2000;
+    private static final int STUDENTS_PER_CLASS = 20;
+    private static final int LESSONS_PER_CLASS = 2;
+    private static final int OCCURRENCES_PER_LESSON = 13;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    /**
+     * Runs the benchmark and prints the median times and the file sizes.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        int studentCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_STUDENT_COUNT;
+        TutorsPet tutorsPet = createTutorsPet(studentCount);
+        Path folder = Files.createTempDirectory("tutorspet-benchmark");
+
+        System.out.printf("%d students, %d classes%n", tutorsPet.getStudentList().size(),
+                tutorsPet.getModuleClassList().size());
+        System.out.printf("%-14s %12s %12s %12s %12s %12s%n", "Format", "Save (ms)", "Edit (ms)", "Load (ms)",
+                "Lazy (ms)", "Size (KiB)");
+        for (StorageFormat format : StorageFormat.values()) {
+            Path filePath = folder.resolve("tutorspet." + format.name().toLowerCase());
+            TutorsPetStorage storage = TutorsPetFileConverter.createStorage(filePath, format);
+            TutorsPetStorage lazyStorage = TutorsPetFileConverter.createStorage(filePath, format, true);
+
+            long[] saveTimes = new long[MEASURED_RUNS];
+            long[] editTimes = new long[MEASURED_RUNS];
+            long[] loadTimes = new long[MEASURED_RUNS];
+            long[] lazyLoadTimes = new long[MEASURED_RUNS];
+            for (int run = -WARMUP_RUNS; run < MEASURED_RUNS; run++) {
+                long start = System.nanoTime();
+                storage.saveTutorsPet(tutorsPet);
+                long saved = System.nanoTime();
+                ModuleClass moduleClass = tutorsPet.getModuleClassList().get(run + WARMUP_RUNS);
+                tutorsPet.setModuleClass(moduleClass, new ModuleClass(moduleClass.getName(),
+                        moduleClass.getStudentUuids(), moduleClass.getLessons()));
+                long editStart = System.nanoTime();
+                storage.saveTutorsPet(tutorsPet);
+                long edited = System.nanoTime();
+                if (!tutorsPet.equals(storage.readTutorsPet().get())) {
+                    throw new AssertionError("Data loaded in " + format + " differs from the data saved");
+                }
+                long loaded = System.nanoTime();
+                lazyStorage.readTutorsPet();
+                long lazilyLoaded = System.nanoTime();
+
+                if (run >= 0) {
+                    saveTimes[run] = saved - start;
+                    editTimes[run] = edited - editStart;
+                    loadTimes[run] = loaded - edited;
+                    lazyLoadTimes[run] = lazilyLoaded - loaded;
+                }
+            }
+
+            System.out.printf("%-14s %12.2f %12.2f %12.2f %12.2f %12.1f%n", format, median(saveTimes) / 1e6,
+                    median(editTimes) / 1e6, median(loadTimes) / 1e6, median(lazyLoadTimes) / 1e6,
+                    getSize(filePath) / 1024.0);
+        }
+        deleteRecursively(folder);
+    }
+
+    /**
+     * Returns the total size of the file at {@code filePath} and of its shards, if any.
+     */
+    private static long getSize(Path filePath) throws IOException {
+        long size = Files.size(filePath);
+        Path shardDirectoryPath = ShardedTutorsPetStorage.getShardDirectoryPath(filePath);
+        if (Files.isDirectory(shardDirectoryPath)) {
+            try (Stream<Path> shards = Files.list(shardDirectoryPath)) {
+                for (Path shard : (Iterable<Path>) shards::iterator) {
+                    size += Files.size(shard);
+                }
+            }
+        }
+        return size;
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Returns TutorsPet data with {@code studentCount} students in classes of {@link #STUDENTS_PER_CLASS}, where
+     * every student has an attendance in every occurrence of every lesson.
+     */
+    private static TutorsPet createTutorsPet(int studentCount) {
+        TutorsPet tutorsPet = new TutorsPet();
+        List<UUID> studentUuids = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            Student student = new Student(new Name("Student " + i), new Telegram("student_" + i),
+                    new Email("student" + i + "@example.com"), Set.of(new Tag("year" + (i % 4 + 1))));
+            tutorsPet.addStudent(student);
+            studentUuids.add(student.getUuid());
+        }
+
+        for (int i = 0; i * STUDENTS_PER_CLASS < studentCount; i++) {
+            Set<UUID> classStudentUuids = new HashSet<>(studentUuids.subList(i * STUDENTS_PER_CLASS,
+                    Math.min((i + 1) * STUDENTS_PER_CLASS, studentCount)));
+            List<Lesson> lessons = new ArrayList<>();
+            for (int j = 0; j < LESSONS_PER_CLASS; j++) {
+                lessons.add(createLesson(Day.values()[j], classStudentUuids));
+            }
+            tutorsPet.addModuleClass(new ModuleClass(new Name("CS" + (1000 + i) + " Tutorial"), classStudentUuids,
+                    lessons));
+        }
+        return tutorsPet;
+    }
+
+    private static Lesson createLesson(Day day, Set<UUID> studentUuids) {
+        List<AttendanceRecord> records = new ArrayList<>();
+        for (int week = 0; week < OCCURRENCES_PER_LESSON; week++) {
+            Map<UUID, Attendance> attendances = new HashMap<>();
+            int score = week;
+            for (UUID studentUuid : studentUuids) {
+                attendances.put(studentUuid, new Attendance(score++ % (Attendance.UPPER_BOUND + 1)));
+            }
+            records.add(new AttendanceRecord(attendances));
+        }
+        return new Lesson(LocalTime.of(10, 0), LocalTime.of(12, 0), day,
+                new NumberOfOccurrences(OCCURRENCES_PER_LESSON), new Venue("COM1 B1-03"),
+                new AttendanceRecordList(records));
+    }
+}
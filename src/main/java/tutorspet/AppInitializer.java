@@ -0,0 +1,161 @@
+package tutorspet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.Config;
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.core.StorageFormat;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.ConfigUtil;
+import tutorspet.commons.util.StringUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.StateArchive;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.JournaledTutorsPetStorage;
+import tutorspet.storage.JsonStateArchive;
+import tutorspet.storage.Storage;
+import tutorspet.storage.TutorsPetFileConverter;
+import tutorspet.storage.TutorsPetStorage;
+import tutorspet.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, preferences, storage and data shared by the GUI and the headless entry points.
+ */
+class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        // Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty TutorsPet");
+            initializedPrefs = new UserPrefs();
+        }
+
+        // Update prefs file in case it was missing to begin with or there are new/unused fields.
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the storage of the data file in {@code userPrefs}, in the storage format in {@code userPrefs}.
+     */
+    static TutorsPetStorage createTutorsPetStorage(UserPrefs userPrefs) {
+        TutorsPetStorage fileStorage = TutorsPetFileConverter.createStorage(userPrefs.getTutorsPetFilePath(),
+                userPrefs.getStorageFormat(), userPrefs.isLazyAttendanceLoading());
+        // sharded data is not journaled, as a save only writes the shards of the changed data
+        return userPrefs.getStorageFormat() == StorageFormat.SHARDED
+                ? fileStorage
+                : new JournaledTutorsPetStorage(fileStorage, JournaledTutorsPetStorage.DEFAULT_COMPACTION_THRESHOLD,
+                        JournaledTutorsPetStorage.DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s Tutor's Pet. <br>
+     * The data from {@code dataIfMissing} will be used instead if {@code storage}'s Tutor's Pet is not found,
+     * or an empty Tutor's Pet will be used instead if errors occur when reading {@code storage}'s Tutor's Pet.
+     */
+    static ReadOnlyTutorsPet initData(Storage storage, Supplier<ReadOnlyTutorsPet> dataIfMissing) {
+        try {
+            Optional<ReadOnlyTutorsPet> tutorsPetOptional = storage.readTutorsPet();
+            if (!tutorsPetOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with the initial data");
+            }
+            return tutorsPetOptional.orElseGet(dataIfMissing);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty TutorsPet");
+            return new TutorsPet();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty TutorsPet");
+            return new TutorsPet();
+        }
+    }
+
+    /**
+     * Returns a {@code StateArchive} in a temporary directory that is deleted when the application exits. <br>
+     * An empty {@code Optional} is returned if the directory cannot be created, in which case the whole undo history
+     * is kept in memory.
+     */
+    static Optional<StateArchive> initStateArchive() {
+        try {
+            JsonStateArchive stateArchive = new JsonStateArchive(Files.createTempDirectory("tutorspet-history"));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> deleteStateArchive(stateArchive)));
+            return Optional.of(stateArchive);
+        } catch (IOException e) {
+            logger.warning("Unable to create the history archive. The whole undo history will be kept in memory");
+            return Optional.empty();
+        }
+    }
+
+    private static void deleteStateArchive(JsonStateArchive stateArchive) {
+        try {
+            stateArchive.deleteArchive();
+        } catch (IOException e) {
+            logger.warning("Unable to delete the history archive at " + stateArchive.getArchiveDirectory());
+        }
+    }
+}
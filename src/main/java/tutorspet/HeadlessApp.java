@@ -0,0 +1,178 @@
+package tutorspet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.Config;
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.StringUtil;
+import tutorspet.logic.Logic;
+import tutorspet.logic.LogicManager;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.storage.JsonUserPrefsStorage;
+import tutorspet.storage.Storage;
+import tutorspet.storage.StorageManager;
+import tutorspet.storage.UserPrefsStorage;
+
+/**
+ * Runs Tutor's Pet without the GUI, for use from scripts and shell pipelines.
+ * Commands are read one per line from a file or the standard input and executed in turn, and the result of each
+ * command is printed to the standard output. The JavaFX toolkit is never started, and the data is saved after every
+ * command that changes it, in the same way as in the GUI.
+ */
+public class HeadlessApp {
+
+    public static final String FLAG_HEADLESS = "--headless";
+    public static final String FLAG_CONFIG = "--config=";
+
+    public static final String MESSAGE_USAGE = "Usage: java -jar tutorspet.jar " + FLAG_HEADLESS + " ["
+            + FLAG_CONFIG + "CONFIG_FILE] [COMMAND_FILE]\n"
+            + "Runs the commands in COMMAND_FILE, or in the standard input if COMMAND_FILE is not given, one per line.";
+    public static final String MESSAGE_COMMAND_FAILURE = "Line %1$d: %2$s";
+    public static final String MESSAGE_READ_FAILURE = "Could not read commands: %1$s";
+    public static final String MESSAGE_FLUSH_FAILURE = "Could not save data to file: %1$s";
+
+    /** The exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** The exit status when any command failed. */
+    public static final int EXIT_COMMAND_FAILURE = 1;
+    /** The exit status when the arguments are invalid, or the commands could not be read or saved. */
+    public static final int EXIT_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final Storage storage;
+
+    /**
+     * Constructs a {@code HeadlessApp} that executes commands with {@code logic} and flushes {@code storage} when
+     * there are no more commands.
+     */
+    public HeadlessApp(Logic logic, Storage storage) {
+        this.logic = logic;
+        this.storage = storage;
+    }
+
+    /**
+     * Executes the commands in {@code input} one line at a time, printing the result of each command to
+     * {@code output} and the error of each failed command to {@code error}.
+     * Blank lines and lines starting with {@link RunScriptCommand#COMMENT_PREFIX} are ignored, and the commands after
+     * a command that exits the application are not executed.
+     *
+     * @return the exit status of the run.
+     */
+    public int run(BufferedReader input, PrintStream output, PrintStream error) {
+        int exitStatus = EXIT_SUCCESS;
+        int lineNumber = 0;
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(RunScriptCommand.COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    CommandResult commandResult = logic.execute(commandText);
+                    output.println(commandResult.getFeedbackToUser());
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    error.println(String.format(MESSAGE_COMMAND_FAILURE, lineNumber, e.getMessage()));
+                    exitStatus = EXIT_COMMAND_FAILURE;
+                }
+            }
+        } catch (IOException ioe) {
+            error.println(String.format(MESSAGE_READ_FAILURE, ioe.getMessage()));
+            exitStatus = EXIT_ERROR;
+        }
+
+        try {
+            storage.flushTutorsPet();
+        } catch (IOException ioe) {
+            logger.severe("Failed to flush data file " + StringUtil.getDetails(ioe));
+            error.println(String.format(MESSAGE_FLUSH_FAILURE, ioe.getMessage()));
+            exitStatus = EXIT_ERROR;
+        }
+        return exitStatus;
+    }
+
+    /**
+     * Creates a {@code HeadlessApp} with the config at {@code configFilePath}, or the default config if
+     * {@code configFilePath} is null. <br>
+     * An empty Tutor's Pet is used if the data file is not found, rather than the sample data of the GUI.
+     */
+    public static HeadlessApp create(Path configFilePath) {
+        Config config = AppInitializer.initConfig(configFilePath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        // saves are written before the next command is read, so that a failed save is reported with its command
+        Storage storage = new StorageManager(AppInitializer.createTutorsPetStorage(userPrefs), userPrefsStorage);
+        Model model = new ModelManager(AppInitializer.initData(storage, TutorsPet::new), userPrefs);
+        return new HeadlessApp(new LogicManager(model, storage), storage);
+    }
+
+    /**
+     * Runs the commands as described in {@link #MESSAGE_USAGE}, and exits with the exit status of the run.
+     */
+    public static void main(String[] args) {
+        Path configFilePath = null;
+        Path commandFilePath = null;
+        for (String arg : args) {
+            if (arg.equals(FLAG_HEADLESS)) {
+                continue;
+            }
+
+            if (arg.startsWith(FLAG_CONFIG) && configFilePath == null) {
+                configFilePath = parsePath(arg.substring(FLAG_CONFIG.length()));
+            } else if (!arg.startsWith("--") && commandFilePath == null) {
+                commandFilePath = parsePath(arg);
+            } else {
+                exitWithUsage();
+            }
+        }
+
+        HeadlessApp headlessApp = create(configFilePath);
+        int exitStatus;
+        try (BufferedReader input = commandFilePath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(commandFilePath, StandardCharsets.UTF_8)) {
+            exitStatus = headlessApp.run(input, System.out, System.err);
+        } catch (IOException ioe) {
+            System.err.println(String.format(MESSAGE_READ_FAILURE, ioe.getMessage()));
+            exitStatus = EXIT_ERROR;
+        }
+        System.exit(exitStatus);
+    }
+
+    private static Path parsePath(String path) {
+        if (!FileUtil.isValidPath(path)) {
+            exitWithUsage();
+        }
+        return Paths.get(path);
+    }
+
+    private static void exitWithUsage() {
+        System.err.println(MESSAGE_USAGE);
+        System.exit(EXIT_ERROR);
+    }
+}
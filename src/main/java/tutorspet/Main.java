@@ -1,5 +1,7 @@
 package tutorspet;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 
 /**
@@ -17,10 +19,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Main also starts {@link HeadlessApp} instead of the GUI when given the {@code --headless} flag.
  */
 public class Main {
 
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains(HeadlessApp.FLAG_HEADLESS)) {
+            HeadlessApp.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
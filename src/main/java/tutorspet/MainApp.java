@@ -6,27 +6,29 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import tutorspet.commons.core.Config;
 import tutorspet.commons.core.LogsCenter;
 import tutorspet.commons.core.Version;
-import tutorspet.commons.exceptions.DataConversionException;
-import tutorspet.commons.util.ConfigUtil;
 import tutorspet.commons.util.StringUtil;
 import tutorspet.logic.Logic;
 import tutorspet.logic.LogicManager;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.exceptions.ParseException;
 import tutorspet.model.Model;
 import tutorspet.model.ModelManager;
 import tutorspet.model.ReadOnlyTutorsPet;
 import tutorspet.model.ReadOnlyUserPrefs;
-import tutorspet.model.TutorsPet;
+import tutorspet.model.StateArchive;
 import tutorspet.model.UserPrefs;
 import tutorspet.model.util.SampleDataUtil;
-import tutorspet.storage.JsonTutorsPetStorage;
+import tutorspet.storage.AsyncTutorsPetStorage;
 import tutorspet.storage.JsonUserPrefsStorage;
 import tutorspet.storage.Storage;
 import tutorspet.storage.StorageManager;
-import tutorspet.storage.TutorsPetStorage;
 import tutorspet.storage.UserPrefsStorage;
 import tutorspet.ui.Ui;
 import tutorspet.ui.UiManager;
@@ -40,23 +42,29 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final String MESSAGE_SCRIPT_FAILURE = "Failed to run script %1$s: %2$s";
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
 
+    /** The outcome of the script given with {@code --script}, to be shown once the UI has started. */
+    private Optional<String> scriptFeedback = Optional.empty();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing TutorsPet ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TutorsPetStorage tutorsPetStorage = new JsonTutorsPetStorage(userPrefs.getTutorsPetFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        AsyncTutorsPetStorage tutorsPetStorage =
+                new AsyncTutorsPetStorage(AppInitializer.createTutorsPetStorage(userPrefs));
         storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
 
         initLogging(config);
@@ -65,7 +73,26 @@ public class MainApp extends Application {
 
         logic = new LogicManager(model, storage);
 
+        if (appParameters.getScriptPath() != null) {
+            scriptFeedback = Optional.of(runScript(appParameters.getScriptPath()));
+        }
+
         ui = new UiManager(logic);
+
+        tutorsPetStorage.setSaveListener(new AsyncTutorsPetStorage.SaveListener() {
+            @Override
+            public void saveSucceeded() {
+                Platform.runLater(logic::markSaved);
+            }
+
+            @Override
+            public void saveFailed(IOException ioe) {
+                Platform.runLater(() -> {
+                    logic.markUnsaved();
+                    ui.showSaveFailure(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe);
+                });
+            }
+        });
     }
 
     /**
@@ -74,101 +101,41 @@ public class MainApp extends Application {
      * or an empty Tutor's Pet will be used instead if errors occur when reading {@code storage}'s Tutor's Pet.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyTutorsPet> tutorsPetOptional;
-        ReadOnlyTutorsPet initialData;
-        try {
-            tutorsPetOptional = storage.readTutorsPet();
-            if (!tutorsPetOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample TutorsPet");
-            }
-            initialData = tutorsPetOptional.orElseGet(SampleDataUtil::getSampleTutorsPet);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TutorsPet");
-            initialData = new TutorsPet();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty TutorsPet");
-            initialData = new TutorsPet();
-        }
+        ReadOnlyTutorsPet initialData = AppInitializer.initData(storage, SampleDataUtil::getSampleTutorsPet);
 
+        Optional<StateArchive> stateArchive = AppInitializer.initStateArchive();
+        if (stateArchive.isPresent()) {
+            return new ModelManager(initialData, userPrefs, stateArchive.get());
+        }
         return new ModelManager(initialData, userPrefs);
     }
 
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Runs the commands in the script at {@code scriptPath} before the UI is shown, and returns the feedback to show
+     * the user once the UI has started. <br>
+     * The data is left unchanged if any command in the script fails.
      */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        // Update config file in case it was missing to begin with or there are new/unused fields
+    private String runScript(Path scriptPath) {
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            CommandResult commandResult = logic.execute(RunScriptCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(commandResult.getFeedbackToUser());
+            return commandResult.getFeedbackToUser();
+        } catch (CommandException | ParseException e) {
+            String feedback = String.format(MESSAGE_SCRIPT_FAILURE, scriptPath, e.getMessage());
+            logger.warning(feedback);
+            return feedback;
         }
-        return initializedConfig;
     }
 
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty TutorsPet");
-            initializedPrefs = new UserPrefs();
-        }
-
-        // Update prefs file in case it was missing to begin with or there are new/unused fields.
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting TutorsPet " + MainApp.VERSION);
         ui.start(primaryStage);
+        scriptFeedback.ifPresent(ui::showFeedback);
     }
 
     @Override
@@ -179,5 +146,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushTutorsPet();
+        } catch (IOException e) {
+            logger.severe("Failed to flush data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,73 @@
+package tutorspet.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the retention settings of the undo history.
+ * States beyond these limits are moved out of memory.
+ * Guarantees: immutable.
+ */
+public class HistorySettings implements Serializable {
+
+    public static final int DEFAULT_MAX_STATES_IN_MEMORY = 50;
+    public static final int DEFAULT_MAX_ENTITIES_IN_MEMORY = 5000;
+
+    private final int maxStatesInMemory;
+    private final int maxEntitiesInMemory;
+
+    /**
+     * Constructs a {@code HistorySettings} with the default limits.
+     */
+    public HistorySettings() {
+        maxStatesInMemory = DEFAULT_MAX_STATES_IN_MEMORY;
+        maxEntitiesInMemory = DEFAULT_MAX_ENTITIES_IN_MEMORY;
+    }
+
+    /**
+     * Constructs a {@code HistorySettings} with the specified limits.
+     *
+     * @param maxStatesInMemory the maximum number of states of the undo history kept in memory.
+     * @param maxEntitiesInMemory the maximum number of students and classes referenced by the states kept in memory.
+     */
+    public HistorySettings(int maxStatesInMemory, int maxEntitiesInMemory) {
+        this.maxStatesInMemory = maxStatesInMemory;
+        this.maxEntitiesInMemory = maxEntitiesInMemory;
+    }
+
+    public int getMaxStatesInMemory() {
+        return maxStatesInMemory;
+    }
+
+    public int getMaxEntitiesInMemory() {
+        return maxEntitiesInMemory;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        HistorySettings o = (HistorySettings) other;
+
+        return maxStatesInMemory == o.maxStatesInMemory
+                && maxEntitiesInMemory == o.maxEntitiesInMemory;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxStatesInMemory, maxEntitiesInMemory);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max states in memory : " + maxStatesInMemory + "\n");
+        sb.append("Max entities in memory : " + maxEntitiesInMemory);
+        return sb.toString();
+    }
+}
@@ -19,6 +19,7 @@ public class Messages {
 
     public static final String MESSAGE_DUPLICATE_LESSON = "This lesson already exists.";
     public static final String MESSAGE_OVERLAP_LESSON = "This lesson overlaps with another lesson in the same class.";
+    public static final String MESSAGE_CLASHING_LESSON = "This lesson clashes with a lesson of another class: %1$s.";
     public static final String MESSAGE_INVALID_LESSON_DISPLAYED_INDEX = "The lesson index provided is invalid.";
     public static final String MESSAGE_NO_LESSONS_IN_MODULE_CLASS = "There are no lessons in this class.";
 
@@ -0,0 +1,15 @@
+package tutorspet.commons.core;
+
+/**
+ * Represents the formats in which Tutor's Pet data can be stored on the hard disk.
+ */
+public enum StorageFormat {
+    /** A json file indented to be readable. */
+    JSON,
+    /** A json file without whitespace, which is smaller and faster to write. */
+    COMPACT_JSON,
+    /** A versioned binary file, which is the smallest and fastest to load and save. */
+    BINARY,
+    /** A json manifest, with the students and each class in separate json files so that a save only writes changes. */
+    SHARDED
+}
@@ -41,6 +41,25 @@ public class CollectionUtil {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
 
+    /**
+     * Replaces the elements of {@code list} from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * the elements of {@code replacement}.
+     * Positions covered by both ranges are set in place, so that replacing a range with another range of the same
+     * size does not shift any other element of the list.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within the bounds of {@code list}.
+     */
+    public static <T> void replaceRange(List<T> list, int fromIndex, int toIndex, List<? extends T> replacement) {
+        requireAllNonNull(list, replacement);
+
+        int overlap = Math.min(toIndex - fromIndex, replacement.size());
+        for (int i = 0; i < overlap; i++) {
+            list.set(fromIndex + i, replacement.get(i));
+        }
+        list.subList(fromIndex + overlap, toIndex).clear();
+        list.addAll(fromIndex + overlap, replacement.subList(overlap, replacement.size()));
+    }
+
     /**
      * Deep copies a {@code List}, along with deep copies of its elements.
      *
@@ -3,6 +3,8 @@ package tutorspet.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,13 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -99,6 +104,48 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a reader of instances of {@code instanceClass} with the same settings as
+     * {@link #fromJsonString(String, Class)}, which can be configured further, such as with deserialization
+     * attributes.
+     */
+    public static ObjectReader createReader(Class<?> instanceClass) {
+        requireNonNull(instanceClass);
+
+        return objectMapper.readerFor(instanceClass);
+    }
+
+    /**
+     * Returns a parser that reads JSON data from {@code inputStream} token by token.
+     * Objects read with {@link JsonParser#readValueAs(Class)} are converted with the same settings as
+     * {@link #fromJsonString(String, Class)}.
+     * @param inputStream cannot be null. It is closed when the parser is closed.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code outputStream} token by token.
+     * Objects written with {@link JsonGenerator#writeObject(Object)} are converted with the same settings as
+     * {@link #toJsonString(Object)}.
+     * @param outputStream cannot be null. It is closed when the generator is closed.
+     * @param isPrettyPrinted whether the JSON data is indented in the same way as {@link #toJsonString(Object)}, or
+     *                        written without whitespace as in {@link #toCompactJsonString(Object)}.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(outputStream);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -109,6 +156,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
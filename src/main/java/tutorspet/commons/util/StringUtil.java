@@ -49,6 +49,55 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns true if {@code first} can be changed into {@code second} with at most {@code maxDistance} insertions,
+     * deletions or substitutions of a character.
+     * Only the characters at most {@code maxDistance} positions apart are compared, and the comparison stops as soon
+     * as the distance is known to exceed {@code maxDistance}.
+     *   <br>examples:<pre>
+     *       isWithinEditDistance("alice", "alcie", 2) == true
+     *       isWithinEditDistance("alice", "alex", 1) == false
+     *       </pre>
+     * @param maxDistance cannot be negative
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return false;
+        }
+
+        // distances above maxDistance are capped at maxDistance + 1, which is also the distance outside the band
+        int outOfBand = maxDistance + 1;
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = Math.min(j, outOfBand);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            int fromColumn = Math.max(1, i - maxDistance);
+            int toColumn = Math.min(second.length(), i + maxDistance);
+            currentRow[fromColumn - 1] = fromColumn == 1 ? Math.min(i, outOfBand) : outOfBand;
+            int rowMinimum = currentRow[fromColumn - 1];
+            for (int j = fromColumn; j <= toColumn; j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int aboveDistance = j < i + maxDistance ? previousRow[j] : outOfBand;
+                currentRow[j] = Math.min(outOfBand, Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(aboveDistance, currentRow[j - 1]) + 1));
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()] <= maxDistance;
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
@@ -2,11 +2,11 @@ package tutorspet.logic;
 
 import java.nio.file.Path;
 
-import javafx.collections.ObservableList;
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.logic.commands.CommandResult;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.ObservedList;
 import tutorspet.model.ReadOnlyTutorsPet;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
@@ -24,6 +24,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns true while there are changes to the data that have not been saved, including changes whose save has
+     * been requested but has not completed yet.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Sets the listener that is notified whenever {@link #hasUnsavedChanges()} changes.
+     */
+    void setUnsavedChangesListener(UnsavedChangesListener listener);
+
+    /**
+     * Marks the data as not saved, so that it is saved again after the next command.
+     * This is used when a save that completes after {@link #execute(String)} returns has failed.
+     */
+    void markUnsaved();
+
+    /**
+     * Marks the data as saved, unless a save that has been requested has not completed yet.
+     * This is used when a save that completes after {@link #execute(String)} returns has succeeded.
+     */
+    void markSaved();
+
     /**
      * Returns the TutorsPet.
      *
@@ -34,12 +57,12 @@ public interface Logic {
     /**
      * Returns an unmodifiable view of the filtered list of students.
      */
-    ObservableList<Student> getFilteredStudentList();
+    ObservedList<Student> getFilteredStudentList();
 
     /**
      * Returns an unmodifiable view of the filtered list of classes.
      */
-    ObservableList<ModuleClass> getFilteredModuleClassList();
+    ObservedList<ModuleClass> getFilteredModuleClassList();
 
     /**
      * Returns the user prefs' Tutor's Pet file path.
@@ -55,4 +78,16 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Listener of changes to whether there are unsaved changes.
+     */
+    @FunctionalInterface
+    interface UnsavedChangesListener {
+
+        /**
+         * Called after {@link #hasUnsavedChanges()} has changed to {@code hasUnsavedChanges}.
+         */
+        void unsavedChangesChanged(boolean hasUnsavedChanges);
+    }
 }
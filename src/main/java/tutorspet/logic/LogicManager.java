@@ -1,10 +1,11 @@
 package tutorspet.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.commons.core.LogsCenter;
 import tutorspet.logic.commands.Command;
@@ -13,7 +14,9 @@ import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.logic.parser.TutorsPetParser;
 import tutorspet.logic.parser.exceptions.ParseException;
 import tutorspet.model.Model;
+import tutorspet.model.ObservedList;
 import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.attendance.exceptions.AttendanceLoadingException;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
 import tutorspet.storage.Storage;
@@ -24,11 +27,19 @@ import tutorspet.storage.Storage;
 public class LogicManager implements Logic {
 
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String ATTENDANCE_LOADING_ERROR_MESSAGE = "Could not load data from file: ";
+
+    // modification counts start from 0 and only increase, so this never matches the count of the model
+    private static final long UNSAVED_MODIFICATION_COUNT = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TutorsPetParser tutorsPetParser;
+    private long savedModificationCount;
+    private boolean hasUnsavedChanges = false;
+    private UnsavedChangesListener unsavedChangesListener = hasUnsavedChanges -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -37,6 +48,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         tutorsPetParser = new TutorsPetParser();
+        savedModificationCount = model.getModificationCount();
     }
 
     @Override
@@ -45,15 +57,69 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = tutorsPetParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (AttendanceLoadingException e) {
+            throw new CommandException(ATTENDANCE_LOADING_ERROR_MESSAGE + e.getMessage(), e);
+        }
+
+        saveIfModified();
 
+        return commandResult;
+    }
+
+    /**
+     * Saves the data if it has been modified since it was last saved.
+     * Commands that do not modify the data, such as listing and finding, do not touch the storage.
+     * If the storage saves in the background, the data stays marked as unsaved until {@link #markSaved()} is called
+     * after the save completes.
+     */
+    private void saveIfModified() throws CommandException {
+        long modificationCount = model.getModificationCount();
+        if (modificationCount == savedModificationCount) {
+            return;
+        }
+
+        setUnsavedChanges(true);
         try {
             storage.saveTutorsPet(model.getTutorsPet());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
+        savedModificationCount = modificationCount;
+        setUnsavedChanges(storage.hasPendingSaves());
+    }
 
-        return commandResult;
+    @Override
+    public boolean hasUnsavedChanges() {
+        return hasUnsavedChanges;
+    }
+
+    @Override
+    public void setUnsavedChangesListener(UnsavedChangesListener listener) {
+        requireNonNull(listener);
+
+        unsavedChangesListener = listener;
+    }
+
+    @Override
+    public void markUnsaved() {
+        savedModificationCount = UNSAVED_MODIFICATION_COUNT;
+        setUnsavedChanges(true);
+    }
+
+    @Override
+    public void markSaved() {
+        if (!storage.hasPendingSaves()) {
+            setUnsavedChanges(false);
+        }
+    }
+
+    private void setUnsavedChanges(boolean hasUnsavedChanges) {
+        if (this.hasUnsavedChanges != hasUnsavedChanges) {
+            this.hasUnsavedChanges = hasUnsavedChanges;
+            unsavedChangesListener.unsavedChangesChanged(hasUnsavedChanges);
+        }
     }
 
     @Override
@@ -62,12 +128,12 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Student> getFilteredStudentList() {
+    public ObservedList<Student> getFilteredStudentList() {
         return model.getFilteredStudentList();
     }
 
     @Override
-    public ObservableList<ModuleClass> getFilteredModuleClassList() {
+    public ObservedList<ModuleClass> getFilteredModuleClassList() {
         return model.getFilteredModuleClassList();
     }
 
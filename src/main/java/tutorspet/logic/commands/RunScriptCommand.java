@@ -0,0 +1,111 @@
+package tutorspet.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.TutorsPetParser;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.Model;
+import tutorspet.model.attendance.exceptions.AttendanceLoadingException;
+
+/**
+ * Runs the commands in a script file, one per line, as a single action.
+ * The file is read and each line is parsed and executed in turn, so the whole script is never held in memory. All the
+ * changes made by the script are committed together, so that they are saved once and undone with a single
+ * {@code undo}. If any line fails, every change made by the script is reverted.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "run-script";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line, as a single action that can be undone at once. "
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are ignored.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " semester.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s.";
+    public static final String MESSAGE_LINE_FAILURE = "Stopped at line %1$d of %2$s, and no changes were made.\n"
+            + "%3$s\n%4$s";
+    public static final String MESSAGE_READ_FAILURE = "Could not read the script %1$s: %2$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "This command cannot be used in a script.";
+
+    /** Commands that change the undo history or the application itself, rather than the data. */
+    private static final Set<Class<? extends Command>> COMMANDS_NOT_ALLOWED = Set.of(RunScriptCommand.class,
+            UndoCommand.class, RedoCommand.class, ExitCommand.class, HelpCommand.class);
+
+    private final Path scriptPath;
+
+    /**
+     * @param scriptPath of the file with the commands to run.
+     */
+    public RunScriptCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        TutorsPetParser tutorsPetParser = new TutorsPetParser();
+        int lineNumber = 0;
+        int commandCount = 0;
+        boolean isCommitted = false;
+        model.startTransaction();
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                try {
+                    executeLine(tutorsPetParser, commandText, model);
+                } catch (CommandException | ParseException | AttendanceLoadingException e) {
+                    throw new CommandException(String.format(MESSAGE_LINE_FAILURE, lineNumber, scriptPath,
+                            commandText, e.getMessage()), e);
+                }
+                commandCount++;
+            }
+
+            String successMessage = String.format(MESSAGE_SUCCESS, commandCount, scriptPath);
+            model.commitTransaction(successMessage);
+            isCommitted = true;
+            return new CommandResult(successMessage);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, scriptPath, ioe.getMessage()), ioe);
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction();
+            }
+        }
+    }
+
+    private static void executeLine(TutorsPetParser tutorsPetParser, String commandText, Model model)
+            throws CommandException, ParseException {
+        Command command = tutorsPetParser.parseCommand(commandText);
+        if (COMMANDS_NOT_ALLOWED.contains(command.getClass())) {
+            throw new CommandException(MESSAGE_COMMAND_NOT_ALLOWED);
+        }
+        command.execute(model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && scriptPath.equals(((RunScriptCommand) other).scriptPath));
+    }
+}
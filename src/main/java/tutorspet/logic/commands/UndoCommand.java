@@ -6,6 +6,7 @@ import static tutorspet.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.model.Model;
+import tutorspet.model.exception.StateArchiveException;
 
 /**
  * Undoes the most recent undoable {@code Command}.
@@ -25,7 +26,12 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_NO_PREVIOUS_COMMAND);
         }
 
-        String commandMessage = model.undo();
+        String commandMessage;
+        try {
+            commandMessage = model.undo();
+        } catch (StateArchiveException sae) {
+            throw new CommandException(sae.getMessage(), sae);
+        }
         model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
         model.updateFilteredModuleClassList(PREDICATE_SHOW_ALL_MODULE_CLASS);
         return new CommandResult(String.format(MESSAGE_SUCCESS, commandMessage));
@@ -0,0 +1,136 @@
+package tutorspet.logic.commands.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+
+import java.util.List;
+import java.util.Optional;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.ParticipationStatistics;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.report.ClassReport;
+import tutorspet.model.report.StudentReport;
+
+/**
+ * Gives a summary of the attendance of every student of a specific class, or of every displayed class, in the
+ * student manager.
+ */
+public class ClassReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "class-report";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Gives a summary of the attendance of every student "
+            + "of a specific class, or of every displayed class if no class is given\n"
+            + "Note: All indexes and numbers must be positive integers.\n"
+            + "Parameters: "
+            + "[" + PREFIX_CLASS_INDEX + "CLASS_INDEX]";
+
+    public static final String MESSAGE_NO_CLASSES = "There are no classes to report on.";
+    public static final String MESSAGE_CLASS_REPORT = "Attendance report for %1$s:";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students in this class.";
+    public static final String MESSAGE_STUDENT_REPORT = "%1$s: average participation %2$.2f (lowest %3$d, "
+            + "highest %4$d), absent for %5$d of %6$d weeks";
+    public static final String MESSAGE_STUDENT_REPORT_NO_ATTENDANCE = "%1$s: did not attend any lesson, absent for "
+            + "%2$d of %3$d weeks";
+    public static final String MESSAGE_DISTRIBUTION = "Average participation distribution:";
+
+    private final Optional<Index> moduleClassIndex;
+
+    /**
+     * Creates a ClassReportCommand to report on every displayed class.
+     */
+    public ClassReportCommand() {
+        this.moduleClassIndex = Optional.empty();
+    }
+
+    /**
+     * Creates a ClassReportCommand to report on the class at {@code moduleClassIndex}.
+     */
+    public ClassReportCommand(Index moduleClassIndex) {
+        requireNonNull(moduleClassIndex);
+
+        this.moduleClassIndex = Optional.of(moduleClassIndex);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<ModuleClass> lastShownModuleClassList = model.getFilteredModuleClassList();
+        List<ModuleClass> moduleClassesToReport = lastShownModuleClassList;
+
+        if (moduleClassIndex.isPresent()) {
+            if (moduleClassIndex.get().getOneBased() > lastShownModuleClassList.size()) {
+                throw new CommandException(MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX);
+            }
+
+            moduleClassesToReport = List.of(lastShownModuleClassList.get(moduleClassIndex.get().getZeroBased()));
+        }
+
+        if (moduleClassesToReport.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_CLASSES);
+        }
+
+        List<ClassReport> classReports = model.getClassReports(moduleClassesToReport);
+        StringBuilder message = new StringBuilder();
+        for (ClassReport classReport : classReports) {
+            if (message.length() > 0) {
+                message.append("\n\n");
+            }
+            printClassReport(classReport, message);
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClassReportCommand // instanceof handles nulls
+                && moduleClassIndex.equals(((ClassReportCommand) other).moduleClassIndex));
+    }
+
+    private static void printClassReport(ClassReport classReport, StringBuilder message) {
+        message.append(String.format(MESSAGE_CLASS_REPORT, classReport.getModuleClass().getName().fullName));
+
+        if (classReport.getStudentReports().isEmpty()) {
+            message.append("\n").append(MESSAGE_NO_STUDENTS);
+            return;
+        }
+
+        for (StudentReport studentReport : classReport.getStudentReports()) {
+            message.append("\n").append(printStudentReport(studentReport));
+        }
+
+        message.append("\n").append(MESSAGE_DISTRIBUTION);
+        for (int band = 0; band < ClassReport.NUMBER_OF_BANDS; band++) {
+            int lowestScore = Attendance.LOWER_BOUND + band * ClassReport.BAND_WIDTH;
+            int highestScore = band == ClassReport.NUMBER_OF_BANDS - 1
+                    ? Attendance.UPPER_BOUND
+                    : lowestScore + ClassReport.BAND_WIDTH - 1;
+            message.append(String.format(" %d-%d: %d,", lowestScore, highestScore,
+                    classReport.getNumberOfStudentsInBand(band)));
+        }
+        message.append(String.format(" no attendance: %d", classReport.getNumberOfStudentsWithoutAttendance()));
+    }
+
+    private static String printStudentReport(StudentReport studentReport) {
+        String name = studentReport.getStudent().getName().fullName;
+        ParticipationStatistics statistics = studentReport.getStatistics();
+
+        if (!statistics.hasAttended()) {
+            return String.format(MESSAGE_STUDENT_REPORT_NO_ATTENDANCE, name, studentReport.getNumberOfAbsentWeeks(),
+                    studentReport.getNumberOfWeeks());
+        }
+
+        return String.format(MESSAGE_STUDENT_REPORT, name, statistics.getAverageScore(),
+                statistics.getLowestScore(), statistics.getHighestScore(), studentReport.getNumberOfAbsentWeeks(),
+                studentReport.getNumberOfWeeks());
+    }
+}
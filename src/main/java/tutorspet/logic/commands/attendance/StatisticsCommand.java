@@ -7,17 +7,19 @@ import static tutorspet.commons.core.Messages.MESSAGE_NO_LESSON_ATTENDED;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
-import static tutorspet.logic.util.ModuleClassUtil.getAbsentWeek;
-import static tutorspet.logic.util.ModuleClassUtil.getParticipationScore;
+import static tutorspet.logic.util.LessonUtil.getAbsentWeeksFromLesson;
+import static tutorspet.logic.util.LessonUtil.getParticipationStatisticsFromLesson;
+import static tutorspet.logic.util.ModuleClassUtil.getLessonsOfStudent;
 
 import java.util.List;
-import java.util.Map;
 
 import tutorspet.commons.core.index.Index;
 import tutorspet.logic.commands.Command;
 import tutorspet.logic.commands.CommandResult;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.model.Model;
+import tutorspet.model.attendance.ParticipationStatistics;
+import tutorspet.model.attendance.Week;
 import tutorspet.model.lesson.Lesson;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
@@ -73,10 +75,18 @@ public class StatisticsCommand extends Command {
         ModuleClass targetModuleClass = lastShownModuleClassList.get(moduleClassIndex.getZeroBased());
         Student targetStudent = lastShownStudentList.get(studentIndex.getZeroBased());
 
-        Map<Lesson, List<Integer>> scores = getParticipationScore(targetModuleClass, targetStudent);
-        double averageScore = getAverageParticipationScore(scores);
-        Map<Lesson, List<Integer>> attendances = getAbsentWeek(targetModuleClass, targetStudent);
-        String weeksNotPresent = printStats(attendances);
+        // the statistics and the absent weeks of each lesson are both read from the student's row of its attendances
+        ParticipationStatistics statistics = ParticipationStatistics.NO_ATTENDANCE;
+        StringBuilder weeksNotPresent = new StringBuilder();
+        for (Lesson lesson : getLessonsOfStudent(targetModuleClass, targetStudent)) {
+            statistics = statistics.combine(getParticipationStatisticsFromLesson(lesson, targetStudent));
+            printAbsentWeeks(weeksNotPresent, lesson, getAbsentWeeksFromLesson(lesson, targetStudent));
+        }
+
+        if (!statistics.hasAttended()) {
+            throw new CommandException(MESSAGE_NO_LESSON_ATTENDED);
+        }
+        double averageScore = statistics.getAverageScore();
 
         String message = String.format(MESSAGE_SUCCESS, targetStudent.getName().fullName,
                 targetModuleClass.getName().fullName, averageScore, weeksNotPresent);
@@ -91,39 +101,12 @@ public class StatisticsCommand extends Command {
                 && studentIndex.equals(((StatisticsCommand) other).studentIndex));
     }
 
-    private double getAverageParticipationScore(Map<Lesson, List<Integer>> scores) throws CommandException {
-        int totalScore = 0;
-        double numOfWeeksAttended = 0;
+    private void printAbsentWeeks(StringBuilder weeksNotPresent, Lesson lesson, List<Week> absentWeeks) {
+        weeksNotPresent.append("\n");
+        weeksNotPresent.append(lesson.printLesson()).append(": Weeks");
 
-        for (Lesson lesson : scores.keySet()) {
-            List<Integer> lessonScore = scores.get(lesson);
-
-            for (Integer score : lessonScore) {
-                totalScore += score;
-                numOfWeeksAttended += 1;
-            }
-        }
-
-        if (numOfWeeksAttended == 0) {
-            throw new CommandException(MESSAGE_NO_LESSON_ATTENDED);
+        for (Week week : absentWeeks) {
+            weeksNotPresent.append(" ").append(week.getOneBasedWeekIndex());
         }
-
-        return totalScore / numOfWeeksAttended;
-    }
-
-    private String printStats(Map<Lesson, List<Integer>> attendances) {
-        StringBuilder weeksNotPresent = new StringBuilder();
-
-        for (Lesson lesson : attendances.keySet()) {
-            weeksNotPresent.append("\n");
-            weeksNotPresent.append(lesson.printLesson()).append(": Weeks");
-            List<Integer> absentWeeks = attendances.get(lesson);
-
-            for (Integer weekNo : absentWeeks) {
-                weeksNotPresent.append(" ").append(weekNo);
-            }
-        }
-
-        return weeksNotPresent.toString();
     }
 }
@@ -1,6 +1,7 @@
 package tutorspet.logic.commands.lesson;
 
 import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_CLASHING_LESSON;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
@@ -12,6 +13,7 @@ import static tutorspet.logic.parser.CliSyntax.PREFIX_VENUE;
 import static tutorspet.logic.util.ModuleClassUtil.addLessonToModuleClass;
 
 import java.util.List;
+import java.util.Optional;
 
 import tutorspet.commons.core.index.Index;
 import tutorspet.logic.commands.Command;
@@ -73,6 +75,12 @@ public class AddLessonCommand extends Command {
         // add lesson to moduleClass
         ModuleClass moduleClassToAddTo = lastShownModuleClassList.get(moduleClassIndex.getZeroBased());
         ModuleClass modifiedModuleClass = addLessonToModuleClass(moduleClassToAddTo, toAdd);
+
+        Optional<ModuleClass> clashingModuleClass = model.findClashingModuleClass(moduleClassToAddTo, toAdd);
+        if (clashingModuleClass.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_CLASHING_LESSON, clashingModuleClass.get().getName()));
+        }
+
         model.setModuleClass(moduleClassToAddTo, modifiedModuleClass);
 
         model.commit(String.format(MESSAGE_COMMIT, modifiedModuleClass.getName(), toAdd.printLesson()));
@@ -0,0 +1,63 @@
+package tutorspet.logic.commands.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.model.Model;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.lesson.VenueBooking;
+
+/**
+ * Displays the lessons at a specified venue in the student manager, optionally on a specified day.
+ * Parsed from the {@code DisplayVenueCommand#COMMAND_WORD} command word.
+ */
+public class DisplayVenueBookingsCommand extends Command {
+
+    public static final String MESSAGE_VENUE_BOOKINGS = "Lessons at %1$s:";
+    public static final String MESSAGE_NO_VENUE_BOOKINGS = "There are no lessons at %1$s.";
+
+    private final Venue venue;
+    private final Optional<Day> day;
+
+    /**
+     * Creates a DisplayVenueBookingsCommand to display the lessons at {@code venue}, on {@code day} if it is present.
+     */
+    public DisplayVenueBookingsCommand(Venue venue, Optional<Day> day) {
+        requireAllNonNull(venue, day);
+
+        this.venue = venue;
+        this.day = day;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<VenueBooking> bookings = day.isPresent()
+                ? model.getVenueBookings(venue, day.get())
+                : model.getVenueBookings(venue);
+        if (bookings.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_VENUE_BOOKINGS, venue));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_VENUE_BOOKINGS, venue));
+        for (VenueBooking booking : bookings) {
+            message.append("\n").append(booking.getModuleClassName()).append(" ").append(booking.getTimeSlot());
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DisplayVenueBookingsCommand // instanceof handles nulls
+                && venue.equals(((DisplayVenueBookingsCommand) other).venue)
+                && day.equals(((DisplayVenueBookingsCommand) other).day));
+    }
+}
@@ -5,7 +5,9 @@ import static tutorspet.commons.core.Messages.MESSAGE_INVALID_LESSON_DISPLAYED_I
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_DAY;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_VENUE;
 
 import java.util.List;
 
@@ -19,16 +21,27 @@ import tutorspet.model.moduleclass.ModuleClass;
 
 /**
  * Displays the venue for a specified lesson in a specified class in the student manager.
+ * The same command word also lists the lessons at a venue, with {@code DisplayVenueBookingsCommand}, and the lessons
+ * that overlap another lesson at the same venue, with {@code DisplayVenueConflictsCommand}.
  */
 public class DisplayVenueCommand extends Command {
 
     public static final String COMMAND_WORD = "display-venue";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the venue for a lesson.\n"
+    public static final String KEYWORD_CONFLICTS = "conflicts";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the venue for a lesson, the lessons at a "
+            + "venue, optionally on a specific day, or the lessons that overlap another lesson at the same venue.\n"
             + "Note: All indexes must be positive integers.\n"
             + "Parameters: "
             + PREFIX_CLASS_INDEX + "CLASS_INDEX "
-            + PREFIX_LESSON_INDEX + "LESSON_INDEX";
+            + PREFIX_LESSON_INDEX + "LESSON_INDEX, or "
+            + PREFIX_VENUE + "VENUE "
+            + "[" + PREFIX_DAY + "DAY], or "
+            + KEYWORD_CONFLICTS + "\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_VENUE + "COM1-0208 "
+            + PREFIX_DAY + "Wednesday";
 
     public static final String MESSAGE_SUCCESS = "Venue for %1$s %2$s:\n%3$s";
 
@@ -0,0 +1,44 @@
+package tutorspet.logic.commands.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.model.Model;
+import tutorspet.model.lesson.VenueBooking;
+
+/**
+ * Displays the lessons in the student manager that overlap another lesson at the same venue.
+ * Parsed from the {@code DisplayVenueCommand#COMMAND_WORD} command word.
+ */
+public class DisplayVenueConflictsCommand extends Command {
+
+    public static final String MESSAGE_VENUE_CONFLICTS = "Lessons that overlap another lesson at the same venue:";
+    public static final String MESSAGE_NO_VENUE_CONFLICTS = "There are no lessons that overlap another lesson at the "
+            + "same venue.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<VenueBooking> conflicts = model.getVenueConflicts();
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_VENUE_CONFLICTS);
+        }
+
+        StringBuilder message = new StringBuilder(MESSAGE_VENUE_CONFLICTS);
+        for (VenueBooking booking : conflicts) {
+            message.append("\n").append(booking.getVenue()).append(": ").append(booking.getModuleClassName())
+                    .append(" ").append(booking.getTimeSlot());
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof DisplayVenueConflictsCommand; // instanceof handles nulls
+    }
+}
@@ -1,6 +1,7 @@
 package tutorspet.logic.commands.lesson;
 
 import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_CLASHING_LESSON;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
@@ -93,6 +94,11 @@ public class EditLessonCommand extends Command {
         Lesson editedLesson = createEditedLesson(lessonToEdit, editLessonDescriptor);
         ModuleClass modifiedModuleClass = editLessonInModuleClass(targetModuleClass, lessonToEdit, editedLesson);
 
+        Optional<ModuleClass> clashingModuleClass = model.findClashingModuleClass(targetModuleClass, editedLesson);
+        if (clashingModuleClass.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_CLASHING_LESSON, clashingModuleClass.get().getName()));
+        }
+
         model.setModuleClass(targetModuleClass, modifiedModuleClass);
         model.updateFilteredModuleClassList(PREDICATE_SHOW_ALL_MODULE_CLASS);
         model.commit(String.format(MESSAGE_COMMIT, targetModuleClass.getName(), editedLesson.printLesson()));
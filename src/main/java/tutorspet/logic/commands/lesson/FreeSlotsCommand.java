@@ -0,0 +1,96 @@
+package tutorspet.logic.commands.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_DAY;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static tutorspet.model.lesson.Lesson.TIME_FORMATTER;
+import static tutorspet.model.lesson.Lesson.isValidStartTimeEndTime;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.model.Model;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.TimeSlot;
+
+/**
+ * Lists the periods of time without a lesson of any class in the student manager, for a specific day or for every
+ * day of the week.
+ */
+public class FreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "free-slots";
+
+    public static final LocalTime DEFAULT_START_TIME = LocalTime.MIN;
+    public static final LocalTime DEFAULT_END_TIME = LocalTime.of(23, 59);
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the periods of time without a lesson of any "
+            + "class, on a specific day or on every day of the week if no day is given, between the start and end "
+            + "times given (default: " + TIME_FORMATTER.format(DEFAULT_START_TIME) + " to "
+            + TIME_FORMATTER.format(DEFAULT_END_TIME) + ").\n"
+            + "Parameters: "
+            + "[" + PREFIX_DAY + "DAY] "
+            + "[" + PREFIX_START_TIME + "START_TIME] "
+            + "[" + PREFIX_END_TIME + "END_TIME]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DAY + "Tuesday "
+            + PREFIX_START_TIME + "08:00 "
+            + PREFIX_END_TIME + "18:00";
+
+    public static final String MESSAGE_SUCCESS = "Free time slots from %1$s to %2$s:";
+    public static final String MESSAGE_DAY = "%1$s: %2$s";
+    public static final String MESSAGE_NO_FREE_TIME_SLOTS = "none";
+
+    private final List<Day> days;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Creates a FreeSlotsCommand to list the free periods from {@code startTime} to {@code endTime} on each of
+     * {@code days}. {@code startTime} must be earlier than {@code endTime}.
+     */
+    public FreeSlotsCommand(List<Day> days, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(days, startTime, endTime);
+        checkArgument(isValidStartTimeEndTime(startTime, endTime), Lesson.MESSAGE_CONSTRAINTS);
+
+        this.days = List.copyOf(days);
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, TIME_FORMATTER.format(startTime),
+                TIME_FORMATTER.format(endTime)));
+        for (Day day : days) {
+            List<TimeSlot> freeTimeSlots = model.getFreeTimeSlots(day, startTime, endTime);
+            String printedTimeSlots = freeTimeSlots.isEmpty()
+                    ? MESSAGE_NO_FREE_TIME_SLOTS
+                    : freeTimeSlots.stream().map(FreeSlotsCommand::printTimeSlot).collect(Collectors.joining(", "));
+            message.append("\n").append(String.format(MESSAGE_DAY, day, printedTimeSlots));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FreeSlotsCommand // instanceof handles nulls
+                && days.equals(((FreeSlotsCommand) other).days)
+                && startTime.equals(((FreeSlotsCommand) other).startTime)
+                && endTime.equals(((FreeSlotsCommand) other).endTime));
+    }
+
+    private static String printTimeSlot(TimeSlot timeSlot) {
+        return TIME_FORMATTER.format(timeSlot.getStartTime()) + " to " + TIME_FORMATTER.format(timeSlot.getEndTime());
+    }
+}
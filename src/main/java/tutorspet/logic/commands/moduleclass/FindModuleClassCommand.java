@@ -32,7 +32,7 @@ public class FindModuleClassCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        model.updateFilteredModuleClassList(predicate);
+        model.updateFilteredModuleClassListByName(predicate.getKeywords());
         return new CommandResult(String.format(MESSAGE_MODULE_CLASS_LISTED_OVERVIEW,
                 model.getFilteredModuleClassList().size()));
     }
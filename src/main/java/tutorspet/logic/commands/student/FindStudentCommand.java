@@ -32,7 +32,7 @@ public class FindStudentCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        model.updateFilteredStudentList(predicate);
+        model.updateFilteredStudentListByName(predicate.getKeywords());
         return new CommandResult(
                 String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size()));
     }
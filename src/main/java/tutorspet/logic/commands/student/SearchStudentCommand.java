@@ -0,0 +1,76 @@
+package tutorspet.logic.commands.student;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.model.Model;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.StudentInUuidCollectionPredicate;
+import tutorspet.model.student.StudentRankingComparator;
+
+/**
+ * Lists all students in the student manager with a name, telegram, email or tag containing a word that starts with
+ * any of the argument keywords, or is within a small typo of one, from the best match to the worst.
+ * Keyword matching is case insensitive.
+ */
+public class SearchStudentCommand extends Command {
+
+    public static final String COMMAND_WORD = "search-student";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names, telegram usernames, "
+            + "emails or tags contain a word starting with any of the specified keywords, or close to one of them "
+            + "(case-insensitive), and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " ali yeo";
+
+    public static final String MESSAGE_BEST_MATCHES = "Best matches: %1$s";
+
+    /** The number of best matching students named in the result. */
+    public static final int NUMBER_OF_BEST_MATCHES = 5;
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchStudentCommand to search for students matching any of {@code keywords}.
+     */
+    public SearchStudentCommand(List<String> keywords) {
+        requireNonNull(keywords);
+
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<Student> matchingStudents = model.searchStudents(keywords);
+        model.updateFilteredStudentList(new StudentInUuidCollectionPredicate(matchingStudents.stream()
+                .map(Student::getUuid).collect(Collectors.toSet())), new StudentRankingComparator(matchingStudents));
+
+        String message = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, model.getFilteredStudentList().size());
+        if (matchingStudents.isEmpty()) {
+            return new CommandResult(message);
+        }
+
+        String bestMatches = matchingStudents.stream().limit(NUMBER_OF_BEST_MATCHES)
+                .map(student -> student.getName().fullName).collect(Collectors.joining(", "));
+        return new CommandResult(message + "\n" + String.format(MESSAGE_BEST_MATCHES, bestMatches));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchStudentCommand // instanceof handles nulls
+                && keywords.equals(((SearchStudentCommand) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
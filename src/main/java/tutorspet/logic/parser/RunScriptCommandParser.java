@@ -0,0 +1,33 @@
+package tutorspet.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import tutorspet.commons.util.FileUtil;
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object.
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String scriptPath = args.trim();
+        if (scriptPath.isEmpty() || !FileUtil.isValidPath(scriptPath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+
+        return new RunScriptCommand(Paths.get(scriptPath));
+    }
+}
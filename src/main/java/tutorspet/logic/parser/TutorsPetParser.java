@@ -13,10 +13,12 @@ import tutorspet.logic.commands.LinkCommand;
 import tutorspet.logic.commands.ListCommand;
 import tutorspet.logic.commands.RedoCommand;
 import tutorspet.logic.commands.ResetCommand;
+import tutorspet.logic.commands.RunScriptCommand;
 import tutorspet.logic.commands.UndoCommand;
 import tutorspet.logic.commands.UnlinkCommand;
 import tutorspet.logic.commands.ViewHistoryCommand;
 import tutorspet.logic.commands.attendance.AddAttendanceCommand;
+import tutorspet.logic.commands.attendance.ClassReportCommand;
 import tutorspet.logic.commands.attendance.DeleteAttendanceCommand;
 import tutorspet.logic.commands.attendance.EditAttendanceCommand;
 import tutorspet.logic.commands.attendance.FindAttendanceCommand;
@@ -25,6 +27,7 @@ import tutorspet.logic.commands.lesson.AddLessonCommand;
 import tutorspet.logic.commands.lesson.DeleteLessonCommand;
 import tutorspet.logic.commands.lesson.DisplayVenueCommand;
 import tutorspet.logic.commands.lesson.EditLessonCommand;
+import tutorspet.logic.commands.lesson.FreeSlotsCommand;
 import tutorspet.logic.commands.moduleclass.AddModuleClassCommand;
 import tutorspet.logic.commands.moduleclass.ClearModuleClassCommand;
 import tutorspet.logic.commands.moduleclass.DeleteModuleClassCommand;
@@ -37,7 +40,9 @@ import tutorspet.logic.commands.student.DeleteStudentCommand;
 import tutorspet.logic.commands.student.EditStudentCommand;
 import tutorspet.logic.commands.student.FindStudentCommand;
 import tutorspet.logic.commands.student.ListStudentCommand;
+import tutorspet.logic.commands.student.SearchStudentCommand;
 import tutorspet.logic.parser.attendance.AddAttendanceCommandParser;
+import tutorspet.logic.parser.attendance.ClassReportCommandParser;
 import tutorspet.logic.parser.attendance.DeleteAttendanceCommandParser;
 import tutorspet.logic.parser.attendance.EditAttendanceCommandParser;
 import tutorspet.logic.parser.attendance.FindAttendanceCommandParser;
@@ -47,6 +52,7 @@ import tutorspet.logic.parser.lesson.AddLessonCommandParser;
 import tutorspet.logic.parser.lesson.DeleteLessonCommandParser;
 import tutorspet.logic.parser.lesson.DisplayVenueCommandParser;
 import tutorspet.logic.parser.lesson.EditLessonCommandParser;
+import tutorspet.logic.parser.lesson.FreeSlotsCommandParser;
 import tutorspet.logic.parser.moduleclass.AddModuleClassCommandParser;
 import tutorspet.logic.parser.moduleclass.DeleteModuleClassCommandParser;
 import tutorspet.logic.parser.moduleclass.EditModuleClassCommandParser;
@@ -56,6 +62,7 @@ import tutorspet.logic.parser.student.DeleteStudentCommandParser;
 import tutorspet.logic.parser.student.EditStudentCommandParser;
 import tutorspet.logic.parser.student.FindStudentCommandParser;
 import tutorspet.logic.parser.student.ListStudentCommandParser;
+import tutorspet.logic.parser.student.SearchStudentCommandParser;
 
 /**
  * Parses user input.
@@ -103,6 +110,9 @@ public class TutorsPetParser {
         case FindStudentCommand.COMMAND_WORD:
             return new FindStudentCommandParser().parse(arguments);
 
+        case SearchStudentCommand.COMMAND_WORD:
+            return new SearchStudentCommandParser().parse(arguments);
+
         case AddModuleClassCommand.COMMAND_WORD:
             return new AddModuleClassCommandParser().parse(arguments);
 
@@ -154,9 +164,15 @@ public class TutorsPetParser {
         case DisplayVenueCommand.COMMAND_WORD:
             return new DisplayVenueCommandParser().parse(arguments);
 
+        case FreeSlotsCommand.COMMAND_WORD:
+            return new FreeSlotsCommandParser().parse(arguments);
+
         case StatisticsCommand.COMMAND_WORD:
             return new StatisticsCommandParser().parse(arguments);
 
+        case ClassReportCommand.COMMAND_WORD:
+            return new ClassReportCommandParser().parse(arguments);
+
         case ViewHistoryCommand.COMMAND_WORD:
             return new ViewHistoryCommand();
 
@@ -166,6 +182,9 @@ public class TutorsPetParser {
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
+        case RunScriptCommand.COMMAND_WORD:
+            return new RunScriptCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
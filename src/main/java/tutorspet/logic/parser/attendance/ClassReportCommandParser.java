@@ -0,0 +1,48 @@
+package tutorspet.logic.parser.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.attendance.ClassReportCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.ParserUtil.parseIndex;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.attendance.ClassReportCommand;
+import tutorspet.logic.parser.ArgumentMultimap;
+import tutorspet.logic.parser.ArgumentTokenizer;
+import tutorspet.logic.parser.Parser;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ClassReportCommand object.
+ */
+public class ClassReportCommandParser implements Parser<ClassReportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ClassReportCommand and
+     * returns a ClassReportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public ClassReportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS_INDEX);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        }
+
+        if (argMultimap.getValue(PREFIX_CLASS_INDEX).isEmpty()) {
+            return new ClassReportCommand();
+        }
+
+        try {
+            Index moduleClassIndex = parseIndex(argMultimap.getValue(PREFIX_CLASS_INDEX).get());
+            return new ClassReportCommand(moduleClassIndex);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -2,40 +2,73 @@ package tutorspet.logic.parser.lesson;
 
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.lesson.DisplayVenueCommand.KEYWORD_CONFLICTS;
 import static tutorspet.logic.commands.lesson.DisplayVenueCommand.MESSAGE_USAGE;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_DAY;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_VENUE;
 import static tutorspet.logic.parser.ParserUtil.arePrefixesPresent;
+import static tutorspet.logic.parser.ParserUtil.parseDay;
 import static tutorspet.logic.parser.ParserUtil.parseIndex;
+import static tutorspet.logic.parser.ParserUtil.parseVenue;
+
+import java.util.Optional;
 
 import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.lesson.DisplayVenueBookingsCommand;
 import tutorspet.logic.commands.lesson.DisplayVenueCommand;
+import tutorspet.logic.commands.lesson.DisplayVenueConflictsCommand;
 import tutorspet.logic.parser.ArgumentMultimap;
 import tutorspet.logic.parser.ArgumentTokenizer;
 import tutorspet.logic.parser.Parser;
 import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Venue;
 
 /**
- * Parses input arguments and creates a new DisplayVenueCommand object.
+ * Parses input arguments and creates a new DisplayVenueCommand, DisplayVenueBookingsCommand or
+ * DisplayVenueConflictsCommand object.
  */
-public class DisplayVenueCommandParser implements Parser<DisplayVenueCommand> {
+public class DisplayVenueCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the DisplayVenueCommand and
-     * returns a DisplayVenueCommand object for execution.
+     * returns a DisplayVenueConflictsCommand object for the {@code conflicts} keyword, a DisplayVenueBookingsCommand
+     * object for a venue, or a DisplayVenueCommand object for a class and lesson index, for execution.
      *
      * @throws ParseException if the user input does not conform the expected format.
      */
-    public DisplayVenueCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS_INDEX, PREFIX_LESSON_INDEX);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS_INDEX, PREFIX_LESSON_INDEX,
+                PREFIX_VENUE, PREFIX_DAY);
+
+        boolean isAnyIndexPresent = argMultimap.getValue(PREFIX_CLASS_INDEX).isPresent()
+                || argMultimap.getValue(PREFIX_LESSON_INDEX).isPresent();
+        boolean isVenuePresent = argMultimap.getValue(PREFIX_VENUE).isPresent();
+        boolean isDayPresent = argMultimap.getValue(PREFIX_DAY).isPresent();
+
+        if (argMultimap.getPreamble().equalsIgnoreCase(KEYWORD_CONFLICTS)
+                && !isAnyIndexPresent && !isVenuePresent && !isDayPresent) {
+            return new DisplayVenueConflictsCommand();
+        }
+
+        if (isVenuePresent && !isAnyIndexPresent && argMultimap.getPreamble().isEmpty()) {
+            Venue venue = parseVenue(argMultimap.getValue(PREFIX_VENUE).get());
+            Optional<Day> day = isDayPresent
+                    ? Optional.of(parseDay(argMultimap.getValue(PREFIX_DAY).get()))
+                    : Optional.empty();
+            return new DisplayVenueBookingsCommand(venue, day);
+        }
 
         Index moduleClassIndex;
         Index lessonIndex;
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CLASS_INDEX, PREFIX_LESSON_INDEX)
-                || !argMultimap.getPreamble().isEmpty()) {
+                || isVenuePresent || isDayPresent || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
         }
 
@@ -0,0 +1,68 @@
+package tutorspet.logic.parser.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.lesson.FreeSlotsCommand.DEFAULT_END_TIME;
+import static tutorspet.logic.commands.lesson.FreeSlotsCommand.DEFAULT_START_TIME;
+import static tutorspet.logic.commands.lesson.FreeSlotsCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_DAY;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static tutorspet.model.lesson.Lesson.MESSAGE_CONSTRAINTS;
+import static tutorspet.model.lesson.Lesson.isValidStartTimeEndTime;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import tutorspet.logic.commands.lesson.FreeSlotsCommand;
+import tutorspet.logic.parser.ArgumentMultimap;
+import tutorspet.logic.parser.ArgumentTokenizer;
+import tutorspet.logic.parser.Parser;
+import tutorspet.logic.parser.ParserUtil;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.lesson.Day;
+
+/**
+ * Parses input arguments and creates a new FreeSlotsCommand object.
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotsCommand and
+     * returns a FreeSlotsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_DAY, PREFIX_START_TIME, PREFIX_END_TIME);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        }
+
+        List<Day> days = Arrays.asList(Day.values());
+        if (argMultimap.getValue(PREFIX_DAY).isPresent()) {
+            days = List.of(ParserUtil.parseDay(argMultimap.getValue(PREFIX_DAY).get()));
+        }
+
+        LocalTime startTime = DEFAULT_START_TIME;
+        if (argMultimap.getValue(PREFIX_START_TIME).isPresent()) {
+            startTime = ParserUtil.parseTime(argMultimap.getValue(PREFIX_START_TIME).get());
+        }
+
+        LocalTime endTime = DEFAULT_END_TIME;
+        if (argMultimap.getValue(PREFIX_END_TIME).isPresent()) {
+            endTime = ParserUtil.parseTime(argMultimap.getValue(PREFIX_END_TIME).get());
+        }
+
+        if (!isValidStartTimeEndTime(startTime, endTime)) {
+            throw new ParseException(MESSAGE_CONSTRAINTS);
+        }
+
+        return new FreeSlotsCommand(days, startTime, endTime);
+    }
+}
@@ -0,0 +1,32 @@
+package tutorspet.logic.parser.student;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import tutorspet.logic.commands.student.SearchStudentCommand;
+import tutorspet.logic.parser.Parser;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SearchStudentCommand object.
+ */
+public class SearchStudentCommandParser implements Parser<SearchStudentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchStudentCommand
+     * and returns a SearchStudentCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public SearchStudentCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchStudentCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+
+        return new SearchStudentCommand(Arrays.asList(keywords));
+    }
+}
@@ -1,23 +1,15 @@
 package tutorspet.logic.util;
 
+import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_ATTENDANCE;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_WEEK;
 import static tutorspet.commons.core.Messages.MESSAGE_MISSING_STUDENT_ATTENDANCE;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
-import static tutorspet.logic.util.AttendanceRecordUtil.addAttendance;
-import static tutorspet.logic.util.AttendanceRecordUtil.removeAttendance;
-import static tutorspet.logic.util.AttendanceRecordUtil.setAttendance;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.model.attendance.Attendance;
-import tutorspet.model.attendance.AttendanceRecord;
 import tutorspet.model.attendance.AttendanceRecordList;
 import tutorspet.model.attendance.Week;
+import tutorspet.model.lesson.NumberOfOccurrences;
 import tutorspet.model.student.Student;
 
 /**
@@ -33,14 +25,7 @@ public class AttendanceRecordListUtil {
             AttendanceRecordList targetAttendanceRecordList, Student studentToRemove) {
         requireAllNonNull(targetAttendanceRecordList, studentToRemove);
 
-        List<AttendanceRecord> attendanceRecords = targetAttendanceRecordList.getAttendanceRecordList();
-
-        List<AttendanceRecord> updatedAttendanceRecords =
-                attendanceRecords.stream().map(attendanceRecord ->
-                        removeStudentFromAttendanceRecord(attendanceRecord, studentToRemove))
-                        .collect(Collectors.toUnmodifiableList());
-
-        return new AttendanceRecordList(updatedAttendanceRecords);
+        return targetAttendanceRecordList.withoutStudent(studentToRemove);
     }
 
     /**
@@ -50,13 +35,7 @@ public class AttendanceRecordListUtil {
             AttendanceRecordList targetAttendanceRecordList) {
         requireAllNonNull(targetAttendanceRecordList);
 
-        List<AttendanceRecord> attendanceRecords = targetAttendanceRecordList.getAttendanceRecordList();
-
-        List<AttendanceRecord> updatedAttendanceRecords =
-                attendanceRecords.stream().map(attendanceRecord -> new AttendanceRecord())
-                        .collect(Collectors.toUnmodifiableList());
-
-        return new AttendanceRecordList(updatedAttendanceRecords);
+        return new AttendanceRecordList(new NumberOfOccurrences(targetAttendanceRecordList.getNumberOfRecords()));
     }
 
     /**
@@ -76,12 +55,11 @@ public class AttendanceRecordListUtil {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
 
-        AttendanceRecord targetAttendanceRecord = targetAttendanceRecordList.getAttendanceRecord(targetWeek);
-
-        AttendanceRecord editedWeekAttendanceRecord =
-                addAttendance(targetAttendanceRecord, targetStudent, attendanceToAdd);
+        if (targetAttendanceRecordList.hasAttendance(targetStudent, targetWeek)) {
+            throw new CommandException(MESSAGE_DUPLICATE_ATTENDANCE);
+        }
 
-        return replaceAttendanceRecordInList(targetAttendanceRecordList, targetWeek, editedWeekAttendanceRecord);
+        return targetAttendanceRecordList.withAttendance(targetStudent, targetWeek, attendanceToAdd);
     }
 
     /**
@@ -102,12 +80,11 @@ public class AttendanceRecordListUtil {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
 
-        AttendanceRecord targetAttendanceRecord = targetAttendanceRecordList.getAttendanceRecord(targetWeek);
-
-        AttendanceRecord editedWeekAttendanceRecord =
-                setAttendance(targetAttendanceRecord, targetStudent, attendanceToSet);
+        if (!targetAttendanceRecordList.hasAttendance(targetStudent, targetWeek)) {
+            throw new CommandException(MESSAGE_MISSING_STUDENT_ATTENDANCE);
+        }
 
-        return replaceAttendanceRecordInList(targetAttendanceRecordList, targetWeek, editedWeekAttendanceRecord);
+        return targetAttendanceRecordList.withAttendance(targetStudent, targetWeek, attendanceToSet);
     }
 
     /**
@@ -127,12 +104,11 @@ public class AttendanceRecordListUtil {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
 
-        AttendanceRecord targetAttendanceRecord = targetAttendanceRecordList.getAttendanceRecord(targetWeek);
-
-        AttendanceRecord editedWeekAttendanceRecord =
-                removeAttendance(targetAttendanceRecord, targetStudent);
+        if (!targetAttendanceRecordList.hasAttendance(targetStudent, targetWeek)) {
+            throw new CommandException(MESSAGE_MISSING_STUDENT_ATTENDANCE);
+        }
 
-        return replaceAttendanceRecordInList(targetAttendanceRecordList, targetWeek, editedWeekAttendanceRecord);
+        return targetAttendanceRecordList.withoutAttendance(targetStudent, targetWeek);
     }
 
     /**
@@ -151,100 +127,10 @@ public class AttendanceRecordListUtil {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
 
-        AttendanceRecord targetAttendanceRecord = targetAttendanceRecordList.getAttendanceRecord(targetWeek);
-
-        if (!targetAttendanceRecord.hasAttendance(targetStudent.getUuid())) {
+        if (!targetAttendanceRecordList.hasAttendance(targetStudent, targetWeek)) {
             throw new CommandException(MESSAGE_MISSING_STUDENT_ATTENDANCE);
         }
 
-        return targetAttendanceRecord.getAttendance(targetStudent.getUuid());
-    }
-
-    /**
-     * Returns {@code targetStudent}'s average participation score.
-     * @return
-     */
-    public static List<Integer> getScoreFromAttendance(AttendanceRecordList targetAttendanceRecordList,
-                                                       Student targetStudent) {
-        requireAllNonNull(targetAttendanceRecordList, targetStudent);
-
-        List<Optional<Attendance>> listOfAttendance = getAttendances(targetAttendanceRecordList, targetStudent);
-
-        List<Integer> scores = new ArrayList<>();
-
-        for (Optional<Attendance> attendance : listOfAttendance) {
-            if (attendance.isPresent()) {
-                scores.add(attendance.get().getParticipationScore());
-            }
-        }
-
-        return scores;
-    }
-
-    /**
-     * Returns a {@code List<Integer>} containing weeks in which {@code targetStudent} did not attend.
-     */
-    public static List<Integer> getAbsentWeekFromAttendance(AttendanceRecordList targetAttendanceRecordList,
-                                                            Student targetStudent) {
-        requireAllNonNull(targetAttendanceRecordList, targetStudent);
-
-        List<Optional<Attendance>> listOfAttendance = getAttendances(targetAttendanceRecordList, targetStudent);
-        int weekNo = 1;
-        List<Integer> weeksNotPresent = new ArrayList<>();
-
-        for (Optional<Attendance> attendance : listOfAttendance) {
-            if (attendance.isEmpty()) {
-                weeksNotPresent.add(weekNo);
-            }
-            weekNo++;
-        }
-
-        return weeksNotPresent;
-    }
-
-    private static AttendanceRecordList replaceAttendanceRecordInList(AttendanceRecordList attendanceRecordList,
-                                                                      Week week,
-                                                                      AttendanceRecord attendanceRecordToSet) {
-        List<AttendanceRecord> modifiedAttendanceRecordList =
-                new ArrayList<>(attendanceRecordList.getAttendanceRecordList());
-        modifiedAttendanceRecordList.set(week.getZeroBasedWeekIndex(), attendanceRecordToSet);
-        return new AttendanceRecordList(modifiedAttendanceRecordList);
-    }
-
-    /**
-     * Returns an {@code AttendanceRecord} where the {@code Attendance} of the {@code studentToRemove} has been removed.
-     * If the {@code studentToRemove} does not exist in the {@code attendanceRecord}, the {@code attendanceRecord}
-     * remains unchanged.
-     */
-    private static AttendanceRecord removeStudentFromAttendanceRecord(
-            AttendanceRecord attendanceRecord, Student studentToRemove) {
-        if (!attendanceRecord.hasAttendance(studentToRemove.getUuid())) {
-            return attendanceRecord;
-        }
-
-        try {
-            return removeAttendance(attendanceRecord, studentToRemove);
-        } catch (CommandException e) {
-            return attendanceRecord;
-        }
-    }
-
-    private static List<Optional<Attendance>> getAttendances(AttendanceRecordList targetAttendanceRecordList,
-                                                             Student targetStudent) {
-        requireAllNonNull(targetAttendanceRecordList, targetStudent);
-
-        List<Optional<Attendance>> studentRecords = new ArrayList<>();
-
-        List<AttendanceRecord> attendanceRecords = targetAttendanceRecordList.getAttendanceRecordList();
-
-        for (AttendanceRecord attendanceRecord : attendanceRecords) {
-            if (attendanceRecord.hasAttendance(targetStudent.getUuid())) {
-                studentRecords.add(Optional.of(attendanceRecord.getAttendance(targetStudent.getUuid())));
-            } else {
-                studentRecords.add(Optional.empty());
-            }
-        }
-
-        return Collections.unmodifiableList(studentRecords);
+        return targetAttendanceRecordList.getAttendance(targetStudent, targetWeek);
     }
 }
@@ -3,9 +3,7 @@ package tutorspet.logic.util;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.util.AttendanceRecordListUtil.addAttendanceToAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordListUtil.editAttendanceInAttendanceRecordList;
-import static tutorspet.logic.util.AttendanceRecordListUtil.getAbsentWeekFromAttendance;
 import static tutorspet.logic.util.AttendanceRecordListUtil.getAttendanceFromAttendanceRecordList;
-import static tutorspet.logic.util.AttendanceRecordListUtil.getScoreFromAttendance;
 import static tutorspet.logic.util.AttendanceRecordListUtil.removeAllStudentsFromAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordListUtil.removeAttendanceFromAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordListUtil.removeStudentFromAttendanceRecordList;
@@ -16,6 +14,7 @@ import java.util.List;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.model.attendance.Attendance;
 import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.ParticipationStatistics;
 import tutorspet.model.attendance.Week;
 import tutorspet.model.lesson.Day;
 import tutorspet.model.lesson.Lesson;
@@ -30,6 +29,7 @@ public class LessonUtil {
 
     /**
      * Returns a {@code Lesson} where the {@code Attendance}s of the {@code studentToRemove} have been removed.
+     * {@code targetLesson} itself is returned if the {@code studentToRemove} has no {@code Attendance} in it.
      */
     public static Lesson deleteStudentFromLesson(Lesson targetLesson, Student studentToRemove) {
         requireAllNonNull(targetLesson, studentToRemove);
@@ -38,6 +38,9 @@ public class LessonUtil {
 
         AttendanceRecordList updatedAttendanceRecordList = removeStudentFromAttendanceRecordList(
                 targetAttendanceRecordList, studentToRemove);
+        if (updatedAttendanceRecordList == targetAttendanceRecordList) {
+            return targetLesson;
+        }
 
         LocalTime startTime = targetLesson.getStartTime();
         LocalTime endTime = targetLesson.getEndTime();
@@ -170,26 +173,21 @@ public class LessonUtil {
     }
 
     /**
-     * Returns {@code targetStudent}'s average participation score for a lesson.
-     * @return
+     * Returns the {@code ParticipationStatistics} of {@code targetStudent} for a lesson.
      */
-    public static List<Integer> getParticipationScoreFromLesson(Lesson targetLesson, Student targetStudent) {
+    public static ParticipationStatistics getParticipationStatisticsFromLesson(Lesson targetLesson,
+                                                                               Student targetStudent) {
         requireAllNonNull(targetLesson, targetStudent);
 
-        AttendanceRecordList targetAttendanceRecordList = targetLesson.getAttendanceRecordList();
-
-        return getScoreFromAttendance(targetAttendanceRecordList, targetStudent);
+        return targetLesson.getAttendanceRecordList().getParticipationStatistics(targetStudent);
     }
 
     /**
-     * Returns a {@code List<Integer>} containing the weeks in which {@code targetStudent} did not attend
-     * the {@code targetLesson}.
+     * Returns the {@code Week}s in which {@code targetStudent} did not attend the {@code targetLesson}, in order.
      */
-    public static List<Integer> getAbsentWeekFromLesson(Lesson targetLesson, Student targetStudent) {
+    public static List<Week> getAbsentWeeksFromLesson(Lesson targetLesson, Student targetStudent) {
         requireAllNonNull(targetLesson, targetStudent);
 
-        AttendanceRecordList targetAttendanceRecordList = targetLesson.getAttendanceRecordList();
-
-        return getAbsentWeekFromAttendance(targetAttendanceRecordList, targetStudent);
+        return targetLesson.getAttendanceRecordList().getAbsentWeeks(targetStudent);
     }
 }
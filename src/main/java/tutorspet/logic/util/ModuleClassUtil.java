@@ -11,16 +11,12 @@ import static tutorspet.logic.util.LessonUtil.deleteAllStudentsFromLesson;
 import static tutorspet.logic.util.LessonUtil.deleteAttendanceFromLesson;
 import static tutorspet.logic.util.LessonUtil.deleteStudentFromLesson;
 import static tutorspet.logic.util.LessonUtil.editAttendanceInLesson;
-import static tutorspet.logic.util.LessonUtil.getAbsentWeekFromLesson;
 import static tutorspet.logic.util.LessonUtil.getAttendanceFromLesson;
-import static tutorspet.logic.util.LessonUtil.getParticipationScoreFromLesson;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -306,37 +302,13 @@ public class ModuleClassUtil {
     }
 
     /**
-     * Returns {@code targetStudent}'s average participation score for a class.
-     */
-    public static Map<Lesson, List<Integer>> getParticipationScore(ModuleClass targetModuleClass, Student targetStudent)
-            throws CommandException {
-        requireAllNonNull(targetModuleClass, targetStudent);
-
-        if (targetModuleClass.getLessons().isEmpty()) {
-            throw new CommandException(MESSAGE_NO_LESSONS_IN_MODULE_CLASS);
-        }
-
-        if (!targetModuleClass.hasStudentUuid(targetStudent.getUuid())) {
-            throw new CommandException(MESSAGE_MISSING_LINK);
-        }
-
-        List<Lesson> listOfLesson = targetModuleClass.getLessons();
-        Map<Lesson, List<Integer>> listOfScores = new HashMap<>();
-
-        for (Lesson lesson : listOfLesson) {
-            List<Integer> score = getParticipationScoreFromLesson(lesson, targetStudent);
-            listOfScores.put(lesson, score);
-        }
-
-        return listOfScores;
-    }
-
-    /**
-     * Returns a Map with {@code Lesson} as key and {@code List<Integer>} as value.
-     * The {@code List<Integer>} contains the weeks in which {@code targetStudent} did not attend
+     * Returns the {@code Lesson}s of {@code targetModuleClass}, over which the attendance of {@code targetStudent} is
+     * summarised.
+     *
+     * @throws CommandException if {@code targetModuleClass} has no {@code Lesson}s, or {@code targetStudent} is not in
      * {@code targetModuleClass}.
      */
-    public static Map<Lesson, List<Integer>> getAbsentWeek(ModuleClass targetModuleClass, Student targetStudent)
+    public static List<Lesson> getLessonsOfStudent(ModuleClass targetModuleClass, Student targetStudent)
             throws CommandException {
         requireAllNonNull(targetModuleClass, targetStudent);
 
@@ -348,15 +320,7 @@ public class ModuleClassUtil {
             throw new CommandException(MESSAGE_MISSING_LINK);
         }
 
-        List<Lesson> listOfLesson = targetModuleClass.getLessons();
-        Map<Lesson, List<Integer>> listOfAttendance = new HashMap<>();
-
-        for (Lesson lesson : listOfLesson) {
-            List<Integer> attendances = getAbsentWeekFromLesson(lesson, targetStudent);
-            listOfAttendance.put(lesson, attendances);
-        }
-
-        return listOfAttendance;
+        return targetModuleClass.getLessons();
     }
 
     // private methods
@@ -367,11 +331,6 @@ public class ModuleClassUtil {
         assert lessonToEditIndex != null;
         assert lessonToUpdate != null;
 
-        Name moduleClassName = targetModuleClass.getName();
-        Set<UUID> studentsIds = targetModuleClass.getStudentUuids();
-        List<Lesson> lessons = new ArrayList<>(targetModuleClass.getLessons());
-        lessons.set(lessonToEditIndex.getZeroBased(), lessonToUpdate);
-
-        return new ModuleClass(moduleClassName, studentsIds, lessons);
+        return targetModuleClass.withLesson(lessonToEditIndex.getZeroBased(), lessonToUpdate);
     }
 }
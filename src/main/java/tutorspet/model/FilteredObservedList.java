@@ -0,0 +1,116 @@
+package tutorspet.model;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.replaceRange;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An {@code ObservedList} of the elements of a source {@code ObservedList} that match a predicate, in the order of
+ * the source list.
+ * The list is kept up to date as the source list changes. Only the elements added to the source list are tested
+ * against the predicate, and each change to the source list is reported as a single change to this list, if it
+ * changes which elements match.
+ */
+public class FilteredObservedList<T> extends ObservedList<T> {
+
+    /** Whether each element of the source list matches the predicate, in the order of the source list. */
+    private final List<Boolean> matches = new ArrayList<>();
+    private final List<T> elements = new ArrayList<>();
+    private final ObservedList<T> source;
+    private Predicate<? super T> predicate;
+
+    /**
+     * Creates a {@code FilteredObservedList} of the elements of {@code source} that match {@code predicate}.
+     */
+    public FilteredObservedList(ObservedList<T> source, Predicate<? super T> predicate) {
+        requireAllNonNull(source, predicate);
+
+        this.source = source;
+        this.predicate = predicate;
+        filter();
+        source.addObserver(this::onSourceChanged);
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Replaces the predicate of the list with {@code predicate}, testing every element of the source list against it.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+
+        this.predicate = predicate;
+        List<T> removed = hasObservers() ? List.copyOf(elements) : List.of();
+        filter();
+        if (hasObservers() && !removed.equals(elements)) {
+            fireChange(0, removed, List.copyOf(elements));
+        }
+    }
+
+    private void filter() {
+        matches.clear();
+        elements.clear();
+        for (T element : source) {
+            boolean isMatch = predicate.test(element);
+            matches.add(isMatch);
+            if (isMatch) {
+                elements.add(element);
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Applies {@code change} of the source list to this list, testing only the added elements against the predicate.
+     */
+    private void onSourceChanged(ListChange<T> change) {
+        int sourceFrom = change.getFrom();
+        int sourceTo = sourceFrom + change.getRemoved().size();
+        int from = countMatches(0, sourceFrom);
+        int to = from + countMatches(sourceFrom, sourceTo);
+
+        List<Boolean> addedMatches = new ArrayList<>(change.getAdded().size());
+        List<T> added = new ArrayList<>();
+        for (T element : change.getAdded()) {
+            boolean isMatch = predicate.test(element);
+            addedMatches.add(isMatch);
+            if (isMatch) {
+                added.add(element);
+            }
+        }
+
+        List<T> removed = hasObservers() ? List.copyOf(elements.subList(from, to)) : List.of();
+        replaceRange(matches, sourceFrom, sourceTo, addedMatches);
+        replaceRange(elements, from, to, added);
+        modCount++;
+        if (from != to || !added.isEmpty()) {
+            fireChange(from, removed, added);
+        }
+    }
+
+    /**
+     * Returns the number of elements of the source list from {@code fromIndex} (inclusive) to {@code toIndex}
+     * (exclusive) that match the predicate.
+     */
+    private int countMatches(int fromIndex, int toIndex) {
+        int count = 0;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (matches.get(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,62 @@
+package tutorspet.model;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents the replacement of the elements {@code removed}, starting at position {@code from} of a list, with the
+ * elements {@code added}.
+ * Guarantees: immutable.
+ */
+public class ListChange<T> {
+
+    private final int from;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Creates a {@code ListChange} replacing {@code removed} at position {@code from} with {@code added}.
+     */
+    public ListChange(int from, List<T> removed, List<T> added) {
+        requireAllNonNull(removed, added);
+
+        this.from = from;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the number of elements referenced by this change.
+     */
+    public int getSize() {
+        return removed.size() + added.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListChange // instanceof handles nulls
+                && ((ListChange<?>) other).from == from
+                && ((ListChange<?>) other).removed.equals(removed)
+                && ((ListChange<?>) other).added.equals(added));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, removed, added);
+    }
+}
@@ -0,0 +1,13 @@
+package tutorspet.model;
+
+/**
+ * Observes the changes made to an {@code ObservedList}.
+ */
+@FunctionalInterface
+public interface ListChangeObserver<T> {
+
+    /**
+     * Called after {@code change} is made to the observed list, on the thread that made the change.
+     */
+    void onChanged(ListChange<T> change);
+}
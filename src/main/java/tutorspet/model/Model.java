@@ -1,11 +1,21 @@
 package tutorspet.model;
 
 import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import tutorspet.commons.core.GuiSettings;
+import tutorspet.model.exception.StateArchiveException;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.TimeSlot;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.lesson.VenueBooking;
 import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.report.ClassReport;
 import tutorspet.model.student.Student;
 
 /**
@@ -54,11 +64,35 @@ public interface Model {
     /** Returns the TutorsPet */
     ReadOnlyTutorsPet getTutorsPet();
 
+    /**
+     * Returns the number of modifications made to the Tutor's Pet data.
+     * The count only changes when the data is modified.
+     */
+    long getModificationCount();
+
     /**
      * Commits the current Tutor's Pet state with the associated {@code commitMessage}.
      */
     void commit(String commitMessage);
 
+    /**
+     * Starts a transaction, during which {@link #commit(String)} does not record a state of its own, so that the
+     * changes of several {@code Command}s are undone and redone together.
+     * There must not be a transaction in progress.
+     */
+    void startTransaction();
+
+    /**
+     * Ends the transaction in progress, committing every change committed during it as a single state with the
+     * associated {@code commitMessage}. Nothing is committed if no change was committed during the transaction.
+     */
+    void commitTransaction(String commitMessage);
+
+    /**
+     * Ends the transaction in progress, reverting every change made during it.
+     */
+    void rollbackTransaction();
+
     /**
      * Returns true if there is a {@code Command} that can be undone.
      */
@@ -66,6 +100,8 @@ public interface Model {
 
     /**
      * Undoes the most recent undoable {@code Command}.
+     *
+     * @throws StateArchiveException if the state to undo could not be retrieved from the archive.
      */
     String undo();
 
@@ -76,6 +112,8 @@ public interface Model {
 
     /**
      * Redoes the most recent undone {@code Command}.
+     *
+     * @throws StateArchiveException if the state to redo could not be retrieved from the archive.
      */
     String redo();
 
@@ -121,9 +159,9 @@ public interface Model {
     void deleteAllStudents();
 
     /**
-     * Returns an unmodifiable view of the filtered student list.
+     * Returns an unmodifiable view of the filtered student list, which reports its changes to its observers.
      */
-    ObservableList<Student> getFilteredStudentList();
+    ObservedList<Student> getFilteredStudentList();
 
     /**
      * Updates the filter of the filtered student list to filter by the given {@code predicate}.
@@ -131,6 +169,30 @@ public interface Model {
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filter of the filtered student list to filter by the given {@code predicate}, and orders the
+     * filtered students by {@code comparator} rather than in the order of the student list, until the filter is next
+     * updated.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator);
+
+    /**
+     * Updates the filter of the filtered student list to show the students whose names contain any of
+     * {@code keywords}, ignoring case.
+     * This shows the same students as {@code NameContainsKeywordsPredicate}, but the students are found with the name
+     * index of the application rather than by comparing the keywords against every name.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredStudentListByName(List<String> keywords);
+
+    /**
+     * Returns the students with a word in their name, telegram, email or tags that matches any of {@code keywords},
+     * ignoring case, in full, as a prefix or with a small typo, from the best match to the worst.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    List<Student> searchStudents(List<String> keywords);
+
     /**
      * Returns true if a ModuleClass with the same identity as {@code moduleClass} exists in the application.
      */
@@ -162,13 +224,62 @@ public interface Model {
     void deleteAllModuleClasses();
 
     /**
-     * Returns an unmodifiable view of the filtered {@code ModuleClass} list.
+     * Returns an unmodifiable view of the filtered {@code ModuleClass} list, which reports its changes to its
+     * observers.
      */
-    ObservableList<ModuleClass> getFilteredModuleClassList();
+    ObservedList<ModuleClass> getFilteredModuleClassList();
 
     /**
      * Updates the filter of the filtered {@code ModuleClass} list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredModuleClassList(Predicate<ModuleClass> predicate);
+
+    /**
+     * Updates the filter of the filtered {@code ModuleClass} list to show the {@code ModuleClass}es whose names
+     * contain any of {@code keywords}, ignoring case.
+     * This shows the same {@code ModuleClass}es as {@code NameContainsKeywordsPredicate}, but they are found with the
+     * name index of the application rather than by comparing the keywords against every name.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredModuleClassListByName(List<String> keywords);
+
+    /**
+     * Returns a {@code ModuleClass} other than {@code moduleClass} with a {@code Lesson} that overlaps {@code lesson},
+     * if there is any.
+     * @throws NullPointerException if any of the arguments is null.
+     */
+    Optional<ModuleClass> findClashingModuleClass(ModuleClass moduleClass, Lesson lesson);
+
+    /**
+     * Returns the periods from {@code startTime} to {@code endTime} on {@code day} without a {@code Lesson} of any
+     * {@code ModuleClass}, ordered by time.
+     * {@code startTime} must be earlier than {@code endTime}.
+     * @throws NullPointerException if any of the arguments is null.
+     */
+    List<TimeSlot> getFreeTimeSlots(Day day, LocalTime startTime, LocalTime endTime);
+
+    /**
+     * Returns the {@code VenueBooking}s of the {@code Lesson}s at {@code venue}, ordered by time.
+     * @throws NullPointerException if {@code venue} is null.
+     */
+    List<VenueBooking> getVenueBookings(Venue venue);
+
+    /**
+     * Returns the {@code VenueBooking}s of the {@code Lesson}s at {@code venue} on {@code day}, ordered by time.
+     * @throws NullPointerException if any of the arguments is null.
+     */
+    List<VenueBooking> getVenueBookings(Venue venue, Day day);
+
+    /**
+     * Returns the {@code VenueBooking}s of the {@code Lesson}s that overlap another {@code Lesson} at the same
+     * {@code Venue}, ordered by venue and then by time.
+     */
+    List<VenueBooking> getVenueConflicts();
+
+    /**
+     * Returns the reports of the attendance of the students of {@code moduleClasses}, in the same order.
+     * The classes must exist in the application.
+     */
+    List<ClassReport> getClassReports(List<ModuleClass> moduleClasses);
 }
@@ -4,18 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.commons.core.LogsCenter;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.TimeSlot;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.lesson.VenueBooking;
 import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.report.ClassReport;
 import tutorspet.model.student.Student;
 
 /**
  * Represents the in-memory model of the Tutor's Pet data.
+ * The model does not depend on JavaFX and is not thread-safe, so it must only be used by one thread at a time.
  */
 public class ModelManager implements Model {
 
@@ -23,22 +32,42 @@ public class ModelManager implements Model {
 
     private final VersionedTutorsPet versionedTutorsPet;
     private final UserPrefs userPrefs;
-    private final FilteredList<Student> filteredStudents;
-    private final FilteredList<ModuleClass> filteredModuleClasses;
+    private final FilteredObservedList<Student> filteredStudents;
+    private final SortedObservedList<Student> sortedStudents;
+    private final FilteredObservedList<ModuleClass> filteredModuleClasses;
+    private boolean isInTransaction = false;
+    private boolean hasCommitInTransaction = false;
 
     /**
      * Initializes a ModelManager with the given tutorsPet and userPrefs.
+     * All states of the undo history are kept in memory.
      */
     public ModelManager(ReadOnlyTutorsPet tutorsPet, ReadOnlyUserPrefs userPrefs) {
+        this(tutorsPet, userPrefs, new VersionedTutorsPet(tutorsPet));
+    }
+
+    /**
+     * Initializes a ModelManager with the given tutorsPet and userPrefs.
+     * States of the undo history beyond the limits of the history settings in {@code userPrefs} are moved into
+     * {@code stateArchive}.
+     */
+    public ModelManager(ReadOnlyTutorsPet tutorsPet, ReadOnlyUserPrefs userPrefs, StateArchive stateArchive) {
+        this(tutorsPet, userPrefs, new VersionedTutorsPet(tutorsPet, userPrefs.getHistorySettings(), stateArchive));
+    }
+
+    private ModelManager(ReadOnlyTutorsPet tutorsPet, ReadOnlyUserPrefs userPrefs,
+                         VersionedTutorsPet versionedTutorsPet) {
         super();
         requireAllNonNull(tutorsPet, userPrefs);
 
         logger.fine("Initializing with Tutor's Pet: " + tutorsPet + " and user prefs " + userPrefs);
 
-        versionedTutorsPet = new VersionedTutorsPet(tutorsPet);
+        this.versionedTutorsPet = versionedTutorsPet;
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredStudents = new FilteredList<>(versionedTutorsPet.getStudentList());
-        filteredModuleClasses = new FilteredList<>(versionedTutorsPet.getModuleClassList());
+        filteredStudents = new FilteredObservedList<>(versionedTutorsPet.getStudentList(), PREDICATE_SHOW_ALL_STUDENTS);
+        sortedStudents = new SortedObservedList<>(filteredStudents);
+        filteredModuleClasses = new FilteredObservedList<>(versionedTutorsPet.getModuleClassList(),
+                PREDICATE_SHOW_ALL_MODULE_CLASS);
     }
 
     public ModelManager() {
@@ -95,11 +124,49 @@ public class ModelManager implements Model {
         return versionedTutorsPet;
     }
 
+    @Override
+    public long getModificationCount() {
+        return versionedTutorsPet.getModificationCount();
+    }
+
     @Override
     public void commit(String commitMessage) {
+        requireNonNull(commitMessage);
+
+        if (isInTransaction) {
+            hasCommitInTransaction = true;
+            return;
+        }
         versionedTutorsPet.commit(commitMessage);
     }
 
+    @Override
+    public void startTransaction() {
+        assert !isInTransaction;
+
+        isInTransaction = true;
+        hasCommitInTransaction = false;
+    }
+
+    @Override
+    public void commitTransaction(String commitMessage) {
+        requireNonNull(commitMessage);
+        assert isInTransaction;
+
+        isInTransaction = false;
+        if (hasCommitInTransaction) {
+            versionedTutorsPet.commit(commitMessage);
+        }
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        assert isInTransaction;
+
+        isInTransaction = false;
+        versionedTutorsPet.discardUncommittedChanges();
+    }
+
     @Override
     public boolean canUndo() {
         return versionedTutorsPet.canUndo();
@@ -201,21 +268,47 @@ public class ModelManager implements Model {
      * {@code versionedTutorsPet}
      */
     @Override
-    public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+    public ObservedList<Student> getFilteredStudentList() {
+        return sortedStudents;
     }
 
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
 
+        // the order is reset first, so that the newly filtered students are not sorted
+        sortedStudents.setComparator(null);
         filteredStudents.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator) {
+        requireAllNonNull(predicate, comparator);
+
+        sortedStudents.setComparator(null);
+        filteredStudents.setPredicate(predicate);
+        sortedStudents.setComparator(comparator);
+    }
+
+    @Override
+    public void updateFilteredStudentListByName(List<String> keywords) {
+        requireNonNull(keywords);
+
+        sortedStudents.setComparator(null);
+        filteredStudents.setPredicate(versionedTutorsPet.createStudentNamePredicate(keywords));
+    }
+
+    @Override
+    public List<Student> searchStudents(List<String> keywords) {
+        requireNonNull(keywords);
+
+        return versionedTutorsPet.searchStudents(keywords);
+    }
+
     //=========== Filtered ModuleClass List Accessors =============================================================
 
     @Override
-    public ObservableList<ModuleClass> getFilteredModuleClassList() {
+    public ObservedList<ModuleClass> getFilteredModuleClassList() {
         return filteredModuleClasses;
     }
 
@@ -226,6 +319,57 @@ public class ModelManager implements Model {
         filteredModuleClasses.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredModuleClassListByName(List<String> keywords) {
+        requireNonNull(keywords);
+
+        filteredModuleClasses.setPredicate(versionedTutorsPet.createModuleClassNamePredicate(keywords));
+    }
+
+    //=========== Timetable ===================================================================================
+
+    @Override
+    public Optional<ModuleClass> findClashingModuleClass(ModuleClass moduleClass, Lesson lesson) {
+        requireAllNonNull(moduleClass, lesson);
+
+        return versionedTutorsPet.findClashingModuleClass(moduleClass, lesson);
+    }
+
+    @Override
+    public List<TimeSlot> getFreeTimeSlots(Day day, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(day, startTime, endTime);
+
+        return versionedTutorsPet.getFreeTimeSlots(day, startTime, endTime);
+    }
+
+    @Override
+    public List<VenueBooking> getVenueBookings(Venue venue) {
+        requireNonNull(venue);
+
+        return versionedTutorsPet.getVenueBookings(venue);
+    }
+
+    @Override
+    public List<VenueBooking> getVenueBookings(Venue venue, Day day) {
+        requireAllNonNull(venue, day);
+
+        return versionedTutorsPet.getVenueBookings(venue, day);
+    }
+
+    @Override
+    public List<VenueBooking> getVenueConflicts() {
+        return versionedTutorsPet.getVenueConflicts();
+    }
+
+    //=========== Reports =====================================================================================
+
+    @Override
+    public List<ClassReport> getClassReports(List<ModuleClass> moduleClasses) {
+        requireNonNull(moduleClasses);
+
+        return versionedTutorsPet.getClassReports(moduleClasses);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -242,7 +386,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return versionedTutorsPet.equals(other.versionedTutorsPet)
                 && userPrefs.equals(other.userPrefs)
-                && filteredStudents.equals(other.filteredStudents)
+                && sortedStudents.equals(other.sortedStudents)
                 && filteredModuleClasses.equals(other.filteredModuleClasses);
     }
 }
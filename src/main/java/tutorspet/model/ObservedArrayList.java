@@ -0,0 +1,84 @@
+package tutorspet.model;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import tutorspet.commons.util.CollectionUtil;
+
+/**
+ * An {@code ObservedList} backed by an array, which does not allow nulls.
+ * Every method that changes the list reports the change as a single {@code ListChange}, so that replacing a range of
+ * the list is observed as one change rather than one change per element.
+ */
+public class ObservedArrayList<T> extends ObservedList<T> {
+
+    private final ArrayList<T> elements = new ArrayList<>();
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Adds {@code element} to the end of the list.
+     */
+    public void append(T element) {
+        replaceRange(elements.size(), elements.size(), List.of(element));
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}.
+     *
+     * @return the element that was replaced.
+     */
+    public T replace(int index, T element) {
+        T replaced = elements.get(index);
+        replaceRange(index, index + 1, List.of(element));
+        return replaced;
+    }
+
+    /**
+     * Removes the element at {@code index}.
+     *
+     * @return the element that was removed.
+     */
+    public T delete(int index) {
+        T removed = elements.get(index);
+        replaceRange(index, index + 1, List.of());
+        return removed;
+    }
+
+    /**
+     * Replaces the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}.
+     *
+     * @throws IndexOutOfBoundsException if the range is not within the bounds of the list.
+     */
+    public void replaceRange(int fromIndex, int toIndex, List<? extends T> replacement) {
+        requireAllNonNull(replacement);
+        Objects.checkFromToIndex(fromIndex, toIndex, elements.size());
+
+        boolean isObserved = hasObservers();
+        List<T> removed = isObserved ? List.copyOf(elements.subList(fromIndex, toIndex)) : List.of();
+        CollectionUtil.replaceRange(elements, fromIndex, toIndex, replacement);
+        modCount++;
+        if (isObserved) {
+            fireChange(fromIndex, removed, List.copyOf(replacement));
+        }
+    }
+
+    /**
+     * Replaces the contents of the list with {@code replacement}.
+     */
+    public void setAll(List<? extends T> replacement) {
+        replaceRange(0, elements.size(), replacement);
+    }
+}
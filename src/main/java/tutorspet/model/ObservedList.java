@@ -0,0 +1,60 @@
+package tutorspet.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of the model that reports every change made to it to its {@code ListChangeObserver}s.
+ * The list cannot be modified through the {@code List} interface, and is not thread-safe: it must only be read and
+ * changed by one thread at a time, and its observers are notified on the thread that changed it. It does not depend
+ * on JavaFX, so that the model can be used without the GUI, and it only reports changes when it is observed.
+ */
+public abstract class ObservedList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final List<ListChangeObserver<T>> observers = new ArrayList<>();
+
+    /**
+     * Adds {@code observer}, which is notified of every change made to the list from now on.
+     */
+    public void addObserver(ListChangeObserver<T> observer) {
+        requireNonNull(observer);
+
+        observers.add(observer);
+    }
+
+    /**
+     * Removes {@code observer}, which is no longer notified of changes made to the list.
+     */
+    public void removeObserver(ListChangeObserver<T> observer) {
+        requireNonNull(observer);
+
+        observers.remove(observer);
+    }
+
+    /**
+     * Returns true if any {@code ListChangeObserver} is observing the list.
+     * Subclasses can skip describing a change when this is false.
+     */
+    protected boolean hasObservers() {
+        return !observers.isEmpty();
+    }
+
+    /**
+     * Notifies every {@code ListChangeObserver} that {@code removed}, starting at position {@code from} of the list,
+     * has been replaced with {@code added}.
+     */
+    protected void fireChange(int from, List<T> removed, List<T> added) {
+        if (!hasObservers()) {
+            return;
+        }
+
+        ListChange<T> change = new ListChange<>(from, removed, added);
+        for (int i = 0; i < observers.size(); i++) {
+            observers.get(i).onChanged(change);
+        }
+    }
+}
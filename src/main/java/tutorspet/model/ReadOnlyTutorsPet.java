@@ -1,6 +1,7 @@
 package tutorspet.model;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
 
@@ -13,11 +14,11 @@ public interface ReadOnlyTutorsPet {
      * Returns an unmodifiable view of the students list.
      * This list will not contain any duplicate students.
      */
-    ObservableList<Student> getStudentList();
+    List<Student> getStudentList();
 
     /**
      * Returns an unmodifiable view of the ModuleClass list.
      * This list will not contain any duplicate ModuleClasses.
      */
-    ObservableList<ModuleClass> getModuleClassList();
+    List<ModuleClass> getModuleClassList();
 }
@@ -3,6 +3,8 @@ package tutorspet.model;
 import java.nio.file.Path;
 
 import tutorspet.commons.core.GuiSettings;
+import tutorspet.commons.core.HistorySettings;
+import tutorspet.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -11,5 +13,11 @@ public interface ReadOnlyUserPrefs {
 
     GuiSettings getGuiSettings();
 
+    HistorySettings getHistorySettings();
+
     Path getTutorsPetFilePath();
+
+    StorageFormat getStorageFormat();
+
+    boolean isLazyAttendanceLoading();
 }
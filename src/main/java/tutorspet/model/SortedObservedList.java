@@ -0,0 +1,82 @@
+package tutorspet.model;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.replaceRange;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An {@code ObservedList} of the elements of a source {@code ObservedList}, in the order of a comparator, or in the
+ * order of the source list if there is no comparator.
+ * Elements that the comparator considers equal stay in the order of the source list.
+ * The list is kept up to date as the source list changes. Without a comparator, each change to the source list is
+ * reported as is. With a comparator, the list is sorted again after each change to the source list, and the change
+ * is reported as a replacement of the whole list, so a comparator should only be used while the list is short, such
+ * as for the results of a search.
+ */
+public class SortedObservedList<T> extends ObservedList<T> {
+
+    private final List<T> elements = new ArrayList<>();
+    private final ObservedList<T> source;
+    private Comparator<? super T> comparator;
+
+    /**
+     * Creates a {@code SortedObservedList} of the elements of {@code source}, in the order of {@code source}.
+     */
+    public SortedObservedList(ObservedList<T> source) {
+        requireNonNull(source);
+
+        this.source = source;
+        elements.addAll(source);
+        source.addObserver(this::onSourceChanged);
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Replaces the comparator of the list with {@code comparator}, sorting the list again.
+     * A null {@code comparator} keeps the elements in the order of the source list.
+     */
+    public void setComparator(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        sort();
+    }
+
+    private void sort() {
+        List<T> removed = hasObservers() ? List.copyOf(elements) : List.of();
+        elements.clear();
+        elements.addAll(source);
+        if (comparator != null) {
+            elements.sort(comparator);
+        }
+        modCount++;
+        if (hasObservers() && !removed.equals(elements)) {
+            fireChange(0, removed, List.copyOf(elements));
+        }
+    }
+
+    /**
+     * Applies {@code change} of the source list to this list.
+     */
+    private void onSourceChanged(ListChange<T> change) {
+        if (comparator != null) {
+            sort();
+            return;
+        }
+
+        int from = change.getFrom();
+        replaceRange(elements, from, from + change.getRemoved().size(), change.getAdded());
+        modCount++;
+        fireChange(from, change.getRemoved(), change.getAdded());
+    }
+}
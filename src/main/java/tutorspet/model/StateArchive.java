@@ -0,0 +1,34 @@
+package tutorspet.model;
+
+import java.io.IOException;
+
+import tutorspet.commons.exceptions.DataConversionException;
+
+/**
+ * Represents a store outside of memory for the {@code StateChanges} of older states of a {@code VersionedTutorsPet}.
+ */
+public interface StateArchive {
+
+    /**
+     * Stores {@code changes} under {@code stateId}, replacing any changes previously stored under it.
+     *
+     * @throws IOException if there was any problem writing to the archive.
+     */
+    void archive(int stateId, StateChanges changes) throws IOException;
+
+    /**
+     * Returns the changes stored under {@code stateId}.
+     *
+     * @throws DataConversionException if the stored changes are not in the expected format.
+     * @throws IOException if there was any problem reading from the archive, or no changes are stored under
+     * {@code stateId}.
+     */
+    StateChanges retrieve(int stateId) throws DataConversionException, IOException;
+
+    /**
+     * Removes the changes stored under {@code stateId}, if any.
+     *
+     * @throws IOException if there was any problem writing to the archive.
+     */
+    void discard(int stateId) throws IOException;
+}
@@ -0,0 +1,59 @@
+package tutorspet.model;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Represents the changes made to the student and class lists of a {@code TutorsPet} between two commits, in the
+ * order they were made.
+ * Guarantees: immutable.
+ */
+public class StateChanges {
+
+    private final List<ListChange<Student>> studentChanges;
+    private final List<ListChange<ModuleClass>> moduleClassChanges;
+
+    /**
+     * Creates a {@code StateChanges} with the given {@code studentChanges} and {@code moduleClassChanges}.
+     */
+    public StateChanges(List<ListChange<Student>> studentChanges, List<ListChange<ModuleClass>> moduleClassChanges) {
+        requireAllNonNull(studentChanges, moduleClassChanges);
+
+        this.studentChanges = List.copyOf(studentChanges);
+        this.moduleClassChanges = List.copyOf(moduleClassChanges);
+    }
+
+    public List<ListChange<Student>> getStudentChanges() {
+        return studentChanges;
+    }
+
+    public List<ListChange<ModuleClass>> getModuleClassChanges() {
+        return moduleClassChanges;
+    }
+
+    /**
+     * Returns the number of {@code Student}s and {@code ModuleClass}es referenced by these changes.
+     */
+    public int getSize() {
+        return studentChanges.stream().mapToInt(ListChange::getSize).sum()
+                + moduleClassChanges.stream().mapToInt(ListChange::getSize).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StateChanges // instanceof handles nulls
+                && ((StateChanges) other).studentChanges.equals(studentChanges)
+                && ((StateChanges) other).moduleClassChanges.equals(moduleClassChanges));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentChanges, moduleClassChanges);
+    }
+}
@@ -3,12 +3,20 @@ package tutorspet.model;
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Objects;
-
-import javafx.collections.ObservableList;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.TimeSlot;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.lesson.VenueBooking;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.moduleclass.UniqueModuleClassList;
+import tutorspet.model.report.ClassReport;
 import tutorspet.model.student.Student;
 import tutorspet.model.student.UniqueStudentList;
 
@@ -20,6 +28,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
 
     private final UniqueStudentList students;
     private final UniqueModuleClassList moduleClasses;
+    private long modificationCount = 0;
 
     /**
      * Creates a TutorsPet with no existing data.
@@ -45,6 +54,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudent(students);
+        modificationCount++;
     }
 
     /**
@@ -53,6 +63,25 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      */
     public void setModuleClasses(List<ModuleClass> moduleClasses) {
         this.moduleClasses.setModuleClass(moduleClasses);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the students from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}.
+     */
+    void replaceStudents(int fromIndex, int toIndex, List<Student> replacement) {
+        students.replaceStudents(fromIndex, toIndex, replacement);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the classes from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}.
+     */
+    void replaceModuleClasses(int fromIndex, int toIndex, List<ModuleClass> replacement) {
+        moduleClasses.replaceModuleClasses(fromIndex, toIndex, replacement);
+        modificationCount++;
     }
 
     /**
@@ -100,6 +129,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      */
     public void addStudent(Student student) {
         students.add(student);
+        modificationCount++;
     }
 
     /**
@@ -112,6 +142,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
+        modificationCount++;
     }
 
     /**
@@ -124,6 +155,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
 
         moduleClasses.removeStudent(student);
         students.remove(student);
+        modificationCount++;
     }
 
     /**
@@ -133,6 +165,27 @@ public class TutorsPet implements ReadOnlyTutorsPet {
     public void deleteAllStudents() {
         moduleClasses.removeAllStudents();
         students.setStudent(new UniqueStudentList());
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate that tests if a student's name contains any of {@code keywords}, using the name index of the
+     * students in the application.
+     */
+    public Predicate<Student> createStudentNamePredicate(List<String> keywords) {
+        requireAllNonNull(keywords);
+
+        return students.createNamePredicate(keywords);
+    }
+
+    /**
+     * Returns the students matching any of {@code keywords} in full, as a prefix or with a small typo, from the best
+     * match to the worst.
+     */
+    public List<Student> searchStudents(List<String> keywords) {
+        requireAllNonNull(keywords);
+
+        return students.search(keywords);
     }
 
     //// moduleClass-level operations
@@ -146,12 +199,75 @@ public class TutorsPet implements ReadOnlyTutorsPet {
         return moduleClasses.contains(moduleClass);
     }
 
+    /**
+     * Returns the classes that {@code student} is in, without visiting the classes the student is not in.
+     */
+    public List<ModuleClass> getModuleClassesOf(Student student) {
+        requireNonNull(student);
+
+        return moduleClasses.getModuleClassesOf(student);
+    }
+
+    /**
+     * Returns a predicate that tests if a class's name contains any of {@code keywords}, using the name index of the
+     * classes in the application.
+     */
+    public Predicate<ModuleClass> createModuleClassNamePredicate(List<String> keywords) {
+        requireAllNonNull(keywords);
+
+        return moduleClasses.createNamePredicate(keywords);
+    }
+
+    /**
+     * Returns a class other than {@code moduleClass} with a lesson that overlaps {@code lesson}, if there is any.
+     */
+    public Optional<ModuleClass> findClashingModuleClass(ModuleClass moduleClass, Lesson lesson) {
+        requireAllNonNull(moduleClass, lesson);
+
+        return moduleClasses.findClashingModuleClass(moduleClass, lesson);
+    }
+
+    /**
+     * Returns the periods from {@code startTime} to {@code endTime} on {@code day} without a lesson of any class.
+     */
+    public List<TimeSlot> getFreeTimeSlots(Day day, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(day, startTime, endTime);
+
+        return moduleClasses.getFreeTimeSlots(day, startTime, endTime);
+    }
+
+    /**
+     * Returns the bookings of the lessons at {@code venue}, ordered by time.
+     */
+    public List<VenueBooking> getVenueBookings(Venue venue) {
+        requireNonNull(venue);
+
+        return moduleClasses.getVenueBookings(venue);
+    }
+
+    /**
+     * Returns the bookings of the lessons at {@code venue} on {@code day}, ordered by time.
+     */
+    public List<VenueBooking> getVenueBookings(Venue venue, Day day) {
+        requireAllNonNull(venue, day);
+
+        return moduleClasses.getVenueBookings(venue, day);
+    }
+
+    /**
+     * Returns the bookings of the lessons that overlap another lesson at the same venue.
+     */
+    public List<VenueBooking> getVenueConflicts() {
+        return moduleClasses.getVenueConflicts();
+    }
+
     /**
      * Adds a class to the application.
      * The class must not already exist in the application.
      */
     public void addModuleClass(ModuleClass moduleClass) {
         moduleClasses.add(moduleClass);
+        modificationCount++;
     }
 
     /**
@@ -164,6 +280,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
         requireNonNull(editedModuleClass);
 
         moduleClasses.setModuleClass(target, editedModuleClass);
+        modificationCount++;
     }
 
     /**
@@ -172,6 +289,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      */
     public void deleteModuleClass(ModuleClass moduleClass) {
         moduleClasses.remove(moduleClass);
+        modificationCount++;
     }
 
     /**
@@ -179,25 +297,44 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      */
     public void deleteAllModuleClasses() {
         moduleClasses.setModuleClass(new UniqueModuleClassList());
+        modificationCount++;
+    }
+
+    /**
+     * Returns the reports of {@code moduleClasses}, which must exist in the application, in the same order.
+     */
+    public List<ClassReport> getClassReports(List<ModuleClass> moduleClasses) {
+        requireNonNull(moduleClasses);
+
+        return ClassReport.of(moduleClasses, students::getStudent);
     }
 
     //// util methods
 
+    /**
+     * Returns the number of modifications made to this {@code TutorsPet} since it was created.
+     * The count only changes when the data is modified, so it can be used to tell whether the data has changed since
+     * it was last saved.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public String toString() {
-        return students.asUnmodifiableObservableList().size() + " students "
-                + moduleClasses.asUnmodifiableObservableList().size() + " classes";
+        return students.asUnmodifiableObservedList().size() + " students "
+                + moduleClasses.asUnmodifiableObservedList().size() + " classes";
         // TODO: refine later
     }
 
     @Override
-    public ObservableList<Student> getStudentList() {
-        return students.asUnmodifiableObservableList();
+    public ObservedList<Student> getStudentList() {
+        return students.asUnmodifiableObservedList();
     }
 
     @Override
-    public ObservableList<ModuleClass> getModuleClassList() {
-        return moduleClasses.asUnmodifiableObservableList();
+    public ObservedList<ModuleClass> getModuleClassList() {
+        return moduleClasses.asUnmodifiableObservedList();
     }
 
     @Override
@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import tutorspet.commons.core.GuiSettings;
+import tutorspet.commons.core.HistorySettings;
+import tutorspet.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -14,7 +16,10 @@ import tutorspet.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
+    private HistorySettings historySettings = new HistorySettings();
     private Path tutorsPetFilePath = Paths.get("data" , "tutorspet.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private boolean lazyAttendanceLoading = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,7 +41,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
 
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setHistorySettings(newUserPrefs.getHistorySettings());
         setTutorsPetFilePath(newUserPrefs.getTutorsPetFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setLazyAttendanceLoading(newUserPrefs.isLazyAttendanceLoading());
     }
 
     public GuiSettings getGuiSettings() {
@@ -49,6 +57,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    public HistorySettings getHistorySettings() {
+        return historySettings;
+    }
+
+    public void setHistorySettings(HistorySettings historySettings) {
+        requireNonNull(historySettings);
+
+        this.historySettings = historySettings;
+    }
+
     public Path getTutorsPetFilePath() {
         return tutorsPetFilePath;
     }
@@ -59,6 +77,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.tutorsPetFilePath = tutorsPetFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+
+        this.storageFormat = storageFormat;
+    }
+
+    public boolean isLazyAttendanceLoading() {
+        return lazyAttendanceLoading;
+    }
+
+    public void setLazyAttendanceLoading(boolean lazyAttendanceLoading) {
+        this.lazyAttendanceLoading = lazyAttendanceLoading;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,19 +107,26 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && tutorsPetFilePath.equals(o.tutorsPetFilePath);
+                && historySettings.equals(o.historySettings)
+                && tutorsPetFilePath.equals(o.tutorsPetFilePath)
+                && storageFormat == o.storageFormat
+                && lazyAttendanceLoading == o.lazyAttendanceLoading;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, tutorsPetFilePath);
+        return Objects.hash(guiSettings, historySettings, tutorsPetFilePath, storageFormat,
+                lazyAttendanceLoading);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
+        sb.append("\nHistory Settings : " + historySettings);
         sb.append("\nLocal data file location : " + tutorsPetFilePath);
+        sb.append("\nLocal data file format : " + storageFormat);
+        sb.append("\nLazy attendance loading : " + lazyAttendanceLoading);
         return sb.toString();
     }
 }
@@ -3,30 +3,85 @@ package tutorspet.model;
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import tutorspet.commons.core.HistorySettings;
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
 import tutorspet.model.exception.RedoStateException;
+import tutorspet.model.exception.StateArchiveException;
 import tutorspet.model.exception.UndoStateException;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
 
+/**
+ * A {@code TutorsPet} that records its history of committed states, allowing them to be undone and redone.
+ * Each state stores only the changes made to the student and class lists since the previous state. As
+ * {@code Student}s and {@code ModuleClass}es are immutable, the changes hold references to the entities that were
+ * replaced, so committing, undoing and redoing take time proportional to the size of the change rather than the size
+ * of the data.
+ *
+ * If a {@code StateArchive} is given, the changes of the states furthest from the current state are moved into it
+ * whenever the states kept in memory exceed the limits of the {@code HistorySettings}. Archived changes are
+ * retrieved again when they are needed to undo or redo.
+ */
 public class VersionedTutorsPet extends TutorsPet {
 
     public static final String INITIAL_COMMIT_MESSAGE = "Loaded save data.";
+    public static final String MESSAGE_ARCHIVE_READ_FAILURE =
+            "Unable to read state %d of the history from the archive.";
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedTutorsPet.class);
+
+    private final HistorySettings historySettings;
+    private final Optional<StateArchive> stateArchive;
 
     private List<TutorsPetState> tutorsPetStateList;
     private int statePointer;
+    private int nextStateId = 0;
+    private int statesInMemory = 0;
+    private int entitiesInMemory = 0;
+
+    private List<ListChange<Student>> uncommittedStudentChanges = new ArrayList<>();
+    private List<ListChange<ModuleClass>> uncommittedModuleClassChanges = new ArrayList<>();
+    private boolean isRestoringState = false;
 
     /**
      * Creates a {@code VersionedTutorsPet} using the Students in the {@code toBeCopied}.
+     * All states of the history are kept in memory.
      */
     public VersionedTutorsPet(ReadOnlyTutorsPet toBeCopied) {
+        this(toBeCopied, new HistorySettings(), Optional.empty());
+    }
+
+    /**
+     * Creates a {@code VersionedTutorsPet} using the Students in the {@code toBeCopied}.
+     * States of the history beyond the limits of {@code historySettings} are moved into {@code stateArchive}.
+     */
+    public VersionedTutorsPet(ReadOnlyTutorsPet toBeCopied, HistorySettings historySettings,
+                              StateArchive stateArchive) {
+        this(toBeCopied, historySettings, Optional.of(stateArchive));
+    }
+
+    private VersionedTutorsPet(ReadOnlyTutorsPet toBeCopied, HistorySettings historySettings,
+                               Optional<StateArchive> stateArchive) {
         super(toBeCopied);
+        requireAllNonNull(historySettings, stateArchive);
+
+        this.historySettings = historySettings;
+        this.stateArchive = stateArchive;
 
         tutorsPetStateList = new ArrayList<>();
-        TutorsPetState initialState = new TutorsPetState(INITIAL_COMMIT_MESSAGE, this);
-        tutorsPetStateList.add(initialState);
+        addState(INITIAL_COMMIT_MESSAGE, new StateChanges(List.of(), List.of()));
         statePointer = 0;
+
+        getStudentList().addObserver(change -> recordChange(change, uncommittedStudentChanges));
+        getModuleClassList().addObserver(change -> recordChange(change, uncommittedModuleClassChanges));
     }
 
     /**
@@ -38,9 +93,12 @@ public class VersionedTutorsPet extends TutorsPet {
         requireNonNull(commitMessage);
 
         pruneStates();
-        TutorsPetState state = new TutorsPetState(commitMessage, this);
-        tutorsPetStateList.add(state);
+        addState(commitMessage, new StateChanges(uncommittedStudentChanges, uncommittedModuleClassChanges));
         statePointer++;
+
+        uncommittedStudentChanges = new ArrayList<>();
+        uncommittedModuleClassChanges = new ArrayList<>();
+        enforceRetention();
     }
 
     /**
@@ -48,16 +106,22 @@ public class VersionedTutorsPet extends TutorsPet {
      *
      * @return the commit message of the undone command.
      * @throws UndoStateException if there are no commands to undo.
+     * @throws StateArchiveException if the changes of the command could not be retrieved from the archive.
      */
-    public String undo() throws UndoStateException {
+    public String undo() throws UndoStateException, StateArchiveException {
         if (!canUndo()) {
             throw new UndoStateException();
         }
 
         TutorsPetState currentState = tutorsPetStateList.get(statePointer);
-        TutorsPetState targetState = tutorsPetStateList.get(statePointer - 1);
-        resetData(targetState.stateSnapshot);
+        StateChanges changes = loadChanges(currentState);
+        discardUncommittedChanges();
+        restoreState(() -> {
+            revertChanges(changes.getStudentChanges(), this::replaceStudents);
+            revertChanges(changes.getModuleClassChanges(), this::replaceModuleClasses);
+        });
         statePointer--;
+        enforceRetention();
         return currentState.commitMessage;
     }
 
@@ -66,20 +130,191 @@ public class VersionedTutorsPet extends TutorsPet {
      *
      * @return the commit message of the redone command.
      * @throws RedoStateException if there are no commands to redo.
+     * @throws StateArchiveException if the changes of the command could not be retrieved from the archive.
      */
-    public String redo() throws RedoStateException {
+    public String redo() throws RedoStateException, StateArchiveException {
         if (!canRedo()) {
             throw new RedoStateException();
         }
 
         TutorsPetState targetState = tutorsPetStateList.get(statePointer + 1);
-        resetData(targetState.stateSnapshot);
+        StateChanges changes = loadChanges(targetState);
+        discardUncommittedChanges();
+        restoreState(() -> {
+            applyChanges(changes.getStudentChanges(), this::replaceStudents);
+            applyChanges(changes.getModuleClassChanges(), this::replaceModuleClasses);
+        });
         statePointer++;
+        enforceRetention();
         return targetState.commitMessage;
     }
 
+    private void addState(String commitMessage, StateChanges changes) {
+        tutorsPetStateList.add(new TutorsPetState(nextStateId++, commitMessage, changes));
+        statesInMemory++;
+        entitiesInMemory += changes.getSize();
+    }
+
     private void pruneStates() {
-        tutorsPetStateList.subList(statePointer + 1, tutorsPetStateList.size()).clear();
+        List<TutorsPetState> prunedStates = tutorsPetStateList.subList(statePointer + 1, tutorsPetStateList.size());
+        for (TutorsPetState state : prunedStates) {
+            if (state.isArchived()) {
+                discardFromArchive(state);
+            } else {
+                statesInMemory--;
+                entitiesInMemory -= state.changes.getSize();
+            }
+        }
+        prunedStates.clear();
+    }
+
+    /**
+     * Returns the changes of {@code state}, moving them back into memory if they are archived.
+     *
+     * @throws StateArchiveException if the changes could not be retrieved from the archive.
+     */
+    private StateChanges loadChanges(TutorsPetState state) throws StateArchiveException {
+        if (!state.isArchived()) {
+            return state.changes;
+        }
+
+        state.changes = retrieveFromArchive(state);
+        statesInMemory++;
+        entitiesInMemory += state.changes.getSize();
+        discardFromArchive(state);
+        return state.changes;
+    }
+
+    /**
+     * Moves the changes of the states furthest from the current state into the archive until the states kept in
+     * memory are within the limits of the {@code HistorySettings}.
+     * The states needed for the next undo and redo are always kept in memory.
+     */
+    private void enforceRetention() {
+        if (stateArchive.isEmpty()) {
+            return;
+        }
+
+        while (statesInMemory > historySettings.getMaxStatesInMemory()
+                || entitiesInMemory > historySettings.getMaxEntitiesInMemory()) {
+            Optional<TutorsPetState> stateToArchive = findStateToArchive();
+            if (stateToArchive.isEmpty()) {
+                return;
+            }
+
+            TutorsPetState state = stateToArchive.get();
+            try {
+                stateArchive.get().archive(state.id, state.changes);
+            } catch (IOException ioe) {
+                logger.warning("Unable to archive state " + state.id + ", keeping it in memory: " + ioe);
+                return;
+            }
+            statesInMemory--;
+            entitiesInMemory -= state.changes.getSize();
+            state.changes = null;
+        }
+    }
+
+    /**
+     * Returns the state kept in memory that is furthest from the current state, other than the current state and
+     * the state after it.
+     */
+    private Optional<TutorsPetState> findStateToArchive() {
+        int oldest = 0;
+        while (oldest < statePointer && tutorsPetStateList.get(oldest).isArchived()) {
+            oldest++;
+        }
+        int newest = tutorsPetStateList.size() - 1;
+        while (newest > statePointer + 1 && tutorsPetStateList.get(newest).isArchived()) {
+            newest--;
+        }
+
+        boolean hasOldCandidate = oldest < statePointer;
+        boolean hasNewCandidate = newest > statePointer + 1;
+        if (hasOldCandidate && (!hasNewCandidate || statePointer - oldest >= newest - statePointer)) {
+            return Optional.of(tutorsPetStateList.get(oldest));
+        } else if (hasNewCandidate) {
+            return Optional.of(tutorsPetStateList.get(newest));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private StateChanges retrieveFromArchive(TutorsPetState state) throws StateArchiveException {
+        assert stateArchive.isPresent();
+
+        try {
+            return stateArchive.get().retrieve(state.id);
+        } catch (DataConversionException | IOException e) {
+            throw new StateArchiveException(String.format(MESSAGE_ARCHIVE_READ_FAILURE, state.id), e);
+        }
+    }
+
+    private void discardFromArchive(TutorsPetState state) {
+        assert stateArchive.isPresent();
+
+        try {
+            stateArchive.get().discard(state.id);
+        } catch (IOException ioe) {
+            logger.warning("Unable to discard archived state " + state.id + ": " + ioe);
+        }
+    }
+
+    /**
+     * Records {@code change} into {@code changes}, unless the change was made while restoring a previously recorded
+     * state or does not change the contents of the list.
+     */
+    private <T> void recordChange(ListChange<T> change, List<ListChange<T>> changes) {
+        if (isRestoringState) {
+            return;
+        }
+
+        if (!change.getRemoved().equals(change.getAdded())) {
+            changes.add(change);
+        }
+    }
+
+    /**
+     * Reverts all changes made since the most recent commit.
+     */
+    public void discardUncommittedChanges() {
+        restoreState(() -> {
+            revertChanges(uncommittedStudentChanges, this::replaceStudents);
+            revertChanges(uncommittedModuleClassChanges, this::replaceModuleClasses);
+        });
+        uncommittedStudentChanges.clear();
+        uncommittedModuleClassChanges.clear();
+    }
+
+    /**
+     * Runs {@code restoration} without recording the changes it makes as uncommitted changes.
+     */
+    private void restoreState(Runnable restoration) {
+        isRestoringState = true;
+        try {
+            restoration.run();
+        } finally {
+            isRestoringState = false;
+        }
+    }
+
+    /**
+     * Undoes {@code changes} from the latest to the earliest.
+     */
+    private static <T> void revertChanges(List<ListChange<T>> changes, RangeReplacer<T> replacer) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            ListChange<T> change = changes.get(i);
+            replacer.replace(change.getFrom(), change.getFrom() + change.getAdded().size(), change.getRemoved());
+        }
+    }
+
+    /**
+     * Redoes {@code changes} from the earliest to the latest.
+     */
+    private static <T> void applyChanges(List<ListChange<T>> changes, RangeReplacer<T> replacer) {
+        for (ListChange<T> change : changes) {
+            replacer.replace(change.getFrom(), change.getFrom() + change.getRemoved().size(), change.getAdded());
+        }
     }
 
     /**
@@ -104,33 +339,40 @@ public class VersionedTutorsPet extends TutorsPet {
                 state.commitMessage).collect(Collectors.toUnmodifiableList()));
     }
 
+    /**
+     * Returns true if {@code other} has the same state records and the same current data.
+     * The data of the other recorded states is not compared, as rebuilding it would take time proportional to the
+     * size of the whole history and read the archived states back.
+     */
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof VersionedTutorsPet // instanceof handles nulls
-                && ((VersionedTutorsPet) other).statePointer == statePointer
-                && ((VersionedTutorsPet) other).tutorsPetStateList.equals(tutorsPetStateList)
+                && ((VersionedTutorsPet) other).viewStateRecords().equals(viewStateRecords())
                 && super.equals(other));
     }
 
-    private class TutorsPetState {
+    private static class TutorsPetState {
 
-        private String commitMessage;
-        private ReadOnlyTutorsPet stateSnapshot;
+        private final int id;
+        private final String commitMessage;
+        private StateChanges changes; // null if the changes are archived
 
-        TutorsPetState(String commitMessage, ReadOnlyTutorsPet stateSnapshot) {
-            requireAllNonNull(commitMessage, stateSnapshot);
+        TutorsPetState(int id, String commitMessage, StateChanges changes) {
+            requireAllNonNull(commitMessage, changes);
 
+            this.id = id;
             this.commitMessage = commitMessage;
-            this.stateSnapshot = new TutorsPet(stateSnapshot);
+            this.changes = changes;
         }
 
-        @Override
-        public boolean equals(Object other) {
-            return other == this // short circuit if same object
-                    || (other instanceof TutorsPetState // instanceof handles nulls
-                    && ((TutorsPetState) other).stateSnapshot.equals(stateSnapshot)
-                    && ((TutorsPetState) other).commitMessage.equals(commitMessage));
+        boolean isArchived() {
+            return changes == null;
         }
     }
+
+    @FunctionalInterface
+    private interface RangeReplacer<T> {
+        void replace(int fromIndex, int toIndex, List<T> replacement);
+    }
 }
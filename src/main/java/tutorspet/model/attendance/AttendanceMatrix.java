@@ -0,0 +1,452 @@
+package tutorspet.model.attendance;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Stores the participation scores of the students of a {@code Lesson} in every week in a column of bytes for each
+ * week, with a row for each student, instead of an {@code Attendance} in a map entry for each score.
+ * A copy with a single changed score shares all columns but the one of the changed week with this matrix, so that
+ * the cost of a change is proportional to the number of students and weeks, rather than to their product.
+ * Only students who have had an attendance have a row. A row is never removed, so a row may have no attendance in
+ * any week.
+ * The total, number, lowest and highest of the participation scores of each row are kept alongside the scores and
+ * updated with every change, so that the {@link ParticipationStatistics} of a student do not require a pass over
+ * every week.
+ * Guarantees: immutable.
+ */
+class AttendanceMatrix {
+
+    /** Marks a week in which a student has no attendance. Participation scores are never negative. */
+    static final byte NO_ATTENDANCE = -1;
+
+    private static final byte[] NO_SCORES = new byte[0];
+
+    // the students with a row, in the order in which their rows were added
+    private final UUID[] studentUuids;
+    // the rows of the students in the order of their UUIDs, to find the row of a student by binary search
+    private final int[] rowsByUuid;
+    // the scores in the week at zero-based index j are in weekScores[j], by row. The columns are shared between
+    // matrices and never modified. Rows past the end of a column have no attendance in that week
+    private final byte[][] weekScores;
+
+    // the total, number, lowest and highest of the participation scores of each row, where the lowest and highest
+    // scores are NO_ATTENDANCE for a row without any attendance
+    private final int[] rowTotals;
+    private final int[] rowCounts;
+    private final byte[] rowLowest;
+    private final byte[] rowHighest;
+
+    // cached as the matrices are compared and hashed with each lesson, 0 if not computed yet
+    private int hashCode;
+
+    private AttendanceMatrix(UUID[] studentUuids, int[] rowsByUuid, byte[][] weekScores, int[] rowTotals,
+            int[] rowCounts, byte[] rowLowest, byte[] rowHighest) {
+        assert studentUuids.length == rowsByUuid.length;
+        assert studentUuids.length == rowTotals.length && studentUuids.length == rowCounts.length;
+        assert studentUuids.length == rowLowest.length && studentUuids.length == rowHighest.length;
+
+        this.studentUuids = studentUuids;
+        this.rowsByUuid = rowsByUuid;
+        this.weekScores = weekScores;
+        this.rowTotals = rowTotals;
+        this.rowCounts = rowCounts;
+        this.rowLowest = rowLowest;
+        this.rowHighest = rowHighest;
+    }
+
+    /**
+     * Creates a matrix with the given scores, where the statistics of every row are computed from the scores.
+     */
+    private AttendanceMatrix(UUID[] studentUuids, int[] rowsByUuid, byte[][] weekScores) {
+        this(studentUuids, rowsByUuid, weekScores, new int[studentUuids.length], new int[studentUuids.length],
+                new byte[studentUuids.length], new byte[studentUuids.length]);
+
+        for (int row = 0; row < studentUuids.length; row++) {
+            updateStatistics(row);
+        }
+    }
+
+    /**
+     * Returns an {@code AttendanceMatrix} of {@code numberOfWeeks} weeks without any attendance.
+     */
+    static AttendanceMatrix empty(int numberOfWeeks) {
+        byte[][] weekScores = new byte[numberOfWeeks][];
+        Arrays.fill(weekScores, NO_SCORES);
+        return new AttendanceMatrix(new UUID[0], new int[0], weekScores);
+    }
+
+    /**
+     * Returns an {@code AttendanceMatrix} with the attendances of {@code records}, one record for each week.
+     */
+    static AttendanceMatrix of(List<AttendanceRecord> records) {
+        requireNonNull(records);
+
+        TreeSet<UUID> studentUuidSet = new TreeSet<>();
+        for (AttendanceRecord record : records) {
+            studentUuidSet.addAll(record.getAttendanceRecord().keySet());
+        }
+        UUID[] studentUuids = studentUuidSet.toArray(new UUID[0]);
+        int[] rowsByUuid = new int[studentUuids.length];
+        Arrays.setAll(rowsByUuid, row -> row);
+
+        byte[][] weekScores = new byte[records.size()][];
+        for (int week = 0; week < weekScores.length; week++) {
+            Map<UUID, Attendance> attendances = records.get(week).getAttendanceRecord();
+            if (attendances.isEmpty()) {
+                weekScores[week] = NO_SCORES;
+                continue;
+            }
+
+            weekScores[week] = new byte[studentUuids.length];
+            Arrays.fill(weekScores[week], NO_ATTENDANCE);
+            for (Map.Entry<UUID, Attendance> attendance : attendances.entrySet()) {
+                int row = Arrays.binarySearch(studentUuids, attendance.getKey());
+                weekScores[week][row] = (byte) attendance.getValue().getParticipationScore();
+            }
+        }
+        return new AttendanceMatrix(studentUuids, rowsByUuid, weekScores);
+    }
+
+    int getNumberOfWeeks() {
+        return weekScores.length;
+    }
+
+    /**
+     * Returns the position of the row of the student with {@code studentUuid} in {@code rowsByUuid}, or
+     * {@code -(insertion point) - 1} if the student has no row.
+     */
+    private int findPosition(UUID studentUuid) {
+        int low = 0;
+        int high = rowsByUuid.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = studentUuids[rowsByUuid[middle]].compareTo(studentUuid);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the row of the student with {@code studentUuid}, or -1 if the student has no row.
+     */
+    private int findRow(UUID studentUuid) {
+        int position = findPosition(studentUuid);
+        return position < 0 ? -1 : rowsByUuid[position];
+    }
+
+    private byte getScore(int row, int zeroBasedWeekIndex) {
+        byte[] scores = weekScores[zeroBasedWeekIndex];
+        return row < scores.length ? scores[row] : NO_ATTENDANCE;
+    }
+
+    /**
+     * Returns the participation score of the student with {@code studentUuid} in the week at
+     * {@code zeroBasedWeekIndex}, or {@link #NO_ATTENDANCE} if the student has no attendance in that week.
+     */
+    int getScore(UUID studentUuid, int zeroBasedWeekIndex) {
+        assert zeroBasedWeekIndex < weekScores.length;
+
+        int row = findRow(studentUuid);
+        return row < 0 ? NO_ATTENDANCE : getScore(row, zeroBasedWeekIndex);
+    }
+
+    /**
+     * Returns the participation score of the student with {@code studentUuid} in each week, which is
+     * {@link #NO_ATTENDANCE} in the weeks the student has no attendance.
+     */
+    int[] getScores(UUID studentUuid) {
+        int[] studentScores = new int[weekScores.length];
+        int row = findRow(studentUuid);
+        for (int week = 0; week < weekScores.length; week++) {
+            studentScores[week] = row < 0 ? NO_ATTENDANCE : getScore(row, week);
+        }
+        return studentScores;
+    }
+
+    /**
+     * Returns a copy of this matrix where the participation score of the student with {@code studentUuid} in the
+     * week at {@code zeroBasedWeekIndex} is {@code score}, which may be {@link #NO_ATTENDANCE}.
+     */
+    AttendanceMatrix withScore(UUID studentUuid, int zeroBasedWeekIndex, int score) {
+        requireNonNull(studentUuid);
+        assert zeroBasedWeekIndex < weekScores.length;
+        assert score == NO_ATTENDANCE || Attendance.isValidParticipationScore(score);
+
+        int position = findPosition(studentUuid);
+        if (position < 0 && score == NO_ATTENDANCE) {
+            return this;
+        }
+
+        UUID[] newStudentUuids = studentUuids;
+        int[] newRowsByUuid = rowsByUuid;
+        int row;
+        if (position >= 0) {
+            row = rowsByUuid[position];
+        } else {
+            row = studentUuids.length;
+            newStudentUuids = Arrays.copyOf(studentUuids, row + 1);
+            newStudentUuids[row] = studentUuid;
+
+            int insertionPoint = -position - 1;
+            newRowsByUuid = new int[row + 1];
+            System.arraycopy(rowsByUuid, 0, newRowsByUuid, 0, insertionPoint);
+            newRowsByUuid[insertionPoint] = row;
+            System.arraycopy(rowsByUuid, insertionPoint, newRowsByUuid, insertionPoint + 1,
+                    rowsByUuid.length - insertionPoint);
+        }
+
+        byte[] scores = weekScores[zeroBasedWeekIndex];
+        byte[] newScores = Arrays.copyOf(scores, Math.max(scores.length, row + 1));
+        Arrays.fill(newScores, scores.length, newScores.length, NO_ATTENDANCE);
+        newScores[row] = (byte) score;
+
+        byte[][] newWeekScores = weekScores.clone();
+        newWeekScores[zeroBasedWeekIndex] = newScores;
+        AttendanceMatrix matrix = new AttendanceMatrix(newStudentUuids, newRowsByUuid, newWeekScores,
+                Arrays.copyOf(rowTotals, newStudentUuids.length), Arrays.copyOf(rowCounts, newStudentUuids.length),
+                Arrays.copyOf(rowLowest, newStudentUuids.length), Arrays.copyOf(rowHighest, newStudentUuids.length));
+        if (position < 0) {
+            matrix.rowLowest[row] = NO_ATTENDANCE;
+            matrix.rowHighest[row] = NO_ATTENDANCE;
+        }
+        matrix.updateStatistics(row, getScore(row, zeroBasedWeekIndex), score);
+        return matrix;
+    }
+
+    /**
+     * Returns a copy of this matrix where the student with {@code studentUuid} has no attendance in any week.
+     * Only the columns of the weeks in which the student has an attendance are copied, and the row of the student
+     * is kept without any attendance, as removing it would move the rows after it in every column.
+     */
+    AttendanceMatrix withoutStudent(UUID studentUuid) {
+        requireNonNull(studentUuid);
+
+        int row = findRow(studentUuid);
+        if (row < 0 || !hasAnyAttendance(row)) {
+            return this;
+        }
+
+        byte[][] newWeekScores = weekScores.clone();
+        for (int week = 0; week < weekScores.length; week++) {
+            if (getScore(row, week) != NO_ATTENDANCE) {
+                newWeekScores[week] = weekScores[week].clone();
+                newWeekScores[week][row] = NO_ATTENDANCE;
+            }
+        }
+        AttendanceMatrix matrix = new AttendanceMatrix(studentUuids, rowsByUuid, newWeekScores, rowTotals.clone(),
+                rowCounts.clone(), rowLowest.clone(), rowHighest.clone());
+        matrix.updateStatistics(row);
+        return matrix;
+    }
+
+    /**
+     * Returns the statistics of the participation scores of the student with {@code studentUuid} over every week.
+     */
+    ParticipationStatistics getStatistics(UUID studentUuid) {
+        int row = findRow(studentUuid);
+        if (row < 0 || rowCounts[row] == 0) {
+            return ParticipationStatistics.NO_ATTENDANCE;
+        }
+
+        return new ParticipationStatistics(rowTotals[row], rowCounts[row], rowLowest[row], rowHighest[row]);
+    }
+
+    /**
+     * Returns the zero-based indexes of the weeks in which the student with {@code studentUuid} has no attendance, in
+     * order. The scores of the student are only read if the statistics of the row show that some week was missed.
+     */
+    List<Integer> getAbsentWeekIndexes(UUID studentUuid) {
+        int row = findRow(studentUuid);
+        List<Integer> absentWeekIndexes = new ArrayList<>();
+        if (row >= 0 && rowCounts[row] == weekScores.length) {
+            return absentWeekIndexes;
+        }
+
+        for (int week = 0; week < weekScores.length; week++) {
+            if (row < 0 || getScore(row, week) == NO_ATTENDANCE) {
+                absentWeekIndexes.add(week);
+            }
+        }
+        return absentWeekIndexes;
+    }
+
+    /**
+     * Updates the statistics of {@code row} of this newly created matrix after its score in a week changed from
+     * {@code oldScore} to {@code newScore}, either of which may be {@link #NO_ATTENDANCE}.
+     * The scores of the row are only read again if the lowest or highest score of the row is no longer known.
+     */
+    private void updateStatistics(int row, int oldScore, int newScore) {
+        if (oldScore != NO_ATTENDANCE) {
+            rowTotals[row] -= oldScore;
+            rowCounts[row]--;
+            if (oldScore == rowLowest[row] || oldScore == rowHighest[row]) {
+                updateStatistics(row);
+                return;
+            }
+        }
+
+        if (newScore != NO_ATTENDANCE) {
+            rowTotals[row] += newScore;
+            rowCounts[row]++;
+            rowLowest[row] = (byte) (rowCounts[row] == 1 ? newScore : Math.min(rowLowest[row], newScore));
+            rowHighest[row] = (byte) (rowCounts[row] == 1 ? newScore : Math.max(rowHighest[row], newScore));
+        }
+    }
+
+    /**
+     * Computes the statistics of {@code row} of this newly created matrix from its scores in every week.
+     */
+    private void updateStatistics(int row) {
+        int total = 0;
+        int count = 0;
+        byte lowest = NO_ATTENDANCE;
+        byte highest = NO_ATTENDANCE;
+        for (int week = 0; week < weekScores.length; week++) {
+            byte score = getScore(row, week);
+            if (score == NO_ATTENDANCE) {
+                continue;
+            }
+            total += score;
+            lowest = count == 0 || score < lowest ? score : lowest;
+            highest = count == 0 || score > highest ? score : highest;
+            count++;
+        }
+        rowTotals[row] = total;
+        rowCounts[row] = count;
+        rowLowest[row] = lowest;
+        rowHighest[row] = highest;
+    }
+
+    /**
+     * Returns the attendances in the week at {@code zeroBasedWeekIndex} as an {@code AttendanceRecord}.
+     */
+    AttendanceRecord toAttendanceRecord(int zeroBasedWeekIndex) {
+        return toAttendanceRecord(zeroBasedWeekIndex, new Attendance[Attendance.UPPER_BOUND + 1]);
+    }
+
+    /**
+     * Returns the attendances in every week as one {@code AttendanceRecord} for each week.
+     */
+    List<AttendanceRecord> toAttendanceRecords() {
+        // the attendances are immutable, so an attendance is created only once for each score
+        Attendance[] attendances = new Attendance[Attendance.UPPER_BOUND + 1];
+        List<AttendanceRecord> records = new ArrayList<>(weekScores.length);
+        for (int week = 0; week < weekScores.length; week++) {
+            records.add(toAttendanceRecord(week, attendances));
+        }
+        return Collections.unmodifiableList(records);
+    }
+
+    private AttendanceRecord toAttendanceRecord(int zeroBasedWeekIndex, Attendance[] attendances) {
+        assert zeroBasedWeekIndex < weekScores.length;
+
+        byte[] scores = weekScores[zeroBasedWeekIndex];
+        Map<UUID, Attendance> record = new HashMap<>();
+        for (int row = 0; row < scores.length; row++) {
+            byte score = scores[row];
+            if (score == NO_ATTENDANCE) {
+                continue;
+            }
+            if (attendances[score] == null) {
+                attendances[score] = new Attendance(score);
+            }
+            record.put(studentUuids[row], attendances[score]);
+        }
+        return new AttendanceRecord(record);
+    }
+
+    /**
+     * Returns true if this matrix shares the column of the week at {@code zeroBasedWeekIndex} with {@code other}.
+     * Copies only ever append rows to the students of a matrix, so a shared column holds the same scores for the same
+     * students in both matrices. Columns with equal scores that are not shared are not compared.
+     */
+    boolean sharesWeek(AttendanceMatrix other, int zeroBasedWeekIndex) {
+        assert zeroBasedWeekIndex < weekScores.length && zeroBasedWeekIndex < other.weekScores.length;
+
+        return weekScores[zeroBasedWeekIndex] == other.weekScores[zeroBasedWeekIndex];
+    }
+
+    private boolean hasAnyAttendance(int row) {
+        return rowCounts[row] > 0;
+    }
+
+    /**
+     * Returns true if both matrices have the same number of weeks, and the same participation scores for every
+     * student in every week, regardless of the order of their rows and of rows without any attendance.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AttendanceMatrix)) {
+            return false;
+        }
+
+        AttendanceMatrix otherMatrix = (AttendanceMatrix) other;
+        if (otherMatrix.weekScores.length != weekScores.length || otherMatrix.hashCode() != hashCode()) {
+            return false;
+        }
+
+        // walks through the rows of both matrices in the order of their UUIDs
+        int position = 0;
+        int otherPosition = 0;
+        while (true) {
+            while (position < rowsByUuid.length && !hasAnyAttendance(rowsByUuid[position])) {
+                position++;
+            }
+            while (otherPosition < otherMatrix.rowsByUuid.length
+                    && !otherMatrix.hasAnyAttendance(otherMatrix.rowsByUuid[otherPosition])) {
+                otherPosition++;
+            }
+            if (position == rowsByUuid.length || otherPosition == otherMatrix.rowsByUuid.length) {
+                return position == rowsByUuid.length && otherPosition == otherMatrix.rowsByUuid.length;
+            }
+
+            int row = rowsByUuid[position++];
+            int otherRow = otherMatrix.rowsByUuid[otherPosition++];
+            if (!studentUuids[row].equals(otherMatrix.studentUuids[otherRow])) {
+                return false;
+            }
+            for (int week = 0; week < weekScores.length; week++) {
+                if (getScore(row, week) != otherMatrix.getScore(otherRow, week)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            // the rows are hashed independently of their order, and rows without any attendance hash to 0
+            for (int row = 0; row < studentUuids.length; row++) {
+                int rowHash = 0;
+                for (int week = 0; week < weekScores.length; week++) {
+                    rowHash = 31 * rowHash + getScore(row, week) + 1;
+                }
+                result += rowHash == 0 ? 0 : studentUuids[row].hashCode() ^ rowHash;
+            }
+            result = 31 * result + weekScores.length;
+            hashCode = result;
+        }
+        return result;
+    }
+}
@@ -2,12 +2,13 @@ package tutorspet.model.attendance;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.function.Supplier;
 
+import tutorspet.commons.core.index.Index;
 import tutorspet.model.attendance.exceptions.AttendanceNotFoundException;
 import tutorspet.model.attendance.exceptions.InvalidWeekException;
 import tutorspet.model.lesson.NumberOfOccurrences;
@@ -15,41 +16,112 @@ import tutorspet.model.student.Student;
 
 /**
  * Represents the attendance records of a {@code Lesson}.
- * Contains an ordered list of all attendance records.
+ * Contains the participation scores of all attendance records in an {@link AttendanceMatrix}.
+ * The records may instead be loaded when they are first needed, and are then cached until the garbage collector
+ * needs the memory, after which they are loaded again on the next access.
  * Guarantees: immutable.
  */
 public class AttendanceRecordList {
 
-    private final List<AttendanceRecord> recordList;
+    /** The participation score in {@link #getParticipationScores} of a week without an attendance. */
+    public static final int NO_ATTENDANCE = AttendanceMatrix.NO_ATTENDANCE;
+
+    private final int numberOfRecords;
+
+    // exactly one of attendanceMatrix and recordListLoader is null
+    private final AttendanceMatrix attendanceMatrix;
+    private final Supplier<List<AttendanceRecord>> recordListLoader;
+    private SoftReference<AttendanceMatrix> loadedAttendanceMatrix = new SoftReference<>(null);
 
     /**
      * Constructor method.
      * Each element in the list is initialized to an empty {@link AttendanceRecord}.
      */
     public AttendanceRecordList(NumberOfOccurrences numberOfOccurrences) {
-        this.recordList = Collections.nCopies(numberOfOccurrences.getNumberOfOccurrences(), new AttendanceRecord());
+        this.numberOfRecords = numberOfOccurrences.getNumberOfOccurrences();
+        this.attendanceMatrix = AttendanceMatrix.empty(numberOfRecords);
+        this.recordListLoader = null;
     }
 
     /**
      * Overloaded constructor method.
-     * Requires {@code recordList} to be non null. Also converts recordList to fixed size.
+     * Requires {@code recordList} to be non null.
      */
     public AttendanceRecordList(List<AttendanceRecord> recordList) {
         requireNonNull(recordList);
 
-        int size = recordList.size();
-        this.recordList = Arrays.asList(recordList.toArray(new AttendanceRecord[size]));
+        this.numberOfRecords = recordList.size();
+        this.attendanceMatrix = AttendanceMatrix.of(recordList);
+        this.recordListLoader = null;
+    }
+
+    /**
+     * Overloaded constructor method.
+     * The records are loaded by {@code recordListLoader} when they are first needed, which must return one record
+     * for each occurrence or throw an {@link tutorspet.model.attendance.exceptions.AttendanceLoadingException}.
+     */
+    public AttendanceRecordList(NumberOfOccurrences numberOfOccurrences,
+                                Supplier<List<AttendanceRecord>> recordListLoader) {
+        requireNonNull(numberOfOccurrences);
+        requireNonNull(recordListLoader);
+
+        this.numberOfRecords = numberOfOccurrences.getNumberOfOccurrences();
+        this.attendanceMatrix = null;
+        this.recordListLoader = recordListLoader;
+    }
+
+    private AttendanceRecordList(AttendanceMatrix attendanceMatrix) {
+        this.numberOfRecords = attendanceMatrix.getNumberOfWeeks();
+        this.attendanceMatrix = attendanceMatrix;
+        this.recordListLoader = null;
+    }
+
+    /**
+     * Returns the attendances, loading them if they have not been loaded or have been evicted since.
+     */
+    private AttendanceMatrix getAttendanceMatrix() {
+        if (attendanceMatrix != null) {
+            return attendanceMatrix;
+        }
+
+        synchronized (this) {
+            AttendanceMatrix matrix = loadedAttendanceMatrix.get();
+            if (matrix == null) {
+                matrix = AttendanceMatrix.of(recordListLoader.get());
+                assert matrix.getNumberOfWeeks() == numberOfRecords;
+                loadedAttendanceMatrix = new SoftReference<>(matrix);
+            }
+            return matrix;
+        }
+    }
+
+    /**
+     * Returns true if the records are held in memory, so that accessing them does not load them.
+     */
+    public synchronized boolean isLoaded() {
+        return attendanceMatrix != null || loadedAttendanceMatrix.get() != null;
+    }
+
+    /**
+     * Returns the number of records, without loading them.
+     */
+    public int getNumberOfRecords() {
+        return numberOfRecords;
     }
 
     /**
      * Returns true if week number is less than the total number of occurrences.
      */
     public boolean isWeekContained(Week week) {
-        return week.getZeroBasedWeekIndex() < recordList.size();
+        return week.getZeroBasedWeekIndex() < numberOfRecords;
     }
 
+    /**
+     * Returns the attendances as one {@code AttendanceRecord} for each week.
+     * The records are created on each call, so methods that only need a few of the attendances should be preferred.
+     */
     public List<AttendanceRecord> getAttendanceRecordList() {
-        return Collections.unmodifiableList(recordList);
+        return getAttendanceMatrix().toAttendanceRecords();
     }
 
     /**
@@ -63,8 +135,12 @@ public class AttendanceRecordList {
             throw new InvalidWeekException();
         }
 
-        UUID studentUuid = student.getUuid();
-        return recordList.get(week.getZeroBasedWeekIndex()).getAttendance(studentUuid);
+        int score = getAttendanceMatrix().getScore(student.getUuid(), week.getZeroBasedWeekIndex());
+        if (score == NO_ATTENDANCE) {
+            throw new AttendanceNotFoundException();
+        }
+
+        return new Attendance(score);
     }
 
     /**
@@ -75,7 +151,7 @@ public class AttendanceRecordList {
             throw new InvalidWeekException();
         }
 
-        return recordList.get(week.getZeroBasedWeekIndex());
+        return getAttendanceMatrix().toAttendanceRecord(week.getZeroBasedWeekIndex());
     }
 
     /**
@@ -89,20 +165,116 @@ public class AttendanceRecordList {
             throw new InvalidWeekException();
         }
 
-        AttendanceRecord targetAttendanceWeek = recordList.get(week.getZeroBasedWeekIndex());
-        UUID targetStudentUuid = student.getUuid();
-        return targetAttendanceWeek.hasAttendance(targetStudentUuid);
+        return getAttendanceMatrix().getScore(student.getUuid(), week.getZeroBasedWeekIndex()) != NO_ATTENDANCE;
+    }
+
+    /**
+     * Returns the participation score of a {@code Student} in each week, in order of the weeks, which is
+     * {@link #NO_ATTENDANCE} in the weeks the {@code Student} has no attendance.
+     */
+    public int[] getParticipationScores(Student student) {
+        requireNonNull(student);
+
+        return getAttendanceMatrix().getScores(student.getUuid());
+    }
+
+    /**
+     * Returns the {@code ParticipationStatistics} of a {@code Student} over every {@code Week}, without going through
+     * the participation scores of each {@code Week}.
+     */
+    public ParticipationStatistics getParticipationStatistics(Student student) {
+        requireNonNull(student);
+
+        return getAttendanceMatrix().getStatistics(student.getUuid());
+    }
+
+    /**
+     * Returns the {@code Week}s in which a {@code Student} has no attendance, in order.
+     * The attendances of the {@code Student} are only read if the {@code Student} missed some {@code Week}.
+     */
+    public List<Week> getAbsentWeeks(Student student) {
+        requireNonNull(student);
+
+        List<Week> absentWeeks = new ArrayList<>();
+        for (int zeroBasedWeekIndex : getAttendanceMatrix().getAbsentWeekIndexes(student.getUuid())) {
+            absentWeeks.add(new Week(Index.fromZeroBased(zeroBasedWeekIndex)));
+        }
+        return absentWeeks;
+    }
+
+    /**
+     * Returns a copy of this {@code AttendanceRecordList} where the {@code Attendance} of a {@code Student} in a
+     * particular {@code Week} is {@code attendance}, whether or not the {@code Student} has an existing
+     * {@code Attendance} in that {@code Week}.
+     * Only the attendances of that {@code Week} are copied, the rest are shared with this list.
+     */
+    public AttendanceRecordList withAttendance(Student student, Week week, Attendance attendance)
+            throws InvalidWeekException {
+        requireNonNull(student);
+        requireNonNull(attendance);
+
+        if (!isWeekContained(week)) {
+            throw new InvalidWeekException();
+        }
+
+        return new AttendanceRecordList(getAttendanceMatrix().withScore(student.getUuid(),
+                week.getZeroBasedWeekIndex(), attendance.getParticipationScore()));
+    }
+
+    /**
+     * Returns a copy of this {@code AttendanceRecordList} without the {@code Attendance} of a {@code Student} in a
+     * particular {@code Week}, if any.
+     * Only the attendances of that {@code Week} are copied, the rest are shared with this list.
+     */
+    public AttendanceRecordList withoutAttendance(Student student, Week week) throws InvalidWeekException {
+        requireNonNull(student);
+
+        if (!isWeekContained(week)) {
+            throw new InvalidWeekException();
+        }
+
+        return new AttendanceRecordList(getAttendanceMatrix().withScore(student.getUuid(),
+                week.getZeroBasedWeekIndex(), NO_ATTENDANCE));
+    }
+
+    /**
+     * Returns a copy of this {@code AttendanceRecordList} without any {@code Attendance} of a {@code Student}.
+     * Only the attendances of the {@code Week}s the {@code Student} attended are copied, and this list itself is
+     * returned if the {@code Student} has no {@code Attendance} in it.
+     */
+    public AttendanceRecordList withoutStudent(Student student) {
+        requireNonNull(student);
+
+        AttendanceMatrix attendanceMatrix = getAttendanceMatrix();
+        AttendanceMatrix updatedAttendanceMatrix = attendanceMatrix.withoutStudent(student.getUuid());
+        return updatedAttendanceMatrix == attendanceMatrix ? this : new AttendanceRecordList(updatedAttendanceMatrix);
+    }
+
+    /**
+     * Returns true if this list shares the attendances of {@code week} with {@code other}, as a list returned by
+     * {@link #withAttendance} or {@link #withoutAttendance} does with the list it was copied from in every other
+     * {@code Week}.
+     * The attendances themselves are not compared, so that finding the edited {@code Week}s of a list is cheap.
+     */
+    public boolean sharesAttendances(AttendanceRecordList other, Week week) {
+        requireNonNull(other);
+
+        if (!isWeekContained(week) || !other.isWeekContained(week)) {
+            return false;
+        }
+
+        return getAttendanceMatrix().sharesWeek(other.getAttendanceMatrix(), week.getZeroBasedWeekIndex());
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AttendanceRecordList // instanceof handles nulls
-                && ((AttendanceRecordList) other).recordList.equals(recordList));
+                && ((AttendanceRecordList) other).getAttendanceMatrix().equals(getAttendanceMatrix()));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(recordList);
+        return Objects.hash(getAttendanceMatrix());
     }
 }
@@ -0,0 +1,124 @@
+package tutorspet.model.attendance;
+
+import java.util.Objects;
+
+/**
+ * Represents a summary of the participation scores of a student over the weeks the student attended, which can be
+ * combined across the lessons of a class.
+ * Guarantees: immutable.
+ */
+public class ParticipationStatistics {
+
+    /** The statistics of a student without any attendance. */
+    public static final ParticipationStatistics NO_ATTENDANCE = new ParticipationStatistics(0, 0,
+            AttendanceMatrix.NO_ATTENDANCE, AttendanceMatrix.NO_ATTENDANCE);
+
+    private final int totalScore;
+    private final int numberOfWeeksAttended;
+    private final int lowestScore;
+    private final int highestScore;
+
+    /**
+     * Creates the statistics of a student who attended {@code numberOfWeeksAttended} weeks with a total
+     * participation score of {@code totalScore}, where {@code lowestScore} and {@code highestScore} are the lowest
+     * and highest participation scores of those weeks.
+     */
+    ParticipationStatistics(int totalScore, int numberOfWeeksAttended, int lowestScore, int highestScore) {
+        assert numberOfWeeksAttended >= 0;
+        assert numberOfWeeksAttended == 0 || lowestScore <= highestScore;
+
+        this.totalScore = totalScore;
+        this.numberOfWeeksAttended = numberOfWeeksAttended;
+        this.lowestScore = lowestScore;
+        this.highestScore = highestScore;
+    }
+
+    public int getTotalScore() {
+        return totalScore;
+    }
+
+    public int getNumberOfWeeksAttended() {
+        return numberOfWeeksAttended;
+    }
+
+    /**
+     * Returns true if the student attended at least one week.
+     */
+    public boolean hasAttended() {
+        return numberOfWeeksAttended > 0;
+    }
+
+    /**
+     * Returns the average participation score over the weeks attended.
+     * The student must have attended at least one week.
+     */
+    public double getAverageScore() {
+        assert hasAttended();
+
+        return (double) totalScore / numberOfWeeksAttended;
+    }
+
+    /**
+     * Returns the lowest participation score over the weeks attended.
+     * The student must have attended at least one week.
+     */
+    public int getLowestScore() {
+        assert hasAttended();
+
+        return lowestScore;
+    }
+
+    /**
+     * Returns the highest participation score over the weeks attended.
+     * The student must have attended at least one week.
+     */
+    public int getHighestScore() {
+        assert hasAttended();
+
+        return highestScore;
+    }
+
+    /**
+     * Returns the statistics over the weeks attended in both these statistics and {@code other}.
+     */
+    public ParticipationStatistics combine(ParticipationStatistics other) {
+        if (!other.hasAttended()) {
+            return this;
+        }
+        if (!hasAttended()) {
+            return other;
+        }
+
+        return new ParticipationStatistics(totalScore + other.totalScore,
+                numberOfWeeksAttended + other.numberOfWeeksAttended, Math.min(lowestScore, other.lowestScore),
+                Math.max(highestScore, other.highestScore));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ParticipationStatistics)) {
+            return false;
+        }
+
+        ParticipationStatistics otherStatistics = (ParticipationStatistics) other;
+        return otherStatistics.totalScore == totalScore
+                && otherStatistics.numberOfWeeksAttended == numberOfWeeksAttended
+                && otherStatistics.lowestScore == lowestScore
+                && otherStatistics.highestScore == highestScore;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalScore, numberOfWeeksAttended, lowestScore, highestScore);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Total: %d, Weeks attended: %d, Lowest: %d, Highest: %d", totalScore,
+                numberOfWeeksAttended, lowestScore, highestScore);
+    }
+}
@@ -0,0 +1,11 @@
+package tutorspet.model.attendance.exceptions;
+
+/**
+ * Signals that the attendance records of a lesson, which are loaded when they are first needed, could not be loaded.
+ */
+public class AttendanceLoadingException extends RuntimeException {
+
+    public AttendanceLoadingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -16,6 +16,10 @@ public class NameContainsKeywordsPredicate<T extends HasName> implements Predica
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(T t) {
         return keywords.stream()
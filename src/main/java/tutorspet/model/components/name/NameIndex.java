@@ -0,0 +1,151 @@
+package tutorspet.model.components.name;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the words of {@code Name}s, ignoring case, to the {@code Name}s containing them.
+ * Finding the {@code Name}s that contain any of a list of keywords takes one lookup per keyword, rather than splitting
+ * and comparing every {@code Name}.
+ * A {@code Name} may be added several times, for {@code HasName} objects that share it, and stays in the index until
+ * it is removed as many times as it was added.
+ */
+public class NameIndex {
+
+    private final Map<Name, Integer> nameCounts = new HashMap<>();
+    private final Map<String, Set<Name>> namesByWord = new HashMap<>();
+
+    /** Incremented whenever the set of {@code Name}s in the index changes. */
+    private int modificationCount;
+
+    /**
+     * Adds {@code name} to the index.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+
+        if (nameCounts.merge(name, 1, Integer::sum) > 1) {
+            return;
+        }
+        for (String word : getWords(name)) {
+            namesByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(name);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code name} from the index.
+     * {@code name} must have been added to the index.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+
+        Integer count = nameCounts.get(name);
+        assert count != null;
+
+        if (count > 1) {
+            nameCounts.put(name, count - 1);
+            return;
+        }
+        nameCounts.remove(name);
+        for (String word : getWords(name)) {
+            Set<Name> names = namesByWord.get(word);
+            names.remove(name);
+            if (names.isEmpty()) {
+                namesByWord.remove(word);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the contents of this index with the contents of {@code replacement}.
+     */
+    public void setAll(NameIndex replacement) {
+        requireNonNull(replacement);
+
+        nameCounts.clear();
+        nameCounts.putAll(replacement.nameCounts);
+        namesByWord.clear();
+        replacement.namesByWord.forEach((word, names) -> namesByWord.put(word, new HashSet<>(names)));
+        modificationCount++;
+    }
+
+    /**
+     * Removes every {@code Name} from the index.
+     */
+    public void clear() {
+        nameCounts.clear();
+        namesByWord.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the {@code Name}s in the index that contain any of {@code keywords} as a full word, ignoring case.
+     */
+    public Set<Name> find(List<String> keywords) {
+        requireAllNonNull(keywords);
+
+        Set<Name> names = new HashSet<>();
+        for (String keyword : keywords) {
+            names.addAll(namesByWord.getOrDefault(normalize(keyword), Set.of()));
+        }
+        return names;
+    }
+
+    /**
+     * Returns a predicate that tests if the {@code Name} of a {@code HasName} object contains any of {@code keywords}
+     * as a full word, ignoring case, in the same way as {@link NameContainsKeywordsPredicate}.
+     * The matching {@code Name}s are looked up in this index when first needed, and again only after the index
+     * changes, so that testing each object is a single hash lookup.
+     */
+    public <T extends HasName> Predicate<T> createPredicate(List<String> keywords) {
+        requireAllNonNull(keywords);
+
+        return new IndexedNamePredicate<>(List.copyOf(keywords));
+    }
+
+    private static String[] getWords(Name name) {
+        String[] words = name.fullName.split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = normalize(words[i]);
+        }
+        return words;
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Tests that a {@code HasName} object's {@code Name} is one of the {@code Name}s in the index that contain any of
+     * the keywords given.
+     */
+    private class IndexedNamePredicate<T extends HasName> implements Predicate<T> {
+
+        private final List<String> keywords;
+        private Set<Name> matchingNames;
+        private int matchingNamesModificationCount;
+
+        IndexedNamePredicate(List<String> keywords) {
+            this.keywords = keywords;
+        }
+
+        @Override
+        public boolean test(T t) {
+            if (matchingNames == null || matchingNamesModificationCount != modificationCount) {
+                matchingNames = find(keywords);
+                matchingNamesModificationCount = modificationCount;
+            }
+            return matchingNames.contains(t.getName());
+        }
+    }
+}
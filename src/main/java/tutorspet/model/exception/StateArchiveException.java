@@ -0,0 +1,11 @@
+package tutorspet.model.exception;
+
+/**
+ * Signals that a state of the undo history could not be retrieved from its {@code StateArchive}.
+ */
+public class StateArchiveException extends RuntimeException {
+
+    public StateArchiveException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
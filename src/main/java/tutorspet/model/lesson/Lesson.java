@@ -54,7 +54,7 @@ public class Lesson {
         requireAllNonNull(startTime, endTime, day, numberOfOccurrences, venue, attendanceRecordList);
         checkArgument(isValidStartTimeEndTime(startTime, endTime));
 
-        assert attendanceRecordList.getAttendanceRecordList().size() == numberOfOccurrences.getNumberOfOccurrences();
+        assert attendanceRecordList.getNumberOfRecords() == numberOfOccurrences.getNumberOfOccurrences();
 
         this.startTime = startTime;
         this.endTime = endTime;
@@ -0,0 +1,257 @@
+package tutorspet.model.lesson;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import tutorspet.model.components.name.Name;
+
+/**
+ * An interval tree of the times of the {@code Lesson}s on one {@code Day}, each owned by the {@code Name} of a
+ * {@code ModuleClass}.
+ * The tree is an AVL tree ordered by start time and then end time, where every node also keeps the latest end time in
+ * its subtree, so that finding the lessons that overlap a period of time skips every subtree that ends before the
+ * period starts or starts after it ends. Lessons with the same times in several classes share a node.
+ */
+class LessonIntervalTree {
+
+    private final Day day;
+    private Node root;
+
+    LessonIntervalTree(Day day) {
+        this.day = day;
+    }
+
+    /**
+     * Adds a lesson from {@code startTime} to {@code endTime} owned by {@code moduleClassName} to the tree.
+     */
+    void add(LocalTime startTime, LocalTime endTime, Name moduleClassName) {
+        root = insert(root, startTime, endTime, moduleClassName);
+    }
+
+    /**
+     * Removes a lesson from {@code startTime} to {@code endTime} owned by {@code moduleClassName} from the tree.
+     * The lesson must have been added to the tree.
+     */
+    void remove(LocalTime startTime, LocalTime endTime, Name moduleClassName) {
+        root = delete(root, startTime, endTime, moduleClassName);
+    }
+
+    /**
+     * Returns the {@code Name} of a {@code ModuleClass} other than {@code excludedModuleClassName} with a lesson
+     * that overlaps the period from {@code startTime} to {@code endTime}, if there is any.
+     */
+    Optional<Name> findOverlap(LocalTime startTime, LocalTime endTime, Name excludedModuleClassName) {
+        return Optional.ofNullable(findOverlap(root, startTime, endTime, excludedModuleClassName));
+    }
+
+    /**
+     * Returns the times of the lessons that overlap the period from {@code startTime} to {@code endTime}, ordered by
+     * start time. Lessons with the same times are returned once.
+     */
+    List<TimeSlot> getOverlapping(LocalTime startTime, LocalTime endTime) {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        forEachOverlappingNode(root, startTime, endTime, node ->
+                timeSlots.add(new TimeSlot(day, node.startTime, node.endTime)));
+        return timeSlots;
+    }
+
+    /**
+     * Performs {@code action} on the times and the owning {@code Name} of every lesson that overlaps the period from
+     * {@code startTime} to {@code endTime}, ordered by start time.
+     */
+    void forEachOverlapping(LocalTime startTime, LocalTime endTime, BiConsumer<TimeSlot, Name> action) {
+        forEachOverlappingNode(root, startTime, endTime, node -> {
+            TimeSlot timeSlot = new TimeSlot(day, node.startTime, node.endTime);
+            node.moduleClassNames.forEach(moduleClassName -> action.accept(timeSlot, moduleClassName));
+        });
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    private static Name findOverlap(Node node, LocalTime startTime, LocalTime endTime, Name excludedModuleClassName) {
+        if (node == null || !node.maxEndTime.isAfter(startTime)) {
+            return null;
+        }
+
+        Name found = findOverlap(node.left, startTime, endTime, excludedModuleClassName);
+        if (found != null) {
+            return found;
+        }
+        if (!node.startTime.isBefore(endTime)) {
+            // this lesson and every lesson in the right subtree start after the period ends
+            return null;
+        }
+        if (node.endTime.isAfter(startTime)) {
+            for (Name moduleClassName : node.moduleClassNames) {
+                if (!moduleClassName.equals(excludedModuleClassName)) {
+                    return moduleClassName;
+                }
+            }
+        }
+        return findOverlap(node.right, startTime, endTime, excludedModuleClassName);
+    }
+
+    private static void forEachOverlappingNode(Node node, LocalTime startTime, LocalTime endTime,
+            Consumer<Node> action) {
+        if (node == null || !node.maxEndTime.isAfter(startTime)) {
+            return;
+        }
+
+        forEachOverlappingNode(node.left, startTime, endTime, action);
+        if (!node.startTime.isBefore(endTime)) {
+            return;
+        }
+        if (node.endTime.isAfter(startTime)) {
+            action.accept(node);
+        }
+        forEachOverlappingNode(node.right, startTime, endTime, action);
+    }
+
+    private static Node insert(Node node, LocalTime startTime, LocalTime endTime, Name moduleClassName) {
+        if (node == null) {
+            return new Node(startTime, endTime, moduleClassName);
+        }
+
+        int comparison = node.compareTo(startTime, endTime);
+        if (comparison > 0) {
+            node.left = insert(node.left, startTime, endTime, moduleClassName);
+        } else if (comparison < 0) {
+            node.right = insert(node.right, startTime, endTime, moduleClassName);
+        } else {
+            node.moduleClassNames.add(moduleClassName);
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private static Node delete(Node node, LocalTime startTime, LocalTime endTime, Name moduleClassName) {
+        assert node != null;
+
+        int comparison = node.compareTo(startTime, endTime);
+        if (comparison > 0) {
+            node.left = delete(node.left, startTime, endTime, moduleClassName);
+        } else if (comparison < 0) {
+            node.right = delete(node.right, startTime, endTime, moduleClassName);
+        } else {
+            boolean isRemoved = node.moduleClassNames.remove(moduleClassName);
+            assert isRemoved;
+
+            if (!node.moduleClassNames.isEmpty()) {
+                return node;
+            }
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteFirst(node.right);
+            successor.left = node.left;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private static Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+
+        node.left = deleteFirst(node.left);
+        return rebalance(node);
+    }
+
+    private static Node rebalance(Node node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, holding the {@code Name}s of the classes with a lesson at the same times.
+     */
+    private static class Node {
+
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final List<Name> moduleClassNames = new ArrayList<>(1);
+        private LocalTime maxEndTime;
+        private int height;
+        private Node left;
+        private Node right;
+
+        Node(LocalTime startTime, LocalTime endTime, Name moduleClassName) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+            moduleClassNames.add(moduleClassName);
+            update();
+        }
+
+        /**
+         * Compares the times of this node against {@code otherStartTime} and {@code otherEndTime}.
+         */
+        int compareTo(LocalTime otherStartTime, LocalTime otherEndTime) {
+            int comparison = startTime.compareTo(otherStartTime);
+            return comparison != 0 ? comparison : endTime.compareTo(otherEndTime);
+        }
+
+        /**
+         * Recomputes the height and latest end time of this subtree from those of its children.
+         */
+        void update() {
+            height = 1 + Math.max(LessonIntervalTree.height(left), LessonIntervalTree.height(right));
+            maxEndTime = endTime;
+            if (left != null && left.maxEndTime.isAfter(maxEndTime)) {
+                maxEndTime = left.maxEndTime;
+            }
+            if (right != null && right.maxEndTime.isAfter(maxEndTime)) {
+                maxEndTime = right.maxEndTime;
+            }
+        }
+    }
+}
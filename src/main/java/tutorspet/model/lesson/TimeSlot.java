@@ -0,0 +1,70 @@
+package tutorspet.model.lesson;
+
+import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorspet.model.lesson.Lesson.TIME_FORMATTER;
+import static tutorspet.model.lesson.Lesson.isValidStartTimeEndTime;
+
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Represents a period of time on a day of the week.
+ * Guarantees: details are present and not null, start time is earlier than end time, immutable.
+ */
+public class TimeSlot {
+
+    private final Day day;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Every field must be present and not null, and {@code startTime} must be earlier than {@code endTime}.
+     */
+    public TimeSlot(Day day, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(day, startTime, endTime);
+        checkArgument(isValidStartTimeEndTime(startTime, endTime), Lesson.MESSAGE_CONSTRAINTS);
+
+        this.day = day;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public Day getDay() {
+        return day;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TimeSlot)) {
+            return false;
+        }
+
+        TimeSlot otherTimeSlot = (TimeSlot) other;
+        return otherTimeSlot.day.equals(day)
+                && otherTimeSlot.startTime.equals(startTime)
+                && otherTimeSlot.endTime.equals(endTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(day, startTime, endTime);
+    }
+
+    @Override
+    public String toString() {
+        return day + " " + TIME_FORMATTER.format(startTime) + " to " + TIME_FORMATTER.format(endTime);
+    }
+}
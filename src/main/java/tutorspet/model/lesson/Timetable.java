@@ -0,0 +1,98 @@
+package tutorspet.model.lesson;
+
+import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorspet.model.lesson.Lesson.isValidStartTimeEndTime;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import tutorspet.model.components.name.Name;
+
+/**
+ * The times of the {@code Lesson}s of every {@code ModuleClass}, with an interval tree for each {@code Day}.
+ * Finding a {@code Lesson} of another {@code ModuleClass} that clashes with a {@code Lesson} takes logarithmic time in
+ * the number of {@code Lesson}s on that {@code Day}, rather than a comparison against every {@code Lesson} of every
+ * {@code ModuleClass}.
+ */
+public class Timetable {
+
+    private final Map<Day, LessonIntervalTree> lessonsByDay = new EnumMap<>(Day.class);
+
+    /**
+     * Adds {@code lesson} of the {@code ModuleClass} named {@code moduleClassName} to the timetable.
+     */
+    public void add(Name moduleClassName, Lesson lesson) {
+        requireAllNonNull(moduleClassName, lesson);
+
+        lessonsByDay.computeIfAbsent(lesson.getDay(), LessonIntervalTree::new)
+                .add(lesson.getStartTime(), lesson.getEndTime(), moduleClassName);
+    }
+
+    /**
+     * Removes {@code lesson} of the {@code ModuleClass} named {@code moduleClassName} from the timetable.
+     * A {@code Lesson} with the same day, start time and end time must have been added for that {@code ModuleClass}.
+     */
+    public void remove(Name moduleClassName, Lesson lesson) {
+        requireAllNonNull(moduleClassName, lesson);
+
+        LessonIntervalTree lessons = lessonsByDay.get(lesson.getDay());
+        assert lessons != null;
+
+        lessons.remove(lesson.getStartTime(), lesson.getEndTime(), moduleClassName);
+        if (lessons.isEmpty()) {
+            lessonsByDay.remove(lesson.getDay());
+        }
+    }
+
+    /**
+     * Removes every {@code Lesson} from the timetable.
+     */
+    public void clear() {
+        lessonsByDay.clear();
+    }
+
+    /**
+     * Returns the {@code Name} of a {@code ModuleClass} other than the one named {@code moduleClassName} with a
+     * {@code Lesson} that overlaps {@code lesson}, if there is any.
+     */
+    public Optional<Name> findClash(Name moduleClassName, Lesson lesson) {
+        requireAllNonNull(moduleClassName, lesson);
+
+        LessonIntervalTree lessons = lessonsByDay.get(lesson.getDay());
+        return lessons == null
+                ? Optional.empty()
+                : lessons.findOverlap(lesson.getStartTime(), lesson.getEndTime(), moduleClassName);
+    }
+
+    /**
+     * Returns the periods from {@code startTime} to {@code endTime} on {@code day} without any {@code Lesson},
+     * ordered by time.
+     */
+    public List<TimeSlot> getFreeTimeSlots(Day day, LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(day, startTime, endTime);
+        checkArgument(isValidStartTimeEndTime(startTime, endTime), Lesson.MESSAGE_CONSTRAINTS);
+
+        LessonIntervalTree lessons = lessonsByDay.get(day);
+        List<TimeSlot> occupiedTimeSlots = lessons == null ? List.of() : lessons.getOverlapping(startTime, endTime);
+
+        List<TimeSlot> freeTimeSlots = new ArrayList<>();
+        LocalTime freeFrom = startTime;
+        for (TimeSlot occupiedTimeSlot : occupiedTimeSlots) {
+            if (occupiedTimeSlot.getStartTime().isAfter(freeFrom)) {
+                freeTimeSlots.add(new TimeSlot(day, freeFrom, occupiedTimeSlot.getStartTime()));
+            }
+            if (occupiedTimeSlot.getEndTime().isAfter(freeFrom)) {
+                freeFrom = occupiedTimeSlot.getEndTime();
+            }
+        }
+        if (freeFrom.isBefore(endTime)) {
+            freeTimeSlots.add(new TimeSlot(day, freeFrom, endTime));
+        }
+        return freeTimeSlots;
+    }
+}
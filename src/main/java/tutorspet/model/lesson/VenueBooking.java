@@ -0,0 +1,76 @@
+package tutorspet.model.lesson;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import tutorspet.model.components.name.Name;
+
+/**
+ * Represents a {@code Venue} used by a {@code Lesson} of a {@code ModuleClass} during a {@code TimeSlot}.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class VenueBooking {
+
+    /** Orders {@code VenueBooking}s by venue, then by time, then by the name of the class. */
+    public static final Comparator<VenueBooking> VENUE_TIME_ORDER = Comparator
+            .comparing((VenueBooking booking) -> booking.venue.venue)
+            .thenComparing(booking -> booking.timeSlot.getDay())
+            .thenComparing(booking -> booking.timeSlot.getStartTime())
+            .thenComparing(booking -> booking.timeSlot.getEndTime())
+            .thenComparing(booking -> booking.moduleClassName.fullName);
+
+    private final Venue venue;
+    private final TimeSlot timeSlot;
+    private final Name moduleClassName;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public VenueBooking(Venue venue, TimeSlot timeSlot, Name moduleClassName) {
+        requireAllNonNull(venue, timeSlot, moduleClassName);
+
+        this.venue = venue;
+        this.timeSlot = timeSlot;
+        this.moduleClassName = moduleClassName;
+    }
+
+    public Venue getVenue() {
+        return venue;
+    }
+
+    public TimeSlot getTimeSlot() {
+        return timeSlot;
+    }
+
+    public Name getModuleClassName() {
+        return moduleClassName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof VenueBooking)) {
+            return false;
+        }
+
+        VenueBooking otherBooking = (VenueBooking) other;
+        return otherBooking.venue.equals(venue)
+                && otherBooking.timeSlot.equals(timeSlot)
+                && otherBooking.moduleClassName.equals(moduleClassName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(venue, timeSlot, moduleClassName);
+    }
+
+    @Override
+    public String toString() {
+        return moduleClassName + " " + timeSlot + " at " + venue;
+    }
+}
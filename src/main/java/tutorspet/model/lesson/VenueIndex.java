@@ -0,0 +1,128 @@
+package tutorspet.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import tutorspet.model.components.name.Name;
+
+/**
+ * An index of the {@code Lesson}s of every {@code ModuleClass} by {@code Venue}, with an interval tree for each
+ * {@code Day} at each {@code Venue}.
+ * The {@code Lesson}s with overlapping times at the same {@code Venue} are also kept up to date as {@code Lesson}s are
+ * added and removed, so that listing the {@code Lesson}s at a {@code Venue} and the {@code Venue}s booked twice at
+ * once both take time proportional to the size of the result.
+ */
+public class VenueIndex {
+
+    private final Map<Venue, Map<Day, LessonIntervalTree>> lessonsByVenue = new HashMap<>();
+    /** The number of other {@code VenueBooking}s that overlap each {@code VenueBooking} with any. */
+    private final Map<VenueBooking, Integer> conflictCounts = new HashMap<>();
+
+    /**
+     * Adds {@code lesson} of the {@code ModuleClass} named {@code moduleClassName} to the index.
+     */
+    public void add(Name moduleClassName, Lesson lesson) {
+        requireAllNonNull(moduleClassName, lesson);
+
+        LessonIntervalTree lessons = lessonsByVenue
+                .computeIfAbsent(lesson.getVenue(), unused -> new EnumMap<>(Day.class))
+                .computeIfAbsent(lesson.getDay(), LessonIntervalTree::new);
+        VenueBooking booking = createBooking(moduleClassName, lesson);
+        lessons.forEachOverlapping(lesson.getStartTime(), lesson.getEndTime(), (timeSlot, otherModuleClassName) -> {
+            conflictCounts.merge(new VenueBooking(lesson.getVenue(), timeSlot, otherModuleClassName), 1, Integer::sum);
+            conflictCounts.merge(booking, 1, Integer::sum);
+        });
+        lessons.add(lesson.getStartTime(), lesson.getEndTime(), moduleClassName);
+    }
+
+    /**
+     * Removes {@code lesson} of the {@code ModuleClass} named {@code moduleClassName} from the index.
+     * A {@code Lesson} with the same day, start time, end time and venue must have been added for that
+     * {@code ModuleClass}.
+     */
+    public void remove(Name moduleClassName, Lesson lesson) {
+        requireAllNonNull(moduleClassName, lesson);
+
+        Map<Day, LessonIntervalTree> lessonsByDay = lessonsByVenue.get(lesson.getVenue());
+        assert lessonsByDay != null && lessonsByDay.containsKey(lesson.getDay());
+
+        LessonIntervalTree lessons = lessonsByDay.get(lesson.getDay());
+        lessons.remove(lesson.getStartTime(), lesson.getEndTime(), moduleClassName);
+        VenueBooking booking = createBooking(moduleClassName, lesson);
+        lessons.forEachOverlapping(lesson.getStartTime(), lesson.getEndTime(), (timeSlot, otherModuleClassName) -> {
+            decrementConflictCount(new VenueBooking(lesson.getVenue(), timeSlot, otherModuleClassName));
+            decrementConflictCount(booking);
+        });
+
+        if (lessons.isEmpty()) {
+            lessonsByDay.remove(lesson.getDay());
+        }
+        if (lessonsByDay.isEmpty()) {
+            lessonsByVenue.remove(lesson.getVenue());
+        }
+    }
+
+    /**
+     * Removes every {@code Lesson} from the index.
+     */
+    public void clear() {
+        lessonsByVenue.clear();
+        conflictCounts.clear();
+    }
+
+    /**
+     * Returns the {@code VenueBooking}s of the {@code Lesson}s at {@code venue}, ordered by time.
+     */
+    public List<VenueBooking> getBookings(Venue venue) {
+        requireNonNull(venue);
+
+        List<VenueBooking> bookings = new ArrayList<>();
+        lessonsByVenue.getOrDefault(venue, Map.of()).values()
+                .forEach(lessons -> collectBookings(venue, lessons, bookings));
+        return bookings;
+    }
+
+    /**
+     * Returns the {@code VenueBooking}s of the {@code Lesson}s at {@code venue} on {@code day}, ordered by time.
+     */
+    public List<VenueBooking> getBookings(Venue venue, Day day) {
+        requireAllNonNull(venue, day);
+
+        List<VenueBooking> bookings = new ArrayList<>();
+        LessonIntervalTree lessons = lessonsByVenue.getOrDefault(venue, Map.of()).get(day);
+        if (lessons != null) {
+            collectBookings(venue, lessons, bookings);
+        }
+        return bookings;
+    }
+
+    /**
+     * Returns the {@code VenueBooking}s that overlap another {@code VenueBooking} at the same {@code Venue}, ordered
+     * by {@link VenueBooking#VENUE_TIME_ORDER}.
+     */
+    public List<VenueBooking> getConflicts() {
+        return conflictCounts.keySet().stream().sorted(VenueBooking.VENUE_TIME_ORDER).collect(Collectors.toList());
+    }
+
+    private static void collectBookings(Venue venue, LessonIntervalTree lessons, List<VenueBooking> bookings) {
+        lessons.forEachOverlapping(LocalTime.MIN, LocalTime.MAX, (timeSlot, moduleClassName) ->
+                bookings.add(new VenueBooking(venue, timeSlot, moduleClassName)));
+    }
+
+    private static VenueBooking createBooking(Name moduleClassName, Lesson lesson) {
+        return new VenueBooking(lesson.getVenue(), new TimeSlot(lesson.getDay(), lesson.getStartTime(),
+                lesson.getEndTime()), moduleClassName);
+    }
+
+    private void decrementConflictCount(VenueBooking booking) {
+        conflictCounts.computeIfPresent(booking, (unused, count) -> count == 1 ? null : count - 1);
+    }
+}
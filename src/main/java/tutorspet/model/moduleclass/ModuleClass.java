@@ -31,8 +31,8 @@ public class ModuleClass implements HasName {
     private final Name name;
 
     // data fields
-    private final Set<UUID> studentUuids = new HashSet<>();
-    private final List<Lesson> lessons = new ArrayList<>();
+    private final Set<UUID> studentUuids;
+    private final List<Lesson> lessons;
 
     /**
      * Name must be present and not null.
@@ -41,6 +41,8 @@ public class ModuleClass implements HasName {
         requireNonNull(name);
 
         this.name = name;
+        this.studentUuids = new HashSet<>();
+        this.lessons = new ArrayList<>();
     }
 
     /**
@@ -50,8 +52,18 @@ public class ModuleClass implements HasName {
         requireAllNonNull(name, studentUuids, lessons);
 
         this.name = name;
-        this.studentUuids.addAll(studentUuids);
-        this.lessons.addAll(lessons);
+        this.studentUuids = new HashSet<>(studentUuids);
+        this.lessons = new ArrayList<>(lessons);
+    }
+
+    /**
+     * Creates a class with the name and students of {@code source} and the given {@code lessons}.
+     * The students are shared with {@code source} rather than copied, as neither class modifies them.
+     */
+    private ModuleClass(ModuleClass source, List<Lesson> lessons) {
+        this.name = source.name;
+        this.studentUuids = source.studentUuids;
+        this.lessons = lessons;
     }
 
     @Override
@@ -81,7 +93,30 @@ public class ModuleClass implements HasName {
      * @throws NullPointerException if the given student {@code UUID} is null.
      */
     public boolean hasStudentUuid(UUID toCheck) throws NullPointerException {
-        return studentUuids.stream().anyMatch(toCheck::equals);
+        requireNonNull(toCheck);
+
+        return studentUuids.contains(toCheck);
+    }
+
+    /**
+     * Returns true if this class shares its student {@code UUID}s with {@code other}, which is the case for a class
+     * derived from the other by {@link #withLesson(int, Lesson)}.
+     * Such classes are guaranteed to have the same students, without comparing them.
+     */
+    public boolean hasSameStudentUuidsInstance(ModuleClass other) {
+        return other.studentUuids == studentUuids;
+    }
+
+    /**
+     * Returns a copy of this class where the {@code Lesson} at {@code zeroBasedLessonIndex} is replaced with
+     * {@code editedLesson}.
+     */
+    public ModuleClass withLesson(int zeroBasedLessonIndex, Lesson editedLesson) {
+        requireNonNull(editedLesson);
+
+        List<Lesson> editedLessons = new ArrayList<>(lessons);
+        editedLessons.set(zeroBasedLessonIndex, editedLesson);
+        return new ModuleClass(this, editedLessons);
     }
 
     /**
@@ -5,12 +5,30 @@ import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.util.ModuleClassUtil.deleteAllStudentsFromModuleClass;
 import static tutorspet.logic.util.ModuleClassUtil.deleteStudentFromModuleClass;
 
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import tutorspet.model.ObservedArrayList;
+import tutorspet.model.ObservedList;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.name.NameIndex;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.TimeSlot;
+import tutorspet.model.lesson.Timetable;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.lesson.VenueBooking;
+import tutorspet.model.lesson.VenueIndex;
 import tutorspet.model.moduleclass.exceptions.DuplicateModuleClassException;
 import tutorspet.model.moduleclass.exceptions.ModuleClassNotFoundException;
 import tutorspet.model.student.Student;
@@ -24,14 +42,30 @@ import tutorspet.model.student.Student;
  * that the {@code ModuleClass} with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * The position of every {@code ModuleClass} is indexed by its {@code Name}, so that lookups of the {@code ModuleClass}
+ * to replace or remove do not require deep comparisons against every other {@code ModuleClass} in the list.
+ * Removing a {@code ModuleClass} shifts the {@code ModuleClass}es after it, so their positions are re-numbered in time
+ * proportional to the number of {@code ModuleClass}es after it. That is no more than the cost of shifting them in the
+ * backing list, and keeps every lookup constant time; positions are not stored lazily since lookups far outnumber
+ * removals.
+ * The {@code Name}s of the {@code ModuleClass}es of every {@code Student} are also indexed by the {@code UUID} of the
+ * {@code Student}, so that removing a {@code Student} only visits the {@code ModuleClass}es the {@code Student} is in,
+ * and by their words, so that finding {@code ModuleClass}es by name does not compare against every {@code Name}.
+ * The times of the {@code Lesson}s of every {@code ModuleClass} are kept in a {@code Timetable}, so that finding a
+ * clash between {@code Lesson}s of different {@code ModuleClass}es does not compare against every {@code Lesson}, and
+ * by {@code Venue} in a {@code VenueIndex}, so that the {@code Lesson}s at a {@code Venue} and the {@code Venue}s
+ * booked twice at once are found without visiting every {@code Lesson}.
  *
  * @see ModuleClass#isSameModuleClass(ModuleClass)
  */
 public class UniqueModuleClassList implements Iterable<ModuleClass> {
 
-    private final ObservableList<ModuleClass> internalList = FXCollections.observableArrayList();
-    private final ObservableList<ModuleClass> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservedArrayList<ModuleClass> internalList = new ObservedArrayList<>();
+    private final Map<Name, Integer> positionIndex = new HashMap<>();
+    private final Map<UUID, Set<Name>> studentIndex = new HashMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private final Timetable timetable = new Timetable();
+    private final VenueIndex venueIndex = new VenueIndex();
 
     /**
      * Returns true if the list contains an equivalent {@code ModuleClass} as the given argument.
@@ -41,7 +75,7 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
     public boolean contains(ModuleClass toCheck) throws NullPointerException {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameModuleClass);
+        return positionIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -58,7 +92,11 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
             throw new DuplicateModuleClassException();
         }
 
-        internalList.add(toAdd);
+        positionIndex.put(toAdd.getName(), internalList.size());
+        internalList.append(toAdd);
+        indexStudents(toAdd);
+        nameIndex.add(toAdd.getName());
+        indexLessons(toAdd);
     }
 
     /**
@@ -75,7 +113,7 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
             throws NullPointerException, ModuleClassNotFoundException, DuplicateModuleClassException {
         requireAllNonNull(target, editedModuleClass);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
 
         if (index == -1) {
             throw new ModuleClassNotFoundException();
@@ -85,13 +123,31 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
             throw new DuplicateModuleClassException();
         }
 
-        internalList.set(index, editedModuleClass);
+        ModuleClass replaced = internalList.replace(index, editedModuleClass);
+        positionIndex.remove(target.getName());
+        positionIndex.put(editedModuleClass.getName(), index);
+        reindexStudents(replaced, editedModuleClass);
+        nameIndex.remove(replaced.getName());
+        nameIndex.add(editedModuleClass.getName());
+        unindexLessons(replaced);
+        indexLessons(editedModuleClass);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setModuleClass(UniqueModuleClassList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
+        studentIndex.clear();
+        replacement.studentIndex.forEach((studentUuid, names) -> studentIndex.put(studentUuid, new HashSet<>(names)));
+        nameIndex.setAll(replacement.nameIndex);
+        timetable.clear();
+        venueIndex.clear();
+        internalList.forEach(this::indexLessons);
     }
 
     /**
@@ -105,11 +161,23 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
             throws NullPointerException, DuplicateModuleClassException {
         requireAllNonNull(moduleClasses);
 
-        if (!moduleClassesAreUnique(moduleClasses)) {
-            throw new DuplicateModuleClassException();
+        Map<Name, Integer> newPositionIndex = new HashMap<>();
+        for (int i = 0; i < moduleClasses.size(); i++) {
+            if (newPositionIndex.putIfAbsent(moduleClasses.get(i).getName(), i) != null) {
+                throw new DuplicateModuleClassException();
+            }
         }
 
         internalList.setAll(moduleClasses);
+        positionIndex.clear();
+        positionIndex.putAll(newPositionIndex);
+        studentIndex.clear();
+        moduleClasses.forEach(this::indexStudents);
+        nameIndex.clear();
+        newPositionIndex.keySet().forEach(nameIndex::add);
+        timetable.clear();
+        venueIndex.clear();
+        moduleClasses.forEach(this::indexLessons);
     }
 
     /**
@@ -122,36 +190,175 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
     public void remove(ModuleClass toRemove) throws NullPointerException, ModuleClassNotFoundException {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+
+        if (index == -1) {
             throw new ModuleClassNotFoundException();
         }
+
+        ModuleClass removed = internalList.delete(index);
+        positionIndex.remove(toRemove.getName());
+        reindexFrom(index);
+        unindexStudents(removed);
+        nameIndex.remove(removed.getName());
+        unindexLessons(removed);
+    }
+
+    /**
+     * Replaces the {@code ModuleClass}es from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}, leaving the rest of the list untouched.
+     * This is used to restore a previous version of the list in time proportional to the size of the change.
+     *
+     * @throws DuplicateModuleClassException if a {@code ModuleClass} in {@code replacement} is equivalent to another
+     * {@code ModuleClass} in the resulting list. The list is unchanged in that case.
+     */
+    public void replaceModuleClasses(int fromIndex, int toIndex, List<ModuleClass> replacement) {
+        requireAllNonNull(replacement);
+
+        List<ModuleClass> replaced = internalList.subList(fromIndex, toIndex);
+        Set<Name> replacedNames = replaced.stream().map(ModuleClass::getName).collect(Collectors.toSet());
+        Set<Name> replacementNames = new HashSet<>();
+        for (ModuleClass moduleClass : replacement) {
+            Name name = moduleClass.getName();
+            if (!replacementNames.add(name) || (positionIndex.containsKey(name) && !replacedNames.contains(name))) {
+                throw new DuplicateModuleClassException();
+            }
+        }
+
+        replacedNames.forEach(positionIndex::remove);
+        replacedNames.forEach(nameIndex::remove);
+        replacementNames.forEach(nameIndex::add);
+        replaced.forEach(this::unindexStudents);
+        replaced.forEach(this::unindexLessons);
+        internalList.replaceRange(fromIndex, toIndex, replacement);
+        replacement.forEach(this::indexStudents);
+        replacement.forEach(this::indexLessons);
+        if (replacement.size() == toIndex - fromIndex) {
+            for (int i = 0; i < replacement.size(); i++) {
+                positionIndex.put(replacement.get(i).getName(), fromIndex + i);
+            }
+        } else {
+            reindexFrom(fromIndex);
+        }
+    }
+
+    /**
+     * Returns a predicate that tests if the name of a {@code ModuleClass} contains any of {@code keywords}, ignoring
+     * case, in the same way as {@code NameContainsKeywordsPredicate}, but which looks the matching names up in the
+     * name index of this list.
+     * The predicate stays in sync with the list as it changes.
+     */
+    public Predicate<ModuleClass> createNamePredicate(List<String> keywords) {
+        requireAllNonNull(keywords);
+
+        return nameIndex.createPredicate(keywords);
+    }
+
+    /**
+     * Returns a {@code ModuleClass} other than {@code moduleClass} with a {@code Lesson} that overlaps {@code lesson},
+     * if there is any.
+     *
+     * @throws NullPointerException if any of the given arguments are null.
+     */
+    public Optional<ModuleClass> findClashingModuleClass(ModuleClass moduleClass, Lesson lesson)
+            throws NullPointerException {
+        requireAllNonNull(moduleClass, lesson);
+
+        return timetable.findClash(moduleClass.getName(), lesson)
+                .map(name -> internalList.get(positionIndex.get(name)));
+    }
+
+    /**
+     * Returns the periods from {@code startTime} to {@code endTime} on {@code day} without a {@code Lesson} of any
+     * {@code ModuleClass}, ordered by time.
+     *
+     * @throws NullPointerException if any of the given arguments are null.
+     */
+    public List<TimeSlot> getFreeTimeSlots(Day day, LocalTime startTime, LocalTime endTime)
+            throws NullPointerException {
+        requireAllNonNull(day, startTime, endTime);
+
+        return timetable.getFreeTimeSlots(day, startTime, endTime);
+    }
+
+    /**
+     * Returns the {@code VenueBooking}s of the {@code Lesson}s at {@code venue}, ordered by time.
+     *
+     * @throws NullPointerException if the given argument is null.
+     */
+    public List<VenueBooking> getVenueBookings(Venue venue) throws NullPointerException {
+        requireNonNull(venue);
+
+        return venueIndex.getBookings(venue);
+    }
+
+    /**
+     * Returns the {@code VenueBooking}s of the {@code Lesson}s at {@code venue} on {@code day}, ordered by time.
+     *
+     * @throws NullPointerException if any of the given arguments are null.
+     */
+    public List<VenueBooking> getVenueBookings(Venue venue, Day day) throws NullPointerException {
+        requireAllNonNull(venue, day);
+
+        return venueIndex.getBookings(venue, day);
+    }
+
+    /**
+     * Returns the {@code VenueBooking}s of the {@code Lesson}s that overlap another {@code Lesson} at the same
+     * {@code Venue}, ordered by venue and then by time.
+     */
+    public List<VenueBooking> getVenueConflicts() {
+        return venueIndex.getConflicts();
+    }
+
+    /**
+     * Returns the {@code ModuleClass}es that contain the specified {@code Student}, in the order of the list.
+     *
+     * @throws NullPointerException if the given argument is null.
+     */
+    public List<ModuleClass> getModuleClassesOf(Student student) throws NullPointerException {
+        requireNonNull(student);
+
+        Set<Name> names = studentIndex.getOrDefault(student.getUuid(), Collections.emptySet());
+        return names.stream().map(positionIndex::get).sorted().map(internalList::get)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     /**
      * Removes the specified {@code Student} from all {@code ModuleClass}es in the class list.
+     * Only the {@code ModuleClass}es that contain the {@code student} are visited and replaced, and only their
+     * {@code Lesson}s in which the {@code student} has an {@code Attendance} are copied.
+     * The times and venues of the {@code Lesson}s do not change, so the timetable and venue index are left as they are.
      */
     public void removeStudent(Student student) {
         requireNonNull(student);
 
-        internalList.setAll(internalList.stream()
-                .map(moduleClass -> deleteStudentFromModuleClass(moduleClass, student))
-                .collect(Collectors.toList()));
+        for (ModuleClass moduleClass : getModuleClassesOf(student)) {
+            internalList.replace(positionIndex.get(moduleClass.getName()), deleteStudentFromModuleClass(moduleClass,
+                    student));
+        }
+        studentIndex.remove(student.getUuid());
     }
 
     /**
      * Removes all {@code Student}s from every {@code ModuleClass} in the class list.
+     * Only the {@code ModuleClass}es that contain any {@code Student} are replaced.
      */
     public void removeAllStudents() {
-        internalList.setAll(internalList.stream()
-                .map(moduleClass -> deleteAllStudentsFromModuleClass(moduleClass))
-                .collect(Collectors.toList()));
+        for (int i = 0; i < internalList.size(); i++) {
+            ModuleClass moduleClass = internalList.get(i);
+            if (!moduleClass.getStudentUuids().isEmpty()) {
+                internalList.replace(i, deleteAllStudentsFromModuleClass(moduleClass));
+            }
+        }
+        studentIndex.clear();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an {@code ObservedList}, which cannot be modified through the {@code List} interface.
      */
-    public ObservableList<ModuleClass> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+    public ObservedList<ModuleClass> asUnmodifiableObservedList() {
+        return internalList;
     }
 
     @Override
@@ -171,17 +378,93 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
         return internalList.hashCode();
     }
 
+    private void indexStudents(ModuleClass moduleClass) {
+        for (UUID studentUuid : moduleClass.getStudentUuids()) {
+            indexStudent(studentUuid, moduleClass.getName());
+        }
+    }
+
+    private void indexStudent(UUID studentUuid, Name name) {
+        studentIndex.computeIfAbsent(studentUuid, uuid -> new HashSet<>()).add(name);
+    }
+
+    private void unindexStudents(ModuleClass moduleClass) {
+        for (UUID studentUuid : moduleClass.getStudentUuids()) {
+            unindexStudent(studentUuid, moduleClass.getName());
+        }
+    }
+
+    private void unindexStudent(UUID studentUuid, Name name) {
+        Set<Name> names = studentIndex.get(studentUuid);
+        names.remove(name);
+        if (names.isEmpty()) {
+            studentIndex.remove(studentUuid);
+        }
+    }
+
     /**
-     * Returns true if {@code moduleClasses} contains only unique {@code ModuleClass}.
+     * Updates the index of the {@code Student}s of {@code replaced}, which has been replaced by {@code replacement}.
+     * Only the {@code Student}s that differ are updated if both have the same {@code Name}, and nothing is updated if
+     * they share the same {@code Student UUID}s, as for a change to a {@code Lesson}.
      */
-    private boolean moduleClassesAreUnique(List<ModuleClass> moduleClasses) {
-        for (int i = 0; i < moduleClasses.size() - 1; i++) {
-            for (int j = i + 1; j < moduleClasses.size(); j++) {
-                if (moduleClasses.get(i).isSameModuleClass(moduleClasses.get(j))) {
-                    return false;
-                }
+    private void reindexStudents(ModuleClass replaced, ModuleClass replacement) {
+        if (!replaced.getName().equals(replacement.getName())) {
+            unindexStudents(replaced);
+            indexStudents(replacement);
+            return;
+        }
+        if (replaced.hasSameStudentUuidsInstance(replacement)) {
+            return;
+        }
+
+        Set<UUID> replacedUuids = replaced.getStudentUuids();
+        Set<UUID> replacementUuids = replacement.getStudentUuids();
+
+        for (UUID studentUuid : replacedUuids) {
+            if (!replacementUuids.contains(studentUuid)) {
+                unindexStudent(studentUuid, replaced.getName());
+            }
+        }
+        for (UUID studentUuid : replacementUuids) {
+            if (!replacedUuids.contains(studentUuid)) {
+                indexStudent(studentUuid, replacement.getName());
             }
         }
-        return true;
+    }
+
+    private void indexLessons(ModuleClass moduleClass) {
+        for (Lesson lesson : moduleClass.getLessons()) {
+            timetable.add(moduleClass.getName(), lesson);
+            venueIndex.add(moduleClass.getName(), lesson);
+        }
+    }
+
+    private void unindexLessons(ModuleClass moduleClass) {
+        for (Lesson lesson : moduleClass.getLessons()) {
+            timetable.remove(moduleClass.getName(), lesson);
+            venueIndex.remove(moduleClass.getName(), lesson);
+        }
+    }
+
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns the position of the {@code ModuleClass} that is equal to {@code toFind} as defined by
+     * {@code ModuleClass#equals(Object)}, or -1 if there is no such {@code ModuleClass}.
+     * Since names are unique in the list, the only candidate is the {@code ModuleClass} with the same name, which is
+     * usually the very same instance as {@code toFind}.
+     */
+    private int indexOf(ModuleClass toFind) {
+        Integer index = positionIndex.get(toFind.getName());
+        if (index == null) {
+            return -1;
+        }
+
+        ModuleClass candidate = internalList.get(index);
+        return candidate == toFind || candidate.equals(toFind) ? index : -1;
     }
 }
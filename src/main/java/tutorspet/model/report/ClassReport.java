@@ -0,0 +1,111 @@
+package tutorspet.model.report;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Represents the attendance of every {@code Student} of a {@code ModuleClass}, with the distribution of their average
+ * participation scores over bands of {@link #BAND_WIDTH} marks.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class ClassReport {
+
+    public static final int BAND_WIDTH = 20;
+    public static final int NUMBER_OF_BANDS = (Attendance.UPPER_BOUND - Attendance.LOWER_BOUND) / BAND_WIDTH;
+
+    private final ModuleClass moduleClass;
+    private final List<StudentReport> studentReports;
+    // the number of students whose average score is in each band, the highest band including the upper bound
+    private final int[] distribution = new int[NUMBER_OF_BANDS];
+
+    /**
+     * Creates the report of {@code moduleClass} with {@code studentReports}, one for each of its students.
+     */
+    public ClassReport(ModuleClass moduleClass, List<StudentReport> studentReports) {
+        requireAllNonNull(moduleClass, studentReports);
+
+        this.moduleClass = moduleClass;
+        this.studentReports = Collections.unmodifiableList(studentReports);
+        for (StudentReport studentReport : studentReports) {
+            if (studentReport.getStatistics().hasAttended()) {
+                distribution[getBand(studentReport.getStatistics().getAverageScore())]++;
+            }
+        }
+    }
+
+    /**
+     * Returns the reports of {@code moduleClasses}, in the same order, where the {@code Student} of each
+     * {@code UUID} is given by {@code studentLookup}.
+     * The reports are computed in parallel across classes, lessons and students in the common
+     * {@code ForkJoinPool}.
+     */
+    public static List<ClassReport> of(List<ModuleClass> moduleClasses, Function<UUID, Student> studentLookup) {
+        return of(moduleClasses, studentLookup, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns the reports of {@code moduleClasses} as in {@link #of(List, Function)}, computed in {@code pool}.
+     */
+    static List<ClassReport> of(List<ModuleClass> moduleClasses, Function<UUID, Student> studentLookup,
+            ForkJoinPool pool) {
+        requireAllNonNull(moduleClasses, studentLookup, pool);
+
+        return pool.invoke(new ClassReportTask.AllClasses(moduleClasses, studentLookup));
+    }
+
+    /**
+     * Returns the band of {@code averageScore} in the distribution.
+     */
+    public static int getBand(double averageScore) {
+        return Math.min((int) (averageScore - Attendance.LOWER_BOUND) / BAND_WIDTH, NUMBER_OF_BANDS - 1);
+    }
+
+    public ModuleClass getModuleClass() {
+        return moduleClass;
+    }
+
+    /**
+     * Returns the reports of the students of the class in order of their names, as an immutable list.
+     */
+    public List<StudentReport> getStudentReports() {
+        return studentReports;
+    }
+
+    /**
+     * Returns the number of students who have an average participation score in {@code band}.
+     */
+    public int getNumberOfStudentsInBand(int band) {
+        return distribution[band];
+    }
+
+    /**
+     * Returns the number of students without any attendance in the class, who are not in any band.
+     */
+    public int getNumberOfStudentsWithoutAttendance() {
+        return studentReports.size() - Arrays.stream(distribution).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ClassReport // instanceof handles nulls
+                && moduleClass.equals(((ClassReport) other).moduleClass)
+                && studentReports.equals(((ClassReport) other).studentReports));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(moduleClass, studentReports);
+    }
+}
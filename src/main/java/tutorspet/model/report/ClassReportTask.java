@@ -0,0 +1,127 @@
+package tutorspet.model.report;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import tutorspet.model.attendance.ParticipationStatistics;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Computes the {@code ClassReport} of a {@code ModuleClass}.
+ * The statistics of every lesson are computed in a separate subtask, which is split further by ranges of students
+ * in large classes, so that lessons whose attendances are not yet loaded are loaded in parallel.
+ */
+class ClassReportTask extends RecursiveTask<ClassReport> {
+
+    /** The largest number of students whose statistics in a lesson are computed without splitting the task. */
+    static final int STUDENT_THRESHOLD = 128;
+
+    private final ModuleClass moduleClass;
+    private final Function<UUID, Student> studentLookup;
+
+    ClassReportTask(ModuleClass moduleClass, Function<UUID, Student> studentLookup) {
+        this.moduleClass = moduleClass;
+        this.studentLookup = studentLookup;
+    }
+
+    @Override
+    protected ClassReport compute() {
+        List<Student> students = moduleClass.getStudentUuids().stream().map(studentLookup)
+                .sorted(Comparator.comparing(student -> student.getName().fullName))
+                .collect(Collectors.toList());
+        List<Lesson> lessons = moduleClass.getLessons();
+
+        ParticipationStatistics[][] lessonStatistics = new ParticipationStatistics[lessons.size()][students.size()];
+        new LessonStatistics(lessons, students, lessonStatistics, 0, lessons.size(), 0, students.size()).invoke();
+
+        int numberOfWeeks = lessons.stream()
+                .mapToInt(lesson -> lesson.getNumberOfOccurrences().getNumberOfOccurrences()).sum();
+        List<StudentReport> studentReports = new ArrayList<>(students.size());
+        for (int i = 0; i < students.size(); i++) {
+            ParticipationStatistics statistics = ParticipationStatistics.NO_ATTENDANCE;
+            for (ParticipationStatistics[] statisticsOfLesson : lessonStatistics) {
+                statistics = statistics.combine(statisticsOfLesson[i]);
+            }
+            studentReports.add(new StudentReport(students.get(i), statistics, numberOfWeeks));
+        }
+        return new ClassReport(moduleClass, studentReports);
+    }
+
+    /**
+     * Computes the {@code ClassReport}s of several {@code ModuleClass}es, with a {@code ClassReportTask} for each.
+     */
+    static class AllClasses extends RecursiveTask<List<ClassReport>> {
+
+        private final List<ModuleClass> moduleClasses;
+        private final Function<UUID, Student> studentLookup;
+
+        AllClasses(List<ModuleClass> moduleClasses, Function<UUID, Student> studentLookup) {
+            this.moduleClasses = moduleClasses;
+            this.studentLookup = studentLookup;
+        }
+
+        @Override
+        protected List<ClassReport> compute() {
+            List<ClassReportTask> tasks = moduleClasses.stream()
+                    .map(moduleClass -> new ClassReportTask(moduleClass, studentLookup))
+                    .collect(Collectors.toList());
+            return invokeAll(tasks).stream().map(ClassReportTask::join).collect(Collectors.toUnmodifiableList());
+        }
+    }
+
+    /**
+     * Fills in the {@code ParticipationStatistics} of a range of students in a range of lessons, where
+     * {@code statistics[i][j]} is that of the student at index {@code j} in the lesson at index {@code i}.
+     */
+    private static class LessonStatistics extends RecursiveAction {
+
+        private final List<Lesson> lessons;
+        private final List<Student> students;
+        private final ParticipationStatistics[][] statistics;
+        private final int fromLesson;
+        private final int toLesson;
+        private final int fromStudent;
+        private final int toStudent;
+
+        LessonStatistics(List<Lesson> lessons, List<Student> students, ParticipationStatistics[][] statistics,
+                int fromLesson, int toLesson, int fromStudent, int toStudent) {
+            this.lessons = lessons;
+            this.students = students;
+            this.statistics = statistics;
+            this.fromLesson = fromLesson;
+            this.toLesson = toLesson;
+            this.fromStudent = fromStudent;
+            this.toStudent = toStudent;
+        }
+
+        @Override
+        protected void compute() {
+            if (toLesson - fromLesson > 1) {
+                int middle = (fromLesson + toLesson) >>> 1;
+                invokeAll(new LessonStatistics(lessons, students, statistics, fromLesson, middle, fromStudent,
+                        toStudent), new LessonStatistics(lessons, students, statistics, middle, toLesson,
+                        fromStudent, toStudent));
+            } else if (toStudent - fromStudent > STUDENT_THRESHOLD) {
+                int middle = (fromStudent + toStudent) >>> 1;
+                invokeAll(new LessonStatistics(lessons, students, statistics, fromLesson, toLesson, fromStudent,
+                        middle), new LessonStatistics(lessons, students, statistics, fromLesson, toLesson, middle,
+                        toStudent));
+            } else {
+                for (int lesson = fromLesson; lesson < toLesson; lesson++) {
+                    for (int student = fromStudent; student < toStudent; student++) {
+                        statistics[lesson][student] = lessons.get(lesson).getAttendanceRecordList()
+                                .getParticipationStatistics(students.get(student));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package tutorspet.model.report;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import tutorspet.model.attendance.ParticipationStatistics;
+import tutorspet.model.student.Student;
+
+/**
+ * Represents the attendance of a {@code Student} over all lessons of a class in a {@code ClassReport}.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class StudentReport {
+
+    private final Student student;
+    private final ParticipationStatistics statistics;
+    private final int numberOfWeeks;
+
+    /**
+     * Creates the report of {@code student}, who has {@code statistics} over the {@code numberOfWeeks} weeks of all
+     * lessons of a class.
+     */
+    public StudentReport(Student student, ParticipationStatistics statistics, int numberOfWeeks) {
+        requireAllNonNull(student, statistics);
+        assert statistics.getNumberOfWeeksAttended() <= numberOfWeeks;
+
+        this.student = student;
+        this.statistics = statistics;
+        this.numberOfWeeks = numberOfWeeks;
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    public ParticipationStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the total number of weeks of all lessons of the class.
+     */
+    public int getNumberOfWeeks() {
+        return numberOfWeeks;
+    }
+
+    /**
+     * Returns the number of weeks of all lessons of the class in which the {@code Student} has no attendance.
+     */
+    public int getNumberOfAbsentWeeks() {
+        return numberOfWeeks - statistics.getNumberOfWeeksAttended();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StudentReport)) {
+            return false;
+        }
+
+        StudentReport otherReport = (StudentReport) other;
+        return otherReport.student.equals(student)
+                && otherReport.statistics.equals(statistics)
+                && otherReport.numberOfWeeks == numberOfWeeks;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(student, statistics, numberOfWeeks);
+    }
+}
@@ -1,25 +1,33 @@
 package tutorspet.model.student;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Student}'s {@code UUID} is in the given collection.
+ * The collection is copied into a set, so that testing each {@code Student} is a single hash lookup rather than a
+ * scan of the collection.
  */
 public class StudentInUuidCollectionPredicate implements Predicate<Student> {
 
-    private final Collection<UUID> studentUuids;
+    private final Set<UUID> studentUuids;
 
+    /**
+     * Creates a StudentInUuidCollectionPredicate to test for the {@code UUID}s in {@code studentUuids}.
+     */
     public StudentInUuidCollectionPredicate(Collection<UUID> studentUuids) {
-        this.studentUuids = studentUuids;
+        requireNonNull(studentUuids);
+
+        this.studentUuids = Set.copyOf(studentUuids);
     }
 
     @Override
     public boolean test(Student student) {
-        return studentUuids.stream().anyMatch(uuid -> student.getUuid().equals(uuid));
+        return studentUuids.contains(student.getUuid());
     }
 
     @Override
@@ -32,11 +40,8 @@ public class StudentInUuidCollectionPredicate implements Predicate<Student> {
             return false;
         }
 
-        // We can ignore duplicate UUIDs provided in a list as a given student
-        // either matches none or all.
-        Set<UUID> uuids = new HashSet<>(studentUuids);
-        Set<UUID> otherUuids = new HashSet<>(((StudentInUuidCollectionPredicate) other).studentUuids);
-
-        return uuids.equals(otherUuids);
+        // Duplicate UUIDs provided in a list are already dropped, as a given student
+        // either matches none or all of them.
+        return studentUuids.equals(((StudentInUuidCollectionPredicate) other).studentUuids);
     }
 }
@@ -0,0 +1,51 @@
+package tutorspet.model.student;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Orders {@code Student}s by their position in a ranking of students, from the first to the last.
+ * Students are identified by their {@code UUID}, so that an edited student keeps its rank. Students that are not in
+ * the ranking come after every ranked student.
+ */
+public class StudentRankingComparator implements Comparator<Student> {
+
+    private final Map<UUID, Integer> ranks = new HashMap<>();
+
+    /**
+     * Creates a StudentRankingComparator that orders students as in {@code rankedStudents}.
+     */
+    public StudentRankingComparator(List<Student> rankedStudents) {
+        requireAllNonNull(rankedStudents);
+
+        for (int i = 0; i < rankedStudents.size(); i++) {
+            ranks.putIfAbsent(rankedStudents.get(i).getUuid(), i);
+        }
+    }
+
+    @Override
+    public int compare(Student student, Student otherStudent) {
+        return Integer.compare(getRank(student), getRank(otherStudent));
+    }
+
+    private int getRank(Student student) {
+        return ranks.getOrDefault(student.getUuid(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudentRankingComparator // instanceof handles nulls
+                && ranks.equals(((StudentRankingComparator) other).ranks)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ranks.hashCode();
+    }
+}
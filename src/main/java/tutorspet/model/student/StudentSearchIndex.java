@@ -0,0 +1,226 @@
+package tutorspet.model.student;
+
+import static tutorspet.commons.util.StringUtil.isWithinEditDistance;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import tutorspet.model.components.tag.Tag;
+
+/**
+ * An index of the words in the {@code Name}, {@code Telegram}, {@code Email} and {@code Tag}s of students, ignoring
+ * case, for searching students by whole words, prefixes of words and words with small typos.
+ * Words are kept in a sorted map, so that the words starting with a prefix are a contiguous range of the map.
+ * Every word is also indexed by its trigrams, so that only the words sharing one of the least common trigrams of a
+ * keyword are compared against the keyword when looking for typos.
+ */
+class StudentSearchIndex {
+
+    /** The score of a student with a word equal to a keyword. */
+    static final int EXACT_MATCH_SCORE = 3;
+    /** The score of a student with a word starting with a keyword. */
+    static final int PREFIX_MATCH_SCORE = 2;
+    /** The score of a student with a word within a small edit distance of a keyword. */
+    static final int FUZZY_MATCH_SCORE = 1;
+
+    /** The length of the shortest keyword that is matched with typos, as shorter keywords match too many words. */
+    static final int MIN_FUZZY_KEYWORD_LENGTH = 4;
+    /** The length of the shortest keyword that is matched with two typos rather than one. */
+    static final int MIN_TWO_TYPOS_KEYWORD_LENGTH = 8;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+    private static final String TRIGRAM_PADDING = " ";
+
+    private final NavigableMap<String, Set<UUID>> studentsByWord = new TreeMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Adds the words of {@code student} to the index.
+     */
+    void add(Student student) {
+        UUID studentUuid = student.getUuid();
+        for (String word : getWords(student)) {
+            Set<UUID> studentUuids = studentsByWord.get(word);
+            if (studentUuids == null) {
+                // most words belong to a single student, so they start with an immutable singleton set
+                studentsByWord.put(word, Set.of(studentUuid));
+                for (String trigram : getTrigramsToIndex(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            } else if (studentUuids.size() == 1) {
+                Set<UUID> newStudentUuids = new HashSet<>(studentUuids);
+                newStudentUuids.add(studentUuid);
+                studentsByWord.put(word, newStudentUuids);
+            } else {
+                studentUuids.add(studentUuid);
+            }
+        }
+    }
+
+    /**
+     * Removes the words of {@code student} from the index.
+     * {@code student} must have been added to the index.
+     */
+    void remove(Student student) {
+        for (String word : getWords(student)) {
+            Set<UUID> studentUuids = studentsByWord.get(word);
+            if (studentUuids.size() > 1) {
+                studentUuids.remove(student.getUuid());
+                continue;
+            }
+
+            studentsByWord.remove(word);
+            for (String trigram : getTrigramsToIndex(word)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of the contents of {@code replacement}.
+     */
+    void setAll(StudentSearchIndex replacement) {
+        studentsByWord.clear();
+        replacement.studentsByWord.forEach((word, studentUuids) ->
+                studentsByWord.put(word, studentUuids.size() == 1 ? studentUuids : new HashSet<>(studentUuids)));
+        wordsByTrigram.clear();
+        replacement.wordsByTrigram.forEach((trigram, words) -> wordsByTrigram.put(trigram, new HashSet<>(words)));
+    }
+
+    /**
+     * Removes every student from the index.
+     */
+    void clear() {
+        studentsByWord.clear();
+        wordsByTrigram.clear();
+    }
+
+    /**
+     * Returns the score of every student with a word matching any of {@code keywords}, by the {@code UUID} of the
+     * student.
+     * For each keyword, a student scores {@link #EXACT_MATCH_SCORE}, {@link #PREFIX_MATCH_SCORE} or
+     * {@link #FUZZY_MATCH_SCORE} for the best matching word of the student, and the score of the student is the sum
+     * of these over all keywords.
+     */
+    Map<UUID, Integer> search(List<String> keywords) {
+        Map<UUID, Integer> scores = new HashMap<>();
+        for (String keyword : keywords) {
+            String normalizedKeyword = normalize(keyword.trim());
+            if (normalizedKeyword.isEmpty()) {
+                continue;
+            }
+
+            Map<UUID, Integer> keywordScores = new HashMap<>();
+            studentsByWord.subMap(normalizedKeyword, true, normalizedKeyword + Character.MAX_VALUE, false)
+                    .forEach((word, studentUuids) -> {
+                        int score = word.length() == normalizedKeyword.length()
+                                ? EXACT_MATCH_SCORE
+                                : PREFIX_MATCH_SCORE;
+                        studentUuids.forEach(studentUuid -> keywordScores.merge(studentUuid, score, Math::max));
+                    });
+            for (String word : findWordsWithTypos(normalizedKeyword)) {
+                studentsByWord.get(word).forEach(studentUuid ->
+                        keywordScores.merge(studentUuid, FUZZY_MATCH_SCORE, Math::max));
+            }
+            keywordScores.forEach((studentUuid, score) -> scores.merge(studentUuid, score, Integer::sum));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the words in the index that are within the allowed number of typos of {@code keyword}, excluding the
+     * words starting with {@code keyword}.
+     * A single typo changes at most three trigrams of a word, so a matching word shares all but at most
+     * {@code 3 * maxTypos} of the trigrams of {@code keyword}, and must therefore be among the words of the
+     * {@code 3 * maxTypos + 1} least common of those trigrams. Only those words are compared against {@code keyword}.
+     */
+    private Set<String> findWordsWithTypos(String keyword) {
+        if (keyword.length() < MIN_FUZZY_KEYWORD_LENGTH) {
+            return Set.of();
+        }
+
+        int maxTypos = keyword.length() < MIN_TWO_TYPOS_KEYWORD_LENGTH ? 1 : 2;
+        List<Set<String>> wordsOfTrigrams = getTrigrams(keyword).stream()
+                .map(trigram -> wordsByTrigram.getOrDefault(trigram, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        int numberOfTrigramsToSearch = Math.min(wordsOfTrigrams.size(), 3 * maxTypos + 1);
+
+        Set<String> comparedWords = new HashSet<>();
+        Set<String> words = new HashSet<>();
+        for (Set<String> wordsOfTrigram : wordsOfTrigrams.subList(0, numberOfTrigramsToSearch)) {
+            for (String word : wordsOfTrigram) {
+                if (Math.abs(word.length() - keyword.length()) <= maxTypos && comparedWords.add(word)
+                        && !word.startsWith(keyword) && isWithinEditDistance(keyword, word, maxTypos)) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the words of the {@code Name}, {@code Telegram}, {@code Email} and {@code Tag}s of {@code student}.
+     * The {@code Email} is included both in full and split into its alphanumeric parts.
+     */
+    private static Set<String> getWords(Student student) {
+        Set<String> words = new HashSet<>();
+        addWords(words, WHITESPACE, student.getName().fullName);
+        words.add(normalize(student.getTelegram().value));
+        words.add(normalize(student.getEmail().value));
+        addWords(words, NON_ALPHANUMERIC, student.getEmail().value);
+        for (Tag tag : student.getTags()) {
+            addWords(words, WHITESPACE, tag.tagName);
+        }
+        return words;
+    }
+
+    private static void addWords(Set<String> words, Pattern separator, String text) {
+        for (String word : separator.split(text)) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+    }
+
+    /**
+     * Returns the trigrams of {@code word} to index, which are none for a full {@code Email}.
+     * A full {@code Email} is only matched in full or by a prefix, as its parts are matched with typos on their own,
+     * and its trigrams would take up as much of the index as those of every other word.
+     */
+    private static Set<String> getTrigramsToIndex(String word) {
+        return word.indexOf('@') < 0 ? getTrigrams(word) : Set.of();
+    }
+
+    /**
+     * Returns the trigrams of {@code word}, padded so that the first and last characters of {@code word} are in
+     * trigrams of their own.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = TRIGRAM_PADDING + TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,11 +3,18 @@ package tutorspet.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import tutorspet.model.ObservedArrayList;
+import tutorspet.model.ObservedList;
+import tutorspet.model.components.name.NameIndex;
 import tutorspet.model.student.exceptions.DuplicateStudentException;
 import tutorspet.model.student.exceptions.StudentNotFoundException;
 
@@ -19,14 +26,26 @@ import tutorspet.model.student.exceptions.StudentNotFoundException;
  * Student#equals(Object) so as to ensure that the student with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Students are additionally indexed by {@code Telegram}, {@code Email} and {@code UUID} so that identity checks do
+ * not require a scan of the whole list, and by the words of their {@code Name} so that finding students by name
+ * does not either. The indexes are kept in sync with the list on every mutation.
+ * The position of every student is indexed by its {@code Telegram}, which is unique in the list, so that replacing or
+ * removing a student does not search the list for it. Removing a student shifts the students after it, so their
+ * positions are updated in time proportional to the number of students after it, in the same way as the list itself.
+ * The words of their {@code Name}, {@code Telegram}, {@code Email} and {@code Tag}s are also indexed for searching by
+ * prefixes and with typos, so that the first search after the list is loaded is as fast as later ones.
  *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Student> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final ObservedArrayList<Student> internalList = new ObservedArrayList<>();
+    private final Map<Telegram, Student> telegramIndex = new HashMap<>();
+    private final Map<Email, Student> emailIndex = new HashMap<>();
+    private final Map<UUID, Student> uuidIndex = new HashMap<>();
+    private final Map<Telegram, Integer> positionIndex = new HashMap<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private final StudentSearchIndex searchIndex = new StudentSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
@@ -34,7 +53,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return telegramIndex.containsKey(toCheck.getTelegram()) || emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -44,7 +63,10 @@ public class UniqueStudentList implements Iterable<Student> {
     public boolean contains(Student target, Student toCheck) {
         requireAllNonNull(target, toCheck);
 
-        return internalList.stream().filter(s -> !s.equals(target)).anyMatch(toCheck::isSameStudent);
+        Student sameTelegram = telegramIndex.get(toCheck.getTelegram());
+        Student sameEmail = emailIndex.get(toCheck.getEmail());
+        return (sameTelegram != null && !sameTelegram.equals(target))
+                || (sameEmail != null && !sameEmail.equals(target));
     }
 
     /**
@@ -53,7 +75,68 @@ public class UniqueStudentList implements Iterable<Student> {
     public boolean containsUuid(Student toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::hasSameUuid);
+        return uuidIndex.containsKey(toCheck.getUuid());
+    }
+
+    /**
+     * Returns the student with the given UUID.
+     *
+     * @throws StudentNotFoundException if there is no student with the given UUID in the list.
+     */
+    public Student getStudent(UUID uuid) {
+        requireNonNull(uuid);
+
+        Student student = uuidIndex.get(uuid);
+        if (student == null) {
+            throw new StudentNotFoundException();
+        }
+        return student;
+    }
+
+    /**
+     * Returns a predicate that tests if a student's name contains any of {@code keywords}, ignoring case, in the same
+     * way as {@code NameContainsKeywordsPredicate}, but which looks the matching names up in the name index of this
+     * list.
+     * The predicate stays in sync with the list as it changes.
+     */
+    public Predicate<Student> createNamePredicate(List<String> keywords) {
+        requireAllNonNull(keywords);
+
+        return nameIndex.createPredicate(keywords);
+    }
+
+    /**
+     * Returns the students with a word in their name, telegram, email or tags that matches any of {@code keywords},
+     * ignoring case, in full, as a prefix or with a small typo, from the best match to the worst.
+     * Students matching more keywords, or matching them more closely, rank higher, and students who rank equally are
+     * in the order of the list.
+     */
+    public List<Student> search(List<String> keywords) {
+        requireAllNonNull(keywords);
+
+        Map<UUID, Integer> scores = searchIndex.search(keywords);
+        if (scores.isEmpty()) {
+            return List.of();
+        }
+
+        // scores are small, so the students are ranked by bucketing them by score in the order of the list
+        List<List<Student>> studentsByScore = new ArrayList<>();
+        for (Student student : internalList) {
+            Integer score = scores.get(student.getUuid());
+            if (score == null) {
+                continue;
+            }
+            while (studentsByScore.size() <= score) {
+                studentsByScore.add(new ArrayList<>());
+            }
+            studentsByScore.get(score).add(student);
+        }
+
+        List<Student> rankedStudents = new ArrayList<>(scores.size());
+        for (int score = studentsByScore.size() - 1; score > 0; score--) {
+            rankedStudents.addAll(studentsByScore.get(score));
+        }
+        return Collections.unmodifiableList(rankedStudents);
     }
 
     /**
@@ -66,7 +149,9 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(toAdd);
+        positionIndex.put(toAdd.getTelegram(), internalList.size());
+        internalList.append(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -77,22 +162,34 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Student existingTarget = findEquivalent(target);
+        if (existingTarget == null) {
             throw new StudentNotFoundException();
         }
 
-        if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
+        if (contains(target, editedStudent)) {
             throw new DuplicateStudentException();
         }
 
-        internalList.set(index, editedStudent);
+        int index = positionIndex.remove(existingTarget.getTelegram());
+        positionIndex.put(editedStudent.getTelegram(), index);
+        internalList.replace(index, editedStudent);
+        unindex(existingTarget);
+        index(editedStudent);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setStudent(UniqueStudentList replacement) {
         requireNonNull(replacement);
 
         internalList.setAll(replacement.internalList);
+        replaceIndexes(replacement.telegramIndex, replacement.emailIndex, replacement.uuidIndex);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
+        nameIndex.setAll(replacement.nameIndex);
+        searchIndex.setAll(replacement.searchIndex);
     }
 
     /**
@@ -102,11 +199,29 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(List<Student> students) {
         requireAllNonNull(students);
 
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        Map<Telegram, Student> newTelegramIndex = new HashMap<>();
+        Map<Email, Student> newEmailIndex = new HashMap<>();
+        Map<UUID, Student> newUuidIndex = new HashMap<>();
+        for (Student student : students) {
+            if (newTelegramIndex.putIfAbsent(student.getTelegram(), student) != null
+                    || newEmailIndex.putIfAbsent(student.getEmail(), student) != null) {
+                throw new DuplicateStudentException();
+            }
+            newUuidIndex.put(student.getUuid(), student);
         }
 
         internalList.setAll(students);
+        replaceIndexes(newTelegramIndex, newEmailIndex, newUuidIndex);
+        positionIndex.clear();
+        for (int i = 0; i < students.size(); i++) {
+            positionIndex.put(students.get(i).getTelegram(), i);
+        }
+        nameIndex.clear();
+        searchIndex.clear();
+        students.forEach(student -> {
+            nameIndex.add(student.getName());
+            searchIndex.add(student);
+        });
     }
 
     /**
@@ -116,16 +231,55 @@ public class UniqueStudentList implements Iterable<Student> {
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        Student existingStudent = findEquivalent(toRemove);
+        if (existingStudent == null) {
             throw new StudentNotFoundException();
         }
+
+        int index = positionIndex.remove(existingStudent.getTelegram());
+        internalList.delete(index);
+        reindexFrom(index);
+        unindex(existingStudent);
+    }
+
+    /**
+     * Replaces the students from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}, leaving the rest of the list untouched.
+     * This is used to restore a previous version of the list in time proportional to the size of the change.
+     *
+     * @throws DuplicateStudentException if a student in {@code replacement} is equivalent to another student in the
+     * resulting list. The list is unchanged in that case.
+     */
+    public void replaceStudents(int fromIndex, int toIndex, List<Student> replacement) {
+        requireAllNonNull(replacement);
+
+        List<Student> replaced = new ArrayList<>(internalList.subList(fromIndex, toIndex));
+        replaced.forEach(this::unindex);
+        for (int i = 0; i < replacement.size(); i++) {
+            if (contains(replacement.get(i))) {
+                replacement.subList(0, i).forEach(this::unindex);
+                replaced.forEach(this::index);
+                throw new DuplicateStudentException();
+            }
+            index(replacement.get(i));
+        }
+
+        replaced.forEach(student -> positionIndex.remove(student.getTelegram()));
+        internalList.replaceRange(fromIndex, toIndex, replacement);
+        if (replacement.size() == toIndex - fromIndex) {
+            for (int i = 0; i < replacement.size(); i++) {
+                positionIndex.put(replacement.get(i).getTelegram(), fromIndex + i);
+            }
+        } else {
+            reindexFrom(fromIndex);
+        }
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an {@code ObservedList}, which cannot be modified through the {@code List} interface.
      */
-    public ObservableList<Student> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+    public ObservedList<Student> asUnmodifiableObservedList() {
+        return internalList;
     }
 
     @Override
@@ -146,16 +300,44 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the student in the list that is equal to {@code toFind} as defined by {@code Student#equals(Object)},
+     * or null if there is no such student.
+     * Since telegrams are unique in the list, the only candidate is the student with the same telegram.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
-            }
+    private Student findEquivalent(Student toFind) {
+        Student candidate = telegramIndex.get(toFind.getTelegram());
+        return candidate != null && candidate.equals(toFind) ? candidate : null;
+    }
+
+    private void replaceIndexes(Map<Telegram, Student> newTelegramIndex, Map<Email, Student> newEmailIndex,
+                                Map<UUID, Student> newUuidIndex) {
+        telegramIndex.clear();
+        telegramIndex.putAll(newTelegramIndex);
+        emailIndex.clear();
+        emailIndex.putAll(newEmailIndex);
+        uuidIndex.clear();
+        uuidIndex.putAll(newUuidIndex);
+    }
+
+    private void reindexFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getTelegram(), i);
         }
-        return true;
+    }
+
+    private void index(Student student) {
+        telegramIndex.put(student.getTelegram(), student);
+        emailIndex.put(student.getEmail(), student);
+        uuidIndex.put(student.getUuid(), student);
+        nameIndex.add(student.getName());
+        searchIndex.add(student);
+    }
+
+    private void unindex(Student student) {
+        telegramIndex.remove(student.getTelegram(), student);
+        emailIndex.remove(student.getEmail(), student);
+        uuidIndex.remove(student.getUuid(), student);
+        nameIndex.remove(student.getName());
+        searchIndex.remove(student);
     }
 }
@@ -0,0 +1,245 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.StringUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.attendance.exceptions.AttendanceLoadingException;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * A {@code TutorsPetStorage} that saves TutorsPet data on a dedicated writer thread, so that the caller does not wait
+ * for the disk.
+ *
+ * {@link #saveTutorsPet(ReadOnlyTutorsPet)} only takes a snapshot of the data and returns. If several saves are
+ * requested while the writer thread is busy, only the latest snapshot is written. The outcome of every background
+ * write is reported to the {@code SaveListener}, on the writer thread.
+ * Every requested save is numbered, so that {@link #hasPendingSaves()} can tell whether the latest request has been
+ * written, even when the listener reports the outcome of an older one.
+ */
+public class AsyncTutorsPetStorage implements TutorsPetStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncTutorsPetStorage.class);
+
+    private final TutorsPetStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tutorspet-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<Snapshot> pendingSnapshot = new AtomicReference<>();
+    private final AtomicLong requestedSaves = new AtomicLong();
+    // the number of the latest requested save whose data has been written
+    private volatile long writtenSaves = 0;
+
+    private volatile Snapshot failedSnapshot;
+    private volatile SaveListener saveListener = new SaveListener() {
+        @Override
+        public void saveSucceeded() {}
+
+        @Override
+        public void saveFailed(IOException ioe) {}
+    };
+
+    /**
+     * Creates an {@code AsyncTutorsPetStorage} that writes to {@code storage}.
+     * {@code storage} must not be used directly afterwards.
+     */
+    public AsyncTutorsPetStorage(TutorsPetStorage storage) {
+        requireNonNull(storage);
+
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the listener that is notified of the outcome of background saves.
+     */
+    public void setSaveListener(SaveListener saveListener) {
+        requireNonNull(saveListener);
+
+        this.saveListener = saveListener;
+    }
+
+    @Override
+    public Path getTutorsPetFilePath() {
+        return storage.getTutorsPetFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException, IOException {
+        synchronized (storage) {
+            return storage.readTutorsPet();
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException, IOException {
+        synchronized (storage) {
+            return storage.readTutorsPet(filePath);
+        }
+    }
+
+    /**
+     * Schedules a snapshot of {@code tutorsPet} to be saved on the writer thread, replacing any snapshot that has not
+     * been written yet.
+     */
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) {
+        requireNonNull(tutorsPet);
+
+        if (pendingSnapshot.getAndSet(new Snapshot(tutorsPet, requestedSaves.incrementAndGet())) == null) {
+            writer.execute(this::writePendingSnapshot);
+        }
+    }
+
+    /**
+     * Saves {@code tutorsPet} at {@code filePath} before returning.
+     * If {@code filePath} is the file path of this storage, the snapshot waiting to be written is discarded as it is
+     * older than {@code tutorsPet}.
+     */
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+
+        synchronized (storage) {
+            if (!filePath.equals(getTutorsPetFilePath())) {
+                storage.saveTutorsPet(tutorsPet, filePath);
+                return;
+            }
+
+            pendingSnapshot.set(null);
+            failedSnapshot = null;
+            long discardedSaves = requestedSaves.get();
+            storage.saveTutorsPet(tutorsPet, filePath);
+            writtenSaves = discardedSaves;
+        }
+    }
+
+    /**
+     * Returns true if the latest requested save has not been written yet, or could not be written.
+     */
+    @Override
+    public boolean hasPendingSaves() {
+        return writtenSaves != requestedSaves.get();
+    }
+
+    /**
+     * Waits for the snapshot waiting to be written, retries the last background save if it failed, and flushes the
+     * underlying storage.
+     *
+     * @throws IOException if the data could not be saved.
+     */
+    @Override
+    public void flushTutorsPet() throws IOException {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for pending saves");
+        } catch (ExecutionException e) {
+            throw new AssertionError("Waiting for pending saves should not fail.", e);
+        }
+
+        synchronized (storage) {
+            Snapshot unsaved = failedSnapshot;
+            if (unsaved != null) {
+                storage.saveTutorsPet(unsaved);
+                failedSnapshot = null;
+                writtenSaves = unsaved.requestNumber;
+            }
+            storage.flushTutorsPet();
+        }
+    }
+
+    /**
+     * Writes the latest snapshot, if it has not been written yet.
+     * The snapshot is taken while holding the lock on the storage, so that it cannot overwrite a newer
+     * snapshot saved by {@link #saveTutorsPet(ReadOnlyTutorsPet, Path)}.
+     */
+    private void writePendingSnapshot() {
+        try {
+            synchronized (storage) {
+                Snapshot snapshot = pendingSnapshot.getAndSet(null);
+                if (snapshot == null) {
+                    return;
+                }
+
+                try {
+                    storage.saveTutorsPet(snapshot);
+                    failedSnapshot = null;
+                    writtenSaves = snapshot.requestNumber;
+                } catch (IOException ioe) {
+                    failedSnapshot = snapshot;
+                    throw ioe;
+                } catch (AttendanceLoadingException e) {
+                    // attendance that is loaded lazily and cannot be loaded cannot be saved either
+                    failedSnapshot = snapshot;
+                    throw new IOException(e.getMessage(), e);
+                }
+            }
+            saveListener.saveSucceeded();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data file " + StringUtil.getDetails(ioe));
+            saveListener.saveFailed(ioe);
+        }
+    }
+
+    /**
+     * Listener of the outcome of background saves.
+     */
+    public interface SaveListener {
+
+        /**
+         * Called after the latest snapshot has been saved.
+         */
+        void saveSucceeded();
+
+        /**
+         * Called after the latest snapshot could not be saved.
+         */
+        void saveFailed(IOException ioe);
+    }
+
+    /**
+     * An immutable copy of the lists of a {@code ReadOnlyTutorsPet}, with the number of the save that requested it.
+     * Students and classes are immutable, so only the lists are copied.
+     */
+    private static class Snapshot implements ReadOnlyTutorsPet {
+
+        private final List<Student> students;
+        private final List<ModuleClass> moduleClasses;
+        private final long requestNumber;
+
+        Snapshot(ReadOnlyTutorsPet toCopy, long requestNumber) {
+            students = List.copyOf(toCopy.getStudentList());
+            moduleClasses = List.copyOf(toCopy.getModuleClassList());
+            this.requestNumber = requestNumber;
+        }
+
+        @Override
+        public List<Student> getStudentList() {
+            return students;
+        }
+
+        @Override
+        public List<ModuleClass> getModuleClassList() {
+            return moduleClasses;
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutorspet.storage.JsonAdaptedLesson.END_TIME_FIELD;
+import static tutorspet.storage.JsonAdaptedLesson.INVALID_FIELD_MESSAGE_FORMAT;
+import static tutorspet.storage.JsonAdaptedLesson.START_TIME_FIELD;
+import static tutorspet.storage.JsonAdaptedModuleClass.DUPLICATE_LESSON_MESSAGE_FORMAT;
+import static tutorspet.storage.JsonAdaptedModuleClass.MESSAGE_INVALID_STUDENTS_IN_LESSON;
+import static tutorspet.storage.JsonAdaptedModuleClass.OVERLAP_LESSON_MESSAGE_FORMAT;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_STUDENT;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ObjIntConsumer;
+import java.util.zip.CRC32;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * Reads TutorsPet data from a binary file written by {@link BinaryTutorsPetWriter}.
+ *
+ * The file starts with {@link #MAGIC_NUMBER} and the version of its format, and ends with the CRC32 checksum of
+ * everything before it, which is verified before any data is read. In between are the students, each with its UUID
+ * as two longs, followed by the classes, which refer to students by their position in the list of students.
+ * Counts, lengths and small numbers are written as variable-length integers, and strings as UTF-8 bytes.
+ * The data is validated in the same way as {@link JsonSerializableTutorsPet#toModelType()}.
+ *
+ * The attendance records of each lesson may instead be validated without being converted into the model, and kept
+ * as a copy of their bytes until they are first needed.
+ */
+class BinaryTutorsPetReader {
+
+    /** The first four bytes of every binary data file, "TPET" in ASCII. */
+    public static final int MAGIC_NUMBER = 0x54504554;
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "Tutor's Pet data is not a binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Tutor's Pet data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED = "Tutor's Pet data file is corrupted.";
+
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+    private static final int MAX_VAR_INT_LENGTH = 5;
+
+    private final ByteBuffer buffer;
+    private final boolean isAttendanceLoadedLazily;
+    private final TutorsPet tutorsPet = new TutorsPet();
+    private final List<Student> students;
+
+    private BinaryTutorsPetReader(ByteBuffer buffer, List<Student> students, boolean isAttendanceLoadedLazily) {
+        this.buffer = buffer;
+        this.students = students;
+        this.isAttendanceLoadedLazily = isAttendanceLoadedLazily;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with {@link #MAGIC_NUMBER}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        try (InputStream input = Files.newInputStream(filePath)) {
+            byte[] header = input.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC_NUMBER;
+        }
+    }
+
+    /**
+     * Reads the TutorsPet data in the binary file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, is not in the correct format or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorsPet readTutorsPet(Path filePath) throws IOException, IllegalValueException {
+        return readTutorsPet(filePath, false);
+    }
+
+    /**
+     * Reads the TutorsPet data in the binary file at {@code filePath}.
+     *
+     * @param isAttendanceLoadedLazily whether the attendance records of lessons are only converted into the model
+     *                                 when they are first needed.
+     * @throws IOException if the file cannot be read, is not in the correct format or is corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorsPet readTutorsPet(Path filePath, boolean isAttendanceLoadedLazily)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        if (bytes.length < Integer.BYTES + CHECKSUM_LENGTH) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - CHECKSUM_LENGTH);
+        if (buffer.getInt() != MAGIC_NUMBER) {
+            throw new IOException(MESSAGE_NOT_BINARY);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - CHECKSUM_LENGTH);
+        if ((int) checksum.getValue() != ByteBuffer.wrap(bytes, bytes.length - CHECKSUM_LENGTH, CHECKSUM_LENGTH)
+                .getInt()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+
+        try {
+            return new BinaryTutorsPetReader(buffer, new ArrayList<>(), isAttendanceLoadedLazily).read();
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    private TutorsPet read() throws IOException, IllegalValueException {
+        int version = readVarInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int studentCount = readVarInt();
+        for (int i = 0; i < studentCount; i++) {
+            Student student = readStudent();
+            if (tutorsPet.hasStudent(student) || tutorsPet.hasStudentUuid(student)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+            }
+            tutorsPet.addStudent(student);
+            students.add(student);
+        }
+
+        int moduleClassCount = readVarInt();
+        for (int i = 0; i < moduleClassCount; i++) {
+            ModuleClass moduleClass = readModuleClass();
+            if (tutorsPet.hasModuleClass(moduleClass)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE_CLASS);
+            }
+            tutorsPet.addModuleClass(moduleClass);
+        }
+
+        if (buffer.hasRemaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return tutorsPet;
+    }
+
+    private Student readStudent() throws IOException, IllegalValueException {
+        UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+        Name name = readName();
+
+        String telegram = readString();
+        if (!Telegram.isValidTelegram(telegram)) {
+            throw new IllegalValueException(Telegram.MESSAGE_CONSTRAINTS);
+        }
+
+        String email = readString();
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = readVarInt();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString();
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        return new Student(uuid, name, new Telegram(telegram), new Email(email), tags);
+    }
+
+    private ModuleClass readModuleClass() throws IOException, IllegalValueException {
+        Name name = readName();
+
+        Set<UUID> studentUuids = new HashSet<>();
+        int studentCount = readVarInt();
+        for (int i = 0; i < studentCount; i++) {
+            studentUuids.add(readStudentUuid(MESSAGE_INVALID_STUDENTS_IN_CLASS));
+        }
+
+        List<Lesson> lessons = new ArrayList<>();
+        int lessonCount = readVarInt();
+        for (int i = 0; i < lessonCount; i++) {
+            Lesson lesson = readLesson(studentUuids);
+            if (lessons.stream().anyMatch(lesson::isSameLesson)) {
+                throw new IllegalValueException(String.format(DUPLICATE_LESSON_MESSAGE_FORMAT,
+                        ModuleClass.class.getSimpleName()));
+            } else if (lessons.stream().anyMatch(lesson::isOverlapLesson)) {
+                throw new IllegalValueException(String.format(OVERLAP_LESSON_MESSAGE_FORMAT,
+                        ModuleClass.class.getSimpleName()));
+            }
+            lessons.add(lesson);
+        }
+
+        return new ModuleClass(name, studentUuids, lessons);
+    }
+
+    /**
+     * Reads a lesson whose attendances must belong to the students in {@code studentUuids}.
+     */
+    private Lesson readLesson(Set<UUID> studentUuids) throws IOException, IllegalValueException {
+        LocalTime startTime = readTime(START_TIME_FIELD);
+        LocalTime endTime = readTime(END_TIME_FIELD);
+        if (!Lesson.isValidStartTimeEndTime(startTime, endTime)) {
+            throw new IllegalValueException(Lesson.MESSAGE_CONSTRAINTS);
+        }
+
+        int dayIndex = readVarInt();
+        if (dayIndex >= Day.values().length) {
+            throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
+        }
+        Day day = Day.values()[dayIndex];
+
+        String venue = readString();
+        if (!Venue.isValidVenue(venue)) {
+            throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
+        }
+
+        int numberOfOccurrences = readVarInt();
+        if (!NumberOfOccurrences.isValidNumberOfOccurrences(numberOfOccurrences)) {
+            throw new IllegalValueException(NumberOfOccurrences.MESSAGE_CONSTRAINTS);
+        }
+
+        NumberOfOccurrences modelNumberOfOccurrences = new NumberOfOccurrences(numberOfOccurrences);
+        AttendanceRecordList attendanceRecordList;
+        if (isAttendanceLoadedLazily) {
+            int start = buffer.position();
+            for (int i = 0; i < numberOfOccurrences; i++) {
+                readAttendances(studentUuids, (studentUuid, participationScore) -> {});
+            }
+            byte[] records = Arrays.copyOfRange(buffer.array(), start, buffer.position());
+            attendanceRecordList = new AttendanceRecordList(modelNumberOfOccurrences, () ->
+                    loadAttendanceRecords(records, students, studentUuids, numberOfOccurrences));
+        } else {
+            attendanceRecordList = new AttendanceRecordList(readAttendanceRecords(studentUuids, numberOfOccurrences));
+        }
+
+        return new Lesson(startTime, endTime, day, modelNumberOfOccurrences, new Venue(venue), attendanceRecordList);
+    }
+
+    /**
+     * Converts the attendance records in {@code records}, which were validated when they were first read.
+     */
+    private static List<AttendanceRecord> loadAttendanceRecords(byte[] records, List<Student> students,
+            Set<UUID> studentUuids, int numberOfOccurrences) {
+        try {
+            return new BinaryTutorsPetReader(ByteBuffer.wrap(records), students, false)
+                    .readAttendanceRecords(studentUuids, numberOfOccurrences);
+        } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+            throw new AssertionError("Attendance records should have been validated when first read.", e);
+        }
+    }
+
+    private List<AttendanceRecord> readAttendanceRecords(Set<UUID> studentUuids, int numberOfOccurrences)
+            throws IOException, IllegalValueException {
+        List<AttendanceRecord> records = new ArrayList<>();
+        for (int i = 0; i < numberOfOccurrences; i++) {
+            Map<UUID, Attendance> attendances = new HashMap<>();
+            readAttendances(studentUuids, (studentUuid, participationScore) ->
+                    attendances.put(studentUuid, new Attendance(participationScore)));
+            records.add(new AttendanceRecord(attendances));
+        }
+        return records;
+    }
+
+    /**
+     * Reads and validates the attendances of an attendance record, and passes each to {@code attendanceConsumer}.
+     */
+    private void readAttendances(Set<UUID> studentUuids, ObjIntConsumer<UUID> attendanceConsumer)
+            throws IOException, IllegalValueException {
+        int attendanceCount = readVarInt();
+        for (int i = 0; i < attendanceCount; i++) {
+            UUID studentUuid = readStudentUuid(MESSAGE_INVALID_STUDENTS_IN_LESSON);
+            if (!studentUuids.contains(studentUuid)) {
+                throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_LESSON);
+            }
+
+            int participationScore = readVarInt();
+            if (!Attendance.isValidParticipationScore(participationScore)) {
+                throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+            }
+            attendanceConsumer.accept(studentUuid, participationScore);
+        }
+    }
+
+    private Name readName() throws IOException, IllegalValueException {
+        String name = readString();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private LocalTime readTime(String fieldName) throws IOException, IllegalValueException {
+        int secondOfDay = readVarInt();
+        if (secondOfDay > LocalTime.MAX.toSecondOfDay()) {
+            throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return LocalTime.ofSecondOfDay(secondOfDay);
+    }
+
+    /**
+     * Reads the position of a student in the list of students, and returns the UUID of that student.
+     *
+     * @param errorMessage the message of the exception thrown if there is no student at that position.
+     */
+    private UUID readStudentUuid(String errorMessage) throws IOException, IllegalValueException {
+        int index = readVarInt();
+        if (index >= students.size()) {
+            throw new IllegalValueException(errorMessage);
+        }
+        return students.get(index).getUuid();
+    }
+
+    private String readString() throws IOException {
+        int length = readVarInt();
+        if (length > buffer.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        String value = new String(buffer.array(), buffer.position(), length, UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads a non-negative integer written by {@link BinaryTutorsPetWriter} in as few bytes as possible.
+     */
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int i = 0; i < MAX_VAR_INT_LENGTH; i++) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException(MESSAGE_CORRUPTED);
+                }
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_CORRUPTED);
+    }
+}
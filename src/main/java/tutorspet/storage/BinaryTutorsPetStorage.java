@@ -0,0 +1,108 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+
+/**
+ * A class to access TutorsPet data stored as a compact binary file on the hard disk.
+ * A data file in another format found at the file path is still read, see {@link TutorsPetFileReader}.
+ */
+public class BinaryTutorsPetStorage implements TutorsPetStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTutorsPetStorage.class);
+
+    private Path filePath;
+    private final boolean isAttendanceLoadedLazily;
+
+    public BinaryTutorsPetStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryTutorsPetStorage} for the binary file at {@code filePath}.
+     *
+     * @param isAttendanceLoadedLazily whether the attendance records of lessons read are only converted into the
+     *                                 model when they are first needed.
+     */
+    public BinaryTutorsPetStorage(Path filePath, boolean isAttendanceLoadedLazily) {
+        this.filePath = filePath;
+        this.isAttendanceLoadedLazily = isAttendanceLoadedLazily;
+    }
+
+    public Path getTutorsPetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException {
+        return readTutorsPet(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTutorsPet()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(TutorsPetFileReader.readTutorsPet(filePath, isAttendanceLoadedLazily));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinaryTutorsPetWriter.writeTutorsPet(tutorsPet, filePath);
+    }
+
+    /**
+     * Does nothing, as every save is written to the data file immediately.
+     */
+    @Override
+    public void flushTutorsPet() {}
+
+    /**
+     * Returns false, as every save is written to the data file immediately.
+     */
+    @Override
+    public boolean hasPendingSaves() {
+        return false;
+    }
+}
@@ -0,0 +1,149 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutorspet.storage.BinaryTutorsPetReader.FORMAT_VERSION;
+import static tutorspet.storage.BinaryTutorsPetReader.MAGIC_NUMBER;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Writes TutorsPet data to a binary file in the format read by {@link BinaryTutorsPetReader}.
+ *
+ * Students are written first and form a dictionary, so that the students of a class and the attendances of a lesson
+ * refer to a student by its position in the dictionary instead of repeating its UUID.
+ */
+class BinaryTutorsPetWriter {
+
+    private final DataOutputStream output;
+    private final Map<UUID, Integer> studentIndices = new HashMap<>();
+
+    private BinaryTutorsPetWriter(DataOutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Writes {@code tutorsPet} to the binary file at {@code filePath}, replacing its contents.
+     *
+     * @throws IOException if there was an error writing to the file, or if a class refers to a student that is not
+     *                     in {@code tutorsPet}.
+     */
+    public static void writeTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+
+        CRC32 checksum = new CRC32();
+        try (OutputStream fileOutput = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+            new BinaryTutorsPetWriter(new DataOutputStream(new CheckedOutputStream(fileOutput, checksum)))
+                    .write(tutorsPet);
+            // the checksum of everything written before it
+            new DataOutputStream(fileOutput).writeInt((int) checksum.getValue());
+        }
+    }
+
+    private void write(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        output.writeInt(MAGIC_NUMBER);
+        writeVarInt(FORMAT_VERSION);
+
+        List<Student> students = tutorsPet.getStudentList();
+        writeVarInt(students.size());
+        for (Student student : students) {
+            studentIndices.put(student.getUuid(), studentIndices.size());
+            writeStudent(student);
+        }
+
+        List<ModuleClass> moduleClasses = tutorsPet.getModuleClassList();
+        writeVarInt(moduleClasses.size());
+        for (ModuleClass moduleClass : moduleClasses) {
+            writeModuleClass(moduleClass);
+        }
+    }
+
+    private void writeStudent(Student student) throws IOException {
+        output.writeLong(student.getUuid().getMostSignificantBits());
+        output.writeLong(student.getUuid().getLeastSignificantBits());
+        writeString(student.getName().fullName);
+        writeString(student.getTelegram().value);
+        writeString(student.getEmail().value);
+        writeVarInt(student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            writeString(tag.tagName);
+        }
+    }
+
+    private void writeModuleClass(ModuleClass moduleClass) throws IOException {
+        writeString(moduleClass.getName().fullName);
+        writeVarInt(moduleClass.getStudentUuids().size());
+        for (UUID studentUuid : moduleClass.getStudentUuids()) {
+            writeStudentIndex(studentUuid);
+        }
+        writeVarInt(moduleClass.getLessons().size());
+        for (Lesson lesson : moduleClass.getLessons()) {
+            writeLesson(lesson);
+        }
+    }
+
+    private void writeLesson(Lesson lesson) throws IOException {
+        writeVarInt(lesson.getStartTime().toSecondOfDay());
+        writeVarInt(lesson.getEndTime().toSecondOfDay());
+        writeVarInt(lesson.getDay().ordinal());
+        writeString(lesson.getVenue().venue);
+        // the number of attendance records is the number of occurrences of the lesson
+        writeVarInt(lesson.getNumberOfOccurrences().value);
+        for (AttendanceRecord record : lesson.getAttendanceRecordList().getAttendanceRecordList()) {
+            Map<UUID, Attendance> attendances = record.getAttendanceRecord();
+            writeVarInt(attendances.size());
+            for (Map.Entry<UUID, Attendance> attendance : attendances.entrySet()) {
+                writeStudentIndex(attendance.getKey());
+                writeVarInt(attendance.getValue().getParticipationScore());
+            }
+        }
+    }
+
+    private void writeStudentIndex(UUID studentUuid) throws IOException {
+        Integer index = studentIndices.get(studentUuid);
+        if (index == null) {
+            throw new IOException(JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS);
+        }
+        writeVarInt(index);
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in as few bytes as possible, 7 bits per byte, with the highest bit of
+     * each byte set if more bytes follow.
+     */
+    private void writeVarInt(int value) throws IOException {
+        assert value >= 0;
+
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+}
@@ -0,0 +1,478 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.core.index.Index;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * A class to access TutorsPet data stored as a snapshot file on the hard disk, together with an append-only
+ * journal of the changes saved since the snapshot was written.
+ *
+ * Each save is compared against the previously saved data by reference, which is cheap as students and classes are
+ * immutable, and only the replaced ranges of the student and class lists are appended to the journal. A class whose
+ * lessons were edited in place is journaled as its edited lessons only, and a lesson whose attendances were edited as
+ * the attendance records of its edited weeks only, so that editing an attendance does not write the whole class.
+ * The journal is synced to the disk every few entries, and is compacted into a new snapshot once it grows past a size
+ * threshold.
+ * The first line of the journal holds the checksum of the snapshot it applies to, so that a journal left behind by
+ * an interrupted compaction is ignored.
+ */
+public class JournaledTutorsPetStorage implements TutorsPetStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+    public static final int DEFAULT_SYNC_INTERVAL = 16;
+
+    public static final String MESSAGE_INVALID_STUDENTS_IN_CLASS =
+            JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTutorsPetStorage.class);
+
+    private final TutorsPetStorage snapshotStorage;
+    private final long compactionThreshold;
+    private final int syncInterval;
+
+    private boolean hasSavedData = false;
+    private List<Student> savedStudents = new ArrayList<>();
+    private List<ModuleClass> savedModuleClasses = new ArrayList<>();
+
+    private Optional<FileChannel> journal = Optional.empty();
+    private int journalEntries = 0;
+    private int unsyncedEntries = 0;
+
+    public JournaledTutorsPetStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, DEFAULT_SYNC_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledTutorsPetStorage} for the json snapshot file at {@code filePath}.
+     *
+     * @param compactionThreshold the size in bytes of the journal beyond which a new snapshot is written.
+     * @param syncInterval the number of journal entries written between syncs to the disk.
+     */
+    public JournaledTutorsPetStorage(Path filePath, long compactionThreshold, int syncInterval) {
+        this(new JsonTutorsPetStorage(requireNonNull(filePath)), compactionThreshold, syncInterval);
+    }
+
+    /**
+     * Creates a {@code JournaledTutorsPetStorage} whose snapshots are read and written by {@code snapshotStorage}.
+     * The journal is kept next to the data file of {@code snapshotStorage}.
+     *
+     * @param compactionThreshold the size in bytes of the journal beyond which a new snapshot is written.
+     * @param syncInterval the number of journal entries written between syncs to the disk.
+     */
+    public JournaledTutorsPetStorage(TutorsPetStorage snapshotStorage, long compactionThreshold, int syncInterval) {
+        requireNonNull(snapshotStorage);
+
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        this.syncInterval = syncInterval;
+    }
+
+    @Override
+    public Path getTutorsPetFilePath() {
+        return snapshotStorage.getTutorsPetFilePath();
+    }
+
+    /**
+     * Returns the file path of the journal of the snapshot file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException, IOException {
+        return readTutorsPet(getTutorsPetFilePath());
+    }
+
+    /**
+     * Similar to {@link #readTutorsPet()}.
+     * The saved data is only tracked for journaling if {@code filePath} is the file path of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyTutorsPet> snapshot = snapshotStorage.readTutorsPet(filePath);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ReadOnlyTutorsPet tutorsPet = replayJournal(snapshot.get(), filePath);
+        if (filePath.equals(getTutorsPetFilePath())) {
+            setSavedData(tutorsPet);
+        }
+        return Optional.of(tutorsPet);
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        requireNonNull(tutorsPet);
+
+        // A journal that was not opened by this storage may belong to an older snapshot, so it is never appended to.
+        if (!hasSavedData || journal.isEmpty() || journal.get().size() >= compactionThreshold) {
+            compact(tutorsPet);
+            return;
+        }
+
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry();
+        diff(savedStudents, tutorsPet.getStudentList(), entry::addStudentRange);
+        diffModuleClasses(savedModuleClasses, tutorsPet.getModuleClassList(), entry);
+        if (entry.isEmpty()) {
+            return;
+        }
+
+        try {
+            appendToJournal(JsonUtil.toCompactJsonString(entry));
+        } catch (IOException ioe) {
+            // The saved data is no longer known to match the disk, so the next save writes a full snapshot.
+            hasSavedData = false;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Saves {@code tutorsPet} as a full snapshot at {@code filePath}, without a journal.
+     * If {@code filePath} is the file path of this storage, the journal is compacted instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getTutorsPetFilePath())) {
+            compact(tutorsPet);
+            return;
+        }
+
+        snapshotStorage.saveTutorsPet(tutorsPet, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Compacts the journal into the snapshot file, so that the snapshot file holds all saved data.
+     */
+    @Override
+    public void flushTutorsPet() throws IOException {
+        if (!hasSavedData || journalEntries == 0) {
+            closeJournal();
+            return;
+        }
+
+        TutorsPet tutorsPet = new TutorsPet();
+        tutorsPet.setStudents(savedStudents);
+        tutorsPet.setModuleClasses(savedModuleClasses);
+        compact(tutorsPet);
+        closeJournal();
+    }
+
+    /**
+     * Returns false, as every save is appended to the journal before returning.
+     */
+    @Override
+    public boolean hasPendingSaves() {
+        return false;
+    }
+
+    /**
+     * Writes {@code tutorsPet} as a new snapshot and starts a new, empty journal for it.
+     */
+    private void compact(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        closeJournal();
+
+        Path filePath = getTutorsPetFilePath();
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        snapshotStorage.saveTutorsPet(tutorsPet, tempFilePath);
+        FileUtil.moveAtomically(tempFilePath, filePath);
+
+        FileChannel newJournal = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        journal = Optional.of(newJournal);
+        JsonAdaptedJournalHeader header = new JsonAdaptedJournalHeader(getChecksum(filePath));
+        write(newJournal, JsonUtil.toCompactJsonString(header));
+        newJournal.force(false);
+        journalEntries = 0;
+        unsyncedEntries = 0;
+
+        setSavedData(tutorsPet);
+    }
+
+    private void appendToJournal(String line) throws IOException {
+        write(journal.get(), line);
+        journalEntries++;
+        unsyncedEntries++;
+        if (unsyncedEntries >= syncInterval) {
+            journal.get().force(false);
+            unsyncedEntries = 0;
+        }
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal.isEmpty()) {
+            return;
+        }
+
+        try {
+            journal.get().force(false);
+            journal.get().close();
+        } finally {
+            journal = Optional.empty();
+            unsyncedEntries = 0;
+        }
+    }
+
+    private void setSavedData(ReadOnlyTutorsPet tutorsPet) {
+        savedStudents = new ArrayList<>(tutorsPet.getStudentList());
+        savedModuleClasses = new ArrayList<>(tutorsPet.getModuleClassList());
+        hasSavedData = true;
+    }
+
+    /**
+     * Returns {@code snapshot} with the entries of the journal of {@code filePath} applied.
+     * Reading stops at the first incomplete entry, which can only be the last entry of an interrupted write.
+     *
+     * @throws DataConversionException if an entry is not valid or results in invalid data.
+     */
+    private ReadOnlyTutorsPet replayJournal(ReadOnlyTutorsPet snapshot, Path filePath)
+            throws DataConversionException, IOException {
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, UTF_8);
+        if (lines.isEmpty() || !isJournalOf(lines.get(0), filePath)) {
+            logger.info("Journal " + journalFilePath + " does not belong to " + filePath + ", ignoring it");
+            return snapshot;
+        }
+
+        List<Student> students = new ArrayList<>(snapshot.getStudentList());
+        List<ModuleClass> moduleClasses = new ArrayList<>(snapshot.getModuleClassList());
+        for (String line : lines.subList(1, lines.size())) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                logger.warning("Incomplete entry found in " + journalFilePath + ", ignoring the rest of it");
+                break;
+            }
+
+            try {
+                entry.applyTo(students, moduleClasses);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        return toTutorsPet(students, moduleClasses);
+    }
+
+    private boolean isJournalOf(String headerLine, Path filePath) throws IOException {
+        try {
+            JsonAdaptedJournalHeader header = JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class);
+            return header.snapshotChecksum == getChecksum(filePath);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a {@code TutorsPet} with the given {@code students} and {@code moduleClasses}.
+     *
+     * @throws DataConversionException if the data constraints of {@code TutorsPet} are violated.
+     */
+    private static TutorsPet toTutorsPet(List<Student> students, List<ModuleClass> moduleClasses)
+            throws DataConversionException {
+        TutorsPet tutorsPet = new TutorsPet();
+        try {
+            tutorsPet.setStudents(students);
+            tutorsPet.setModuleClasses(moduleClasses);
+        } catch (RuntimeException e) {
+            throw new DataConversionException(e);
+        }
+
+        Set<UUID> studentUuids = students.stream().map(Student::getUuid).collect(Collectors.toSet());
+        for (ModuleClass moduleClass : moduleClasses) {
+            if (!studentUuids.containsAll(moduleClass.getStudentUuids())) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_CLASS));
+            }
+        }
+        return tutorsPet;
+    }
+
+    /**
+     * Calls {@code recorder} with the ranges of {@code saved} that must be replaced to obtain {@code current}, and
+     * replaces them in {@code saved}.
+     * Elements are compared by reference. If both lists have the same size, each replaced position is its own range.
+     * Otherwise, the single range between the longest common prefix and suffix is replaced.
+     */
+    private static <T> void diff(List<T> saved, List<T> current, RangeRecorder<T> recorder) {
+        if (saved.size() == current.size()) {
+            for (int i = 0; i < saved.size(); i++) {
+                if (saved.get(i) != current.get(i)) {
+                    recorder.record(i, 1, List.of(current.get(i)));
+                    saved.set(i, current.get(i));
+                }
+            }
+            return;
+        }
+
+        int minSize = Math.min(saved.size(), current.size());
+        int prefix = 0;
+        while (prefix < minSize && saved.get(prefix) == current.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < minSize - prefix
+                && saved.get(saved.size() - 1 - suffix) == current.get(current.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        List<T> added = new ArrayList<>(current.subList(prefix, current.size() - suffix));
+        recorder.record(prefix, saved.size() - suffix - prefix, added);
+        saved.subList(prefix, saved.size() - suffix).clear();
+        saved.addAll(prefix, added);
+    }
+
+    /**
+     * Records into {@code entry} the changes that must be made to {@code saved} to obtain {@code current}, and makes
+     * them in {@code saved}, in the same way as {@link #diff}.
+     * If both lists have the same size, a class derived from the saved class by replacing its lessons is recorded as
+     * its replaced lessons only.
+     */
+    private static void diffModuleClasses(List<ModuleClass> saved, List<ModuleClass> current,
+                                          JsonAdaptedJournalEntry entry) {
+        if (saved.size() != current.size()) {
+            diff(saved, current, entry::addModuleClassRange);
+            return;
+        }
+
+        for (int i = 0; i < saved.size(); i++) {
+            ModuleClass savedModuleClass = saved.get(i);
+            ModuleClass currentModuleClass = current.get(i);
+            if (savedModuleClass == currentModuleClass) {
+                continue;
+            }
+
+            if (currentModuleClass.hasSameStudentUuidsInstance(savedModuleClass)
+                    && currentModuleClass.getName().equals(savedModuleClass.getName())
+                    && currentModuleClass.getLessons().size() == savedModuleClass.getLessons().size()) {
+                diffLessons(savedModuleClass, currentModuleClass, entry);
+            } else {
+                entry.addModuleClassRange(i, 1, List.of(currentModuleClass));
+            }
+            saved.set(i, currentModuleClass);
+        }
+    }
+
+    /**
+     * Records into {@code entry} the lessons of {@code current} that replace those of {@code saved}.
+     * A lesson that only differs in its attendances is recorded as the attendance records of the weeks whose
+     * attendances it does not share with the saved lesson.
+     */
+    private static void diffLessons(ModuleClass saved, ModuleClass current, JsonAdaptedJournalEntry entry) {
+        List<Lesson> savedLessons = saved.getLessons();
+        List<Lesson> currentLessons = current.getLessons();
+        for (int i = 0; i < savedLessons.size(); i++) {
+            Lesson savedLesson = savedLessons.get(i);
+            Lesson currentLesson = currentLessons.get(i);
+            if (savedLesson == currentLesson) {
+                continue;
+            }
+
+            AttendanceRecordList savedRecordList = savedLesson.getAttendanceRecordList();
+            AttendanceRecordList currentRecordList = currentLesson.getAttendanceRecordList();
+            // an unloaded record list cannot share attendances with a loaded one, so it is not loaded to compare it
+            if (!hasSameDetails(savedLesson, currentLesson) || !savedRecordList.isLoaded()) {
+                entry.addLesson(current.getName(), i, currentLesson);
+                continue;
+            }
+
+            for (int week = 0; week < currentRecordList.getNumberOfRecords(); week++) {
+                Week currentWeek = new Week(Index.fromZeroBased(week));
+                if (!currentRecordList.sharesAttendances(savedRecordList, currentWeek)) {
+                    entry.addAttendanceRecord(current.getName(), i, currentWeek,
+                            currentRecordList.getAttendanceRecord(currentWeek));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if both lessons have the same details, other than their attendances.
+     */
+    private static boolean hasSameDetails(Lesson lesson, Lesson otherLesson) {
+        return lesson.isSameLesson(otherLesson)
+                && lesson.getVenue().equals(otherLesson.getVenue())
+                && lesson.getNumberOfOccurrences().equals(otherLesson.getNumberOfOccurrences());
+    }
+
+    private static void write(FileChannel channel, String line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((line + System.lineSeparator()).getBytes(UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long getChecksum(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(filePath));
+        return checksum.getValue();
+    }
+
+    @FunctionalInterface
+    private interface RangeRecorder<T> {
+        void record(int from, int removedCount, List<T> added);
+    }
+
+    /**
+     * Jackson-friendly version of the first line of a journal.
+     */
+    static class JsonAdaptedJournalHeader {
+
+        private final long snapshotChecksum;
+
+        @JsonCreator
+        public JsonAdaptedJournalHeader(@JsonProperty("snapshotChecksum") long snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package tutorspet.storage;
+
+import static tutorspet.commons.util.CollectionUtil.replaceRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.util.Pair;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.storage.attendance.JsonAdaptedAttendanceRecord;
+
+/**
+ * Jackson-friendly version of one entry of the journal of a {@link JournaledTutorsPetStorage}.
+ * An entry holds the ranges of the student and class lists replaced by a single save, in the order they were
+ * replaced, followed by the lessons and attendance records replaced in classes that were otherwise unchanged.
+ * Lessons and attendance records are keyed by the name of their class and the index of the lesson in it, and are
+ * replaced after the ranges.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry replaces an invalid range.";
+    public static final String MESSAGE_INVALID_LESSON = "Journal entry replaces a lesson that does not exist.";
+    public static final String MESSAGE_INVALID_ATTENDANCE_RECORD =
+            "Journal entry replaces an attendance record that does not exist.";
+
+    private final List<JsonAdaptedStudentRange> students = new ArrayList<>();
+    private final List<JsonAdaptedModuleClassRange> classes = new ArrayList<>();
+    private final List<JsonAdaptedLessonReplacement> lessons = new ArrayList<>();
+    private final List<JsonAdaptedAttendanceRecordReplacement> attendances = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given replaced ranges, lessons and attendance records.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("students") List<JsonAdaptedStudentRange> students,
+                                   @JsonProperty("classes") List<JsonAdaptedModuleClassRange> classes,
+                                   @JsonProperty("lessons") List<JsonAdaptedLessonReplacement> lessons,
+                                   @JsonProperty("attendances")
+                                           List<JsonAdaptedAttendanceRecordReplacement> attendances) {
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (classes != null) {
+            this.classes.addAll(classes);
+        }
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+        if (attendances != null) {
+            this.attendances.addAll(attendances);
+        }
+    }
+
+    /**
+     * Constructs an empty {@code JsonAdaptedJournalEntry}.
+     */
+    public JsonAdaptedJournalEntry() {}
+
+    /**
+     * Records that {@code removedCount} students starting at {@code from} were replaced with {@code added}.
+     */
+    public void addStudentRange(int from, int removedCount, List<Student> added) {
+        students.add(new JsonAdaptedStudentRange(from, removedCount,
+                added.stream().map(JsonAdaptedStudent::new).collect(Collectors.toList())));
+    }
+
+    /**
+     * Records that {@code removedCount} classes starting at {@code from} were replaced with {@code added}.
+     */
+    public void addModuleClassRange(int from, int removedCount, List<ModuleClass> added) {
+        classes.add(new JsonAdaptedModuleClassRange(from, removedCount,
+                added.stream().map(JsonAdaptedModuleClass::new).collect(Collectors.toList())));
+    }
+
+    /**
+     * Records that the lesson at {@code lessonIndex} of the class named {@code moduleClassName} was replaced with
+     * {@code lesson}.
+     */
+    public void addLesson(Name moduleClassName, int lessonIndex, Lesson lesson) {
+        lessons.add(new JsonAdaptedLessonReplacement(moduleClassName.fullName, lessonIndex,
+                new JsonAdaptedLesson(lesson)));
+    }
+
+    /**
+     * Records that the attendance record of {@code week} of the lesson at {@code lessonIndex} of the class named
+     * {@code moduleClassName} was replaced with {@code record}.
+     */
+    public void addAttendanceRecord(Name moduleClassName, int lessonIndex, Week week, AttendanceRecord record) {
+        attendances.add(new JsonAdaptedAttendanceRecordReplacement(moduleClassName.fullName, lessonIndex,
+                new JsonAdaptedAttendanceRecord(week, record)));
+    }
+
+    /**
+     * Returns true if this entry does not replace any range, lesson or attendance record.
+     */
+    public boolean isEmpty() {
+        return students.isEmpty() && classes.isEmpty() && lessons.isEmpty() && attendances.isEmpty();
+    }
+
+    /**
+     * Replaces the ranges recorded in this entry in {@code studentList} and {@code moduleClassList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted students or classes,
+     * or if a recorded range is not within the bounds of the lists.
+     */
+    public void applyTo(List<Student> studentList, List<ModuleClass> moduleClassList) throws IllegalValueException {
+        for (JsonAdaptedStudentRange range : students) {
+            if (range == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+            }
+            List<Student> added = new ArrayList<>();
+            for (JsonAdaptedStudent student : range.added) {
+                added.add(student.toModelType());
+            }
+            replace(studentList, range.from, range.removed, added);
+        }
+
+        for (JsonAdaptedModuleClassRange range : classes) {
+            if (range == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+            }
+            List<ModuleClass> added = new ArrayList<>();
+            for (JsonAdaptedModuleClass moduleClass : range.added) {
+                added.add(moduleClass.toModelType());
+            }
+            replace(moduleClassList, range.from, range.removed, added);
+        }
+
+        for (JsonAdaptedLessonReplacement replacement : lessons) {
+            if (replacement == null || replacement.lesson == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_LESSON);
+            }
+            int position = findModuleClass(moduleClassList, replacement.moduleClass, replacement.index);
+            ModuleClass moduleClass = moduleClassList.get(position);
+            Lesson lesson = replacement.lesson.toModelType(moduleClass.getStudentUuids());
+            moduleClassList.set(position, moduleClass.withLesson(replacement.index, lesson));
+        }
+
+        for (JsonAdaptedAttendanceRecordReplacement replacement : attendances) {
+            if (replacement == null || replacement.record == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_ATTENDANCE_RECORD);
+            }
+            int position = findModuleClass(moduleClassList, replacement.moduleClass, replacement.index);
+            ModuleClass moduleClass = moduleClassList.get(position);
+            Lesson lesson = moduleClass.getLessons().get(replacement.index);
+            Pair<Week, AttendanceRecord> record = replacement.record.toKeyValuePair();
+            if (!lesson.getAttendanceRecordList().isWeekContained(record.getKey())) {
+                throw new IllegalValueException(MESSAGE_INVALID_ATTENDANCE_RECORD);
+            }
+            if (!moduleClass.getStudentUuids().containsAll(record.getValue().getAttendanceRecord().keySet())) {
+                throw new IllegalValueException(JsonAdaptedModuleClass.MESSAGE_INVALID_STUDENTS_IN_LESSON);
+            }
+
+            List<AttendanceRecord> records = new ArrayList<>(lesson.getAttendanceRecordList()
+                    .getAttendanceRecordList());
+            records.set(record.getKey().getZeroBasedWeekIndex(), record.getValue());
+            Lesson editedLesson = new Lesson(lesson.getStartTime(), lesson.getEndTime(), lesson.getDay(),
+                    lesson.getNumberOfOccurrences(), lesson.getVenue(), new AttendanceRecordList(records));
+            moduleClassList.set(position, moduleClass.withLesson(replacement.index, editedLesson));
+        }
+    }
+
+    /**
+     * Returns the position in {@code moduleClassList} of the class named {@code moduleClassName}, which must have a
+     * lesson at {@code lessonIndex}.
+     *
+     * @throws IllegalValueException if there is no such class or lesson.
+     */
+    private static int findModuleClass(List<ModuleClass> moduleClassList, String moduleClassName, int lessonIndex)
+            throws IllegalValueException {
+        for (int i = 0; i < moduleClassList.size(); i++) {
+            ModuleClass moduleClass = moduleClassList.get(i);
+            if (moduleClass.getName().fullName.equals(moduleClassName)) {
+                if (lessonIndex < 0 || lessonIndex >= moduleClass.getLessons().size()) {
+                    throw new IllegalValueException(MESSAGE_INVALID_LESSON);
+                }
+                return i;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_LESSON);
+    }
+
+    private static <T> void replace(List<T> list, int from, int removedCount, List<T> added)
+            throws IllegalValueException {
+        if (from < 0 || removedCount < 0 || from + removedCount > list.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+        }
+        replaceRange(list, from, from + removedCount, added);
+    }
+
+    /**
+     * Jackson-friendly version of a replaced range of {@link Student}s.
+     */
+    static class JsonAdaptedStudentRange {
+
+        private final int from;
+        private final int removed;
+        private final List<JsonAdaptedStudent> added = new ArrayList<>();
+
+        @JsonCreator
+        public JsonAdaptedStudentRange(@JsonProperty("from") int from,
+                                       @JsonProperty("removed") int removed,
+                                       @JsonProperty("added") List<JsonAdaptedStudent> added) {
+            this.from = from;
+            this.removed = removed;
+            if (added != null) {
+                this.added.addAll(added);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a replaced range of {@link ModuleClass}es.
+     */
+    static class JsonAdaptedModuleClassRange {
+
+        private final int from;
+        private final int removed;
+        private final List<JsonAdaptedModuleClass> added = new ArrayList<>();
+
+        @JsonCreator
+        public JsonAdaptedModuleClassRange(@JsonProperty("from") int from,
+                                           @JsonProperty("removed") int removed,
+                                           @JsonProperty("added") List<JsonAdaptedModuleClass> added) {
+            this.from = from;
+            this.removed = removed;
+            if (added != null) {
+                this.added.addAll(added);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a replaced {@link Lesson} of a {@link ModuleClass}.
+     */
+    static class JsonAdaptedLessonReplacement {
+
+        private final String moduleClass;
+        private final int index;
+        private final JsonAdaptedLesson lesson;
+
+        @JsonCreator
+        public JsonAdaptedLessonReplacement(@JsonProperty("moduleClass") String moduleClass,
+                                            @JsonProperty("index") int index,
+                                            @JsonProperty("lesson") JsonAdaptedLesson lesson) {
+            this.moduleClass = moduleClass;
+            this.index = index;
+            this.lesson = lesson;
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a replaced {@link AttendanceRecord} of a {@link Lesson}.
+     */
+    static class JsonAdaptedAttendanceRecordReplacement {
+
+        private final String moduleClass;
+        private final int index;
+        private final JsonAdaptedAttendanceRecord record;
+
+        @JsonCreator
+        public JsonAdaptedAttendanceRecordReplacement(@JsonProperty("moduleClass") String moduleClass,
+                                                      @JsonProperty("index") int index,
+                                                      @JsonProperty("record") JsonAdaptedAttendanceRecord record) {
+            this.moduleClass = moduleClass;
+            this.index = index;
+            this.record = record;
+        }
+    }
+}
@@ -3,15 +3,23 @@ package tutorspet.storage;
 import static tutorspet.model.lesson.Lesson.isValidStartTimeEndTime;
 import static tutorspet.model.lesson.NumberOfOccurrences.isValidNumberOfOccurrences;
 import static tutorspet.model.lesson.Venue.isValidVenue;
+import static tutorspet.storage.JsonAdaptedModuleClass.MESSAGE_INVALID_STUDENTS_IN_LESSON;
 
+import java.io.IOException;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.attendance.AttendanceRecord;
 import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.exceptions.AttendanceLoadingException;
 import tutorspet.model.lesson.Day;
 import tutorspet.model.lesson.Lesson;
 import tutorspet.model.lesson.NumberOfOccurrences;
@@ -28,6 +36,7 @@ public class JsonAdaptedLesson {
     public static final String INVALID_FIELD_MESSAGE_FORMAT = "Lesson's %s field is invalid!";
     public static final String START_TIME_FIELD = "start time";
     public static final String END_TIME_FIELD = "end time";
+    public static final String MESSAGE_ATTENDANCE_NOT_LOADED = "Attendance of lesson %s could not be loaded: %s";
 
     private final String startTime;
     private final String endTime;
@@ -46,6 +55,7 @@ public class JsonAdaptedLesson {
                              @JsonProperty("numberOfOccurrences") int numberOfOccurrences,
                              @JsonProperty("venue") String venue,
                              @JsonProperty("attendanceRecordList")
+                             @JsonDeserialize(using = JsonAdaptedAttendanceRecordList.DeferringDeserializer.class)
                                          JsonAdaptedAttendanceRecordList attendanceRecordList) {
         this.startTime = startTime;
         this.endTime = endTime;
@@ -81,6 +91,18 @@ public class JsonAdaptedLesson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
      */
     public Lesson toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted lesson object into the model's {@code Lesson} object, whose attendances
+     * must belong to the students in {@code studentUuids}, or to any student if {@code studentUuids} is null.
+     * Attendance records kept unparsed by {@link JsonAdaptedAttendanceRecordList.DeferringDeserializer} are only
+     * converted and checked when they are first needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
+     */
+    public Lesson toModelType(Set<UUID> studentUuids) throws IllegalValueException {
         if (startTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, START_TIME_FIELD));
         }
@@ -124,14 +146,63 @@ public class JsonAdaptedLesson {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     AttendanceRecordList.class.getSimpleName()));
         }
+        final AttendanceRecordList modelAttendanceRecordList;
+        if (attendanceRecordList.isDeferred()) {
+            String lesson = modelDay + " " + modelStartTime + " to " + modelEndTime;
+            JsonAdaptedAttendanceRecordList deferredRecordList = attendanceRecordList;
+            modelAttendanceRecordList = new AttendanceRecordList(modelNumberOfOccurrences, () ->
+                    loadAttendanceRecordList(deferredRecordList, modelNumberOfOccurrences, studentUuids, lesson));
+        } else {
+            modelAttendanceRecordList =
+                    toModelAttendanceRecordList(attendanceRecordList, modelNumberOfOccurrences, studentUuids);
+        }
+
+        return new Lesson(modelStartTime, modelEndTime, modelDay, modelNumberOfOccurrences, modelVenue,
+                modelAttendanceRecordList);
+    }
+
+    /**
+     * Converts {@code attendanceRecordList} into the model's {@code AttendanceRecordList} object, which must have a
+     * record for each occurrence, with attendances of the students in {@code studentUuids} only.
+     */
+    private static AttendanceRecordList toModelAttendanceRecordList(
+            JsonAdaptedAttendanceRecordList attendanceRecordList, NumberOfOccurrences numberOfOccurrences,
+            Set<UUID> studentUuids) throws IllegalValueException {
         final AttendanceRecordList modelAttendanceRecordList = attendanceRecordList.toModelType();
 
-        if (modelAttendanceRecordList.getAttendanceRecordList().size() != modelNumberOfOccurrences.value) {
+        if (modelAttendanceRecordList.getNumberOfRecords() != numberOfOccurrences.value) {
             throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT,
                     AttendanceRecordList.class.getSimpleName()));
         }
 
-        return new Lesson(modelStartTime, modelEndTime, modelDay, modelNumberOfOccurrences, modelVenue,
-                modelAttendanceRecordList);
+        if (studentUuids != null && !modelAttendanceRecordList.getAttendanceRecordList().stream()
+                .allMatch(record -> studentUuids.containsAll(record.getAttendanceRecord().keySet()))) {
+            throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_LESSON);
+        }
+
+        return modelAttendanceRecordList;
+    }
+
+    /**
+     * Parses and converts the deferred {@code attendanceRecordList} of {@code lesson}.
+     *
+     * @throws AttendanceLoadingException if the records are not in the correct format or violate any data
+     *         constraints.
+     */
+    private static List<AttendanceRecord> loadAttendanceRecordList(
+            JsonAdaptedAttendanceRecordList attendanceRecordList, NumberOfOccurrences numberOfOccurrences,
+            Set<UUID> studentUuids, String lesson) {
+        try {
+            JsonAdaptedAttendanceRecordList parsedRecordList = attendanceRecordList.parseDeferredRecordList();
+            if (parsedRecordList == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                        AttendanceRecordList.class.getSimpleName()));
+            }
+            return toModelAttendanceRecordList(parsedRecordList, numberOfOccurrences, studentUuids)
+                    .getAttendanceRecordList();
+        } catch (IOException | IllegalValueException e) {
+            throw new AttendanceLoadingException(String.format(MESSAGE_ATTENDANCE_NOT_LOADED, lesson,
+                    e.getMessage()), e);
+        }
     }
 }
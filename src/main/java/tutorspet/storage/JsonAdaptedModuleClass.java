@@ -105,11 +105,12 @@ public class JsonAdaptedModuleClass {
     }
 
     /**
-     * Converts the contained {@code List<JsonAdaptedLesson> lessons} to a {@code List<Lesson>}.
+     * Converts the contained {@code List<JsonAdaptedLesson> lessons} to a {@code List<Lesson>}, whose attendances
+     * must belong to the students in {@code studentUuids}.
      *
      * @throws IllegalValueException if any of the {@code Lesson}s are null, duplicate or overlap.
      */
-    private List<Lesson> getLessonList() throws IllegalValueException {
+    private List<Lesson> getLessonList(Set<UUID> studentUuids) throws IllegalValueException {
         List<Lesson> lessonList = new ArrayList<>();
         for (JsonAdaptedLesson jsonLesson : lessons) {
             if (jsonLesson == null) {
@@ -117,32 +118,20 @@ public class JsonAdaptedModuleClass {
                         String.format(MISSING_FIELD_MESSAGE_FORMAT, Lesson.class.getSimpleName()));
             }
 
-            if (hasDuplicateLessons(lessonList, jsonLesson.toModelType())) {
+            Lesson lesson = jsonLesson.toModelType(studentUuids);
+            if (hasDuplicateLessons(lessonList, lesson)) {
                 throw new IllegalValueException(String.format(DUPLICATE_LESSON_MESSAGE_FORMAT,
                         ModuleClass.class.getSimpleName()));
-            } else if (hasOverlapLessons(lessonList, jsonLesson.toModelType())) {
+            } else if (hasOverlapLessons(lessonList, lesson)) {
                 throw new IllegalValueException(String.format(OVERLAP_LESSON_MESSAGE_FORMAT,
                         ModuleClass.class.getSimpleName()));
             } else {
-                lessonList.add(jsonLesson.toModelType());
+                lessonList.add(lesson);
             }
         }
         return lessonList;
     }
 
-    private void validateAttendanceRecords(List<Lesson> lessonList, Set<UUID> studentUuids)
-            throws IllegalValueException {
-        Set<UUID> students = lessonList.stream().flatMap(lesson ->
-                lesson.getAttendanceRecordList().getAttendanceRecordList().stream()
-                        .flatMap(record -> record.getAttendanceRecord().keySet().stream()))
-                .collect(Collectors.toUnmodifiableSet());
-        for (UUID studentUuid : students) {
-            if (!studentUuids.contains(studentUuid)) {
-                throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_LESSON);
-            }
-        }
-    }
-
     /**
      * Converts this Jackson-friendly adapted class object into the model's {@code ModuleClass} object.
      *
@@ -158,9 +147,7 @@ public class JsonAdaptedModuleClass {
         List<UUID> studentUuids = getUuidList();
         final Set<UUID> studentUuidSet = new HashSet<>(studentUuids);
 
-        final List<Lesson> lessonList = getLessonList();
-
-        validateAttendanceRecords(lessonList, studentUuidSet);
+        final List<Lesson> lessonList = getLessonList(studentUuidSet);
 
         return new ModuleClass(modelName, studentUuidSet, lessonList);
     }
@@ -0,0 +1,166 @@
+package tutorspet.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.ListChange;
+import tutorspet.model.StateChanges;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * An Immutable StateChanges that is serializable to JSON format.
+ */
+@JsonRootName(value = "statechanges")
+class JsonSerializableStateChanges {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Invalid change.";
+
+    private final List<JsonAdaptedStudentChange> studentChanges = new ArrayList<>();
+    private final List<JsonAdaptedModuleClassChange> classChanges = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableStateChanges} with the given student and class changes.
+     */
+    @JsonCreator
+    public JsonSerializableStateChanges(
+            @JsonProperty("studentChanges") List<JsonAdaptedStudentChange> studentChanges,
+            @JsonProperty("classChanges") List<JsonAdaptedModuleClassChange> classChanges) {
+        this.studentChanges.addAll(studentChanges);
+        this.classChanges.addAll(classChanges);
+    }
+
+    /**
+     * Converts a given {@code StateChanges} into this class for Jackson use.
+     */
+    public JsonSerializableStateChanges(StateChanges source) {
+        studentChanges.addAll(source.getStudentChanges().stream()
+                .map(JsonAdaptedStudentChange::new).collect(Collectors.toList()));
+        classChanges.addAll(source.getModuleClassChanges().stream()
+                .map(JsonAdaptedModuleClassChange::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Converts this Jackson-friendly object into the model's {@code StateChanges} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public StateChanges toModelType() throws IllegalValueException {
+        List<ListChange<Student>> modelStudentChanges = new ArrayList<>();
+        for (JsonAdaptedStudentChange studentChange : studentChanges) {
+            if (studentChange == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+            }
+            modelStudentChanges.add(studentChange.toModelType());
+        }
+
+        List<ListChange<ModuleClass>> modelClassChanges = new ArrayList<>();
+        for (JsonAdaptedModuleClassChange classChange : classChanges) {
+            if (classChange == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+            }
+            modelClassChanges.add(classChange.toModelType());
+        }
+
+        return new StateChanges(modelStudentChanges, modelClassChanges);
+    }
+
+    /**
+     * Jackson-friendly version of a {@link ListChange} of {@link Student}s.
+     */
+    static class JsonAdaptedStudentChange {
+
+        private final int from;
+        private final List<JsonAdaptedStudent> removed = new ArrayList<>();
+        private final List<JsonAdaptedStudent> added = new ArrayList<>();
+
+        @JsonCreator
+        public JsonAdaptedStudentChange(@JsonProperty("from") int from,
+                                        @JsonProperty("removed") List<JsonAdaptedStudent> removed,
+                                        @JsonProperty("added") List<JsonAdaptedStudent> added) {
+            this.from = from;
+            if (removed != null) {
+                this.removed.addAll(removed);
+            }
+            if (added != null) {
+                this.added.addAll(added);
+            }
+        }
+
+        public JsonAdaptedStudentChange(ListChange<Student> source) {
+            from = source.getFrom();
+            removed.addAll(source.getRemoved().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
+            added.addAll(source.getAdded().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
+        }
+
+        /**
+         * Converts this Jackson-friendly object into the model's {@code ListChange} object.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the adapted students.
+         */
+        public ListChange<Student> toModelType() throws IllegalValueException {
+            List<Student> modelRemoved = new ArrayList<>();
+            for (JsonAdaptedStudent student : removed) {
+                modelRemoved.add(student.toModelType());
+            }
+            List<Student> modelAdded = new ArrayList<>();
+            for (JsonAdaptedStudent student : added) {
+                modelAdded.add(student.toModelType());
+            }
+            return new ListChange<>(from, modelRemoved, modelAdded);
+        }
+    }
+
+    /**
+     * Jackson-friendly version of a {@link ListChange} of {@link ModuleClass}es.
+     */
+    static class JsonAdaptedModuleClassChange {
+
+        private final int from;
+        private final List<JsonAdaptedModuleClass> removed = new ArrayList<>();
+        private final List<JsonAdaptedModuleClass> added = new ArrayList<>();
+
+        @JsonCreator
+        public JsonAdaptedModuleClassChange(@JsonProperty("from") int from,
+                                            @JsonProperty("removed") List<JsonAdaptedModuleClass> removed,
+                                            @JsonProperty("added") List<JsonAdaptedModuleClass> added) {
+            this.from = from;
+            if (removed != null) {
+                this.removed.addAll(removed);
+            }
+            if (added != null) {
+                this.added.addAll(added);
+            }
+        }
+
+        public JsonAdaptedModuleClassChange(ListChange<ModuleClass> source) {
+            from = source.getFrom();
+            removed.addAll(source.getRemoved().stream()
+                    .map(JsonAdaptedModuleClass::new).collect(Collectors.toList()));
+            added.addAll(source.getAdded().stream().map(JsonAdaptedModuleClass::new).collect(Collectors.toList()));
+        }
+
+        /**
+         * Converts this Jackson-friendly object into the model's {@code ListChange} object.
+         *
+         * @throws IllegalValueException if there were any data constraints violated in the adapted classes.
+         */
+        public ListChange<ModuleClass> toModelType() throws IllegalValueException {
+            List<ModuleClass> modelRemoved = new ArrayList<>();
+            for (JsonAdaptedModuleClass moduleClass : removed) {
+                modelRemoved.add(moduleClass.toModelType());
+            }
+            List<ModuleClass> modelAdded = new ArrayList<>();
+            for (JsonAdaptedModuleClass moduleClass : added) {
+                modelAdded.add(moduleClass.toModelType());
+            }
+            return new ListChange<>(from, modelRemoved, modelAdded);
+        }
+    }
+}
@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import javafx.collections.ObservableList;
 import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.model.ReadOnlyTutorsPet;
 import tutorspet.model.TutorsPet;
@@ -81,7 +80,7 @@ class JsonSerializableTutorsPet {
      */
     private void classesToModelType(TutorsPet tutorsPet) throws IllegalValueException {
         // Get all UUIDs under "students" field in tutorspet.json.
-        ObservableList<Student> students = tutorsPet.getStudentList();
+        List<Student> students = tutorsPet.getStudentList();
         Set<UUID> uniqueStudentUuids = new HashSet<>();
         for (Student student : students) {
             uniqueStudentUuids.add(student.getUuid());
@@ -0,0 +1,107 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.StateArchive;
+import tutorspet.model.StateChanges;
+
+/**
+ * A class to archive the states of the undo history as json files in a directory on the hard disk.
+ * The files are compressed with a {@code Deflater}, as the json of a state repeats the same field names for every
+ * student and class in it.
+ */
+public class JsonStateArchive implements StateArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonStateArchive.class);
+
+    private final Path archiveDirectory;
+
+    public JsonStateArchive(Path archiveDirectory) {
+        requireNonNull(archiveDirectory);
+
+        this.archiveDirectory = archiveDirectory;
+    }
+
+    public Path getArchiveDirectory() {
+        return archiveDirectory;
+    }
+
+    @Override
+    public void archive(int stateId, StateChanges changes) throws IOException {
+        requireNonNull(changes);
+
+        Path filePath = getStateFilePath(stateId);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (OutputStream outputStream = new DeflaterOutputStream(Files.newOutputStream(filePath));
+             JsonGenerator generator = JsonUtil.createGenerator(outputStream, false)) {
+            generator.writeObject(new JsonSerializableStateChanges(changes));
+        }
+    }
+
+    @Override
+    public StateChanges retrieve(int stateId) throws DataConversionException, IOException {
+        Path filePath = getStateFilePath(stateId);
+        if (!Files.exists(filePath)) {
+            throw new FileNotFoundException("Archived state not found: " + filePath);
+        }
+
+        JsonSerializableStateChanges jsonStateChanges;
+        try (InputStream inputStream = new InflaterInputStream(Files.newInputStream(filePath))) {
+            jsonStateChanges = JsonUtil.createReader(JsonSerializableStateChanges.class).readValue(inputStream);
+        } catch (JsonProcessingException jpe) {
+            logger.warning("Error reading from archived state " + filePath + ": " + jpe);
+            throw new DataConversionException(jpe);
+        }
+
+        try {
+            return jsonStateChanges.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void discard(int stateId) throws IOException {
+        Files.deleteIfExists(getStateFilePath(stateId));
+    }
+
+    /**
+     * Deletes every archived state and the archive directory itself.
+     */
+    public void deleteArchive() throws IOException {
+        if (!Files.exists(archiveDirectory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> stateFiles = Files.newDirectoryStream(archiveDirectory)) {
+            for (Path stateFile : stateFiles) {
+                Files.deleteIfExists(stateFile);
+            }
+        }
+        Files.deleteIfExists(archiveDirectory);
+    }
+
+    private Path getStateFilePath(int stateId) {
+        return archiveDirectory.resolve("state-" + stateId + ".json.deflate");
+    }
+}
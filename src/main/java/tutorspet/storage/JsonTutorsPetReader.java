@@ -0,0 +1,194 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_STUDENT;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENT;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.storage.attendance.JsonAdaptedAttendanceRecordList;
+
+/**
+ * Reads TutorsPet data in the format of {@link JsonSerializableTutorsPet} from a json file, one student or class at
+ * a time.
+ *
+ * Each student and class is converted into the model as soon as it has been read, so that only the model and the
+ * Jackson-friendly version of a single student or class are held in memory, rather than the whole file as a string
+ * and a Jackson-friendly version of every student and class. The data is validated in the same way as
+ * {@link JsonSerializableTutorsPet#toModelType()}.
+ *
+ * The attendance records of each lesson may instead be kept compressed and unparsed, and only be converted into the
+ * model and validated when they are first needed. This saves the time and memory taken by the records of lessons
+ * that are never looked at.
+ */
+class JsonTutorsPetReader {
+
+    public static final String STUDENTS_FIELD = "students";
+    public static final String CLASSES_FIELD = "classes";
+    public static final String MESSAGE_MISSING_FIELD = "Tutor's Pet data is missing the %s field.";
+    public static final String MESSAGE_INVALID_FIELD = "Tutor's Pet data has an invalid %s field.";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Tutor's Pet data is not a json object.";
+
+    private final JsonParser parser;
+    private final ObjectReader moduleClassReader;
+    private final TutorsPet tutorsPet = new TutorsPet();
+    private final Set<UUID> studentUuids = new HashSet<>();
+    private boolean hasReadStudents = false;
+    private boolean hasReadClasses = false;
+
+    private JsonTutorsPetReader(JsonParser parser, ObjectReader moduleClassReader) {
+        this.parser = parser;
+        this.moduleClassReader = moduleClassReader;
+    }
+
+    /**
+     * Reads the TutorsPet data in the json file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorsPet readTutorsPet(Path filePath) throws IOException, IllegalValueException {
+        return readTutorsPet(filePath, false);
+    }
+
+    /**
+     * Reads the TutorsPet data in the json file at {@code filePath}.
+     *
+     * @param isAttendanceLoadedLazily whether the attendance records of lessons are only converted and validated
+     *                                 when they are first needed.
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorsPet readTutorsPet(Path filePath, boolean isAttendanceLoadedLazily)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!isAttendanceLoadedLazily) {
+            try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+                return new JsonTutorsPetReader(parser, JsonUtil.createReader(JsonAdaptedModuleClass.class)).read();
+            }
+        }
+
+        // the unparsed attendance records are copied from the bytes of the file
+        byte[] json = Files.readAllBytes(filePath);
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(json))) {
+            return new JsonTutorsPetReader(parser, createLazyModuleClassReader(json)).read();
+        }
+    }
+
+    /**
+     * Returns a reader of the {@code JsonAdaptedModuleClass}es in {@code json}, which keeps the attendance records of
+     * lessons unparsed.
+     */
+    static ObjectReader createLazyModuleClassReader(byte[] json) {
+        return JsonUtil.createReader(JsonAdaptedModuleClass.class)
+                .withAttribute(JsonAdaptedAttendanceRecordList.DEFER_PARSING_ATTRIBUTE, json);
+    }
+
+    private TutorsPet read() throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (STUDENTS_FIELD.equals(fieldName)) {
+                readStudents();
+            } else if (CLASSES_FIELD.equals(fieldName)) {
+                readClasses();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!hasReadStudents) {
+            throw new JsonParseException(parser, String.format(MESSAGE_MISSING_FIELD, STUDENTS_FIELD));
+        }
+        if (!hasReadClasses) {
+            throw new JsonParseException(parser, String.format(MESSAGE_MISSING_FIELD, CLASSES_FIELD));
+        }
+        return tutorsPet;
+    }
+
+    private void readStudents() throws IOException, IllegalValueException {
+        requireArray(STUDENTS_FIELD);
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedStudent jsonAdaptedStudent = parser.readValueAs(JsonAdaptedStudent.class);
+            if (jsonAdaptedStudent == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_STUDENT);
+            }
+
+            Student student = jsonAdaptedStudent.toModelType();
+            if (tutorsPet.hasStudent(student) || tutorsPet.hasStudentUuid(student)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+            }
+            tutorsPet.addStudent(student);
+            studentUuids.add(student.getUuid());
+        }
+        hasReadStudents = true;
+
+        // classes read before the students could not be checked against the students yet
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            requireKnownStudents(moduleClass);
+        }
+    }
+
+    private void readClasses() throws IOException, IllegalValueException {
+        requireArray(CLASSES_FIELD);
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedModuleClass jsonAdaptedModuleClass = moduleClassReader.readValue(parser);
+            if (jsonAdaptedModuleClass == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_MODULE_CLASS);
+            }
+
+            ModuleClass moduleClass = jsonAdaptedModuleClass.toModelType();
+            if (tutorsPet.hasModuleClass(moduleClass)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE_CLASS);
+            }
+            if (hasReadStudents) {
+                requireKnownStudents(moduleClass);
+            }
+            tutorsPet.addModuleClass(moduleClass);
+        }
+        hasReadClasses = true;
+    }
+
+    private void requireArray(String fieldName) throws JsonParseException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_INVALID_FIELD, fieldName));
+        }
+    }
+
+    /**
+     * Checks that the students of {@code moduleClass} are a subset of the students read.
+     * Otherwise, Tutor's Pet will not boot up due to data corruption.
+     */
+    private void requireKnownStudents(ModuleClass moduleClass) throws IllegalValueException {
+        if (!studentUuids.containsAll(moduleClass.getStudentUuids())) {
+            throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_CLASS);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package tutorspet.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,20 +12,40 @@ import tutorspet.commons.core.LogsCenter;
 import tutorspet.commons.exceptions.DataConversionException;
 import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.commons.util.FileUtil;
-import tutorspet.commons.util.JsonUtil;
 import tutorspet.model.ReadOnlyTutorsPet;
 
 /**
  * A class to access TutorsPet data stored as a json file on the hard disk.
+ * A data file in another format found at the file path is still read, see {@link TutorsPetFileReader}.
  */
 public class JsonTutorsPetStorage implements TutorsPetStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTutorsPetStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final boolean isAttendanceLoadedLazily;
 
     public JsonTutorsPetStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    public JsonTutorsPetStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, false);
+    }
+
+    /**
+     * Creates a {@code JsonTutorsPetStorage} for the json file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the file is indented to be readable, or written without whitespace to be
+     *                        smaller and faster to write.
+     * @param isAttendanceLoadedLazily whether the attendance records of lessons read are only converted into the
+     *                                 model when they are first needed.
+     */
+    public JsonTutorsPetStorage(Path filePath, boolean isPrettyPrinted, boolean isAttendanceLoadedLazily) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.isAttendanceLoadedLazily = isAttendanceLoadedLazily;
     }
 
     public Path getTutorsPetFilePath() {
@@ -45,14 +66,16 @@ public class JsonTutorsPetStorage implements TutorsPetStorage {
     public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTutorsPet> jsonTutorsPet = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTutorsPet.class);
-        if (!jsonTutorsPet.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonTutorsPet.get().toModelType());
+            return Optional.of(TutorsPetFileReader.readTutorsPet(filePath, isAttendanceLoadedLazily));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,6 +97,20 @@ public class JsonTutorsPetStorage implements TutorsPetStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTutorsPet(tutorsPet), filePath);
+        JsonTutorsPetWriter.writeTutorsPet(tutorsPet, filePath, isPrettyPrinted);
+    }
+
+    /**
+     * Does nothing, as every save is written to the data file immediately.
+     */
+    @Override
+    public void flushTutorsPet() {}
+
+    /**
+     * Returns false, as every save is written to the data file immediately.
+     */
+    @Override
+    public boolean hasPendingSaves() {
+        return false;
     }
 }
@@ -0,0 +1,75 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.storage.JsonTutorsPetReader.CLASSES_FIELD;
+import static tutorspet.storage.JsonTutorsPetReader.STUDENTS_FIELD;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Writes TutorsPet data in the format of {@link JsonSerializableTutorsPet} to a json file, one student or class at
+ * a time.
+ *
+ * Each student and class is written to the file as soon as it has been converted, so that neither the whole
+ * document nor a Jackson-friendly version of every student and class is held in memory.
+ */
+class JsonTutorsPetWriter {
+
+    private JsonTutorsPetWriter() {}
+
+    /**
+     * Writes {@code tutorsPet} to the json file at {@code filePath}, replacing its contents.
+     *
+     * @param isPrettyPrinted whether the file is indented to be readable, or written without whitespace.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void writeTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(tutorsPet);
+
+        writeTutorsPet(tutorsPet.getStudentList(), tutorsPet.getModuleClassList(), filePath, isPrettyPrinted);
+    }
+
+    /**
+     * Writes {@code students} and {@code moduleClasses} to the json file at {@code filePath}, replacing its contents.
+     *
+     * @param isPrettyPrinted whether the file is indented to be readable, or written without whitespace.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void writeTutorsPet(List<Student> students, List<ModuleClass> moduleClasses, Path filePath,
+            boolean isPrettyPrinted) throws IOException {
+        requireNonNull(students);
+        requireNonNull(moduleClasses);
+        requireNonNull(filePath);
+
+        try (JsonGenerator generator = JsonUtil.createGenerator(
+                new BufferedOutputStream(Files.newOutputStream(filePath)), isPrettyPrinted)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart(STUDENTS_FIELD);
+            for (Student student : students) {
+                generator.writeObject(new JsonAdaptedStudent(student));
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart(CLASSES_FIELD);
+            for (ModuleClass moduleClass : moduleClasses) {
+                generator.writeObject(new JsonAdaptedModuleClass(moduleClass));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * A class to access TutorsPet data stored as a manifest file on the hard disk, with the students and each class in
+ * separate json files, or shards, in a directory next to it.
+ *
+ * Shards are never modified once written. A save writes new shards only for the students or the classes that
+ * changed, which are detected by reference as students and classes are immutable, and then atomically replaces the
+ * manifest with one that lists the new set of shards. Shards that are no longer listed are only deleted afterwards,
+ * so an interrupted save leaves the previous data intact. To keep that true across a crash of the system, the new
+ * shards and the shard directory are forced to disk before the manifest is replaced.
+ * The students are kept in a single shard, so a change to any student rewrites every student. The class shards are
+ * read in parallel.
+ */
+public class ShardedTutorsPetStorage implements TutorsPetStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final int MANIFEST_VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Tutor's Pet manifest version %d is not supported.";
+    public static final String MESSAGE_INVALID_SHARD = "Tutor's Pet manifest lists an invalid shard %s.";
+
+    private static final String MANIFEST_VERSION_FIELD = "manifestVersion";
+    private static final String STUDENT_SHARD_PREFIX = "students-";
+    private static final String CLASS_SHARD_PREFIX = "class-";
+    private static final String SHARD_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTutorsPetStorage.class);
+
+    private final Path filePath;
+    private final boolean isAttendanceLoadedLazily;
+
+    private Optional<JsonAdaptedShardManifest> savedManifest = Optional.empty();
+    private List<Student> savedStudents = new ArrayList<>();
+    private Map<ModuleClass, String> savedClassShards = new IdentityHashMap<>();
+
+    public ShardedTutorsPetStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code ShardedTutorsPetStorage} for the manifest file at {@code filePath}.
+     *
+     * @param isAttendanceLoadedLazily whether the attendance records of lessons read are only converted into the
+     *                                 model when they are first needed.
+     */
+    public ShardedTutorsPetStorage(Path filePath, boolean isAttendanceLoadedLazily) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+        this.isAttendanceLoadedLazily = isAttendanceLoadedLazily;
+    }
+
+    @Override
+    public Path getTutorsPetFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the directory of the shards listed in the manifest file at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException, IOException {
+        return readTutorsPet(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTutorsPet()}.
+     * A data file in another format is read together with its journal, and is replaced by a manifest on the next save.
+     * The shards read are only tracked for the next save if {@code filePath} is the file path of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Manifest file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (isManifestFile(filePath)) {
+                JsonAdaptedShardManifest manifest = readManifest(filePath);
+                TutorsPet tutorsPet = readShards(filePath, manifest, isAttendanceLoadedLazily);
+                if (filePath.equals(this.filePath)) {
+                    setSavedData(tutorsPet, manifest);
+                }
+                return Optional.of(tutorsPet);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from manifest file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        logger.info("Manifest file " + filePath + " is a data file in another format, reading it with its journal");
+        return new JournaledTutorsPetStorage(new JsonTutorsPetStorage(filePath, true, isAttendanceLoadedLazily),
+                JournaledTutorsPetStorage.DEFAULT_COMPACTION_THRESHOLD, JournaledTutorsPetStorage.DEFAULT_SYNC_INTERVAL)
+                .readTutorsPet(filePath);
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     * Only the shards of the students and classes changed since the last save or read are written if
+     * {@code filePath} is the file path of this storage, otherwise every shard is written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+
+        boolean isTracked = filePath.equals(this.filePath) && savedManifest.isPresent();
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        Files.createDirectories(shardDirectoryPath);
+
+        List<Student> students = tutorsPet.getStudentList();
+        String studentShard = isTracked && isSameElements(savedStudents, students)
+                ? savedManifest.get().students
+                : writeStudentShard(students, shardDirectoryPath);
+
+        List<String> classShards = new ArrayList<>();
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            String classShard = isTracked ? savedClassShards.get(moduleClass) : null;
+            classShards.add(classShard != null ? classShard : writeClassShard(moduleClass, shardDirectoryPath));
+        }
+
+        JsonAdaptedShardManifest manifest = new JsonAdaptedShardManifest(studentShard, classShards);
+        if (isTracked && manifest.equals(savedManifest.get())) {
+            return;
+        }
+        // the names of the new shards must be on disk before the manifest that lists them
+        FileUtil.forceToDisk(shardDirectoryPath);
+
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.writeToFile(tempFilePath, JsonUtil.toJsonString(manifest));
+        FileUtil.forceToDisk(tempFilePath);
+        FileUtil.moveAtomically(tempFilePath, filePath);
+        // the journal of a data file in another format that was replaced by the manifest
+        Files.deleteIfExists(JournaledTutorsPetStorage.getJournalFilePath(filePath));
+        deleteUnlistedShards(shardDirectoryPath, manifest);
+
+        if (filePath.equals(this.filePath)) {
+            setSavedData(tutorsPet, manifest);
+        }
+    }
+
+    /**
+     * Does nothing, as every save is written to the shards and the manifest immediately.
+     */
+    @Override
+    public void flushTutorsPet() {}
+
+    /**
+     * Returns false, as every save is written to the shards and the manifest immediately.
+     */
+    @Override
+    public boolean hasPendingSaves() {
+        return false;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a manifest, rather than a data file in another format.
+     */
+    static boolean isManifestFile(Path filePath) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && MANIFEST_VERSION_FIELD.equals(parser.getCurrentName());
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the manifest file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read, is not in the correct format or has an unsupported version.
+     */
+    static JsonAdaptedShardManifest readManifest(Path filePath) throws IOException {
+        JsonAdaptedShardManifest manifest =
+                JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), JsonAdaptedShardManifest.class);
+        if (manifest.manifestVersion != MANIFEST_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, manifest.manifestVersion));
+        }
+        return manifest;
+    }
+
+    /**
+     * Reads the shards listed in {@code manifest}, which is the manifest file at {@code filePath}, reading the class
+     * shards in parallel. The data is validated in the same way as {@link JsonSerializableTutorsPet#toModelType()}.
+     *
+     * @param isAttendanceLoadedLazily whether the attendance records of lessons are only converted into the model
+     *                                 when they are first needed.
+     * @throws IOException if a shard cannot be read or is not in the correct format.
+     * @throws IllegalValueException if a shard is invalid, or there were any data constraints violated.
+     */
+    static TutorsPet readShards(Path filePath, JsonAdaptedShardManifest manifest, boolean isAttendanceLoadedLazily)
+            throws IOException, IllegalValueException {
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        if (manifest.classes == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, manifest.classes));
+        }
+
+        List<Callable<ModuleClass>> classShardReaders = new ArrayList<>();
+        for (String classShard : manifest.classes) {
+            Path classShardPath = resolveShard(shardDirectoryPath, classShard);
+            classShardReaders.add(() -> readClassShard(classShardPath, isAttendanceLoadedLazily));
+        }
+        List<Future<ModuleClass>> moduleClasses = ForkJoinPool.commonPool().invokeAll(classShardReaders);
+
+        TutorsPet tutorsPet = JsonTutorsPetReader.readTutorsPet(resolveShard(shardDirectoryPath, manifest.students));
+        if (!tutorsPet.getModuleClassList().isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, manifest.students));
+        }
+        Set<UUID> studentUuids = tutorsPet.getStudentList().stream()
+                .map(Student::getUuid)
+                .collect(Collectors.toSet());
+
+        for (Future<ModuleClass> future : moduleClasses) {
+            ModuleClass moduleClass = getClassShard(future);
+            if (tutorsPet.hasModuleClass(moduleClass)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE_CLASS);
+            }
+            if (!studentUuids.containsAll(moduleClass.getStudentUuids())) {
+                throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_CLASS);
+            }
+            tutorsPet.addModuleClass(moduleClass);
+        }
+        return tutorsPet;
+    }
+
+    /**
+     * Returns the path of the shard {@code shard} in the directory at {@code shardDirectoryPath}.
+     *
+     * @throws IllegalValueException if {@code shard} is not the name of a file in that directory.
+     */
+    private static Path resolveShard(Path shardDirectoryPath, String shard) throws IllegalValueException {
+        if (shard == null || !shardDirectoryPath.equals(shardDirectoryPath.resolve(shard).getParent())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, shard));
+        }
+        return shardDirectoryPath.resolve(shard);
+    }
+
+    private static ModuleClass readClassShard(Path classShardPath, boolean isAttendanceLoadedLazily)
+            throws IOException, IllegalValueException {
+        byte[] json = Files.readAllBytes(classShardPath);
+        JsonAdaptedModuleClass jsonAdaptedModuleClass = isAttendanceLoadedLazily
+                ? JsonTutorsPetReader.createLazyModuleClassReader(json).readValue(json)
+                : JsonUtil.createReader(JsonAdaptedModuleClass.class).readValue(json);
+        if (jsonAdaptedModuleClass == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_MODULE_CLASS);
+        }
+        return jsonAdaptedModuleClass.toModelType();
+    }
+
+    /**
+     * Returns the class read by {@code future}, or throws the exception it was read with.
+     */
+    private static ModuleClass getClassShard(Future<ModuleClass> future) throws IOException, IllegalValueException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            // the common pool wraps the checked exceptions of a task in runtime exceptions
+            Throwable cause = e.getCause();
+            while (cause.getClass() == RuntimeException.class && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new AssertionError(cause);
+        }
+    }
+
+    private static String writeStudentShard(List<Student> students, Path shardDirectoryPath) throws IOException {
+        String studentShard = STUDENT_SHARD_PREFIX + UUID.randomUUID() + SHARD_SUFFIX;
+        Path studentShardPath = shardDirectoryPath.resolve(studentShard);
+        JsonTutorsPetWriter.writeTutorsPet(students, List.of(), studentShardPath, false);
+        FileUtil.forceToDisk(studentShardPath);
+        return studentShard;
+    }
+
+    private static String writeClassShard(ModuleClass moduleClass, Path shardDirectoryPath) throws IOException {
+        String classShard = CLASS_SHARD_PREFIX + UUID.randomUUID() + SHARD_SUFFIX;
+        Path classShardPath = shardDirectoryPath.resolve(classShard);
+        FileUtil.writeToFile(classShardPath, JsonUtil.toCompactJsonString(new JsonAdaptedModuleClass(moduleClass)));
+        FileUtil.forceToDisk(classShardPath);
+        return classShard;
+    }
+
+    /**
+     * Deletes the shards in the directory at {@code shardDirectoryPath} that are not listed in {@code manifest},
+     * including those left behind by interrupted saves.
+     */
+    private static void deleteUnlistedShards(Path shardDirectoryPath, JsonAdaptedShardManifest manifest) {
+        Set<String> listedShards = new HashSet<>(manifest.classes);
+        listedShards.add(manifest.students);
+
+        try (Stream<Path> shards = Files.list(shardDirectoryPath)) {
+            for (Path shard : (Iterable<Path>) shards::iterator) {
+                String shardName = shard.getFileName().toString();
+                boolean isShard = shardName.startsWith(STUDENT_SHARD_PREFIX)
+                        || shardName.startsWith(CLASS_SHARD_PREFIX);
+                if (isShard && !listedShards.contains(shardName)) {
+                    Files.deleteIfExists(shard);
+                }
+            }
+        } catch (IOException ioe) {
+            // the shards are deleted on a later save instead
+            logger.warning("Error deleting unlisted shards in " + shardDirectoryPath + ": " + ioe);
+        }
+    }
+
+    private static boolean isSameElements(List<?> list, List<?> otherList) {
+        if (list.size() != otherList.size()) {
+            return false;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) != otherList.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setSavedData(ReadOnlyTutorsPet tutorsPet, JsonAdaptedShardManifest manifest) {
+        savedManifest = Optional.of(manifest);
+        savedStudents = new ArrayList<>(tutorsPet.getStudentList());
+        savedClassShards = new IdentityHashMap<>();
+        List<ModuleClass> moduleClasses = tutorsPet.getModuleClassList();
+        for (int i = 0; i < moduleClasses.size(); i++) {
+            savedClassShards.put(moduleClasses.get(i), manifest.classes.get(i));
+        }
+    }
+
+    /**
+     * Jackson-friendly version of the manifest, which lists the shards of the students and of each class in order.
+     */
+    @JsonPropertyOrder({MANIFEST_VERSION_FIELD, "students", "classes"})
+    static class JsonAdaptedShardManifest {
+
+        private final int manifestVersion;
+        private final String students;
+        private final List<String> classes;
+
+        @JsonCreator
+        public JsonAdaptedShardManifest(@JsonProperty(MANIFEST_VERSION_FIELD) int manifestVersion,
+                                        @JsonProperty("students") String students,
+                                        @JsonProperty("classes") List<String> classes) {
+            this.manifestVersion = manifestVersion;
+            this.students = students;
+            this.classes = classes;
+        }
+
+        public JsonAdaptedShardManifest(String students, List<String> classes) {
+            this(MANIFEST_VERSION, students, classes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof JsonAdaptedShardManifest // instanceof handles nulls
+                    && manifestVersion == ((JsonAdaptedShardManifest) other).manifestVersion
+                    && Objects.equals(students, ((JsonAdaptedShardManifest) other).students)
+                    && Objects.equals(classes, ((JsonAdaptedShardManifest) other).classes));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(manifestVersion, students, classes);
+        }
+    }
+}
@@ -67,7 +67,8 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
-        saveTutorsPet(tutorsPet, tutorsPetStorage.getTutorsPetFilePath());
+        logger.fine("Attempting to write to data file: " + tutorsPetStorage.getTutorsPetFilePath());
+        tutorsPetStorage.saveTutorsPet(tutorsPet);
     }
 
     @Override
@@ -75,4 +76,15 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         tutorsPetStorage.saveTutorsPet(tutorsPet, filePath);
     }
+
+    @Override
+    public void flushTutorsPet() throws IOException {
+        logger.fine("Attempting to flush data file: " + tutorsPetStorage.getTutorsPetFilePath());
+        tutorsPetStorage.flushTutorsPet();
+    }
+
+    @Override
+    public boolean hasPendingSaves() {
+        return tutorsPetStorage.hasPendingSaves();
+    }
 }
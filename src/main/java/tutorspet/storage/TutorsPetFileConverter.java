@@ -0,0 +1,104 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import tutorspet.commons.core.StorageFormat;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.ReadOnlyTutorsPet;
+
+/**
+ * Creates the storage of a TutorsPet data file in each {@link StorageFormat}, and converts data files between them.
+ *
+ * Every storage reads data files in any format, see {@link TutorsPetFileReader}, so a conversion reads the source
+ * file, together with its journal, in whichever format it is in. Conversions are lossless, as every format stores
+ * all of the data of TutorsPet.
+ * Can also be run from the command line with the arguments {@code SOURCE_FILE TARGET_FILE TARGET_FORMAT}.
+ */
+public class TutorsPetFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: TutorsPetFileConverter SOURCE_FILE TARGET_FILE TARGET_FORMAT\n"
+            + "TARGET_FORMAT is one of JSON, COMPACT_JSON, BINARY and SHARDED.";
+    public static final String MESSAGE_SOURCE_NOT_FOUND = "Data file %s not found.";
+
+    private TutorsPetFileConverter() {}
+
+    /**
+     * Returns a {@code TutorsPetStorage} that writes the data file at {@code filePath} in {@code format}.
+     */
+    public static TutorsPetStorage createStorage(Path filePath, StorageFormat format) {
+        return createStorage(filePath, format, false);
+    }
+
+    /**
+     * Returns a {@code TutorsPetStorage} that writes the data file at {@code filePath} in {@code format}.
+     *
+     * @param isAttendanceLoadedLazily whether the attendance records of lessons read are only converted into the
+     *                                 model when they are first needed.
+     */
+    public static TutorsPetStorage createStorage(Path filePath, StorageFormat format,
+            boolean isAttendanceLoadedLazily) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        switch (format) {
+        case JSON:
+            return new JsonTutorsPetStorage(filePath, true, isAttendanceLoadedLazily);
+        case COMPACT_JSON:
+            return new JsonTutorsPetStorage(filePath, false, isAttendanceLoadedLazily);
+        case BINARY:
+            return new BinaryTutorsPetStorage(filePath, isAttendanceLoadedLazily);
+        case SHARDED:
+            return new ShardedTutorsPetStorage(filePath, isAttendanceLoadedLazily);
+        default:
+            throw new AssertionError("Unknown storage format: " + format);
+        }
+    }
+
+    /**
+     * Writes the data in the file at {@code sourceFilePath} to the file at {@code targetFilePath} in
+     * {@code targetFormat}, replacing its contents.
+     *
+     * @throws DataConversionException if the source file is not in the correct format.
+     * @throws IOException if the source file is not found, or there was any problem writing to the target file.
+     */
+    public static void convert(Path sourceFilePath, Path targetFilePath, StorageFormat targetFormat)
+            throws DataConversionException, IOException {
+        requireNonNull(sourceFilePath);
+        requireNonNull(targetFilePath);
+        requireNonNull(targetFormat);
+
+        Optional<ReadOnlyTutorsPet> tutorsPet = new JournaledTutorsPetStorage(sourceFilePath).readTutorsPet();
+        if (tutorsPet.isEmpty()) {
+            throw new IOException(String.format(MESSAGE_SOURCE_NOT_FOUND, sourceFilePath));
+        }
+        // the journal of an older target file does not apply to the new one
+        Files.deleteIfExists(JournaledTutorsPetStorage.getJournalFilePath(targetFilePath));
+        createStorage(targetFilePath, targetFormat).saveTutorsPet(tutorsPet.get());
+    }
+
+    /**
+     * Converts a data file as described in {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        final StorageFormat targetFormat;
+        try {
+            targetFormat = StorageFormat.valueOf(args[2]);
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+        convert(Paths.get(args[0]), Paths.get(args[1]), targetFormat);
+    }
+}
@@ -0,0 +1,53 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import tutorspet.commons.core.StorageFormat;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.TutorsPet;
+
+/**
+ * Reads TutorsPet data from a data file in any {@link StorageFormat}, which is detected from the start of the file.
+ *
+ * Every storage reads its data file with this, so that existing data is kept when the storage format is changed,
+ * and is replaced by a data file in the new format on the next save.
+ */
+class TutorsPetFileReader {
+
+    private TutorsPetFileReader() {}
+
+    /**
+     * Reads the TutorsPet data in the data file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorsPet readTutorsPet(Path filePath) throws IOException, IllegalValueException {
+        return readTutorsPet(filePath, false);
+    }
+
+    /**
+     * Reads the TutorsPet data in the data file at {@code filePath}.
+     *
+     * @param isAttendanceLoadedLazily whether the attendance records of lessons are only converted into the model
+     *                                 when they are first needed.
+     * @throws IOException if the file cannot be read or is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorsPet readTutorsPet(Path filePath, boolean isAttendanceLoadedLazily)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (BinaryTutorsPetReader.isBinaryFile(filePath)) {
+            return BinaryTutorsPetReader.readTutorsPet(filePath, isAttendanceLoadedLazily);
+        }
+        if (ShardedTutorsPetStorage.isManifestFile(filePath)) {
+            return ShardedTutorsPetStorage.readShards(filePath, ShardedTutorsPetStorage.readManifest(filePath),
+                    isAttendanceLoadedLazily);
+        }
+        return JsonTutorsPetReader.readTutorsPet(filePath, isAttendanceLoadedLazily);
+    }
+}
@@ -42,4 +42,16 @@ public interface TutorsPetStorage {
      * @see #saveTutorsPet(ReadOnlyTutorsPet)
      */
     void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException;
+
+    /**
+     * Writes any saved data that is not yet in the data file, such as journaled changes, into the data file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushTutorsPet() throws IOException;
+
+    /**
+     * Returns true if some data passed to {@link #saveTutorsPet(ReadOnlyTutorsPet)} has not been written yet, or
+     * could not be written.
+     */
+    boolean hasPendingSaves();
 }
@@ -2,31 +2,53 @@ package tutorspet.storage.attendance;
 
 import static java.util.Collections.nCopies;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import javafx.util.Pair;
 import tutorspet.commons.core.index.Index;
 import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.JsonUtil;
 import tutorspet.model.attendance.AttendanceRecord;
 import tutorspet.model.attendance.AttendanceRecordList;
 import tutorspet.model.attendance.Week;
 
 /**
  * Jackson-friendly version of {@link AttendanceRecordList}.
+ * When read with {@link DeferringDeserializer}, the records are kept as compressed json until they are parsed with
+ * {@link #parseDeferredRecordList()}.
  */
 public class JsonAdaptedAttendanceRecordList {
 
+    /**
+     * The attribute of the Jackson deserialization context that, when set to the bytes of the json being read, makes
+     * {@link DeferringDeserializer} keep the records unparsed.
+     */
+    public static final String DEFER_PARSING_ATTRIBUTE = "deferAttendanceRecordListParsing";
+
     public static final String MESSAGE_DUPLICATE_ATTENDANCE_RECORD = "Attendance list contains duplicate record(s).";
     public static final String MESSAGE_INVALID_RECORD = "Attendance list contains invalid record(s).";
     public static final String MESSAGE_MISSING_ATTENDANCE_RECORD_LIST = "Attendance list data is corrupted.";
 
     private final List<JsonAdaptedAttendanceRecord> recordList = new ArrayList<>();
 
+    @JsonIgnore
+    private final byte[] deferredRecordList;
+
     /**
      * Constructs a {@code JsonAdaptedAttendanceRecordList} with the given attendance records.
      */
@@ -35,6 +57,15 @@ public class JsonAdaptedAttendanceRecordList {
         if (recordList != null) {
             this.recordList.addAll(recordList);
         }
+        deferredRecordList = null;
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedAttendanceRecordList} whose records are the deflated json
+     * {@code deferredRecordList}.
+     */
+    private JsonAdaptedAttendanceRecordList(byte[] deferredRecordList) {
+        this.deferredRecordList = deferredRecordList;
     }
 
     /**
@@ -47,6 +78,29 @@ public class JsonAdaptedAttendanceRecordList {
                     new JsonAdaptedAttendanceRecord(new Week(Index.fromZeroBased(i)), attendanceRecordList.get(i));
             recordList.add(record);
         }
+        deferredRecordList = null;
+    }
+
+    /**
+     * Returns true if the records were kept unparsed by {@link DeferringDeserializer}.
+     */
+    public boolean isDeferred() {
+        return deferredRecordList != null;
+    }
+
+    /**
+     * Parses the records kept unparsed by {@link DeferringDeserializer}.
+     *
+     * @throws IOException if the records are not in the correct format.
+     */
+    public JsonAdaptedAttendanceRecordList parseDeferredRecordList() throws IOException {
+        assert isDeferred();
+
+        try (JsonParser parser = JsonUtil.createParser(
+                new InflaterInputStream(new ByteArrayInputStream(deferredRecordList)))) {
+            parser.nextToken();
+            return parser.readValueAs(JsonAdaptedAttendanceRecordList.class);
+        }
     }
 
     /**
@@ -56,6 +110,8 @@ public class JsonAdaptedAttendanceRecordList {
      * @throws IllegalValueException if there were any data constraints violated in the adapted attendance records.
      */
     public AttendanceRecordList toModelType() throws IllegalValueException {
+        assert !isDeferred();
+
         if (recordList.size() == 0) {
             throw new IllegalValueException(MESSAGE_MISSING_ATTENDANCE_RECORD_LIST);
         }
@@ -82,4 +138,38 @@ public class JsonAdaptedAttendanceRecordList {
 
         return new AttendanceRecordList(attendanceRecords);
     }
+
+    /**
+     * Reads a {@code JsonAdaptedAttendanceRecordList}, keeping its records unparsed if the
+     * {@link #DEFER_PARSING_ATTRIBUTE} of the deserialization context is the bytes of the json being read.
+     * The records are then skipped over without being parsed, and kept as deflated copy of their bytes, as the records
+     * of a lesson repeat the same student UUIDs every week.
+     */
+    public static class DeferringDeserializer extends StdDeserializer<JsonAdaptedAttendanceRecordList> {
+
+        public DeferringDeserializer() {
+            super(JsonAdaptedAttendanceRecordList.class);
+        }
+
+        @Override
+        public JsonAdaptedAttendanceRecordList deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            Object source = context.getAttribute(DEFER_PARSING_ATTRIBUTE);
+            long start = parser.getTokenLocation().getByteOffset();
+            if (!(source instanceof byte[]) || start < 0) {
+                return context.readValue(parser, JsonAdaptedAttendanceRecordList.class);
+            }
+
+            parser.skipChildren();
+            long end = parser.getCurrentLocation().getByteOffset();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream output = new DeflaterOutputStream(bytes, deflater)) {
+                output.write((byte[]) source, (int) start, (int) (end - start));
+            } finally {
+                deflater.end();
+            }
+            return new JsonAdaptedAttendanceRecordList(bytes.toByteArray());
+        }
+    }
 }
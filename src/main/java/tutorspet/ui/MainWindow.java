@@ -39,6 +39,7 @@ public class MainWindow extends UiPart<Stage> {
     private StudentListPanel studentListPanel;
     private ModuleClassListPanel moduleClassListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private Stylesheet stylesheet;
 
@@ -122,17 +123,19 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        studentListPanel = new StudentListPanel(logic.getFilteredStudentList());
+        studentListPanel = new StudentListPanel(ObservableListAdapter.of(logic.getFilteredStudentList()));
         studentListPanelPlaceholder.getChildren().add(studentListPanel.getRoot());
 
-        moduleClassListPanel = new ModuleClassListPanel(logic.getFilteredModuleClassList());
+        moduleClassListPanel = new ModuleClassListPanel(ObservableListAdapter.of(logic.getFilteredModuleClassList()));
         moduleClassListPanelPlaceholder.getChildren().add(moduleClassListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTutorsPetFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getTutorsPetFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setUnsavedChangesListener(hasUnsavedChanges -> statusBarFooter.setSaveStatus(
+                hasUnsavedChanges ? StatusBarFooter.UNSAVED_CHANGES_STATUS : ""));
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -210,6 +213,21 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows that the latest changes could not be saved because of {@code message}.
+     */
+    void showSaveFailure(String message) {
+        resultDisplay.setFeedbackToUser(message);
+        statusBarFooter.setSaveStatus(StatusBarFooter.SAVE_FAILURE_STATUS);
+    }
+
+    /**
+     * Shows {@code message} in the result display.
+     */
+    void showFeedback(String message) {
+        resultDisplay.setFeedbackToUser(message);
+    }
+
     public StudentListPanel getStudentListPanel() {
         return studentListPanel;
     }
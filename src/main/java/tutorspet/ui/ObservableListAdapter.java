@@ -0,0 +1,42 @@
+package tutorspet.ui;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.replaceRange;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tutorspet.model.ListChange;
+import tutorspet.model.ObservedList;
+
+/**
+ * Adapts an {@code ObservedList} of the model into an unmodifiable JavaFX {@code ObservableList}, for the list views
+ * of the UI.
+ * The {@code ObservableList} is a copy of the {@code ObservedList} that is kept up to date by applying each change of
+ * the {@code ObservedList} to it. Only the UI pays for JavaFX list events, and the model stays usable without JavaFX.
+ * As the changes are applied on the thread that made them, the model must only be changed on the JavaFX application
+ * thread while the {@code ObservableList} is shown.
+ */
+public class ObservableListAdapter {
+
+    private ObservableListAdapter() {}
+
+    /**
+     * Returns an unmodifiable {@code ObservableList} that mirrors {@code source}.
+     */
+    public static <T> ObservableList<T> of(ObservedList<T> source) {
+        requireNonNull(source);
+
+        ObservableList<T> mirror = FXCollections.observableArrayList(source);
+        source.addObserver(change -> apply(change, mirror));
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Applies {@code change} to {@code mirror}, replacing elements in place where possible so that the list views
+     * can reuse their cells.
+     */
+    private static <T> void apply(ListChange<T> change, ObservableList<T> mirror) {
+        int from = change.getFrom();
+        replaceRange(mirror, from, from + change.getRemoved().size(), change.getAdded());
+    }
+}
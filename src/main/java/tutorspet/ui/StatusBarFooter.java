@@ -12,11 +12,17 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String UNSAVED_CHANGES_STATUS = "Unsaved changes";
+    public static final String SAVE_FAILURE_STATUS = "Save failed";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label saveStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -24,4 +30,11 @@ public class StatusBarFooter extends UiPart<Region> {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
+
+    /**
+     * Shows {@code status} as the state of the latest save.
+     */
+    public void setSaveStatus(String status) {
+        saveStatus.setText(status);
+    }
 }
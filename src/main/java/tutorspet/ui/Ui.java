@@ -9,4 +9,10 @@ public interface Ui {
 
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
+
+    /** Shows that the latest changes could not be saved, with the given {@code message}. */
+    void showSaveFailure(String message);
+
+    /** Shows {@code message} to the user in the result display. */
+    void showFeedback(String message);
 }
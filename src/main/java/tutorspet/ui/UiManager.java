@@ -50,6 +50,20 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showSaveFailure(String message) {
+        if (mainWindow != null) {
+            mainWindow.showSaveFailure(message);
+        }
+    }
+
+    @Override
+    public void showFeedback(String message) {
+        if (mainWindow != null) {
+            mainWindow.showFeedback(message);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
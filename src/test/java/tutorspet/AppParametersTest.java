@@ -39,6 +39,20 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "semester.txt");
+        expected.setScriptPath(Paths.get("semester.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("script", "a\0");
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void equals() {
         // same object -> returns true
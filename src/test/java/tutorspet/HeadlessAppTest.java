@@ -0,0 +1,121 @@
+package tutorspet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static tutorspet.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static tutorspet.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static tutorspet.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.TELEGRAM_DESC_BOB;
+import static tutorspet.testutil.TypicalStudent.AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.logic.LogicManager;
+import tutorspet.logic.commands.ExitCommand;
+import tutorspet.logic.commands.student.AddStudentCommand;
+import tutorspet.logic.commands.student.ListStudentCommand;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.storage.JsonTutorsPetStorage;
+import tutorspet.storage.JsonUserPrefsStorage;
+import tutorspet.storage.StorageManager;
+import tutorspet.testutil.StudentBuilder;
+
+public class HeadlessAppTest {
+
+    private static final String ADD_AMY = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY
+            + EMAIL_DESC_AMY;
+    private static final String ADD_BOB = AddStudentCommand.COMMAND_WORD + NAME_DESC_BOB + TELEGRAM_DESC_BOB
+            + EMAIL_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream error = new ByteArrayOutputStream();
+    private StorageManager storage;
+    private HeadlessApp headlessApp;
+
+    @BeforeEach
+    public void setUp() {
+        JsonTutorsPetStorage tutorsPetStorage = new JsonTutorsPetStorage(temporaryFolder.resolve("tutorsPet.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
+        headlessApp = new HeadlessApp(new LogicManager(model, storage), storage);
+    }
+
+    @Test
+    public void run_validCommands_printsResultsAndSaves() throws Exception {
+        int exitStatus = run(ADD_AMY, "", "# a comment", ListStudentCommand.COMMAND_WORD);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        String expectedOutput = String.format(AddStudentCommand.MESSAGE_SUCCESS, model.getFilteredStudentList().get(0))
+                + System.lineSeparator() + ListStudentCommand.MESSAGE_SUCCESS + System.lineSeparator();
+        assertEquals(expectedOutput, output.toString(StandardCharsets.UTF_8));
+        assertEquals(List.of(), getLines(error));
+
+        ReadOnlyTutorsPet savedData = storage.readTutorsPet().get();
+        assertEquals(List.of(new StudentBuilder(AMY).withTags().build()), savedData.getStudentList());
+    }
+
+    @Test
+    public void run_failingCommand_continuesAndReportsLine() throws Exception {
+        int exitStatus = run("delete-student 9", "unknown-command", ADD_AMY);
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILURE, exitStatus);
+        assertEquals(List.of(String.format(HeadlessApp.MESSAGE_COMMAND_FAILURE, 1,
+                MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX), String.format(HeadlessApp.MESSAGE_COMMAND_FAILURE, 2,
+                "Unknown command.")), getLines(error));
+        assertEquals(1, model.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        int exitStatus = run(ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB);
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertEquals(1, model.getFilteredStudentList().size());
+        assertTrue(Files.exists(temporaryFolder.resolve("tutorsPet.json")));
+    }
+
+    @Test
+    public void run_unreadableInput_returnsError() {
+        BufferedReader input = new BufferedReader(new StringReader("")) {
+            @Override
+            public String readLine() throws IOException {
+                throw new IOException("dummy exception");
+            }
+        };
+
+        assertEquals(HeadlessApp.EXIT_ERROR, headlessApp.run(input, new PrintStream(output), new PrintStream(error)));
+        assertEquals(List.of(String.format(HeadlessApp.MESSAGE_READ_FAILURE, "dummy exception")), getLines(error));
+    }
+
+    private int run(String... lines) {
+        BufferedReader input = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return headlessApp.run(input, new PrintStream(output, true, StandardCharsets.UTF_8),
+                new PrintStream(error, true, StandardCharsets.UTF_8));
+    }
+
+    private static List<String> getLines(ByteArrayOutputStream stream) {
+        String text = stream.toString(StandardCharsets.UTF_8);
+        return text.isEmpty() ? List.of() : List.of(text.split(System.lineSeparator()));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.commons.util.CollectionUtil.deepCopyList;
 import static tutorspet.commons.util.CollectionUtil.deepCopyMap;
+import static tutorspet.commons.util.CollectionUtil.replaceRange;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.testutil.Assert.assertThrows;
 
@@ -90,6 +91,32 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void replaceRange_sameSize_replacesInPlace() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3, 4));
+        replaceRange(list, 1, 3, Arrays.asList(5, 6));
+        assertEquals(Arrays.asList(1, 5, 6, 4), list);
+    }
+
+    @Test
+    public void replaceRange_differentSizes_shiftsRemainingElements() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3, 4));
+        replaceRange(list, 1, 3, Collections.singletonList(5));
+        assertEquals(Arrays.asList(1, 5, 4), list);
+
+        replaceRange(list, 1, 1, Arrays.asList(6, 7));
+        assertEquals(Arrays.asList(1, 6, 7, 5, 4), list);
+
+        replaceRange(list, 0, 5, Collections.emptyList());
+        assertEquals(Collections.emptyList(), list);
+    }
+
+    @Test
+    public void replaceRange_invalidRange_throwsIndexOutOfBoundsException() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> replaceRange(list, 1, 3, Collections.emptyList()));
+    }
+
     @Test
     public void testDeepCopyList_primitive() {
         List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
@@ -1,13 +1,22 @@
 package tutorspet.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -19,4 +28,36 @@ public class FileUtilTest {
         // null path -> throws NullPointerException
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
+
+    @Test
+    public void forceToDisk() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+
+        // file and directory -> contents unchanged
+        FileUtil.writeToFile(file, "contents");
+        FileUtil.forceToDisk(file);
+        FileUtil.forceToDisk(testFolder);
+        assertEquals("contents", FileUtil.readFromFile(file));
+
+        // missing file -> throws IOException
+        assertThrows(IOException.class, () -> FileUtil.forceToDisk(testFolder.resolve("missing.txt")));
+    }
+
+    @Test
+    public void moveAtomically() throws Exception {
+        Path source = testFolder.resolve("source.txt");
+        Path target = testFolder.resolve("target.txt");
+
+        // target does not exist
+        FileUtil.writeToFile(source, "first");
+        FileUtil.moveAtomically(source, target);
+        assertFalse(Files.exists(source));
+        assertEquals("first", FileUtil.readFromFile(target));
+
+        // target is replaced
+        FileUtil.writeToFile(source, "second");
+        FileUtil.moveAtomically(source, target);
+        assertFalse(Files.exists(source));
+        assertEquals("second", FileUtil.readFromFile(target));
+    }
 }
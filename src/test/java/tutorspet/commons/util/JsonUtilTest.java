@@ -1,12 +1,19 @@
 package tutorspet.commons.util;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import tutorspet.testutil.SerializableTestClass;
 import tutorspet.testutil.TestUtil;
 
@@ -39,6 +46,39 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void toCompactJsonString_writeThenRead_singleLineCorrectObject() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        String json = JsonUtil.toCompactJsonString(serializableTestClass);
+        assertFalse(json.contains("\n"));
+
+        SerializableTestClass readTestClass = JsonUtil.fromJsonString(json, SerializableTestClass.class);
+        assertEquals(SerializableTestClass.getNameTestValue(), readTestClass.getName());
+        assertEquals(SerializableTestClass.getListTestValues(), readTestClass.getListOfLocalDateTimes());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), readTestClass.getMapOfIntegerToString());
+    }
+
+    @Test
+    public void createGeneratorAndParser_writeThenRead_correctObject() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(outputStream, true)) {
+            generator.writeObject(serializableTestClass);
+        }
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, outputStream.toString(UTF_8));
+
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            SerializableTestClass readTestClass = parser.readValueAs(SerializableTestClass.class);
+            assertEquals(SerializableTestClass.getNameTestValue(), readTestClass.getName());
+            assertEquals(SerializableTestClass.getListTestValues(), readTestClass.getListOfLocalDateTimes());
+            assertEquals(SerializableTestClass.getHashMapTestValues(), readTestClass.getMapOfIntegerToString());
+        }
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.commons.util.StringUtil.containsWordIgnoreCase;
 import static tutorspet.commons.util.StringUtil.getDetails;
+import static tutorspet.commons.util.StringUtil.isWithinEditDistance;
 import static tutorspet.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
@@ -126,6 +127,42 @@ public class StringUtilTest {
         assertTrue(containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for isWithinEditDistance --------------------------------------
+
+    @Test
+    public void isWithinEditDistance_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> isWithinEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> isWithinEditDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> isWithinEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        // Same strings
+        assertTrue(isWithinEditDistance("", "", 0)); // Boundary case
+        assertTrue(isWithinEditDistance("alice", "alice", 0));
+
+        // One insertion, deletion or substitution
+        assertTrue(isWithinEditDistance("alice", "alicee", 1));
+        assertTrue(isWithinEditDistance("alice", "alce", 1));
+        assertTrue(isWithinEditDistance("alice", "alise", 1));
+        assertFalse(isWithinEditDistance("alice", "alise", 0));
+
+        // Transposition counts as two edits
+        assertTrue(isWithinEditDistance("alice", "alcie", 2));
+        assertFalse(isWithinEditDistance("alice", "alcie", 1));
+
+        // Edits at both ends and in the middle
+        assertTrue(isWithinEditDistance("kitten", "sitting", 3));
+        assertFalse(isWithinEditDistance("kitten", "sitting", 2));
+        assertTrue(isWithinEditDistance("student_4242", "student_4224", 2));
+        assertFalse(isWithinEditDistance("student_4242", "student_1234", 2));
+
+        // Lengths differ by more than the maximum distance
+        assertFalse(isWithinEditDistance("alice", "al", 2));
+        assertTrue(isWithinEditDistance("", "ab", 2)); // Boundary case
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -1,19 +1,27 @@
 package tutorspet.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutorspet.logic.LogicManager.FILE_OPS_ERROR_MESSAGE;
 import static tutorspet.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static tutorspet.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static tutorspet.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.TELEGRAM_DESC_BOB;
 import static tutorspet.logic.commands.student.AddStudentCommand.COMMAND_WORD;
 import static tutorspet.logic.commands.student.AddStudentCommand.MESSAGE_COMMIT;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalStudent.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +29,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.RunScriptCommand;
+import tutorspet.logic.commands.UndoCommand;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.logic.commands.student.ListStudentCommand;
 import tutorspet.logic.parser.exceptions.ParseException;
@@ -74,6 +84,30 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListStudentCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_commandWithoutModification_storageNotTouched() throws Exception {
+        Path tutorsPetFilePath = temporaryFolder.resolve("tutorsPet.json");
+
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        assertFalse(Files.exists(tutorsPetFilePath));
+
+        logic.execute(COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY);
+        assertTrue(Files.exists(tutorsPetFilePath));
+        assertFalse(logic.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_afterMarkUnsaved_dataSavedAgain() throws Exception {
+        Path tutorsPetFilePath = temporaryFolder.resolve("tutorsPet.json");
+
+        logic.markUnsaved();
+        assertTrue(logic.hasUnsavedChanges());
+
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        assertTrue(Files.exists(tutorsPetFilePath));
+        assertFalse(logic.hasUnsavedChanges());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonTutorsPetIoExceptionThrowingStub
@@ -92,6 +126,49 @@ public class LogicManagerTest {
         expectedModel.commit(String.format(MESSAGE_COMMIT, expectedStudent.getName()));
         String expectedMessage = FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
         assertCommandFailure(addStudentCommand, CommandException.class, expectedMessage, expectedModel);
+        assertTrue(logic.hasUnsavedChanges());
+    }
+
+    @Test
+    public void execute_runScript_savedOnceAndUndoneOnce() throws Exception {
+        JsonTutorsPetSaveCountingStub tutorsPetStorage =
+                new JsonTutorsPetSaveCountingStub(temporaryFolder.resolve("tutorsPet.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(tutorsPetStorage, userPrefsStorage));
+
+        Path scriptPath = Files.write(temporaryFolder.resolve("script.txt"), List.of(
+                COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY,
+                COMMAND_WORD + NAME_DESC_BOB + TELEGRAM_DESC_BOB + EMAIL_DESC_BOB));
+        logic.execute(RunScriptCommand.COMMAND_WORD + " " + scriptPath);
+        assertEquals(1, tutorsPetStorage.saveCount);
+        assertEquals(2, model.getFilteredStudentList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(2, tutorsPetStorage.saveCount);
+        assertEquals(0, model.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void markSaved_savePending_staysUnsavedUntilSaveCompletes() throws Exception {
+        JsonTutorsPetPendingSaveStub tutorsPetStorage =
+                new JsonTutorsPetPendingSaveStub(temporaryFolder.resolve("tutorsPet.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(tutorsPetStorage, userPrefsStorage));
+        List<Boolean> notifiedValues = new ArrayList<>();
+        logic.setUnsavedChangesListener(notifiedValues::add);
+
+        tutorsPetStorage.hasPendingSaves = true;
+        logic.execute(COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY);
+        assertTrue(logic.hasUnsavedChanges());
+
+        // an earlier save completes while the latest one is still pending
+        logic.markSaved();
+        assertTrue(logic.hasUnsavedChanges());
+
+        tutorsPetStorage.hasPendingSaves = false;
+        logic.markSaved();
+        assertFalse(logic.hasUnsavedChanges());
+        assertEquals(List.of(true, false), notifiedValues);
     }
 
     @Test
@@ -172,6 +249,41 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A stub class to count the number of times the save method is called.
+     */
+    private static class JsonTutorsPetSaveCountingStub extends JsonTutorsPetStorage {
+
+        private int saveCount = 0;
+
+        private JsonTutorsPetSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+            saveCount++;
+            super.saveTutorsPet(tutorsPet, filePath);
+        }
+    }
+
+    /**
+     * A stub class that reports whether saves are pending as set by the test.
+     */
+    private static class JsonTutorsPetPendingSaveStub extends JsonTutorsPetStorage {
+
+        private boolean hasPendingSaves = false;
+
+        private JsonTutorsPetPendingSaveStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public boolean hasPendingSaves() {
+            return hasPendingSaves;
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
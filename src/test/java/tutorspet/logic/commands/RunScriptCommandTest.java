@@ -0,0 +1,152 @@
+package tutorspet.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_STUDENT;
+import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutorspet.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static tutorspet.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static tutorspet.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.TELEGRAM_DESC_BOB;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_COMMAND_NOT_ALLOWED;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_LINE_FAILURE;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_SUCCESS;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.AMY;
+import static tutorspet.testutil.TypicalStudent.BOB;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.commands.student.AddStudentCommand;
+import tutorspet.logic.commands.student.ListStudentCommand;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.student.Student;
+import tutorspet.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RunScriptCommand}.
+ */
+public class RunScriptCommandTest {
+
+    private static final String ADD_AMY = AddStudentCommand.COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY
+            + EMAIL_DESC_AMY;
+    private static final String ADD_BOB = AddStudentCommand.COMMAND_WORD + NAME_DESC_BOB + TELEGRAM_DESC_BOB
+            + EMAIL_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+
+    @Test
+    public void constructor_nullScriptPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunScriptCommand(null));
+    }
+
+    @Test
+    public void execute_validScript_committedAsOneState() throws Exception {
+        Path scriptPath = writeScript(ADD_AMY, "", "# a comment", ListStudentCommand.COMMAND_WORD, "  " + ADD_BOB);
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 3, scriptPath);
+        Model expectedModel = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+        expectedModel.addStudent(new StudentBuilder(AMY).withTags().build());
+        expectedModel.addStudent(new StudentBuilder(BOB).withTags().build());
+        expectedModel.commit(expectedMessage);
+        assertCommandSuccess(new RunScriptCommand(scriptPath), model, expectedMessage, expectedModel);
+
+        // a single undo reverts the whole script
+        assertEquals(expectedMessage, model.undo());
+        assertFalse(model.canUndo());
+        assertEquals(getTypicalTutorsPet(), model.getTutorsPet());
+    }
+
+    @Test
+    public void execute_scriptWithoutModification_nothingCommitted() throws Exception {
+        Path scriptPath = writeScript(ListStudentCommand.COMMAND_WORD);
+
+        assertEquals(new CommandResult(String.format(MESSAGE_SUCCESS, 1, scriptPath)),
+                new RunScriptCommand(scriptPath).execute(model));
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_failingLine_noChangesMade() throws Exception {
+        // the second line adds a student that already exists
+        Path scriptPath = writeScript(ADD_AMY, ADD_AMY, ADD_BOB);
+        assertCommandFailure(new RunScriptCommand(scriptPath), model,
+                String.format(MESSAGE_LINE_FAILURE, 2, scriptPath, ADD_AMY, MESSAGE_DUPLICATE_STUDENT));
+        assertFalse(model.canUndo());
+
+        // the model can still be used normally afterwards
+        model.addStudent(AMY);
+        model.commit(ADD_AMY);
+        assertTrue(model.canUndo());
+    }
+
+    @Test
+    public void execute_unparsableLine_noChangesMade() throws Exception {
+        Path scriptPath = writeScript(ADD_AMY, "unknown-command");
+        assertCommandFailure(new RunScriptCommand(scriptPath), model,
+                String.format(MESSAGE_LINE_FAILURE, 2, scriptPath, "unknown-command", MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void execute_commandNotAllowed_noChangesMade() throws Exception {
+        List<String> commandWords = List.of(UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD,
+                ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, RunScriptCommand.COMMAND_WORD + " other.txt");
+        for (String commandWord : commandWords) {
+            Path scriptPath = writeScript(ADD_AMY, commandWord);
+            assertCommandFailure(new RunScriptCommand(scriptPath), model,
+                    String.format(MESSAGE_LINE_FAILURE, 2, scriptPath, commandWord, MESSAGE_COMMAND_NOT_ALLOWED));
+        }
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        List<Student> expectedStudents = List.copyOf(model.getFilteredStudentList());
+
+        assertThrows(CommandException.class, () -> new RunScriptCommand(scriptPath).execute(model));
+        assertEquals(expectedStudents, model.getFilteredStudentList());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand runScriptCommand = new RunScriptCommand(Path.of("a.txt"));
+
+        // same object -> returns true
+        assertTrue(runScriptCommand.equals(runScriptCommand));
+
+        // same values -> returns true
+        assertTrue(runScriptCommand.equals(new RunScriptCommand(Path.of("a.txt"))));
+
+        // different types -> returns false
+        assertFalse(runScriptCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runScriptCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(runScriptCommand.equals(new RunScriptCommand(Path.of("b.txt"))));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        return Files.write(Files.createTempFile(temporaryFolder, "script", ".txt"), List.of(lines));
+    }
+}
@@ -0,0 +1,109 @@
+package tutorspet.logic.commands.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.CommandTestUtil.showModuleClassAtIndex;
+import static tutorspet.logic.commands.attendance.ClassReportCommand.MESSAGE_NO_CLASSES;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ClassReportCommand}.
+ */
+public class ClassReportCommandTest {
+
+    private static final String REPORT_CS2103T_TUTORIAL = "Attendance report for CS2103T Tutorial:\n"
+            + "Alice Pauline: average participation 65.50 (lowest 51, highest 80), absent for 8 of 10 weeks\n"
+            + "Benson Meier: average participation 33.00 (lowest 33, highest 33), absent for 9 of 10 weeks\n"
+            + "Average participation distribution: 0-19: 0, 20-39: 1, 40-59: 0, 60-79: 1, 80-100: 0, "
+            + "no attendance: 0";
+    private static final String REPORT_CS2100_LAB = "Attendance report for CS2100 Lab:\n"
+            + "There are no students in this class.";
+    private static final String REPORT_CS2100_TUTORIAL = "Attendance report for CS2100 Tutorial:\n"
+            + "Alice Pauline: did not attend any lesson, absent for 0 of 0 weeks\n"
+            + "Average participation distribution: 0-19: 0, 20-39: 0, 40-59: 0, 60-79: 0, 80-100: 0, "
+            + "no attendance: 1";
+
+    private final Model model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+
+    @Test
+    public void constructor_nullIndex_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ClassReportCommand(null));
+    }
+
+    @Test
+    public void execute_oneClass_success() {
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+
+        assertCommandSuccess(new ClassReportCommand(INDEX_FIRST_ITEM), model, REPORT_CS2103T_TUTORIAL,
+                expectedModel);
+        assertCommandSuccess(new ClassReportCommand(INDEX_SECOND_ITEM), model, REPORT_CS2100_LAB, expectedModel);
+    }
+
+    @Test
+    public void execute_allClasses_success() {
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        String expectedMessage = REPORT_CS2103T_TUTORIAL + "\n\n" + REPORT_CS2100_LAB + "\n\n"
+                + REPORT_CS2100_TUTORIAL;
+
+        assertCommandSuccess(new ClassReportCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_filteredList_onlyDisplayedClasses() {
+        showModuleClassAtIndex(model, INDEX_FIRST_ITEM);
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        showModuleClassAtIndex(expectedModel, INDEX_FIRST_ITEM);
+
+        assertCommandSuccess(new ClassReportCommand(), model, REPORT_CS2103T_TUTORIAL, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidClassIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredModuleClassList().size() + 1);
+
+        assertCommandFailure(new ClassReportCommand(outOfBoundIndex), model,
+                MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noClasses_failure() {
+        model.updateFilteredModuleClassList(moduleClass -> false);
+
+        assertCommandFailure(new ClassReportCommand(), model, MESSAGE_NO_CLASSES);
+    }
+
+    @Test
+    public void equals() {
+        ClassReportCommand classReportCommand = new ClassReportCommand(INDEX_FIRST_ITEM);
+
+        // same object -> returns true
+        assertTrue(classReportCommand.equals(classReportCommand));
+
+        // same values -> returns true
+        assertTrue(classReportCommand.equals(new ClassReportCommand(INDEX_FIRST_ITEM)));
+        assertTrue(new ClassReportCommand().equals(new ClassReportCommand()));
+
+        // different types -> returns false
+        assertFalse(classReportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(classReportCommand.equals(null));
+
+        // different class -> returns false
+        assertFalse(classReportCommand.equals(new ClassReportCommand(INDEX_SECOND_ITEM)));
+        assertFalse(classReportCommand.equals(new ClassReportCommand()));
+    }
+}
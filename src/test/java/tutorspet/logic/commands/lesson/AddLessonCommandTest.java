@@ -2,6 +2,7 @@ package tutorspet.logic.commands.lesson;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_CLASHING_LESSON;
 import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_LESSON;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
 import static tutorspet.commons.core.Messages.MESSAGE_OVERLAP_LESSON;
@@ -12,6 +13,7 @@ import static tutorspet.logic.commands.lesson.AddLessonCommand.MESSAGE_SUCCESS;
 import static tutorspet.logic.util.ModuleClassUtil.addLessonToModuleClass;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
 import static tutorspet.testutil.TypicalTutorsPet.getOnlyModuleClassTutorsPet;
 
 import java.time.LocalTime;
@@ -88,6 +90,18 @@ public class AddLessonCommandTest {
         assertCommandFailure(addLessonCommand, model, MESSAGE_OVERLAP_LESSON);
     }
 
+    @Test
+    public void execute_lessonClashingWithOtherModuleClass_failure() {
+        // the second class has a lesson on Friday from 08:00 to 10:00
+        Lesson lesson = new LessonBuilder().withStartTime(LocalTime.of(9, 0))
+                .withEndTime(LocalTime.of(12, 0))
+                .withDay(Day.FRIDAY).build();
+        AddLessonCommand addLessonCommand = new AddLessonCommand(INDEX_FIRST_ITEM, lesson);
+
+        assertCommandFailure(addLessonCommand, model, String.format(MESSAGE_CLASHING_LESSON,
+                CS2100_LAB.getName()));
+    }
+
     @Test
     public void execute_invalidClassIndexUnfilteredList_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredModuleClassList().size() + 1);
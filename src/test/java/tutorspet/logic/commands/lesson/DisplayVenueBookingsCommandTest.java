@@ -0,0 +1,91 @@
+package tutorspet.logic.commands.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.lesson.DisplayVenueBookingsCommand.MESSAGE_NO_VENUE_BOOKINGS;
+import static tutorspet.logic.commands.lesson.DisplayVenueBookingsCommand.MESSAGE_VENUE_BOOKINGS;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_TUTORIAL;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.testutil.LessonBuilder;
+import tutorspet.testutil.ModuleClassBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DisplayVenueBookingsCommand}.
+ */
+public class DisplayVenueBookingsCommandTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DisplayVenueBookingsCommand(null, Optional.empty()));
+        assertThrows(NullPointerException.class, () -> new DisplayVenueBookingsCommand(new Venue("zoom"), null));
+    }
+
+    @Test
+    public void execute_venue_success() {
+        // CS2100_LAB has a lesson at S17-0302 on Friday from 08:00 to 10:00
+        ModuleClass moduleClass = new ModuleClassBuilder(CS2100_TUTORIAL).withLessons(new LessonBuilder()
+                .withDay(Day.MONDAY).withVenue("S17-0302").build()).build();
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        tutorsPet.setModuleClass(CS2100_TUTORIAL, moduleClass);
+        Model model = new ModelManager(tutorsPet, new UserPrefs());
+        Model expectedModel = new ModelManager(tutorsPet, new UserPrefs());
+        Venue venue = new Venue("S17-0302");
+
+        // every day
+        String expectedMessage = String.format(MESSAGE_VENUE_BOOKINGS, venue)
+                + "\nCS2100 Tutorial Monday 08:00 to 10:00"
+                + "\nCS2100 Lab Friday 08:00 to 10:00";
+        assertCommandSuccess(new DisplayVenueBookingsCommand(venue, Optional.empty()), model, expectedMessage,
+                expectedModel);
+
+        // one day
+        expectedMessage = String.format(MESSAGE_VENUE_BOOKINGS, venue) + "\nCS2100 Lab Friday 08:00 to 10:00";
+        assertCommandSuccess(new DisplayVenueBookingsCommand(venue, Optional.of(Day.FRIDAY)), model, expectedMessage,
+                expectedModel);
+
+        // no lessons on the day
+        assertCommandSuccess(new DisplayVenueBookingsCommand(venue, Optional.of(Day.SUNDAY)), model,
+                String.format(MESSAGE_NO_VENUE_BOOKINGS, venue), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        Venue venue = new Venue("zoom");
+        DisplayVenueBookingsCommand displayVenueOnDayCommand =
+                new DisplayVenueBookingsCommand(venue, Optional.of(Day.MONDAY));
+
+        // same object -> returns true
+        assertTrue(displayVenueOnDayCommand.equals(displayVenueOnDayCommand));
+
+        // same values -> returns true
+        assertTrue(displayVenueOnDayCommand.equals(new DisplayVenueBookingsCommand(venue, Optional.of(Day.MONDAY))));
+
+        // different types -> returns false
+        assertFalse(displayVenueOnDayCommand.equals(5));
+        assertFalse(displayVenueOnDayCommand.equals(new DisplayVenueConflictsCommand()));
+
+        // null -> returns false
+        assertFalse(displayVenueOnDayCommand.equals(null));
+
+        // different days -> returns false
+        assertFalse(displayVenueOnDayCommand.equals(new DisplayVenueBookingsCommand(venue, Optional.empty())));
+
+        // different venues -> returns false
+        assertFalse(displayVenueOnDayCommand.equals(new DisplayVenueBookingsCommand(new Venue("COM1"),
+                Optional.of(Day.MONDAY))));
+    }
+}
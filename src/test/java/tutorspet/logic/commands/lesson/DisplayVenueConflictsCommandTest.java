@@ -0,0 +1,71 @@
+package tutorspet.logic.commands.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.lesson.DisplayVenueConflictsCommand.MESSAGE_NO_VENUE_CONFLICTS;
+import static tutorspet.logic.commands.lesson.DisplayVenueConflictsCommand.MESSAGE_VENUE_CONFLICTS;
+import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_TUTORIAL;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.testutil.LessonBuilder;
+import tutorspet.testutil.ModuleClassBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DisplayVenueConflictsCommand}.
+ */
+public class DisplayVenueConflictsCommandTest {
+
+    private final Model model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+
+    @Test
+    public void execute_noConflicts_success() {
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        assertCommandSuccess(new DisplayVenueConflictsCommand(), model, MESSAGE_NO_VENUE_CONFLICTS, expectedModel);
+    }
+
+    @Test
+    public void execute_conflicts_success() {
+        // CS2100_LAB has a lesson at S17-0302 on Friday from 08:00 to 10:00
+        ModuleClass moduleClass = new ModuleClassBuilder(CS2100_TUTORIAL).withLessons(new LessonBuilder()
+                .withDay(Day.FRIDAY).withStartTime(LocalTime.of(9, 0)).withEndTime(LocalTime.of(11, 0))
+                .withVenue("S17-0302").build()).build();
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        tutorsPet.setModuleClass(CS2100_TUTORIAL, moduleClass);
+        Model modelWithConflicts = new ModelManager(tutorsPet, new UserPrefs());
+        Model expectedModel = new ModelManager(tutorsPet, new UserPrefs());
+        String expectedMessage = MESSAGE_VENUE_CONFLICTS
+                + "\nS17-0302: CS2100 Lab Friday 08:00 to 10:00"
+                + "\nS17-0302: CS2100 Tutorial Friday 09:00 to 11:00";
+        assertCommandSuccess(new DisplayVenueConflictsCommand(), modelWithConflicts, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        DisplayVenueConflictsCommand displayVenueConflictsCommand = new DisplayVenueConflictsCommand();
+
+        // same object -> returns true
+        assertTrue(displayVenueConflictsCommand.equals(displayVenueConflictsCommand));
+
+        // same type -> returns true
+        assertTrue(displayVenueConflictsCommand.equals(new DisplayVenueConflictsCommand()));
+
+        // different types -> returns false
+        assertFalse(displayVenueConflictsCommand.equals(5));
+        assertFalse(displayVenueConflictsCommand.equals(new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM)));
+
+        // null -> returns false
+        assertFalse(displayVenueConflictsCommand.equals(null));
+    }
+}
@@ -2,6 +2,7 @@ package tutorspet.logic.commands.lesson;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_CLASHING_LESSON;
 import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_LESSON;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
@@ -24,7 +25,8 @@ import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
 import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
 import static tutorspet.testutil.TypicalIndexes.INDEX_THIRD_ITEM;
-import static tutorspet.testutil.TypicalLesson.LESSON_FRI_8_TO_10;
+import static tutorspet.testutil.TypicalLesson.LESSON_WED_2_TO_4;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
 import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
 
 import org.junit.jupiter.api.Test;
@@ -68,7 +70,7 @@ public class EditLessonCommandTest {
         Index lessonIndex = INDEX_FIRST_ITEM;
 
         EditLessonDescriptor editLessonDescriptor =
-                new EditLessonDescriptorBuilder(DESC_LESSON_FRI_8_TO_10).build();
+                new EditLessonDescriptorBuilder(DESC_LESSON_WED_2_TO_4).build();
         EditLessonCommand editLessonCommand = new EditLessonCommand(
                 moduleClassIndex, lessonIndex, editLessonDescriptor);
 
@@ -76,7 +78,7 @@ public class EditLessonCommandTest {
         Lesson lessonToEdit = moduleClass.getLessons().get(lessonIndex.getZeroBased());
         AttendanceRecordList attendanceRecordList =
                 moduleClass.getLessons().get(lessonIndex.getZeroBased()).getAttendanceRecordList();
-        Lesson editedLesson = new LessonBuilder(LESSON_FRI_8_TO_10)
+        Lesson editedLesson = new LessonBuilder(LESSON_WED_2_TO_4)
                 .withAttendanceRecordList(attendanceRecordList).build();
 
         ModuleClass updatedModuleClass = editLessonInModuleClass(moduleClass, lessonToEdit, editedLesson);
@@ -199,6 +201,16 @@ public class EditLessonCommandTest {
         assertCommandFailure(editLessonCommand, model, MESSAGE_OVERLAP_LESSON);
     }
 
+    @Test
+    public void execute_lessonClashingWithOtherModuleClass_failure() {
+        // the first class has no lesson on Friday, but the second class has a lesson from 08:00 to 10:00
+        EditLessonDescriptor descriptor = new EditLessonDescriptorBuilder(DESC_LESSON_FRI_8_TO_10).build();
+        EditLessonCommand editLessonCommand = new EditLessonCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, descriptor);
+
+        assertCommandFailure(editLessonCommand, model, String.format(MESSAGE_CLASHING_LESSON,
+                CS2100_LAB.getName()));
+    }
+
     @Test
     public void execute_invalidModuleClassIndex_failure() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredModuleClassList().size() + 1);
@@ -0,0 +1,89 @@
+package tutorspet.logic.commands.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.lesson.Day;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FreeSlotsCommand}.
+ */
+public class FreeSlotsCommandTest {
+
+    private static final LocalTime EIGHT = LocalTime.of(8, 0);
+    private static final LocalTime SIX_PM = LocalTime.of(18, 0);
+
+    private final Model model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FreeSlotsCommand(null, EIGHT, SIX_PM));
+        assertThrows(NullPointerException.class, () -> new FreeSlotsCommand(List.of(Day.MONDAY), null, SIX_PM));
+        assertThrows(NullPointerException.class, () -> new FreeSlotsCommand(List.of(Day.MONDAY), EIGHT, null));
+    }
+
+    @Test
+    public void constructor_startTimeNotBeforeEndTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FreeSlotsCommand(List.of(Day.MONDAY), SIX_PM, EIGHT));
+    }
+
+    @Test
+    public void execute_oneDay_success() {
+        // the typical classes have lessons on Tuesday from 10:30 to 11:30
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        String expectedMessage = "Free time slots from 08:00 to 18:00:\n"
+                + "Tuesday: 08:00 to 10:30, 11:30 to 18:00";
+
+        assertCommandSuccess(new FreeSlotsCommand(List.of(Day.TUESDAY), EIGHT, SIX_PM), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_severalDays_success() {
+        // the typical classes have lessons on Thursday from 10:00 to 11:00 and on Friday from 08:00 to 10:00
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        String expectedMessage = "Free time slots from 08:00 to 10:00:\n"
+                + "Wednesday: 08:00 to 10:00\n"
+                + "Thursday: 08:00 to 10:00\n"
+                + "Friday: " + FreeSlotsCommand.MESSAGE_NO_FREE_TIME_SLOTS;
+
+        assertCommandSuccess(new FreeSlotsCommand(Arrays.asList(Day.WEDNESDAY, Day.THURSDAY, Day.FRIDAY), EIGHT,
+                LocalTime.of(10, 0)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand freeSlotsCommand = new FreeSlotsCommand(List.of(Day.MONDAY), EIGHT, SIX_PM);
+
+        // same object -> returns true
+        assertTrue(freeSlotsCommand.equals(freeSlotsCommand));
+
+        // same values -> returns true
+        assertTrue(freeSlotsCommand.equals(new FreeSlotsCommand(List.of(Day.MONDAY), EIGHT, SIX_PM)));
+
+        // different types -> returns false
+        assertFalse(freeSlotsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(freeSlotsCommand.equals(null));
+
+        // different days -> returns false
+        assertFalse(freeSlotsCommand.equals(new FreeSlotsCommand(List.of(Day.TUESDAY), EIGHT, SIX_PM)));
+
+        // different times -> returns false
+        assertFalse(freeSlotsCommand.equals(new FreeSlotsCommand(List.of(Day.MONDAY), LocalTime.MIN, SIX_PM)));
+        assertFalse(freeSlotsCommand.equals(new FreeSlotsCommand(List.of(Day.MONDAY), EIGHT, LocalTime.NOON)));
+    }
+}
@@ -0,0 +1,98 @@
+package tutorspet.logic.commands.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.student.SearchStudentCommand.MESSAGE_BEST_MATCHES;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalStudent.CARL;
+import static tutorspet.testutil.TypicalStudent.DANIEL;
+import static tutorspet.testutil.TypicalStudent.ELLE;
+import static tutorspet.testutil.TypicalStudent.FIONA;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.StudentInUuidCollectionPredicate;
+import tutorspet.model.student.StudentRankingComparator;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchStudentCommand}.
+ */
+public class SearchStudentCommandTest {
+
+    private Model model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchStudentCommand searchFirstCommand = new SearchStudentCommand(Collections.singletonList("first"));
+        SearchStudentCommand searchSecondCommand = new SearchStudentCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        SearchStudentCommand searchFirstCommandCopy = new SearchStudentCommand(Collections.singletonList("first"));
+        assertTrue(searchFirstCommand.equals(searchFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_noMatchingKeywords_noStudentFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
+        SearchStudentCommand command = new SearchStudentCommand(Arrays.asList("xyz", "qwerty"));
+        expectedModel.updateFilteredStudentList(new StudentInUuidCollectionPredicate(Collections.emptySet()));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_prefixKeyword_studentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2) + "\n"
+                + String.format(MESSAGE_BEST_MATCHES, "Carl Kurz, Fiona Kunz");
+        SearchStudentCommand command = new SearchStudentCommand(Collections.singletonList("KU"));
+        expectedModel.updateFilteredStudentList(preparePredicate(CARL, FIONA),
+                new StudentRankingComparator(Arrays.asList(CARL, FIONA)));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_multipleKeywordsWithTypo_studentsFoundAndRanked() {
+        // "Elle Meyer" matches both keywords, one of them with a typo
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3) + "\n"
+                + String.format(MESSAGE_BEST_MATCHES, "Elle Meyer, Benson Meier, Daniel Meier");
+        SearchStudentCommand command = new SearchStudentCommand(Arrays.asList("elle", "meier"));
+        expectedModel.updateFilteredStudentList(preparePredicate(BENSON, DANIEL, ELLE),
+                new StudentRankingComparator(Arrays.asList(ELLE, BENSON, DANIEL)));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredStudentList());
+    }
+
+    private StudentInUuidCollectionPredicate preparePredicate(Student... students) {
+        return new StudentInUuidCollectionPredicate(Arrays.stream(students).map(Student::getUuid)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,36 @@
+package tutorspet.logic.parser;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.RunScriptCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.RunScriptCommand;
+
+public class RunScriptCommandParserTest {
+
+    private RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRunScriptCommand() {
+        assertParseSuccess(parser, " semester.txt", new RunScriptCommand(Paths.get("semester.txt")));
+
+        // path with spaces
+        assertParseSuccess(parser, "  scripts/week 1.txt  ", new RunScriptCommand(Paths.get("scripts/week 1.txt")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+
+        // no path
+        assertParseFailure(parser, "  ", expectedMessage);
+
+        // invalid path
+        assertParseFailure(parser, " a\0b", expectedMessage);
+    }
+}
@@ -7,10 +7,13 @@ import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_ATTENDANCE_33;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_80;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_1;
+import static tutorspet.logic.commands.lesson.DisplayVenueCommand.KEYWORD_CONFLICTS;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_DAY;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_PARTICIPATION_SCORE;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_VENUE;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_WEEK;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.LessonTestUtil.getAddLessonCommand;
@@ -22,8 +25,10 @@ import static tutorspet.testutil.StudentTestUtil.getEditStudentDescriptorDetails
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
 import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -34,10 +39,12 @@ import tutorspet.logic.commands.LinkCommand;
 import tutorspet.logic.commands.ListCommand;
 import tutorspet.logic.commands.RedoCommand;
 import tutorspet.logic.commands.ResetCommand;
+import tutorspet.logic.commands.RunScriptCommand;
 import tutorspet.logic.commands.UndoCommand;
 import tutorspet.logic.commands.UnlinkCommand;
 import tutorspet.logic.commands.ViewHistoryCommand;
 import tutorspet.logic.commands.attendance.AddAttendanceCommand;
+import tutorspet.logic.commands.attendance.ClassReportCommand;
 import tutorspet.logic.commands.attendance.DeleteAttendanceCommand;
 import tutorspet.logic.commands.attendance.EditAttendanceCommand;
 import tutorspet.logic.commands.attendance.EditAttendanceCommand.EditAttendanceDescriptor;
@@ -45,9 +52,12 @@ import tutorspet.logic.commands.attendance.FindAttendanceCommand;
 import tutorspet.logic.commands.attendance.StatisticsCommand;
 import tutorspet.logic.commands.lesson.AddLessonCommand;
 import tutorspet.logic.commands.lesson.DeleteLessonCommand;
+import tutorspet.logic.commands.lesson.DisplayVenueBookingsCommand;
 import tutorspet.logic.commands.lesson.DisplayVenueCommand;
+import tutorspet.logic.commands.lesson.DisplayVenueConflictsCommand;
 import tutorspet.logic.commands.lesson.EditLessonCommand;
 import tutorspet.logic.commands.lesson.EditLessonCommand.EditLessonDescriptor;
+import tutorspet.logic.commands.lesson.FreeSlotsCommand;
 import tutorspet.logic.commands.moduleclass.AddModuleClassCommand;
 import tutorspet.logic.commands.moduleclass.ClearModuleClassCommand;
 import tutorspet.logic.commands.moduleclass.DeleteModuleClassCommand;
@@ -63,11 +73,14 @@ import tutorspet.logic.commands.student.EditStudentCommand.EditStudentDescriptor
 import tutorspet.logic.commands.student.FindStudentCommand;
 import tutorspet.logic.commands.student.ListStudentCommand;
 import tutorspet.logic.commands.student.ListStudentInClassCommand;
+import tutorspet.logic.commands.student.SearchStudentCommand;
 import tutorspet.logic.parser.exceptions.ParseException;
 import tutorspet.model.attendance.Attendance;
 import tutorspet.model.attendance.Week;
 import tutorspet.model.components.name.NameContainsKeywordsPredicate;
+import tutorspet.model.lesson.Day;
 import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.Venue;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
 import tutorspet.testutil.EditAttendanceDescriptorBuilder;
@@ -131,6 +144,14 @@ public class TutorsPetParserTest {
         assertEquals(new FindStudentCommand(new NameContainsKeywordsPredicate<>(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_searchStudent() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        SearchStudentCommand command = (SearchStudentCommand) parser.parseCommand(SearchStudentCommand.COMMAND_WORD
+                + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new SearchStudentCommand(keywords), command);
+    }
+
     @Test
     public void parseCommand_addModuleClass() throws Exception {
         ModuleClass moduleClass = new ModuleClassBuilder().build();
@@ -334,6 +355,13 @@ public class TutorsPetParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + NON_EMPTY_STRING) instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        RunScriptCommand command = (RunScriptCommand) parser.parseCommand(
+                RunScriptCommand.COMMAND_WORD + " semester.txt");
+        assertEquals(new RunScriptCommand(Paths.get("semester.txt")), command);
+    }
+
     @Test
     public void parseCommand_reset() throws Exception {
         assertTrue(parser.parseCommand(ResetCommand.COMMAND_WORD) instanceof ResetCommand);
@@ -355,6 +383,19 @@ public class TutorsPetParserTest {
         assertEquals(expectedCommand, altCommand);
     }
 
+    @Test
+    public void parseCommand_displayVenueBookings() throws Exception {
+        DisplayVenueBookingsCommand command = (DisplayVenueBookingsCommand) parser.parseCommand(
+                DisplayVenueCommand.COMMAND_WORD + " " + PREFIX_VENUE + "COM1-0208");
+        assertEquals(new DisplayVenueBookingsCommand(new Venue("COM1-0208"), Optional.empty()), command);
+    }
+
+    @Test
+    public void parseCommand_displayVenueConflicts() throws Exception {
+        assertTrue(parser.parseCommand(DisplayVenueCommand.COMMAND_WORD + " " + KEYWORD_CONFLICTS)
+                instanceof DisplayVenueConflictsCommand);
+    }
+
     @Test
     public void parseCommand_statistics() throws Exception {
         StatisticsCommand expectedCommand = new StatisticsCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM);
@@ -370,6 +411,23 @@ public class TutorsPetParserTest {
         assertEquals(expectedCommand, altCommand);
     }
 
+    @Test
+    public void parseCommand_freeSlots() throws Exception {
+        assertTrue(parser.parseCommand(FreeSlotsCommand.COMMAND_WORD) instanceof FreeSlotsCommand);
+        FreeSlotsCommand command = (FreeSlotsCommand) parser.parseCommand(FreeSlotsCommand.COMMAND_WORD + " "
+                + PREFIX_DAY + "Monday");
+        assertEquals(new FreeSlotsCommand(List.of(Day.MONDAY), FreeSlotsCommand.DEFAULT_START_TIME,
+                FreeSlotsCommand.DEFAULT_END_TIME), command);
+    }
+
+    @Test
+    public void parseCommand_classReport() throws Exception {
+        assertTrue(parser.parseCommand(ClassReportCommand.COMMAND_WORD) instanceof ClassReportCommand);
+        ClassReportCommand command = (ClassReportCommand) parser.parseCommand(ClassReportCommand.COMMAND_WORD + " "
+                + PREFIX_CLASS_INDEX + INDEX_FIRST_ITEM.getOneBased());
+        assertEquals(new ClassReportCommand(INDEX_FIRST_ITEM), command);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
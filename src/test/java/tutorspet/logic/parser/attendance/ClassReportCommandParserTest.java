@@ -0,0 +1,47 @@
+package tutorspet.logic.parser.attendance;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static tutorspet.logic.commands.attendance.ClassReportCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.attendance.ClassReportCommand;
+
+public class ClassReportCommandParserTest {
+
+    private ClassReportCommandParser parser = new ClassReportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsClassReportCommand() {
+        // no args
+        assertParseSuccess(parser, " ", new ClassReportCommand());
+
+        // class specified
+        assertParseSuccess(parser, " " + PREFIX_CLASS_INDEX + "2", new ClassReportCommand(INDEX_SECOND_ITEM));
+
+        // multiple class indexes specified -> last class index accepted
+        assertParseSuccess(parser, " " + PREFIX_CLASS_INDEX + "2 " + PREFIX_CLASS_INDEX + "1",
+                new ClassReportCommand(INDEX_FIRST_ITEM));
+    }
+
+    @Test
+    public void parse_withPreamble_throwsParseException() {
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + PREFIX_CLASS_INDEX + "2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidClassIndex_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_CLASS_INDEX,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+
+        assertParseFailure(parser, " " + PREFIX_CLASS_INDEX + "0",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+}
@@ -1,17 +1,28 @@
 package tutorspet.logic.parser.lesson;
 
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.CommandTestUtil.INVALID_DAY_DESC;
+import static tutorspet.logic.commands.CommandTestUtil.INVALID_VENUE_DESC;
 import static tutorspet.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static tutorspet.logic.commands.lesson.DisplayVenueCommand.KEYWORD_CONFLICTS;
 import static tutorspet.logic.commands.lesson.DisplayVenueCommand.MESSAGE_USAGE;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_DAY;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_VENUE;
 import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
+import tutorspet.logic.commands.lesson.DisplayVenueBookingsCommand;
 import tutorspet.logic.commands.lesson.DisplayVenueCommand;
+import tutorspet.logic.commands.lesson.DisplayVenueConflictsCommand;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Venue;
 
 public class DisplayVenueCommandParserTest {
 
@@ -40,6 +51,48 @@ public class DisplayVenueCommandParserTest {
                 new DisplayVenueCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM));
     }
 
+    @Test
+    public void parse_venue_success() {
+        assertParseSuccess(parser, " " + PREFIX_VENUE + "COM1-0208",
+                new DisplayVenueBookingsCommand(new Venue("COM1-0208"), Optional.empty()));
+        assertParseSuccess(parser, " " + PREFIX_VENUE + "COM1-0208 " + PREFIX_DAY + "wednesday",
+                new DisplayVenueBookingsCommand(new Venue("COM1-0208"), Optional.of(Day.WEDNESDAY)));
+    }
+
+    @Test
+    public void parse_conflicts_success() {
+        assertParseSuccess(parser, " " + KEYWORD_CONFLICTS, new DisplayVenueConflictsCommand());
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + "Conflicts ", new DisplayVenueConflictsCommand());
+    }
+
+    @Test
+    public void parse_mixedKinds_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+
+        // no arguments
+        assertParseFailure(parser, " ", expectedMessage);
+
+        // venue with indexes
+        assertParseFailure(parser, " " + PREFIX_CLASS_INDEX + "1 " + PREFIX_LESSON_INDEX + "1 "
+                + PREFIX_VENUE + "COM1-0208", expectedMessage);
+
+        // day with indexes
+        assertParseFailure(parser, " " + PREFIX_CLASS_INDEX + "1 " + PREFIX_LESSON_INDEX + "1 "
+                + PREFIX_DAY + "Monday", expectedMessage);
+
+        // day without venue
+        assertParseFailure(parser, " " + PREFIX_DAY + "Monday", expectedMessage);
+
+        // conflicts with venue
+        assertParseFailure(parser, " " + KEYWORD_CONFLICTS + " " + PREFIX_VENUE + "COM1-0208", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidVenueOrDay_failure() {
+        assertParseFailure(parser, INVALID_VENUE_DESC, Venue.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_VENUE + "COM1-0208" + INVALID_DAY_DESC, Day.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
@@ -0,0 +1,67 @@
+package tutorspet.logic.parser.lesson;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.CommandTestUtil.INVALID_DAY_DESC;
+import static tutorspet.logic.commands.CommandTestUtil.INVALID_END_TIME_DESC;
+import static tutorspet.logic.commands.CommandTestUtil.INVALID_START_TIME_DESC;
+import static tutorspet.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static tutorspet.logic.commands.lesson.FreeSlotsCommand.DEFAULT_END_TIME;
+import static tutorspet.logic.commands.lesson.FreeSlotsCommand.DEFAULT_START_TIME;
+import static tutorspet.logic.commands.lesson.FreeSlotsCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_DAY;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorspet.logic.parser.ParserUtil.MESSAGE_INVALID_TIME;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.lesson.FreeSlotsCommand;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+
+public class FreeSlotsCommandParserTest {
+
+    private FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsFreeSlotsCommand() {
+        // no args -> every day, whole day
+        assertParseSuccess(parser, " ",
+                new FreeSlotsCommand(Arrays.asList(Day.values()), DEFAULT_START_TIME, DEFAULT_END_TIME));
+
+        // day specified
+        assertParseSuccess(parser, " " + PREFIX_DAY + "tuesday",
+                new FreeSlotsCommand(List.of(Day.TUESDAY), DEFAULT_START_TIME, DEFAULT_END_TIME));
+
+        // all fields specified
+        assertParseSuccess(parser, " " + PREFIX_DAY + "Friday " + PREFIX_START_TIME + "08:00 "
+                + PREFIX_END_TIME + "18:00", new FreeSlotsCommand(List.of(Day.FRIDAY), LocalTime.of(8, 0),
+                LocalTime.of(18, 0)));
+    }
+
+    @Test
+    public void parse_withPreamble_throwsParseException() {
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + PREFIX_DAY + "Friday",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, INVALID_DAY_DESC, Day.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, INVALID_START_TIME_DESC, MESSAGE_INVALID_TIME);
+        assertParseFailure(parser, INVALID_END_TIME_DESC, MESSAGE_INVALID_TIME);
+    }
+
+    @Test
+    public void parse_startTimeNotBeforeEndTime_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_START_TIME + "18:00 " + PREFIX_END_TIME + "08:00",
+                Lesson.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_START_TIME + "23:59", Lesson.MESSAGE_CONSTRAINTS);
+    }
+}
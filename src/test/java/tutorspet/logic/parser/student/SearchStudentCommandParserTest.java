@@ -0,0 +1,33 @@
+package tutorspet.logic.parser.student;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.student.SearchStudentCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.student.SearchStudentCommand;
+
+public class SearchStudentCommandParserTest {
+
+    private SearchStudentCommandParser parser = new SearchStudentCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchStudentCommand() {
+        // no leading and trailing whitespaces
+        SearchStudentCommand expectedSearchStudentCommand = new SearchStudentCommand(Arrays.asList("Ali", "Bob"));
+        assertParseSuccess(parser, "Ali Bob", expectedSearchStudentCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Ali \n \t Bob  \t", expectedSearchStudentCommand);
+    }
+}
@@ -10,21 +10,15 @@ import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_1;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_5;
 import static tutorspet.logic.util.AttendanceRecordListUtil.addAttendanceToAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordListUtil.editAttendanceInAttendanceRecordList;
-import static tutorspet.logic.util.AttendanceRecordListUtil.getAbsentWeekFromAttendance;
 import static tutorspet.logic.util.AttendanceRecordListUtil.getAttendanceFromAttendanceRecordList;
-import static tutorspet.logic.util.AttendanceRecordListUtil.getScoreFromAttendance;
 import static tutorspet.logic.util.AttendanceRecordListUtil.removeAllStudentsFromAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordListUtil.removeAttendanceFromAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordListUtil.removeStudentFromAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordUtil.addAttendance;
 import static tutorspet.logic.util.AttendanceRecordUtil.setAttendance;
 import static tutorspet.testutil.Assert.assertThrows;
-import static tutorspet.testutil.TypicalStudent.ALICE;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -380,67 +374,4 @@ public class AttendanceRecordListUtilTest {
         assertThrows(NullPointerException.class, () ->
                 removeAttendanceFromAttendanceRecordList(recordList, student, null));
     }
-
-    @Test
-    public void getScoreFromAttendance_validParameters_success() {
-        AttendanceRecord recordWeekOne = new AttendanceRecordBuilder().build();
-        Attendance attendance = new Attendance(VALID_PARTICIPATION_SCORE_33);
-        AttendanceRecord recordWeekTwo = new AttendanceRecordBuilder().withEntry(ALICE.getUuid(), attendance).build();
-        AttendanceRecordList recordList = new AttendanceRecordList(Arrays.asList(recordWeekOne, recordWeekTwo));
-        List<Integer> result = new ArrayList<>(Collections.singletonList(VALID_PARTICIPATION_SCORE_33));
-
-        assertEquals(result, getScoreFromAttendance(recordList, ALICE));
-    }
-
-    @Test
-    public void getScoreFromAttendance_noLessonAttended_success() {
-        AttendanceRecord record = new AttendanceRecordBuilder().build();
-        AttendanceRecordList recordList = new AttendanceRecordList(Arrays.asList(record, record));
-        List<Integer> result = new ArrayList<>();
-
-        assertEquals(result, getScoreFromAttendance(recordList, ALICE));
-    }
-
-    @Test
-    public void getScoreFromAttendance_nullParameters_throwsNullPointerException() {
-        AttendanceRecord recordWeekOne = new AttendanceRecordBuilder().build();
-        Attendance attendance = new Attendance(VALID_PARTICIPATION_SCORE_33);
-        AttendanceRecord recordWeekTwo = new AttendanceRecordBuilder().withEntry(ALICE.getUuid(), attendance).build();
-        AttendanceRecordList recordList = new AttendanceRecordList(Arrays.asList(recordWeekOne, recordWeekTwo));
-
-        assertThrows(NullPointerException.class, () -> getScoreFromAttendance(null, ALICE));
-        assertThrows(NullPointerException.class, () -> getScoreFromAttendance(recordList, null));
-    }
-
-    @Test
-    public void getAbsentWeekFromAttendance_validParameters_success() {
-        AttendanceRecord recordWeekOne = new AttendanceRecordBuilder().build();
-        Attendance attendance = new Attendance(VALID_PARTICIPATION_SCORE_33);
-        AttendanceRecord recordWeekTwo = new AttendanceRecordBuilder().withEntry(ALICE.getUuid(), attendance).build();
-        AttendanceRecordList recordList = new AttendanceRecordList(Arrays.asList(recordWeekOne, recordWeekTwo));
-        List<Integer> result = new ArrayList<>(Collections.singletonList(1));
-
-        assertEquals(result, getAbsentWeekFromAttendance(recordList, ALICE));
-    }
-
-    @Test
-    public void getAbsentWeekFromAttendance_validParametersAllPresent_success() {
-        Attendance attendance = new Attendance(VALID_PARTICIPATION_SCORE_33);
-        AttendanceRecord record = new AttendanceRecordBuilder().withEntry(ALICE.getUuid(), attendance).build();
-        AttendanceRecordList recordList = new AttendanceRecordList(Arrays.asList(record, record));
-        List<Integer> result = new ArrayList<>();
-
-        assertEquals(result, getAbsentWeekFromAttendance(recordList, ALICE));
-    }
-
-    @Test
-    public void getAbsentWeekFromAttendance_nullParameters_throwsNullPointerException() {
-        AttendanceRecord recordWeekOne = new AttendanceRecordBuilder().build();
-        Attendance attendance = new Attendance(VALID_PARTICIPATION_SCORE_33);
-        AttendanceRecord recordWeekTwo = new AttendanceRecordBuilder().withEntry(ALICE.getUuid(), attendance).build();
-        AttendanceRecordList recordList = new AttendanceRecordList(Arrays.asList(recordWeekOne, recordWeekTwo));
-
-        assertThrows(NullPointerException.class, () -> getAbsentWeekFromAttendance(null, ALICE));
-        assertThrows(NullPointerException.class, () -> getAbsentWeekFromAttendance(recordList, null));
-    }
 }
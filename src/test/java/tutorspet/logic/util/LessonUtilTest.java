@@ -1,6 +1,7 @@
 package tutorspet.logic.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_ATTENDANCE;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_WEEK;
 import static tutorspet.commons.core.Messages.MESSAGE_MISSING_STUDENT_ATTENDANCE;
@@ -13,9 +14,9 @@ import static tutorspet.logic.util.LessonUtil.deleteAllStudentsFromLesson;
 import static tutorspet.logic.util.LessonUtil.deleteAttendanceFromLesson;
 import static tutorspet.logic.util.LessonUtil.deleteStudentFromLesson;
 import static tutorspet.logic.util.LessonUtil.editAttendanceInLesson;
-import static tutorspet.logic.util.LessonUtil.getAbsentWeekFromLesson;
+import static tutorspet.logic.util.LessonUtil.getAbsentWeeksFromLesson;
 import static tutorspet.logic.util.LessonUtil.getAttendanceFromLesson;
-import static tutorspet.logic.util.LessonUtil.getParticipationScoreFromLesson;
+import static tutorspet.logic.util.LessonUtil.getParticipationStatisticsFromLesson;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.LessonBuilder.insertAttendanceRecords;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_51_BENSON_33;
@@ -24,9 +25,6 @@ import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.BENSON;
 import static tutorspet.testutil.TypicalStudent.CARL;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +34,7 @@ import tutorspet.commons.core.index.Index;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.model.attendance.Attendance;
 import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.ParticipationStatistics;
 import tutorspet.model.attendance.Week;
 import tutorspet.model.lesson.Lesson;
 import tutorspet.testutil.LessonBuilder;
@@ -59,6 +58,7 @@ public class LessonUtilTest {
     @Test
     public void deleteStudentFromLesson_noExistingStudent_success() {
         assertEquals(DEFAULT_LESSON, deleteStudentFromLesson(DEFAULT_LESSON, CARL));
+        assertSame(DEFAULT_LESSON, deleteStudentFromLesson(DEFAULT_LESSON, CARL));
     }
 
     @Test
@@ -176,52 +176,37 @@ public class LessonUtilTest {
     }
 
     @Test
-    public void getParticipationScoreFromLesson_validParameter_success() {
-        Integer participationScoreAlice = 51;
-        List<Integer> result = new ArrayList<>(Collections.singletonList(participationScoreAlice));
-        assertEquals(result, getParticipationScoreFromLesson(DEFAULT_LESSON, ALICE));
+    public void getParticipationStatisticsFromLesson_validParameter_success() {
+        ParticipationStatistics statistics = getParticipationStatisticsFromLesson(DEFAULT_LESSON, ALICE);
+        assertEquals(51, statistics.getTotalScore());
+        assertEquals(1, statistics.getNumberOfWeeksAttended());
+        assertEquals(ParticipationStatistics.NO_ATTENDANCE, getParticipationStatisticsFromLesson(DEFAULT_LESSON,
+                CARL));
     }
 
     @Test
-    public void getParticipationScore_invalidStudentAttendance_success() {
-        Lesson lesson =
-                insertAttendanceRecords(new LessonBuilder().withNumberOfOccurrences(2).build(),
-                        RECORD_EMPTY, RECORD_EMPTY);
-        List<Integer> result = new ArrayList<>();
-
-        assertEquals(result, getParticipationScoreFromLesson(lesson, CARL));
-    }
-
-    @Test
-    public void getParticipationScore_nullParameters_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> getParticipationScoreFromLesson(
-                null, ALICE));
-        assertThrows(NullPointerException.class, () -> getParticipationScoreFromLesson(
-                DEFAULT_LESSON, null));
+    public void getParticipationStatisticsFromLesson_nullParameters_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> getParticipationStatisticsFromLesson(null, ALICE));
+        assertThrows(NullPointerException.class, () -> getParticipationStatisticsFromLesson(DEFAULT_LESSON, null));
     }
 
     @Test
-    public void getAbsentWeekFromLesson_validParameter_success() {
-        List<Integer> result = new ArrayList<>(Collections.singletonList(1));
-        assertEquals(result,
-                getAbsentWeekFromLesson(DEFAULT_LESSON, ALICE));
+    public void getAbsentWeeksFromLesson_validParameter_success() {
+        assertEquals(List.of(VALID_WEEK_1), getAbsentWeeksFromLesson(DEFAULT_LESSON, ALICE));
     }
 
     @Test
-    public void getAbsentWeekLesson_validParameterAll_success() {
+    public void getAbsentWeeksFromLesson_noAttendance_allWeeks() {
         Lesson lesson =
                 insertAttendanceRecords(new LessonBuilder().withNumberOfOccurrences(2).build(),
                         RECORD_EMPTY, RECORD_EMPTY);
-        List<Integer> result = new ArrayList<>(Arrays.asList(1, 2));
-        assertEquals(result,
-                getAbsentWeekFromLesson(lesson, ALICE));
+        List<Week> result = List.of(VALID_WEEK_1, new Week(Index.fromOneBased(2)));
+        assertEquals(result, getAbsentWeeksFromLesson(lesson, ALICE));
     }
 
     @Test
-    public void getAbsentWeekFromLesson_nullParameters_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> getAbsentWeekFromLesson(
-                null, ALICE));
-        assertThrows(NullPointerException.class, () -> getAbsentWeekFromLesson(
-                DEFAULT_LESSON, null));
+    public void getAbsentWeeksFromLesson_nullParameters_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> getAbsentWeeksFromLesson(null, ALICE));
+        assertThrows(NullPointerException.class, () -> getAbsentWeeksFromLesson(DEFAULT_LESSON, null));
     }
 }
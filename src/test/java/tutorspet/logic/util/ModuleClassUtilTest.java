@@ -24,10 +24,9 @@ import static tutorspet.logic.util.ModuleClassUtil.deleteLessonFromModuleClass;
 import static tutorspet.logic.util.ModuleClassUtil.deleteStudentFromModuleClass;
 import static tutorspet.logic.util.ModuleClassUtil.editAttendanceInModuleClass;
 import static tutorspet.logic.util.ModuleClassUtil.editLessonInModuleClass;
-import static tutorspet.logic.util.ModuleClassUtil.getAbsentWeek;
 import static tutorspet.logic.util.ModuleClassUtil.getAttendanceFromModuleClass;
 import static tutorspet.logic.util.ModuleClassUtil.getLessonFromModuleClass;
-import static tutorspet.logic.util.ModuleClassUtil.getParticipationScore;
+import static tutorspet.logic.util.ModuleClassUtil.getLessonsOfStudent;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
 import static tutorspet.testutil.TypicalModuleClass.CS2100_TUTORIAL;
@@ -37,12 +36,9 @@ import static tutorspet.testutil.TypicalStudent.CARL;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -389,59 +385,25 @@ public class ModuleClassUtilTest {
     }
 
     @Test
-    public void getParticipationScore_validParameter_success() throws CommandException {
-        Map<Lesson, List<Integer>> result = new HashMap<>();
-        result.put(CS2103T_TUTORIAL.getLessons().get(0),
-                new ArrayList<>(Arrays.asList(80, 51)));
-        assertEquals(result,
-                getParticipationScore(CS2103T_TUTORIAL, ALICE));
+    public void getLessonsOfStudent_validParameters_success() throws CommandException {
+        assertEquals(CS2103T_TUTORIAL.getLessons(), getLessonsOfStudent(CS2103T_TUTORIAL, ALICE));
     }
 
     @Test
-    public void getParticipationScore_invalidStudent_throwsCommandException() {
+    public void getLessonsOfStudent_invalidStudent_throwsCommandException() {
         assertThrows(CommandException.class, MESSAGE_MISSING_LINK, () ->
-                getParticipationScore(CS2103T_TUTORIAL, CARL));
+                getLessonsOfStudent(CS2103T_TUTORIAL, CARL));
     }
 
     @Test
-    public void getParticipationScore_noLessonInClass_throwsCommandException() {
+    public void getLessonsOfStudent_noLessonInClass_throwsCommandException() {
         assertThrows(CommandException.class, MESSAGE_NO_LESSONS_IN_MODULE_CLASS, () ->
-                getParticipationScore(CS2100_TUTORIAL, ALICE));
+                getLessonsOfStudent(CS2100_TUTORIAL, ALICE));
     }
 
     @Test
-    public void getParticipationScore_nullParameters_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> getParticipationScore(
-                null, ALICE));
-        assertThrows(NullPointerException.class, () -> getParticipationScore(
-                CS2103T_TUTORIAL, null));
-    }
-
-    @Test
-    public void getAbsentWeek_validParameter_success() throws CommandException {
-        Map<Lesson, List<Integer>> result = new HashMap<>();
-        result.put(CS2103T_TUTORIAL.getLessons().get(0),
-                new ArrayList<>(Arrays.asList(3, 4, 5, 6, 7, 8, 9, 10)));
-        assertEquals(result, getAbsentWeek(CS2103T_TUTORIAL, ALICE));
-    }
-
-    @Test
-    public void getAbsentWeek_invalidStudent_throwsCommandException() {
-        assertThrows(CommandException.class, MESSAGE_MISSING_LINK, () ->
-                getAbsentWeek(CS2103T_TUTORIAL, CARL));
-    }
-
-    @Test
-    public void getAbsentWeek_noLessonInClass_throwsCommandException() {
-        assertThrows(CommandException.class, MESSAGE_NO_LESSONS_IN_MODULE_CLASS , () ->
-                getAbsentWeek(CS2100_TUTORIAL, CARL));
-    }
-
-    @Test
-    public void getAbsentWeek_nullParameter_throwsCommandException() {
-        assertThrows(NullPointerException.class, () -> getParticipationScore(
-                null, ALICE));
-        assertThrows(NullPointerException.class, () -> getParticipationScore(
-                CS2103T_TUTORIAL, null));
+    public void getLessonsOfStudent_nullParameters_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> getLessonsOfStudent(null, ALICE));
+        assertThrows(NullPointerException.class, () -> getLessonsOfStudent(CS2103T_TUTORIAL, null));
     }
 }
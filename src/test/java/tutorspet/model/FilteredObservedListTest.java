@@ -0,0 +1,101 @@
+package tutorspet.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FilteredObservedListTest {
+
+    private static final Predicate<String> IS_VOWEL = element -> "aeiou".contains(element);
+
+    private final ObservedArrayList<String> source = new ObservedArrayList<>();
+    private final List<ListChange<String>> changes = new ArrayList<>();
+    private FilteredObservedList<String> filteredList;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(List.of("a", "b", "c", "e", "f"));
+        filteredList = new FilteredObservedList<>(source, IS_VOWEL);
+        filteredList.addObserver(changes::add);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FilteredObservedList<>(null, IS_VOWEL));
+        assertThrows(NullPointerException.class, () -> new FilteredObservedList<>(source, null));
+    }
+
+    @Test
+    public void constructor_matchingElements_inSourceOrder() {
+        assertEquals(List.of("a", "e"), filteredList);
+    }
+
+    @Test
+    public void sourceChanged_matchingElementAdded_reportsAddition() {
+        source.replaceRange(2, 2, List.of("i", "x"));
+        assertEquals(List.of("a", "i", "e"), filteredList);
+        assertEquals(List.of(new ListChange<>(1, List.of(), List.of("i"))), changes);
+    }
+
+    @Test
+    public void sourceChanged_matchingElementReplaced_reportsReplacement() {
+        source.replace(3, "o");
+        assertEquals(List.of("a", "o"), filteredList);
+        assertEquals(List.of(new ListChange<>(1, List.of("e"), List.of("o"))), changes);
+    }
+
+    @Test
+    public void sourceChanged_matchingElementRemoved_reportsRemoval() {
+        source.delete(0);
+        assertEquals(List.of("e"), filteredList);
+        assertEquals(List.of(new ListChange<>(0, List.of("a"), List.of())), changes);
+    }
+
+    @Test
+    public void sourceChanged_noMatchingElementChanged_noChangeReported() {
+        source.replaceRange(1, 3, List.of("x", "y", "z"));
+        source.append("w");
+        assertEquals(List.of("a", "e"), filteredList);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceChanged_mixedChanges_staysFiltered() {
+        source.replaceRange(0, 4, List.of("u", "v"));
+        source.append("i");
+        source.delete(1);
+        assertEquals(List.of("u", "i"), filteredList);
+        assertEquals(new FilteredObservedList<>(source, IS_VOWEL), filteredList);
+    }
+
+    @Test
+    public void setPredicate_differentMatches_reportsReplacementOfWholeList() {
+        filteredList.setPredicate(element -> element.compareTo("c") < 0);
+        assertEquals(List.of("a", "b"), filteredList);
+        assertEquals(List.of(new ListChange<>(0, List.of("a", "e"), List.of("a", "b"))), changes);
+    }
+
+    @Test
+    public void setPredicate_sameMatches_noChangeReported() {
+        filteredList.setPredicate(element -> element.equals("a") || element.equals("e"));
+        assertEquals(List.of("a", "e"), filteredList);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setPredicate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> filteredList.setPredicate(null));
+    }
+
+    @Test
+    public void modifyThroughListInterface_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> filteredList.remove(0));
+    }
+}
@@ -14,10 +14,13 @@ import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL_NO_STUDENTS
 import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.AMY;
 import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalStudent.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +31,8 @@ import tutorspet.model.exception.UndoStateException;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.moduleclass.exceptions.DuplicateModuleClassException;
 import tutorspet.model.moduleclass.exceptions.ModuleClassNotFoundException;
+import tutorspet.model.report.ClassReport;
+import tutorspet.model.student.StudentRankingComparator;
 import tutorspet.model.student.exceptions.StudentNotFoundException;
 import tutorspet.testutil.ModuleClassBuilder;
 import tutorspet.testutil.TutorsPetBuilder;
@@ -100,6 +105,47 @@ public class ModelManagerTest {
         assertFalse(modelManager.canRedo());
     }
 
+    @Test
+    public void commitTransaction_severalCommits_committedAsOneState() {
+        modelManager.startTransaction();
+        modelManager.addStudent(ALICE);
+        modelManager.commit(COMMIT_MESSAGE_1);
+        modelManager.addStudent(BENSON);
+        modelManager.commit(COMMIT_MESSAGE_1);
+        modelManager.commitTransaction(COMMIT_MESSAGE_2);
+
+        assertEquals(COMMIT_MESSAGE_2, modelManager.undo());
+        assertFalse(modelManager.canUndo());
+        assertEquals(new TutorsPet(), modelManager.getTutorsPet());
+
+        assertEquals(COMMIT_MESSAGE_2, modelManager.redo());
+        assertEquals(new TutorsPetBuilder().withStudent(ALICE).withStudent(BENSON).build(),
+                modelManager.getTutorsPet());
+    }
+
+    @Test
+    public void commitTransaction_noCommits_nothingCommitted() {
+        modelManager.startTransaction();
+        modelManager.commitTransaction(COMMIT_MESSAGE_1);
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_changesReverted() {
+        modelManager.addStudent(ALICE);
+        modelManager.commit(COMMIT_MESSAGE_1);
+
+        modelManager.startTransaction();
+        modelManager.addStudent(BENSON);
+        modelManager.commit(COMMIT_MESSAGE_2);
+        modelManager.deleteStudent(ALICE);
+        modelManager.rollbackTransaction();
+
+        assertEquals(new TutorsPetBuilder().withStudent(ALICE).build(), modelManager.getTutorsPet());
+        assertEquals(COMMIT_MESSAGE_1, modelManager.undo());
+        assertFalse(modelManager.canUndo());
+    }
+
     @Test
     public void canUndo_hasPreviousState_returnsTrue() {
         modelManager.commit(COMMIT_MESSAGE_1);
@@ -283,6 +329,78 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredModuleClassList().remove(0));
     }
 
+    @Test
+    public void updateFilteredStudentListByName_keywords_showsMatchingStudents() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+
+        modelManager.updateFilteredStudentListByName(Arrays.asList("benson", "carl"));
+        assertEquals(List.of(BENSON), modelManager.getFilteredStudentList());
+
+        // undo restores the students, and the filter follows them
+        modelManager.commit(COMMIT_MESSAGE_1);
+        modelManager.deleteStudent(BENSON);
+        assertEquals(List.of(), modelManager.getFilteredStudentList());
+        modelManager.commit(COMMIT_MESSAGE_2);
+        modelManager.undo();
+        assertEquals(List.of(BENSON), modelManager.getFilteredStudentList());
+
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredStudentListByName(null));
+    }
+
+    @Test
+    public void updateFilteredStudentList_predicateAndComparator_showsMatchingStudentsInOrder() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.addStudent(CARL);
+
+        modelManager.updateFilteredStudentList(student -> !student.equals(BENSON),
+                new StudentRankingComparator(Arrays.asList(CARL, ALICE)));
+        assertEquals(List.of(CARL, ALICE), modelManager.getFilteredStudentList());
+
+        // a new predicate shows the students in storage order again
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        assertEquals(List.of(ALICE, BENSON, CARL), modelManager.getFilteredStudentList());
+
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredStudentList(
+                PREDICATE_SHOW_ALL_STUDENTS, null));
+    }
+
+    @Test
+    public void searchStudents_keywords_returnsRankedStudents() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+
+        assertEquals(List.of(BENSON, ALICE), modelManager.searchStudents(Arrays.asList("benson", "examp")));
+        assertThrows(NullPointerException.class, () -> modelManager.searchStudents(null));
+    }
+
+    @Test
+    public void updateFilteredModuleClassListByName_keywords_showsMatchingModuleClasses() {
+        modelManager.addModuleClass(CS2103T_TUTORIAL);
+        modelManager.addModuleClass(CS2100_LAB);
+
+        modelManager.updateFilteredModuleClassListByName(Arrays.asList("LAB"));
+        assertEquals(List.of(CS2100_LAB), modelManager.getFilteredModuleClassList());
+
+        assertThrows(NullPointerException.class, () -> modelManager.updateFilteredModuleClassListByName(null));
+    }
+
+    @Test
+    public void getClassReports() {
+        modelManager.addStudent(ALICE);
+        modelManager.addStudent(BENSON);
+        modelManager.addModuleClass(CS2103T_TUTORIAL);
+        modelManager.addModuleClass(CS2100_LAB);
+
+        List<ClassReport> classReports = modelManager.getClassReports(List.of(CS2100_LAB, CS2103T_TUTORIAL));
+
+        assertEquals(List.of(CS2100_LAB, CS2103T_TUTORIAL), classReports.stream().map(ClassReport::getModuleClass)
+                .collect(Collectors.toList()));
+        assertEquals(2, classReports.get(1).getStudentReports().size());
+        assertThrows(NullPointerException.class, () -> modelManager.getClassReports(null));
+    }
+
     @Test
     public void deleteAllStudents() {
         modelManager.addStudent(ALICE);
@@ -0,0 +1,104 @@
+package tutorspet.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ObservedArrayListTest {
+
+    private final ObservedArrayList<String> list = new ObservedArrayList<>();
+    private final List<ListChange<String>> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll(List.of("a", "b", "c"));
+        list.addObserver(changes::add);
+    }
+
+    @Test
+    public void append_element_reportsAddition() {
+        list.append("d");
+        assertEquals(List.of("a", "b", "c", "d"), list);
+        assertEquals(List.of(new ListChange<>(3, List.of(), List.of("d"))), changes);
+    }
+
+    @Test
+    public void append_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> list.append(null));
+    }
+
+    @Test
+    public void replace_element_reportsReplacement() {
+        assertEquals("b", list.replace(1, "x"));
+        assertEquals(List.of("a", "x", "c"), list);
+        assertEquals(List.of(new ListChange<>(1, List.of("b"), List.of("x"))), changes);
+    }
+
+    @Test
+    public void delete_element_reportsRemoval() {
+        assertEquals("a", list.delete(0));
+        assertEquals(List.of("b", "c"), list);
+        assertEquals(List.of(new ListChange<>(0, List.of("a"), List.of())), changes);
+    }
+
+    @Test
+    public void replaceRange_range_reportsSingleChange() {
+        list.replaceRange(0, 2, List.of("x", "y", "z"));
+        assertEquals(List.of("x", "y", "z", "c"), list);
+        assertEquals(List.of(new ListChange<>(0, List.of("a", "b"), List.of("x", "y", "z"))), changes);
+    }
+
+    @Test
+    public void replaceRange_invalidRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replaceRange(2, 4, List.of("x", "y")));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replaceRange(2, 1, List.of()));
+        assertEquals(List.of("a", "b", "c"), list);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void replaceRange_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> list.replaceRange(0, 1, Arrays.asList("x", null)));
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void setAll_list_reportsReplacementOfWholeList() {
+        list.setAll(List.of("x"));
+        assertEquals(List.of("x"), list);
+        assertEquals(List.of(new ListChange<>(0, List.of("a", "b", "c"), List.of("x"))), changes);
+    }
+
+    @Test
+    public void removeObserver_observer_stopsReporting() {
+        ObservedArrayList<String> otherList = new ObservedArrayList<>();
+        ListChangeObserver<String> observer = changes::add;
+        otherList.addObserver(observer);
+        otherList.removeObserver(observer);
+        otherList.append("a");
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void modifyThroughListInterface_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("d"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "x"));
+    }
+
+    @Test
+    public void equals() {
+        ObservedArrayList<String> sameElements = new ObservedArrayList<>();
+        sameElements.setAll(List.of("a", "b", "c"));
+        assertEquals(List.of("a", "b", "c"), list);
+        assertEquals(sameElements, list);
+        assertEquals(sameElements.hashCode(), list.hashCode());
+    }
+}
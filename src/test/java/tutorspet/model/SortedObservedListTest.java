@@ -0,0 +1,85 @@
+package tutorspet.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SortedObservedListTest {
+
+    private static final Comparator<String> BY_LENGTH_DESCENDING =
+            Comparator.comparingInt(String::length).reversed();
+
+    private final ObservedArrayList<String> source = new ObservedArrayList<>();
+    private final List<ListChange<String>> changes = new ArrayList<>();
+    private SortedObservedList<String> sortedList;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(List.of("a", "bbb", "cc", "ddd"));
+        sortedList = new SortedObservedList<>(source);
+        sortedList.addObserver(changes::add);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortedObservedList<>(null));
+    }
+
+    @Test
+    public void constructor_noComparator_inSourceOrder() {
+        assertEquals(source, sortedList);
+    }
+
+    @Test
+    public void sourceChanged_noComparator_reportsSameChange() {
+        source.replaceRange(1, 2, List.of("x", "y"));
+        assertEquals(List.of("a", "x", "y", "cc", "ddd"), sortedList);
+        assertEquals(List.of(new ListChange<>(1, List.of("bbb"), List.of("x", "y"))), changes);
+    }
+
+    @Test
+    public void setComparator_differentOrder_reportsReplacementOfWholeList() {
+        sortedList.setComparator(BY_LENGTH_DESCENDING);
+        // equal elements stay in source order
+        assertEquals(List.of("bbb", "ddd", "cc", "a"), sortedList);
+        assertEquals(List.of(new ListChange<>(0, List.of("a", "bbb", "cc", "ddd"),
+                List.of("bbb", "ddd", "cc", "a"))), changes);
+    }
+
+    @Test
+    public void setComparator_sameOrder_noChangeReported() {
+        sortedList.setComparator(Comparator.comparing(String::valueOf));
+        assertEquals(List.of("a", "bbb", "cc", "ddd"), sortedList);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setComparator_null_restoresSourceOrder() {
+        sortedList.setComparator(BY_LENGTH_DESCENDING);
+        sortedList.setComparator(null);
+        assertEquals(source, sortedList);
+    }
+
+    @Test
+    public void sourceChanged_withComparator_staysSorted() {
+        sortedList.setComparator(BY_LENGTH_DESCENDING);
+        changes.clear();
+
+        source.append("eeee");
+        source.delete(1);
+        assertEquals(List.of("eeee", "ddd", "cc", "a"), sortedList);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void modifyThroughListInterface_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> sortedList.remove(0));
+    }
+}
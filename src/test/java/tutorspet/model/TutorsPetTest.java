@@ -26,8 +26,6 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import tutorspet.model.lesson.Lesson;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.moduleclass.exceptions.DuplicateModuleClassException;
@@ -132,6 +130,17 @@ public class TutorsPetTest {
         assertEquals(expectedTutorsPet, tutorsPet);
     }
 
+    @Test
+    public void getModuleClassesOf_studentInTutorsPet_returnsClassesOfStudent() {
+        tutorsPet.addStudent(BENSON);
+        tutorsPet.addModuleClass(CS2100_LAB);
+        tutorsPet.addModuleClass(CS2103T_TUTORIAL);
+
+        assertEquals(List.of(CS2103T_TUTORIAL), tutorsPet.getModuleClassesOf(BENSON));
+        tutorsPet.deleteStudent(BENSON);
+        assertEquals(List.of(), tutorsPet.getModuleClassesOf(BENSON));
+    }
+
     @Test
     public void deleteAllStudents() {
         tutorsPet.addStudent(ALICE);
@@ -303,26 +312,52 @@ public class TutorsPetTest {
         assertFalse(tutorsPet.hashCode() == newData.hashCode());
     }
 
+    @Test
+    public void getModificationCount_modifications_countChanges() {
+        long initialCount = tutorsPet.getModificationCount();
+
+        tutorsPet.addStudent(ALICE);
+        long countAfterAdd = tutorsPet.getModificationCount();
+        assertFalse(initialCount == countAfterAdd);
+
+        tutorsPet.addModuleClass(CS2100_LAB);
+        assertFalse(countAfterAdd == tutorsPet.getModificationCount());
+    }
+
+    @Test
+    public void getModificationCount_queriesAndFailedModifications_countUnchanged() {
+        tutorsPet.addStudent(ALICE);
+        long count = tutorsPet.getModificationCount();
+
+        tutorsPet.hasStudent(ALICE);
+        tutorsPet.hasModuleClass(CS2100_LAB);
+        tutorsPet.getStudentList();
+        assertThrows(DuplicateStudentException.class, () -> tutorsPet.addStudent(ALICE));
+        assertThrows(ModuleClassNotFoundException.class, () -> tutorsPet.deleteModuleClass(CS2100_LAB));
+
+        assertEquals(count, tutorsPet.getModificationCount());
+    }
+
     /**
      * A stub ReadOnlyTutorsPet whose students list can violate interface constraints.
      */
     private static class TutorsPetStub implements ReadOnlyTutorsPet {
 
-        private final ObservableList<Student> students = FXCollections.observableArrayList();
-        private final ObservableList<ModuleClass> classes = FXCollections.observableArrayList();
+        private final List<Student> students;
+        private final List<ModuleClass> classes;
 
         TutorsPetStub(Collection<Student> students, Collection<ModuleClass> classes) {
-            this.students.setAll(students);
-            this.classes.setAll(classes);
+            this.students = new ArrayList<>(students);
+            this.classes = new ArrayList<>(classes);
         }
 
         @Override
-        public ObservableList<Student> getStudentList() {
+        public List<Student> getStudentList() {
             return students;
         }
 
         @Override
-        public ObservableList<ModuleClass> getModuleClassList() {
+        public List<ModuleClass> getModuleClassList() {
             return classes;
         }
     }
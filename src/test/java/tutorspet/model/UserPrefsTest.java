@@ -12,9 +12,21 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPref.setGuiSettings(null));
     }
 
+    @Test
+    public void setHistorySettings_nullHistorySettings_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setHistorySettings(null));
+    }
+
     @Test
     public void setTutorsPetFilePath_nullPath_throwsNullPointerException() {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setTutorsPetFilePath(null));
     }
+
+    @Test
+    public void setStorageFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStorageFormat(null));
+    }
 }
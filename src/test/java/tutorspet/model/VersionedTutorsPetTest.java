@@ -5,16 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.model.VersionedTutorsPet.INITIAL_COMMIT_MESSAGE;
 import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.AMY;
+import static tutorspet.testutil.TypicalStudent.BOB;
 import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import tutorspet.commons.core.HistorySettings;
 import tutorspet.model.exception.RedoStateException;
+import tutorspet.model.exception.StateArchiveException;
 import tutorspet.model.exception.UndoStateException;
+import tutorspet.testutil.StudentBuilder;
 
 public class VersionedTutorsPetTest {
 
@@ -67,6 +75,26 @@ public class VersionedTutorsPetTest {
         assertThrows(UndoStateException.class, () -> versionedTutorsPet.undo());
     }
 
+    @Test
+    public void undo_hasPreviousState_restoresPreviousData() {
+        TutorsPet expectedTutorsPet = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.deleteStudent(ALICE);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.undo();
+        assertEquals(expectedTutorsPet, new TutorsPet(versionedTutorsPet));
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsUncommittedChanges() {
+        TutorsPet expectedTutorsPet = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.deleteAllModuleClasses();
+        versionedTutorsPet.undo();
+        assertEquals(expectedTutorsPet, new TutorsPet(versionedTutorsPet));
+    }
+
     @Test
     public void canRedo_hasNextState_returnsTrue() {
         versionedTutorsPet.commit(COMMIT_MESSAGE_1);
@@ -96,11 +124,111 @@ public class VersionedTutorsPetTest {
         assertEquals(COMMIT_MESSAGE_2, versionedTutorsPet.undo());
     }
 
+    @Test
+    public void redo_hasNextState_restoresNextData() {
+        versionedTutorsPet.deleteStudent(ALICE);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        TutorsPet expectedTutorsPet = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.undo();
+        versionedTutorsPet.undo();
+        versionedTutorsPet.redo();
+        versionedTutorsPet.redo();
+        assertEquals(expectedTutorsPet, new TutorsPet(versionedTutorsPet));
+    }
+
     @Test
     public void redo_noNextState_throwsRedoStateException() {
         assertThrows(RedoStateException.class, () -> versionedTutorsPet.redo());
     }
 
+    @Test
+    public void commit_exceedsMaxStatesInMemory_archivesOldestStates() {
+        StateArchiveStub archive = new StateArchiveStub();
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), new HistorySettings(2, 100), archive);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        assertTrue(archive.archivedChanges.isEmpty());
+
+        versionedTutorsPet.addStudent(BOB);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        versionedTutorsPet.deleteStudent(ALICE);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_3);
+        assertEquals(2, archive.archivedChanges.size());
+    }
+
+    @Test
+    public void commit_exceedsMaxEntitiesInMemory_archivesOldestStates() {
+        StateArchiveStub archive = new StateArchiveStub();
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), new HistorySettings(100, 1), archive);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.addStudent(BOB);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        assertEquals(2, archive.archivedChanges.size());
+    }
+
+    @Test
+    public void undoRedo_archivedStates_restoresData() {
+        StateArchiveStub archive = new StateArchiveStub();
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), new HistorySettings(1, 0), archive);
+        TutorsPet initialTutorsPet = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.addStudent(BOB);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        versionedTutorsPet.deleteStudent(ALICE);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_3);
+        TutorsPet finalTutorsPet = new TutorsPet(versionedTutorsPet);
+
+        assertEquals(COMMIT_MESSAGE_3, versionedTutorsPet.undo());
+        assertEquals(COMMIT_MESSAGE_2, versionedTutorsPet.undo());
+        assertEquals(COMMIT_MESSAGE_1, versionedTutorsPet.undo());
+        assertEquals(initialTutorsPet, new TutorsPet(versionedTutorsPet));
+        assertEquals(new StateRecords(0, Arrays.asList(INITIAL_COMMIT_MESSAGE, COMMIT_MESSAGE_1, COMMIT_MESSAGE_2,
+                COMMIT_MESSAGE_3)), versionedTutorsPet.viewStateRecords());
+
+        versionedTutorsPet.redo();
+        versionedTutorsPet.redo();
+        versionedTutorsPet.redo();
+        assertEquals(finalTutorsPet, new TutorsPet(versionedTutorsPet));
+    }
+
+    @Test
+    public void commit_afterUndoOfArchivedStates_discardsPrunedStates() {
+        StateArchiveStub archive = new StateArchiveStub();
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), new HistorySettings(1, 0), archive);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.addStudent(BOB);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        versionedTutorsPet.addStudent(new StudentBuilder().build());
+        versionedTutorsPet.commit(COMMIT_MESSAGE_3);
+        versionedTutorsPet.undo();
+        versionedTutorsPet.undo();
+        versionedTutorsPet.undo();
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        assertFalse(versionedTutorsPet.canRedo());
+        assertEquals(1, archive.archivedChanges.size());
+    }
+
+    @Test
+    public void undo_archiveUnreadable_throwsStateArchiveExceptionAndKeepsData() {
+        StateArchiveStub archive = new StateArchiveStub();
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), new HistorySettings(1, 0), archive);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.addStudent(BOB);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        versionedTutorsPet.undo();
+        TutorsPet expectedTutorsPet = new TutorsPet(versionedTutorsPet);
+
+        archive.archivedChanges.clear();
+        assertThrows(StateArchiveException.class, () -> versionedTutorsPet.undo());
+        assertEquals(expectedTutorsPet, new TutorsPet(versionedTutorsPet));
+    }
+
     @Test
     public void viewStateRecords_initialState() {
         assertEquals(new StateRecords(0, Collections.singletonList(INITIAL_COMMIT_MESSAGE)),
@@ -164,10 +292,46 @@ public class VersionedTutorsPetTest {
         versionedTutorsPetDifferentState.commit(COMMIT_MESSAGE_2);
         assertFalse(versionedTutorsPet.equals(versionedTutorsPetDifferentState));
 
+        // same commit messages and current data but different committed data -> returns true
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet());
+        versionedTutorsPetDifferentState = new VersionedTutorsPet(getTypicalTutorsPet());
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.undo();
+        versionedTutorsPetDifferentState.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPetDifferentState.undo();
+        assertTrue(versionedTutorsPet.equals(versionedTutorsPetDifferentState));
+
         // different current state -> returns false
         versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet());
         VersionedTutorsPet versionedTutorsPetDifferentCurrentState = new VersionedTutorsPet(getTypicalTutorsPet());
         versionedTutorsPetDifferentCurrentState.addStudent(AMY);
         assertFalse(versionedTutorsPet.equals(versionedTutorsPetDifferentCurrentState));
     }
+
+    /**
+     * A {@code StateArchive} that keeps the archived changes in a map.
+     */
+    private static class StateArchiveStub implements StateArchive {
+
+        private final Map<Integer, StateChanges> archivedChanges = new HashMap<>();
+
+        @Override
+        public void archive(int stateId, StateChanges changes) {
+            archivedChanges.put(stateId, changes);
+        }
+
+        @Override
+        public StateChanges retrieve(int stateId) throws IOException {
+            if (!archivedChanges.containsKey(stateId)) {
+                throw new IOException("Missing state " + stateId);
+            }
+            return archivedChanges.get(stateId);
+        }
+
+        @Override
+        public void discard(int stateId) {
+            archivedChanges.remove(stateId);
+        }
+    }
 }
@@ -0,0 +1,212 @@
+package tutorspet.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_33;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_51;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_80;
+import static tutorspet.model.attendance.AttendanceMatrix.NO_ATTENDANCE;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_51_BENSON_33;
+import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_80;
+import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_EMPTY;
+import static tutorspet.testutil.TypicalAttendanceRecord.getTypicalAttendanceRecord;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalStudent.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.student.Student;
+import tutorspet.testutil.AttendanceRecordBuilder;
+
+public class AttendanceMatrixTest {
+
+    private static final AttendanceMatrix TYPICAL_MATRIX = AttendanceMatrix.of(getTypicalAttendanceRecord());
+
+    @Test
+    public void of_nullRecords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AttendanceMatrix.of(null));
+    }
+
+    @Test
+    public void toAttendanceRecords_typicalRecords_sameRecords() {
+        assertEquals(getTypicalAttendanceRecord(), TYPICAL_MATRIX.toAttendanceRecords());
+        assertEquals(RECORD_ALICE_51_BENSON_33, TYPICAL_MATRIX.toAttendanceRecord(2));
+    }
+
+    @Test
+    public void empty_noAttendanceInAllWeeks() {
+        AttendanceMatrix matrix = AttendanceMatrix.empty(3);
+
+        assertEquals(3, matrix.getNumberOfWeeks());
+        assertEquals(List.of(RECORD_EMPTY, RECORD_EMPTY, RECORD_EMPTY), matrix.toAttendanceRecords());
+        assertEquals(AttendanceMatrix.of(List.of(RECORD_EMPTY, RECORD_EMPTY, RECORD_EMPTY)), matrix);
+    }
+
+    @Test
+    public void getScore() {
+        assertEquals(NO_ATTENDANCE, TYPICAL_MATRIX.getScore(ALICE.getUuid(), 0));
+        assertEquals(VALID_PARTICIPATION_SCORE_80, TYPICAL_MATRIX.getScore(ALICE.getUuid(), 1));
+        assertEquals(VALID_PARTICIPATION_SCORE_51, TYPICAL_MATRIX.getScore(ALICE.getUuid(), 2));
+        assertEquals(NO_ATTENDANCE, TYPICAL_MATRIX.getScore(BENSON.getUuid(), 1));
+        assertEquals(VALID_PARTICIPATION_SCORE_33, TYPICAL_MATRIX.getScore(BENSON.getUuid(), 2));
+
+        // student without any attendance
+        assertEquals(NO_ATTENDANCE, TYPICAL_MATRIX.getScore(CARL.getUuid(), 2));
+    }
+
+    @Test
+    public void getScores() {
+        assertArrayEquals(new int[] {NO_ATTENDANCE, VALID_PARTICIPATION_SCORE_80, VALID_PARTICIPATION_SCORE_51},
+                TYPICAL_MATRIX.getScores(ALICE.getUuid()));
+        assertArrayEquals(new int[] {NO_ATTENDANCE, NO_ATTENDANCE, NO_ATTENDANCE},
+                TYPICAL_MATRIX.getScores(CARL.getUuid()));
+    }
+
+    @Test
+    public void getScore_boundaryScores_success() {
+        AttendanceRecord record = new AttendanceRecordBuilder()
+                .withEntry(ALICE.getUuid(), new Attendance(Attendance.LOWER_BOUND))
+                .withEntry(BENSON.getUuid(), new Attendance(Attendance.UPPER_BOUND)).build();
+        AttendanceMatrix matrix = AttendanceMatrix.of(List.of(record));
+
+        assertEquals(Attendance.LOWER_BOUND, matrix.getScore(ALICE.getUuid(), 0));
+        assertEquals(Attendance.UPPER_BOUND, matrix.getScore(BENSON.getUuid(), 0));
+        assertEquals(List.of(record), matrix.toAttendanceRecords());
+    }
+
+    @Test
+    public void withScore_newStudents_sameAsMatrixOfRecords() {
+        AttendanceMatrix matrix = AttendanceMatrix.empty(3)
+                .withScore(BENSON.getUuid(), 2, VALID_PARTICIPATION_SCORE_33)
+                .withScore(ALICE.getUuid(), 2, VALID_PARTICIPATION_SCORE_51)
+                .withScore(ALICE.getUuid(), 1, VALID_PARTICIPATION_SCORE_80);
+
+        assertEquals(TYPICAL_MATRIX, matrix);
+        assertEquals(TYPICAL_MATRIX.hashCode(), matrix.hashCode());
+        assertEquals(getTypicalAttendanceRecord(), matrix.toAttendanceRecords());
+    }
+
+    @Test
+    public void withScore_existingScore_onlyThatScoreChanged() {
+        AttendanceMatrix matrix = TYPICAL_MATRIX.withScore(ALICE.getUuid(), 2, Attendance.UPPER_BOUND);
+
+        assertEquals(Attendance.UPPER_BOUND, matrix.getScore(ALICE.getUuid(), 2));
+        assertEquals(VALID_PARTICIPATION_SCORE_80, matrix.getScore(ALICE.getUuid(), 1));
+        assertEquals(VALID_PARTICIPATION_SCORE_33, matrix.getScore(BENSON.getUuid(), 2));
+        // the original matrix is unchanged
+        assertEquals(VALID_PARTICIPATION_SCORE_51, TYPICAL_MATRIX.getScore(ALICE.getUuid(), 2));
+        assertFalse(TYPICAL_MATRIX.equals(matrix));
+    }
+
+    @Test
+    public void withScore_noAttendance_scoreRemoved() {
+        AttendanceMatrix matrix = TYPICAL_MATRIX.withScore(BENSON.getUuid(), 2, NO_ATTENDANCE);
+
+        // Benson keeps a row without any attendance, which does not affect equality
+        assertEquals(AttendanceMatrix.of(List.of(RECORD_EMPTY, RECORD_ALICE_80, new AttendanceRecordBuilder()
+                .withEntry(ALICE.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_51)).build())), matrix);
+        assertEquals(AttendanceMatrix.empty(3), matrix.withScore(ALICE.getUuid(), 1, NO_ATTENDANCE)
+                .withScore(ALICE.getUuid(), 2, NO_ATTENDANCE));
+        assertEquals(AttendanceMatrix.empty(3).hashCode(), matrix.withScore(ALICE.getUuid(), 1, NO_ATTENDANCE)
+                .withScore(ALICE.getUuid(), 2, NO_ATTENDANCE).hashCode());
+
+        // student without a row
+        assertTrue(TYPICAL_MATRIX == TYPICAL_MATRIX.withScore(CARL.getUuid(), 0, NO_ATTENDANCE));
+    }
+
+    @Test
+    public void withoutStudent() {
+        AttendanceMatrix matrix = TYPICAL_MATRIX.withoutStudent(ALICE.getUuid());
+
+        assertEquals(NO_ATTENDANCE, matrix.getScore(ALICE.getUuid(), 1));
+        assertEquals(VALID_PARTICIPATION_SCORE_33, matrix.getScore(BENSON.getUuid(), 2));
+        assertEquals(AttendanceMatrix.empty(3), matrix.withoutStudent(BENSON.getUuid()));
+
+        // student without a row
+        assertTrue(TYPICAL_MATRIX == TYPICAL_MATRIX.withoutStudent(CARL.getUuid()));
+
+        // student with a row but without any attendance
+        assertTrue(matrix == matrix.withoutStudent(ALICE.getUuid()));
+    }
+
+    @Test
+    public void withoutStudent_studentAddedBack_rowReused() {
+        AttendanceMatrix matrix = TYPICAL_MATRIX.withoutStudent(ALICE.getUuid())
+                .withScore(ALICE.getUuid(), 0, VALID_PARTICIPATION_SCORE_80);
+
+        assertArrayEquals(new int[] {VALID_PARTICIPATION_SCORE_80, NO_ATTENDANCE, NO_ATTENDANCE},
+                matrix.getScores(ALICE.getUuid()));
+        assertEquals(VALID_PARTICIPATION_SCORE_33, matrix.getScore(BENSON.getUuid(), 2));
+    }
+
+    @Test
+    public void getStatistics() {
+        assertEquals(new ParticipationStatistics(VALID_PARTICIPATION_SCORE_80 + VALID_PARTICIPATION_SCORE_51, 2,
+                VALID_PARTICIPATION_SCORE_51, VALID_PARTICIPATION_SCORE_80),
+                TYPICAL_MATRIX.getStatistics(ALICE.getUuid()));
+        assertEquals(new ParticipationStatistics(VALID_PARTICIPATION_SCORE_33, 1, VALID_PARTICIPATION_SCORE_33,
+                VALID_PARTICIPATION_SCORE_33), TYPICAL_MATRIX.getStatistics(BENSON.getUuid()));
+
+        // student without a row
+        assertEquals(ParticipationStatistics.NO_ATTENDANCE, TYPICAL_MATRIX.getStatistics(CARL.getUuid()));
+
+        // student with a row but without any attendance
+        assertEquals(ParticipationStatistics.NO_ATTENDANCE, TYPICAL_MATRIX.withoutStudent(ALICE.getUuid())
+                .getStatistics(ALICE.getUuid()));
+    }
+
+    @Test
+    public void getStatistics_afterChanges_sameAsMatrixOfRecords() {
+        AttendanceMatrix matrix = TYPICAL_MATRIX
+                // lowest score removed
+                .withScore(ALICE.getUuid(), 2, NO_ATTENDANCE)
+                // new lowest and highest scores
+                .withScore(ALICE.getUuid(), 0, Attendance.LOWER_BOUND)
+                .withScore(ALICE.getUuid(), 2, Attendance.UPPER_BOUND)
+                // highest score lowered
+                .withScore(ALICE.getUuid(), 2, VALID_PARTICIPATION_SCORE_33)
+                // only score replaced
+                .withScore(BENSON.getUuid(), 2, VALID_PARTICIPATION_SCORE_51)
+                // new student
+                .withScore(CARL.getUuid(), 1, VALID_PARTICIPATION_SCORE_80);
+        AttendanceMatrix expectedMatrix = AttendanceMatrix.of(matrix.toAttendanceRecords());
+
+        assertEquals(new ParticipationStatistics(Attendance.LOWER_BOUND + VALID_PARTICIPATION_SCORE_80
+                + VALID_PARTICIPATION_SCORE_33, 3, Attendance.LOWER_BOUND, VALID_PARTICIPATION_SCORE_80),
+                matrix.getStatistics(ALICE.getUuid()));
+        for (Student student : List.of(ALICE, BENSON, CARL)) {
+            assertEquals(expectedMatrix.getStatistics(student.getUuid()), matrix.getStatistics(student.getUuid()));
+        }
+    }
+
+    @Test
+    public void equals() {
+        // same attendances added in a different order -> returns true
+        AttendanceRecord reorderedRecord = new AttendanceRecordBuilder()
+                .withEntry(BENSON.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_33))
+                .withEntry(ALICE.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_51)).build();
+        AttendanceMatrix reorderedMatrix = AttendanceMatrix.of(List.of(RECORD_EMPTY, reorderedRecord));
+        AttendanceMatrix matrix = AttendanceMatrix.of(List.of(RECORD_EMPTY, RECORD_ALICE_51_BENSON_33));
+        assertTrue(matrix.equals(reorderedMatrix));
+        assertEquals(matrix.hashCode(), reorderedMatrix.hashCode());
+
+        // same object -> returns true
+        assertTrue(matrix.equals(matrix));
+
+        // null -> returns false
+        assertFalse(matrix.equals(null));
+
+        // different number of weeks -> returns false
+        assertFalse(matrix.equals(AttendanceMatrix.of(List.of(RECORD_EMPTY, RECORD_ALICE_51_BENSON_33,
+                RECORD_EMPTY))));
+
+        // attendances in different weeks -> returns false
+        assertFalse(matrix.equals(AttendanceMatrix.of(List.of(RECORD_ALICE_51_BENSON_33, RECORD_EMPTY))));
+    }
+}
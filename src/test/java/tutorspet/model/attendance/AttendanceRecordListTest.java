@@ -1,9 +1,12 @@
 package tutorspet.model.attendance;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_33;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_51;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_80;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_51_BENSON_33;
@@ -11,16 +14,22 @@ import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_80;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_EMPTY;
 import static tutorspet.testutil.TypicalAttendanceRecord.getTypicalAttendanceRecord;
 import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalStudent.CARL;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import tutorspet.commons.core.index.Index;
+import tutorspet.model.attendance.exceptions.AttendanceLoadingException;
 import tutorspet.model.attendance.exceptions.AttendanceNotFoundException;
 import tutorspet.model.attendance.exceptions.InvalidWeekException;
 import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.testutil.AttendanceRecordBuilder;
 
 public class AttendanceRecordListTest {
 
@@ -99,6 +108,128 @@ public class AttendanceRecordListTest {
         assertFalse(recordList.hasAttendance(ALICE, VALID_WEEK));
     }
 
+    @Test
+    public void getParticipationScores_nullStudent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> recordList.getParticipationScores(null));
+    }
+
+    @Test
+    public void getParticipationScores_existingStudent_scoreInAttendedWeeks() {
+        int[] expectedScores = new int[VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4];
+        Arrays.fill(expectedScores, AttendanceRecordList.NO_ATTENDANCE);
+        expectedScores[0] = VALID_PARTICIPATION_SCORE_80;
+
+        assertArrayEquals(expectedScores, createAliceRecordList().getParticipationScores(ALICE));
+    }
+
+    @Test
+    public void getParticipationScores_nonExistingStudent_noAttendanceInAllWeeks() {
+        int[] expectedScores = new int[VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4];
+        Arrays.fill(expectedScores, AttendanceRecordList.NO_ATTENDANCE);
+
+        assertArrayEquals(expectedScores, recordList.getParticipationScores(ALICE));
+    }
+
+    @Test
+    public void getAbsentWeeks_nullStudent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> recordList.getAbsentWeeks(null));
+    }
+
+    @Test
+    public void getAbsentWeeks_existingStudent_weeksWithoutAttendance() {
+        List<Week> expectedWeeks = new ArrayList<>();
+        for (int week = 2; week <= VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4; week++) {
+            expectedWeeks.add(new Week(Index.fromOneBased(week)));
+        }
+
+        assertEquals(expectedWeeks, createAliceRecordList().getAbsentWeeks(ALICE));
+    }
+
+    @Test
+    public void getAbsentWeeks_studentAttendedEveryWeek_noWeeks() {
+        AttendanceRecordList attendanceRecordList = new AttendanceRecordList(List.of(RECORD_ALICE_80, RECORD_ALICE_80));
+
+        assertEquals(List.of(), attendanceRecordList.getAbsentWeeks(ALICE));
+    }
+
+    @Test
+    public void getAbsentWeeks_nonExistingStudent_allWeeks() {
+        assertEquals(VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4, recordList.getAbsentWeeks(ALICE).size());
+    }
+
+    @Test
+    public void withAttendance_invalidWeek_throwsInvalidWeekException() {
+        assertThrows(InvalidWeekException.class, () ->
+                recordList.withAttendance(ALICE, INVALID_WEEK, new Attendance(VALID_PARTICIPATION_SCORE_80)));
+    }
+
+    @Test
+    public void withAttendance_newAndExistingAttendance_success() {
+        Attendance attendance = new Attendance(VALID_PARTICIPATION_SCORE_80);
+
+        // new attendance
+        assertEquals(createAliceRecordList(), recordList.withAttendance(ALICE, VALID_WEEK, attendance));
+        assertFalse(recordList.hasAttendance(ALICE, VALID_WEEK));
+
+        // existing attendance
+        AttendanceRecordList editedRecordList = createAliceRecordList().withAttendance(ALICE, VALID_WEEK,
+                new Attendance(VALID_PARTICIPATION_SCORE_51));
+        assertEquals(new Attendance(VALID_PARTICIPATION_SCORE_51), editedRecordList.getAttendance(ALICE, VALID_WEEK));
+    }
+
+    @Test
+    public void withoutAttendance_existingAttendance_equalToListWithoutAttendance() {
+        AttendanceRecordList removedRecordList = createAliceRecordList().withoutAttendance(ALICE, VALID_WEEK);
+
+        assertFalse(removedRecordList.hasAttendance(ALICE, VALID_WEEK));
+        assertEquals(recordList, removedRecordList);
+        assertEquals(recordList.hashCode(), removedRecordList.hashCode());
+    }
+
+    @Test
+    public void withoutAttendance_invalidWeek_throwsInvalidWeekException() {
+        assertThrows(InvalidWeekException.class, () -> recordList.withoutAttendance(ALICE, INVALID_WEEK));
+    }
+
+    @Test
+    public void withoutStudent_existingStudent_allAttendancesRemoved() {
+        AttendanceRecordList attendanceRecordList = new AttendanceRecordList(getTypicalAttendanceRecord());
+        AttendanceRecordList expectedRecordList = new AttendanceRecordList(List.of(RECORD_EMPTY, RECORD_EMPTY,
+                new AttendanceRecordBuilder().withEntry(BENSON.getUuid(),
+                        new Attendance(VALID_PARTICIPATION_SCORE_33)).build()));
+
+        assertEquals(expectedRecordList, attendanceRecordList.withoutStudent(ALICE));
+        assertEquals(attendanceRecordList, attendanceRecordList.withoutStudent(CARL));
+        assertTrue(attendanceRecordList == attendanceRecordList.withoutStudent(CARL));
+    }
+
+    @Test
+    public void sharesAttendances_copyWithAttendance_onlyEditedWeekNotShared() {
+        Week otherWeek = new Week(Index.fromOneBased(2));
+        AttendanceRecordList editedList =
+                recordList.withAttendance(ALICE, VALID_WEEK, new Attendance(VALID_PARTICIPATION_SCORE_33));
+        assertFalse(editedList.sharesAttendances(recordList, VALID_WEEK));
+        assertTrue(editedList.sharesAttendances(recordList, otherWeek));
+
+        // equal attendances that are not shared -> returns false
+        AttendanceRecordList equalList =
+                recordList.withAttendance(ALICE, VALID_WEEK, new Attendance(VALID_PARTICIPATION_SCORE_33));
+        assertFalse(editedList.sharesAttendances(equalList, VALID_WEEK));
+
+        // week not in either list -> returns false
+        assertFalse(editedList.sharesAttendances(recordList, INVALID_WEEK));
+    }
+
+    @Test
+    public void getParticipationStatistics() {
+        AttendanceRecordList attendanceRecordList = new AttendanceRecordList(getTypicalAttendanceRecord());
+
+        assertEquals(new ParticipationStatistics(VALID_PARTICIPATION_SCORE_33, 1, VALID_PARTICIPATION_SCORE_33,
+                VALID_PARTICIPATION_SCORE_33), attendanceRecordList.getParticipationStatistics(BENSON));
+        assertEquals(ParticipationStatistics.NO_ATTENDANCE, attendanceRecordList.getParticipationStatistics(CARL));
+        assertThrows(NullPointerException.class, () -> attendanceRecordList.getParticipationStatistics(null));
+    }
+
     @Test
     public void equals() {
         AttendanceRecordList attendanceRecordList = new AttendanceRecordList(getTypicalAttendanceRecord());
@@ -140,6 +271,48 @@ public class AttendanceRecordListTest {
         assertFalse(attendanceRecordList.equals(differentAttendanceRecordList));
     }
 
+    @Test
+    public void constructor_loader_loadedOnceWhenFirstNeeded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        AttendanceRecordList lazyRecordList = new AttendanceRecordList(
+                new NumberOfOccurrences(VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4), () -> {
+                    loadCount.incrementAndGet();
+                    return createAliceRecordList().getAttendanceRecordList();
+                });
+
+        // the number of records is known without loading them
+        assertTrue(lazyRecordList.isWeekContained(VALID_WEEK));
+        assertFalse(lazyRecordList.isWeekContained(INVALID_WEEK));
+        assertEquals(VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4, lazyRecordList.getNumberOfRecords());
+        assertFalse(lazyRecordList.isLoaded());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(VALID_PARTICIPATION_SCORE_80, lazyRecordList.getAttendance(ALICE, VALID_WEEK)
+                .getParticipationScore());
+        assertTrue(lazyRecordList.isLoaded());
+        assertEquals(createAliceRecordList(), lazyRecordList);
+        assertEquals(createAliceRecordList().hashCode(), lazyRecordList.hashCode());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    public void constructor_failingLoader_throwsAttendanceLoadingExceptionOnAccess() {
+        AttendanceRecordList lazyRecordList = new AttendanceRecordList(
+                new NumberOfOccurrences(VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4), () -> {
+                    throw new AttendanceLoadingException("corrupted", null);
+                });
+
+        assertTrue(lazyRecordList.isWeekContained(VALID_WEEK));
+        assertThrows(AttendanceLoadingException.class, lazyRecordList::getAttendanceRecordList);
+        assertFalse(lazyRecordList.isLoaded());
+    }
+
+    @Test
+    public void constructor_nullLoader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AttendanceRecordList(
+                new NumberOfOccurrences(VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4), null));
+    }
+
     /**
      * Creates an {@code AttendanceRecordList} with {@code RECORD_ALICE_80} at the first, valid week.
      * The rest of the 6 elements are empty {@code AttendanceRecords}.
@@ -0,0 +1,56 @@
+package tutorspet.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ParticipationStatisticsTest {
+
+    private final ParticipationStatistics statistics = new ParticipationStatistics(131, 2, 51, 80);
+
+    @Test
+    public void getAverageScore() {
+        assertEquals(65.5, statistics.getAverageScore());
+        assertEquals(33.0, new ParticipationStatistics(33, 1, 33, 33).getAverageScore());
+    }
+
+    @Test
+    public void hasAttended() {
+        assertTrue(statistics.hasAttended());
+        assertFalse(ParticipationStatistics.NO_ATTENDANCE.hasAttended());
+    }
+
+    @Test
+    public void combine() {
+        ParticipationStatistics otherStatistics = new ParticipationStatistics(33, 1, 33, 33);
+        ParticipationStatistics expectedStatistics = new ParticipationStatistics(164, 3, 33, 80);
+
+        assertEquals(expectedStatistics, statistics.combine(otherStatistics));
+        assertEquals(expectedStatistics, otherStatistics.combine(statistics));
+
+        // without attendance -> returns the other statistics
+        assertEquals(statistics, statistics.combine(ParticipationStatistics.NO_ATTENDANCE));
+        assertEquals(statistics, ParticipationStatistics.NO_ATTENDANCE.combine(statistics));
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(statistics.equals(new ParticipationStatistics(131, 2, 51, 80)));
+
+        // same object -> returns true
+        assertTrue(statistics.equals(statistics));
+
+        // null -> returns false
+        assertFalse(statistics.equals(null));
+
+        // different type -> returns false
+        assertFalse(statistics.equals(5));
+
+        // different values -> returns false
+        assertFalse(statistics.equals(new ParticipationStatistics(131, 3, 0, 80)));
+        assertFalse(statistics.equals(new ParticipationStatistics(131, 2, 50, 81)));
+    }
+}
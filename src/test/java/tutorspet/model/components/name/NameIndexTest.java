@@ -0,0 +1,112 @@
+package tutorspet.model.components.name;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.student.Student;
+import tutorspet.testutil.StudentBuilder;
+
+public class NameIndexTest {
+
+    private final NameIndex nameIndex = new NameIndex();
+
+    @Test
+    public void add_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.add(null));
+    }
+
+    @Test
+    public void find_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.find(null));
+        assertThrows(NullPointerException.class, () -> nameIndex.find(Collections.singletonList(null)));
+    }
+
+    @Test
+    public void find_keywords_returnsNamesContainingAnyKeyword() {
+        nameIndex.add(ALICE.getName());
+        nameIndex.add(BENSON.getName());
+
+        // zero keywords
+        assertEquals(Set.of(), nameIndex.find(Collections.emptyList()));
+
+        // one keyword
+        assertEquals(Set.of(ALICE.getName()), nameIndex.find(Collections.singletonList("Alice")));
+
+        // mixed-case keywords
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName()), nameIndex.find(Arrays.asList("aLIce", "meIER")));
+
+        // partial word
+        assertEquals(Set.of(), nameIndex.find(Collections.singletonList("Ali")));
+    }
+
+    @Test
+    public void remove_nameAddedTwice_keepsNameUntilRemovedTwice() {
+        List<String> keywords = Collections.singletonList("alice");
+        nameIndex.add(ALICE.getName());
+        nameIndex.add(ALICE.getName());
+
+        nameIndex.remove(ALICE.getName());
+        assertEquals(Set.of(ALICE.getName()), nameIndex.find(keywords));
+
+        nameIndex.remove(ALICE.getName());
+        assertEquals(Set.of(), nameIndex.find(keywords));
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        NameIndex replacement = new NameIndex();
+        replacement.add(BENSON.getName());
+        nameIndex.add(ALICE.getName());
+
+        nameIndex.setAll(replacement);
+        assertEquals(Set.of(BENSON.getName()), nameIndex.find(Arrays.asList("alice", "benson")));
+
+        // replacement is copied
+        replacement.remove(BENSON.getName());
+        assertEquals(Set.of(BENSON.getName()), nameIndex.find(Arrays.asList("alice", "benson")));
+    }
+
+    @Test
+    public void clear_removesAllNames() {
+        nameIndex.add(ALICE.getName());
+        nameIndex.clear();
+        assertEquals(Set.of(), nameIndex.find(Collections.singletonList("alice")));
+    }
+
+    @Test
+    public void createPredicate_sameResultAsNameContainsKeywordsPredicate() {
+        nameIndex.add(ALICE.getName());
+        nameIndex.add(BENSON.getName());
+        List<String> keywords = Arrays.asList("alice", "Carl", "PAULINE");
+        Predicate<Student> predicate = nameIndex.createPredicate(keywords);
+        NameContainsKeywordsPredicate<Student> expectedPredicate = new NameContainsKeywordsPredicate<>(keywords);
+
+        for (Student student : Arrays.asList(ALICE, BENSON)) {
+            assertEquals(expectedPredicate.test(student), predicate.test(student));
+        }
+    }
+
+    @Test
+    public void createPredicate_indexChanged_followsIndex() {
+        Student renamedBenson = new StudentBuilder(BENSON).withName("Alice Meier").build();
+        nameIndex.add(BENSON.getName());
+        Predicate<Student> predicate = nameIndex.createPredicate(Collections.singletonList("alice"));
+        assertFalse(predicate.test(renamedBenson));
+
+        nameIndex.remove(BENSON.getName());
+        nameIndex.add(renamedBenson.getName());
+        assertTrue(predicate.test(renamedBenson));
+    }
+}
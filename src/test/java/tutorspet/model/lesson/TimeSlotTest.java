@@ -0,0 +1,58 @@
+package tutorspet.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeSlotTest {
+
+    private static final LocalTime EIGHT = LocalTime.of(8, 0);
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TimeSlot(null, EIGHT, TEN));
+        assertThrows(NullPointerException.class, () -> new TimeSlot(Day.MONDAY, null, TEN));
+        assertThrows(NullPointerException.class, () -> new TimeSlot(Day.MONDAY, EIGHT, null));
+    }
+
+    @Test
+    public void constructor_startTimeNotBeforeEndTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(Day.MONDAY, TEN, EIGHT));
+        assertThrows(IllegalArgumentException.class, () -> new TimeSlot(Day.MONDAY, TEN, TEN));
+    }
+
+    @Test
+    public void equals() {
+        TimeSlot timeSlot = new TimeSlot(Day.MONDAY, EIGHT, TEN);
+
+        // same values -> returns true
+        assertTrue(timeSlot.equals(new TimeSlot(Day.MONDAY, EIGHT, TEN)));
+
+        // same object -> returns true
+        assertTrue(timeSlot.equals(timeSlot));
+
+        // null -> returns false
+        assertFalse(timeSlot.equals(null));
+
+        // different type -> returns false
+        assertFalse(timeSlot.equals(5));
+
+        // different day -> returns false
+        assertFalse(timeSlot.equals(new TimeSlot(Day.TUESDAY, EIGHT, TEN)));
+
+        // different times -> returns false
+        assertFalse(timeSlot.equals(new TimeSlot(Day.MONDAY, EIGHT, LocalTime.of(9, 0))));
+        assertFalse(timeSlot.equals(new TimeSlot(Day.MONDAY, LocalTime.of(9, 0), TEN)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("Monday 08:00 to 10:00", new TimeSlot(Day.MONDAY, EIGHT, TEN).toString());
+    }
+}
@@ -0,0 +1,148 @@
+package tutorspet.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalLesson.LESSON_FRI_8_TO_10;
+import static tutorspet.testutil.TypicalLesson.LESSON_THU_10_TO_11;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.components.name.Name;
+import tutorspet.testutil.LessonBuilder;
+
+public class TimetableTest {
+
+    private static final Name FIRST_CLASS = new Name("CS2103T Tutorial");
+    private static final Name SECOND_CLASS = new Name("CS2100 Lab");
+
+    private final Timetable timetable = new Timetable();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> timetable.add(null, LESSON_FRI_8_TO_10));
+        assertThrows(NullPointerException.class, () -> timetable.add(FIRST_CLASS, null));
+    }
+
+    @Test
+    public void findClash_overlappingLessonOfOtherClass_returnsOtherClass() {
+        timetable.add(FIRST_CLASS, LESSON_FRI_8_TO_10);
+
+        assertEquals(Optional.of(FIRST_CLASS), timetable.findClash(SECOND_CLASS, createLesson(Day.FRIDAY, 9, 11)));
+        assertEquals(Optional.of(FIRST_CLASS), timetable.findClash(SECOND_CLASS, createLesson(Day.FRIDAY, 7, 9)));
+        assertEquals(Optional.of(FIRST_CLASS), timetable.findClash(SECOND_CLASS, LESSON_FRI_8_TO_10));
+    }
+
+    @Test
+    public void findClash_noOverlappingLessonOfOtherClass_returnsEmpty() {
+        timetable.add(FIRST_CLASS, LESSON_FRI_8_TO_10);
+
+        // lessons of the same class are ignored
+        assertEquals(Optional.empty(), timetable.findClash(FIRST_CLASS, createLesson(Day.FRIDAY, 9, 11)));
+
+        // adjacent lessons do not clash
+        assertEquals(Optional.empty(), timetable.findClash(SECOND_CLASS, createLesson(Day.FRIDAY, 10, 11)));
+        assertEquals(Optional.empty(), timetable.findClash(SECOND_CLASS, createLesson(Day.FRIDAY, 7, 8)));
+
+        // different day
+        assertEquals(Optional.empty(), timetable.findClash(SECOND_CLASS, createLesson(Day.MONDAY, 8, 10)));
+
+        // removed lesson
+        timetable.remove(FIRST_CLASS, LESSON_FRI_8_TO_10);
+        assertEquals(Optional.empty(), timetable.findClash(SECOND_CLASS, LESSON_FRI_8_TO_10));
+    }
+
+    @Test
+    public void findClash_sameTimesInSeveralClasses_keepsOtherClasses() {
+        timetable.add(FIRST_CLASS, LESSON_FRI_8_TO_10);
+        timetable.add(SECOND_CLASS, LESSON_FRI_8_TO_10);
+
+        assertEquals(Optional.of(SECOND_CLASS), timetable.findClash(FIRST_CLASS, LESSON_FRI_8_TO_10));
+
+        timetable.remove(SECOND_CLASS, LESSON_FRI_8_TO_10);
+        assertEquals(Optional.empty(), timetable.findClash(FIRST_CLASS, LESSON_FRI_8_TO_10));
+        assertEquals(Optional.of(FIRST_CLASS), timetable.findClash(SECOND_CLASS, LESSON_FRI_8_TO_10));
+    }
+
+    @Test
+    public void findClash_manyLessons_sameResultAsComparingEveryLesson() {
+        Random random = new Random(2103);
+        List<Lesson> lessons = new ArrayList<>();
+        List<Name> names = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int startHour = random.nextInt(23);
+            Lesson lesson = createLesson(Day.MONDAY, startHour, startHour + 1 + random.nextInt(23 - startHour));
+            Name name = new Name("Class " + random.nextInt(50));
+            lessons.add(lesson);
+            names.add(name);
+            timetable.add(name, lesson);
+        }
+
+        // remove every other lesson, so that nodes are removed from every part of the tree
+        for (int i = lessons.size() - 1; i >= 0; i -= 2) {
+            timetable.remove(names.remove(i), lessons.remove(i));
+        }
+
+        for (int startHour = 0; startHour < 23; startHour++) {
+            Lesson query = createLesson(Day.MONDAY, startHour, startHour + 1);
+            for (Name excluded : List.of(new Name("Class 7"), new Name("Other"))) {
+                boolean isExpectedClash = false;
+                for (int i = 0; i < lessons.size(); i++) {
+                    isExpectedClash |= !names.get(i).equals(excluded) && lessons.get(i).isOverlapLesson(query);
+                }
+                Optional<Name> clash = timetable.findClash(excluded, query);
+                assertEquals(isExpectedClash, clash.isPresent());
+                clash.ifPresent(name -> assertFalse(name.equals(excluded)));
+            }
+        }
+    }
+
+    @Test
+    public void getFreeTimeSlots_lessons_returnsGapsBetweenLessons() {
+        timetable.add(FIRST_CLASS, LESSON_FRI_8_TO_10);
+        timetable.add(SECOND_CLASS, createLesson(Day.FRIDAY, 9, 12));
+        timetable.add(SECOND_CLASS, createLesson(Day.FRIDAY, 14, 15));
+        timetable.add(FIRST_CLASS, LESSON_THU_10_TO_11);
+
+        assertEquals(List.of(new TimeSlot(Day.FRIDAY, LocalTime.of(7, 0), LocalTime.of(8, 0)),
+                new TimeSlot(Day.FRIDAY, LocalTime.of(12, 0), LocalTime.of(14, 0)),
+                new TimeSlot(Day.FRIDAY, LocalTime.of(15, 0), LocalTime.of(18, 0))),
+                timetable.getFreeTimeSlots(Day.FRIDAY, LocalTime.of(7, 0), LocalTime.of(18, 0)));
+
+        // lessons partly outside the period
+        assertEquals(List.of(new TimeSlot(Day.FRIDAY, LocalTime.of(12, 0), LocalTime.of(13, 0))),
+                timetable.getFreeTimeSlots(Day.FRIDAY, LocalTime.of(9, 30), LocalTime.of(13, 0)));
+
+        // fully occupied period
+        assertEquals(List.of(), timetable.getFreeTimeSlots(Day.FRIDAY, LocalTime.of(8, 30), LocalTime.of(11, 0)));
+
+        // day without lessons
+        assertEquals(List.of(new TimeSlot(Day.MONDAY, LocalTime.of(7, 0), LocalTime.of(18, 0))),
+                timetable.getFreeTimeSlots(Day.MONDAY, LocalTime.of(7, 0), LocalTime.of(18, 0)));
+    }
+
+    @Test
+    public void getFreeTimeSlots_invalidPeriod_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                timetable.getFreeTimeSlots(Day.MONDAY, LocalTime.of(18, 0), LocalTime.of(7, 0)));
+    }
+
+    @Test
+    public void clear_removesAllLessons() {
+        timetable.add(FIRST_CLASS, LESSON_FRI_8_TO_10);
+        timetable.clear();
+
+        assertEquals(Optional.empty(), timetable.findClash(SECOND_CLASS, LESSON_FRI_8_TO_10));
+    }
+
+    private static Lesson createLesson(Day day, int startHour, int endHour) {
+        return new LessonBuilder().withDay(day).withStartTime(LocalTime.of(startHour, 0))
+                .withEndTime(LocalTime.of(endHour, 0)).build();
+    }
+}
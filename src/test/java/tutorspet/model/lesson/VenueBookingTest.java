@@ -0,0 +1,76 @@
+package tutorspet.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.components.name.Name;
+
+public class VenueBookingTest {
+
+    private static final Venue VENUE = new Venue("COM1-0208");
+    private static final TimeSlot TIME_SLOT = new TimeSlot(Day.MONDAY, LocalTime.of(8, 0), LocalTime.of(10, 0));
+    private static final Name CLASS_NAME = new Name("CS2103T Tutorial");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new VenueBooking(null, TIME_SLOT, CLASS_NAME));
+        assertThrows(NullPointerException.class, () -> new VenueBooking(VENUE, null, CLASS_NAME));
+        assertThrows(NullPointerException.class, () -> new VenueBooking(VENUE, TIME_SLOT, null));
+    }
+
+    @Test
+    public void venueTimeOrder() {
+        VenueBooking booking = new VenueBooking(VENUE, TIME_SLOT, CLASS_NAME);
+
+        // different venue
+        assertTrue(VenueBooking.VENUE_TIME_ORDER.compare(booking,
+                new VenueBooking(new Venue("COM1-0209"), TIME_SLOT, CLASS_NAME)) < 0);
+
+        // different time
+        assertTrue(VenueBooking.VENUE_TIME_ORDER.compare(booking, new VenueBooking(VENUE,
+                new TimeSlot(Day.MONDAY, LocalTime.of(8, 0), LocalTime.of(9, 0)), CLASS_NAME)) > 0);
+
+        // different class
+        assertTrue(VenueBooking.VENUE_TIME_ORDER.compare(booking,
+                new VenueBooking(VENUE, TIME_SLOT, new Name("CS2100 Lab"))) > 0);
+    }
+
+    @Test
+    public void equals() {
+        VenueBooking booking = new VenueBooking(VENUE, TIME_SLOT, CLASS_NAME);
+
+        // same values -> returns true
+        assertTrue(booking.equals(new VenueBooking(VENUE, TIME_SLOT, CLASS_NAME)));
+
+        // same object -> returns true
+        assertTrue(booking.equals(booking));
+
+        // null -> returns false
+        assertFalse(booking.equals(null));
+
+        // different type -> returns false
+        assertFalse(booking.equals(5));
+
+        // different venue -> returns false
+        assertFalse(booking.equals(new VenueBooking(new Venue("zoom"), TIME_SLOT, CLASS_NAME)));
+
+        // different time slot -> returns false
+        assertFalse(booking.equals(new VenueBooking(VENUE,
+                new TimeSlot(Day.TUESDAY, LocalTime.of(8, 0), LocalTime.of(10, 0)), CLASS_NAME)));
+
+        // different class -> returns false
+        assertFalse(booking.equals(new VenueBooking(VENUE, TIME_SLOT, new Name("CS2100 Lab"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("CS2103T Tutorial Monday 08:00 to 10:00 at COM1-0208",
+                new VenueBooking(VENUE, TIME_SLOT, CLASS_NAME).toString());
+    }
+}
@@ -0,0 +1,142 @@
+package tutorspet.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.components.name.Name;
+import tutorspet.testutil.LessonBuilder;
+
+public class VenueIndexTest {
+
+    private static final Name FIRST_CLASS = new Name("CS2103T Tutorial");
+    private static final Name SECOND_CLASS = new Name("CS2100 Lab");
+    private static final Name THIRD_CLASS = new Name("CS2100 Tutorial");
+    private static final String VENUE = "COM1-0208";
+    private static final String OTHER_VENUE = "COM1-0209";
+
+    private final VenueIndex venueIndex = new VenueIndex();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        Lesson lesson = createLesson(VENUE, Day.MONDAY, 8, 10);
+        assertThrows(NullPointerException.class, () -> venueIndex.add(null, lesson));
+        assertThrows(NullPointerException.class, () -> venueIndex.add(FIRST_CLASS, null));
+    }
+
+    @Test
+    public void getBookings_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> venueIndex.getBookings(null));
+        assertThrows(NullPointerException.class, () -> venueIndex.getBookings(null, Day.MONDAY));
+        assertThrows(NullPointerException.class, () -> venueIndex.getBookings(new Venue(VENUE), null));
+    }
+
+    @Test
+    public void getBookings_lessonsAtVenue_returnsBookingsOrderedByTime() {
+        Lesson fridayLesson = createLesson(VENUE, Day.FRIDAY, 8, 10);
+        Lesson mondayLesson = createLesson(VENUE, Day.MONDAY, 14, 16);
+        Lesson earlyMondayLesson = createLesson(VENUE, Day.MONDAY, 8, 10);
+        venueIndex.add(FIRST_CLASS, fridayLesson);
+        venueIndex.add(SECOND_CLASS, mondayLesson);
+        venueIndex.add(THIRD_CLASS, earlyMondayLesson);
+        venueIndex.add(THIRD_CLASS, createLesson(OTHER_VENUE, Day.MONDAY, 8, 10));
+
+        assertEquals(List.of(createBooking(THIRD_CLASS, earlyMondayLesson), createBooking(SECOND_CLASS, mondayLesson),
+                createBooking(FIRST_CLASS, fridayLesson)), venueIndex.getBookings(new Venue(VENUE)));
+        assertEquals(List.of(createBooking(THIRD_CLASS, earlyMondayLesson), createBooking(SECOND_CLASS, mondayLesson)),
+                venueIndex.getBookings(new Venue(VENUE), Day.MONDAY));
+
+        // no lessons on the day
+        assertEquals(List.of(), venueIndex.getBookings(new Venue(VENUE), Day.SUNDAY));
+
+        // no lessons at the venue
+        assertEquals(List.of(), venueIndex.getBookings(new Venue("zoom")));
+
+        // removed lesson
+        venueIndex.remove(FIRST_CLASS, fridayLesson);
+        assertEquals(List.of(), venueIndex.getBookings(new Venue(VENUE), Day.FRIDAY));
+    }
+
+    @Test
+    public void getConflicts_overlappingLessonsAtSameVenue_returnsBothLessons() {
+        Lesson firstLesson = createLesson(VENUE, Day.MONDAY, 8, 10);
+        Lesson secondLesson = createLesson(VENUE, Day.MONDAY, 9, 11);
+        venueIndex.add(FIRST_CLASS, firstLesson);
+        venueIndex.add(SECOND_CLASS, secondLesson);
+
+        // adjacent lesson, lesson at another venue and lesson on another day do not conflict
+        venueIndex.add(THIRD_CLASS, createLesson(VENUE, Day.MONDAY, 11, 12));
+        venueIndex.add(THIRD_CLASS, createLesson(OTHER_VENUE, Day.MONDAY, 8, 10));
+        venueIndex.add(THIRD_CLASS, createLesson(VENUE, Day.TUESDAY, 8, 10));
+
+        assertEquals(List.of(createBooking(FIRST_CLASS, firstLesson), createBooking(SECOND_CLASS, secondLesson)),
+                venueIndex.getConflicts());
+    }
+
+    @Test
+    public void getConflicts_lessonsRemoved_keepsRemainingConflicts() {
+        Lesson firstLesson = createLesson(VENUE, Day.MONDAY, 8, 12);
+        Lesson secondLesson = createLesson(VENUE, Day.MONDAY, 9, 10);
+        Lesson thirdLesson = createLesson(VENUE, Day.MONDAY, 11, 13);
+        venueIndex.add(FIRST_CLASS, firstLesson);
+        venueIndex.add(SECOND_CLASS, secondLesson);
+        venueIndex.add(THIRD_CLASS, thirdLesson);
+        assertEquals(List.of(createBooking(FIRST_CLASS, firstLesson), createBooking(SECOND_CLASS, secondLesson),
+                createBooking(THIRD_CLASS, thirdLesson)), venueIndex.getConflicts());
+
+        // the first lesson still overlaps the third lesson
+        venueIndex.remove(SECOND_CLASS, secondLesson);
+        assertEquals(List.of(createBooking(FIRST_CLASS, firstLesson), createBooking(THIRD_CLASS, thirdLesson)),
+                venueIndex.getConflicts());
+
+        venueIndex.remove(FIRST_CLASS, firstLesson);
+        assertEquals(List.of(), venueIndex.getConflicts());
+
+        // the same lesson added again
+        venueIndex.add(FIRST_CLASS, firstLesson);
+        assertEquals(List.of(createBooking(FIRST_CLASS, firstLesson), createBooking(THIRD_CLASS, thirdLesson)),
+                venueIndex.getConflicts());
+    }
+
+    @Test
+    public void getConflicts_sameTimesInSeveralClasses_returnsEveryClass() {
+        Lesson lesson = createLesson(VENUE, Day.MONDAY, 8, 10);
+        venueIndex.add(FIRST_CLASS, lesson);
+        venueIndex.add(SECOND_CLASS, lesson);
+        venueIndex.add(THIRD_CLASS, lesson);
+        assertEquals(List.of(createBooking(SECOND_CLASS, lesson), createBooking(THIRD_CLASS, lesson),
+                createBooking(FIRST_CLASS, lesson)), venueIndex.getConflicts());
+
+        venueIndex.remove(THIRD_CLASS, lesson);
+        assertEquals(List.of(createBooking(SECOND_CLASS, lesson), createBooking(FIRST_CLASS, lesson)),
+                venueIndex.getConflicts());
+
+        venueIndex.remove(SECOND_CLASS, lesson);
+        assertEquals(List.of(), venueIndex.getConflicts());
+    }
+
+    @Test
+    public void clear_removesAllLessons() {
+        Lesson lesson = createLesson(VENUE, Day.MONDAY, 8, 10);
+        venueIndex.add(FIRST_CLASS, lesson);
+        venueIndex.add(SECOND_CLASS, lesson);
+
+        venueIndex.clear();
+        assertEquals(List.of(), venueIndex.getBookings(new Venue(VENUE)));
+        assertEquals(List.of(), venueIndex.getConflicts());
+    }
+
+    private static Lesson createLesson(String venue, Day day, int startHour, int endHour) {
+        return new LessonBuilder().withVenue(venue).withDay(day).withStartTime(LocalTime.of(startHour, 0))
+                .withEndTime(LocalTime.of(endHour, 0)).build();
+    }
+
+    private static VenueBooking createBooking(Name moduleClassName, Lesson lesson) {
+        return new VenueBooking(lesson.getVenue(),
+                new TimeSlot(lesson.getDay(), lesson.getStartTime(), lesson.getEndTime()), moduleClassName);
+    }
+}
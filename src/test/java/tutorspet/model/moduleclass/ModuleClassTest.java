@@ -80,6 +80,12 @@ public class ModuleClassTest {
         assertTrue(moduleClass.hasStudentUuid(ALICE.getUuid()));
     }
 
+    @Test
+    public void hasStudentUuid_equalUuid_returnsTrue() {
+        ModuleClass moduleClass = new ModuleClassBuilder().withStudentUuids(ALICE.getUuid()).build();
+        assertTrue(moduleClass.hasStudentUuid(UUID.fromString(ALICE.getUuid().toString())));
+    }
+
     @Test
     public void hasStudentUuid_nullUuid_throwsNullPointerException() {
         ModuleClass moduleClass = new ModuleClassBuilder().build();
@@ -148,6 +154,24 @@ public class ModuleClassTest {
         assertThrows(UnsupportedOperationException.class, () -> moduleClass.getLessons().remove(0));
     }
 
+    @Test
+    public void withLesson_validIndex_lessonReplaced() {
+        ModuleClass moduleClass = new ModuleClassBuilder().withStudentUuids(ALICE.getUuid())
+                .withLessons(LESSON_FRI_8_TO_10, LESSON_WED_2_TO_4).build();
+        ModuleClass expectedModuleClass = new ModuleClassBuilder().withStudentUuids(ALICE.getUuid())
+                .withLessons(LESSON_FRI_8_TO_10, LESSON_THU_10_TO_11).build();
+
+        assertEquals(expectedModuleClass, moduleClass.withLesson(1, LESSON_THU_10_TO_11));
+        // the original class is unchanged
+        assertEquals(List.of(LESSON_FRI_8_TO_10, LESSON_WED_2_TO_4), moduleClass.getLessons());
+    }
+
+    @Test
+    public void withLesson_invalidIndex_throwsIndexOutOfBoundsException() {
+        ModuleClass moduleClass = new ModuleClassBuilder().withLessons(LESSON_FRI_8_TO_10).build();
+        assertThrows(IndexOutOfBoundsException.class, () -> moduleClass.withLesson(1, LESSON_WED_2_TO_4));
+    }
+
     @Test
     public void isSameModuleClass() {
         // same object -> returns true
@@ -3,30 +3,41 @@ package tutorspet.model.moduleclass;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.util.LessonUtil.deleteStudentFromLesson;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_TUTORIAL;
 import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
 import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL_NO_STUDENTS;
 import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.AMY;
+import static tutorspet.testutil.TypicalStudent.BENSON;
 
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import tutorspet.model.lesson.Day;
 import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.TimeSlot;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.lesson.VenueBooking;
 import tutorspet.model.moduleclass.exceptions.DuplicateModuleClassException;
 import tutorspet.model.moduleclass.exceptions.ModuleClassNotFoundException;
 import tutorspet.model.student.Student;
+import tutorspet.testutil.LessonBuilder;
 import tutorspet.testutil.ModuleClassBuilder;
 import tutorspet.testutil.StudentBuilder;
 
@@ -107,6 +118,25 @@ public class UniqueModuleClassListTest {
                 uniqueModuleClassList.setModuleClass(CS2103T_TUTORIAL, editedClass));
     }
 
+    @Test
+    public void setModuleClass_targetWithSameNameButDifferentFields_throwsModuleClassNotFoundException() {
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        ModuleClass editedClass = new ModuleClassBuilder(CS2103T_TUTORIAL)
+                .withStudentUuids(AMY.getUuid()).build();
+        assertThrows(ModuleClassNotFoundException.class, () ->
+                uniqueModuleClassList.setModuleClass(editedClass, CS2100_LAB));
+    }
+
+    @Test
+    public void setModuleClass_editedModuleClassHasNewName_oldNameNoLongerContained() {
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        uniqueModuleClassList.setModuleClass(CS2103T_TUTORIAL, CS2100_LAB);
+        assertFalse(uniqueModuleClassList.contains(CS2103T_TUTORIAL));
+        assertTrue(uniqueModuleClassList.contains(CS2100_LAB));
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        assertEquals(Arrays.asList(CS2100_LAB, CS2103T_TUTORIAL), uniqueModuleClassList.asUnmodifiableObservedList());
+    }
+
     @Test
     public void remove_nullModuleClass_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueModuleClassList.remove(null));
@@ -193,6 +223,19 @@ public class UniqueModuleClassListTest {
         assertEquals(expectedUniqueModuleClassList, uniqueModuleClassList);
     }
 
+    @Test
+    public void remove_firstOfManyModuleClasses_laterModuleClassesStillEditable() {
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        uniqueModuleClassList.add(CS2100_LAB);
+        uniqueModuleClassList.add(CS2100_TUTORIAL);
+        uniqueModuleClassList.remove(CS2103T_TUTORIAL);
+        uniqueModuleClassList.setModuleClass(CS2100_TUTORIAL, CS2103T_TUTORIAL);
+        uniqueModuleClassList.remove(CS2100_LAB);
+        UniqueModuleClassList expectedUniqueModuleClassList = new UniqueModuleClassList();
+        expectedUniqueModuleClassList.add(CS2103T_TUTORIAL);
+        assertEquals(expectedUniqueModuleClassList, uniqueModuleClassList);
+    }
+
     @Test
     public void setModuleClass_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueModuleClassList
@@ -219,9 +262,211 @@ public class UniqueModuleClassListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void setModuleClass_list_replacesNameIndex() {
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        uniqueModuleClassList.setModuleClass(Arrays.asList(CS2100_LAB, CS2100_TUTORIAL));
+        assertFalse(uniqueModuleClassList.contains(CS2103T_TUTORIAL));
+        uniqueModuleClassList.setModuleClass(CS2100_TUTORIAL, CS2103T_TUTORIAL);
+        assertEquals(Arrays.asList(CS2100_LAB, CS2103T_TUTORIAL), uniqueModuleClassList.asUnmodifiableObservedList());
+    }
+
+    @Test
+    public void replaceModuleClasses_validReplacement_replacesRange() {
+        uniqueModuleClassList.setModuleClass(Arrays.asList(CS2103T_TUTORIAL, CS2100_LAB));
+        uniqueModuleClassList.replaceModuleClasses(0, 1, Arrays.asList(CS2100_TUTORIAL, CS2103T_TUTORIAL));
+        assertEquals(Arrays.asList(CS2100_TUTORIAL, CS2103T_TUTORIAL, CS2100_LAB),
+                uniqueModuleClassList.asUnmodifiableObservedList());
+
+        uniqueModuleClassList.replaceModuleClasses(0, 2, Collections.emptyList());
+        uniqueModuleClassList.remove(CS2100_LAB);
+        assertEquals(new UniqueModuleClassList(), uniqueModuleClassList);
+    }
+
+    @Test
+    public void replaceModuleClasses_duplicateReplacement_throwsDuplicateModuleClassExceptionAndKeepsList() {
+        uniqueModuleClassList.setModuleClass(Arrays.asList(CS2103T_TUTORIAL, CS2100_LAB));
+        assertThrows(DuplicateModuleClassException.class, () ->
+                uniqueModuleClassList.replaceModuleClasses(0, 1, Collections.singletonList(CS2100_LAB)));
+        assertEquals(Arrays.asList(CS2103T_TUTORIAL, CS2100_LAB), uniqueModuleClassList.asUnmodifiableObservedList());
+    }
+
+    @Test
+    public void removeUuid_studentInSomeClasses_replacesOnlyThoseClasses() {
+        uniqueModuleClassList.setModuleClass(Arrays.asList(CS2100_LAB, CS2100_TUTORIAL));
+        uniqueModuleClassList.removeStudent(ALICE);
+        assertSame(CS2100_LAB, uniqueModuleClassList.asUnmodifiableObservedList().get(0));
+        assertFalse(uniqueModuleClassList.asUnmodifiableObservedList().get(1).hasStudentUuid(ALICE.getUuid()));
+    }
+
+    @Test
+    public void getModuleClassesOf_nullStudent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueModuleClassList.getModuleClassesOf(null));
+    }
+
+    @Test
+    public void getModuleClassesOf_studentInSomeClasses_returnsThoseClassesInOrder() {
+        uniqueModuleClassList.setModuleClass(Arrays.asList(CS2100_TUTORIAL, CS2100_LAB));
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        assertEquals(Arrays.asList(CS2100_TUTORIAL, CS2103T_TUTORIAL), uniqueModuleClassList.getModuleClassesOf(ALICE));
+        assertEquals(Collections.singletonList(CS2103T_TUTORIAL), uniqueModuleClassList.getModuleClassesOf(BENSON));
+        assertEquals(Collections.emptyList(), uniqueModuleClassList.getModuleClassesOf(AMY));
+    }
+
+    @Test
+    public void getModuleClassesOf_afterChanges_followsChanges() {
+        uniqueModuleClassList.setModuleClass(Arrays.asList(CS2103T_TUTORIAL, CS2100_LAB));
+
+        // students linked and unlinked
+        ModuleClass linkedLab = new ModuleClassBuilder(CS2100_LAB).withStudentUuids(BENSON.getUuid()).build();
+        uniqueModuleClassList.setModuleClass(CS2100_LAB, linkedLab);
+        ModuleClass unlinkedTutorial = new ModuleClassBuilder(CS2103T_TUTORIAL).withStudentUuids(ALICE.getUuid())
+                .build();
+        uniqueModuleClassList.setModuleClass(CS2103T_TUTORIAL, unlinkedTutorial);
+        assertEquals(Collections.singletonList(linkedLab), uniqueModuleClassList.getModuleClassesOf(BENSON));
+
+        // class renamed
+        uniqueModuleClassList.setModuleClass(unlinkedTutorial, CS2100_TUTORIAL);
+        assertEquals(Collections.singletonList(CS2100_TUTORIAL), uniqueModuleClassList.getModuleClassesOf(ALICE));
+
+        // lesson edited
+        Lesson lesson = linkedLab.getLessons().get(0);
+        ModuleClass editedLab = linkedLab.withLesson(0, new LessonBuilder(lesson).withVenue("COM1-0201").build());
+        uniqueModuleClassList.setModuleClass(linkedLab, editedLab);
+        assertEquals(Collections.singletonList(editedLab), uniqueModuleClassList.getModuleClassesOf(BENSON));
+
+        // classes replaced and removed
+        uniqueModuleClassList.replaceModuleClasses(0, 1, Arrays.asList(CS2103T_TUTORIAL));
+        assertEquals(Arrays.asList(CS2103T_TUTORIAL, editedLab), uniqueModuleClassList.getModuleClassesOf(BENSON));
+        uniqueModuleClassList.remove(editedLab);
+        assertEquals(Collections.singletonList(CS2103T_TUTORIAL), uniqueModuleClassList.getModuleClassesOf(BENSON));
+
+        // students removed
+        uniqueModuleClassList.removeStudent(BENSON);
+        assertEquals(Collections.emptyList(), uniqueModuleClassList.getModuleClassesOf(BENSON));
+        assertEquals(1, uniqueModuleClassList.getModuleClassesOf(ALICE).size());
+        uniqueModuleClassList.removeAllStudents();
+        assertEquals(Collections.emptyList(), uniqueModuleClassList.getModuleClassesOf(ALICE));
+
+        // list replaced
+        UniqueModuleClassList replacement = new UniqueModuleClassList();
+        replacement.add(CS2100_TUTORIAL);
+        uniqueModuleClassList.setModuleClass(replacement);
+        replacement.remove(CS2100_TUTORIAL);
+        assertEquals(Collections.singletonList(CS2100_TUTORIAL), uniqueModuleClassList.getModuleClassesOf(ALICE));
+    }
+
+    @Test
+    public void findClashingModuleClass_nullArguments_throwsNullPointerException() {
+        Lesson lesson = new LessonBuilder().build();
+        assertThrows(NullPointerException.class, () -> uniqueModuleClassList.findClashingModuleClass(null, lesson));
+        assertThrows(NullPointerException.class, () ->
+                uniqueModuleClassList.findClashingModuleClass(CS2100_LAB, null));
+    }
+
+    @Test
+    public void findClashingModuleClass_listChanged_followsList() {
+        // CS2100_LAB has a lesson on Friday from 08:00 to 10:00
+        Lesson lesson = new LessonBuilder().withDay(Day.FRIDAY).withStartTime(LocalTime.of(9, 0))
+                .withEndTime(LocalTime.of(11, 0)).build();
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        uniqueModuleClassList.add(CS2100_LAB);
+        assertEquals(Optional.of(CS2100_LAB), uniqueModuleClassList.findClashingModuleClass(CS2103T_TUTORIAL, lesson));
+
+        // lessons of the same class do not clash
+        assertEquals(Optional.empty(), uniqueModuleClassList.findClashingModuleClass(CS2100_LAB, lesson));
+
+        ModuleClass renamedModuleClass = new ModuleClassBuilder(CS2100_LAB).withName("CS2100 Lab 2").build();
+        uniqueModuleClassList.setModuleClass(CS2100_LAB, renamedModuleClass);
+        assertEquals(Optional.of(renamedModuleClass),
+                uniqueModuleClassList.findClashingModuleClass(CS2103T_TUTORIAL, lesson));
+
+        ModuleClass moduleClassWithoutLessons = new ModuleClassBuilder(renamedModuleClass).withLessons().build();
+        uniqueModuleClassList.setModuleClass(renamedModuleClass, moduleClassWithoutLessons);
+        assertEquals(Optional.empty(), uniqueModuleClassList.findClashingModuleClass(CS2103T_TUTORIAL, lesson));
+
+        uniqueModuleClassList.remove(moduleClassWithoutLessons);
+        uniqueModuleClassList.replaceModuleClasses(1, 1, Collections.singletonList(CS2100_LAB));
+        assertEquals(Optional.of(CS2100_LAB), uniqueModuleClassList.findClashingModuleClass(CS2103T_TUTORIAL, lesson));
+
+        uniqueModuleClassList.setModuleClass(Collections.singletonList(CS2103T_TUTORIAL));
+        assertEquals(Optional.empty(), uniqueModuleClassList.findClashingModuleClass(CS2103T_TUTORIAL, lesson));
+
+        UniqueModuleClassList replacement = new UniqueModuleClassList();
+        replacement.add(CS2100_LAB);
+        uniqueModuleClassList.setModuleClass(replacement);
+        assertEquals(Optional.of(CS2100_LAB), uniqueModuleClassList.findClashingModuleClass(CS2103T_TUTORIAL, lesson));
+    }
+
+    @Test
+    public void getFreeTimeSlots_lessonsOfSeveralClasses_returnsGapsBetweenLessons() {
+        // CS2103T_TUTORIAL has a lesson on Thursday from 10:00 to 11:00
+        ModuleClass moduleClass = new ModuleClassBuilder(CS2100_TUTORIAL).withLessons(new LessonBuilder()
+                .withDay(Day.THURSDAY).withStartTime(LocalTime.of(14, 0)).withEndTime(LocalTime.of(16, 0)).build())
+                .build();
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        uniqueModuleClassList.add(moduleClass);
+
+        assertEquals(Arrays.asList(new TimeSlot(Day.THURSDAY, LocalTime.of(8, 0), LocalTime.of(10, 0)),
+                new TimeSlot(Day.THURSDAY, LocalTime.of(11, 0), LocalTime.of(14, 0)),
+                new TimeSlot(Day.THURSDAY, LocalTime.of(16, 0), LocalTime.of(18, 0))),
+                uniqueModuleClassList.getFreeTimeSlots(Day.THURSDAY, LocalTime.of(8, 0), LocalTime.of(18, 0)));
+    }
+
+    @Test
+    public void getVenueBookings_listChanged_followsList() {
+        // CS2100_LAB has a lesson at S17-0302 on Friday from 08:00 to 10:00
+        Venue venue = new Venue("S17-0302");
+        Lesson lesson = new LessonBuilder().withDay(Day.FRIDAY).withStartTime(LocalTime.of(9, 0))
+                .withEndTime(LocalTime.of(11, 0)).withVenue("S17-0302").build();
+        ModuleClass moduleClass = new ModuleClassBuilder(CS2100_TUTORIAL).withLessons(lesson).build();
+        uniqueModuleClassList.add(CS2100_LAB);
+        uniqueModuleClassList.add(moduleClass);
+        VenueBooking labBooking = new VenueBooking(venue,
+                new TimeSlot(Day.FRIDAY, LocalTime.of(8, 0), LocalTime.of(10, 0)), CS2100_LAB.getName());
+        VenueBooking tutorialBooking = new VenueBooking(venue,
+                new TimeSlot(Day.FRIDAY, LocalTime.of(9, 0), LocalTime.of(11, 0)), CS2100_TUTORIAL.getName());
+        assertEquals(Arrays.asList(labBooking, tutorialBooking), uniqueModuleClassList.getVenueBookings(venue));
+        assertEquals(Arrays.asList(labBooking, tutorialBooking),
+                uniqueModuleClassList.getVenueBookings(venue, Day.FRIDAY));
+        assertEquals(Arrays.asList(labBooking, tutorialBooking), uniqueModuleClassList.getVenueConflicts());
+
+        uniqueModuleClassList.setModuleClass(moduleClass, new ModuleClassBuilder(moduleClass).withLessons().build());
+        assertEquals(Collections.singletonList(labBooking), uniqueModuleClassList.getVenueBookings(venue));
+        assertEquals(Collections.emptyList(), uniqueModuleClassList.getVenueConflicts());
+
+        uniqueModuleClassList.setModuleClass(Collections.singletonList(moduleClass));
+        assertEquals(Collections.singletonList(tutorialBooking), uniqueModuleClassList.getVenueBookings(venue));
+        assertEquals(Collections.emptyList(), uniqueModuleClassList.getVenueConflicts());
+    }
+
+    @Test
+    public void createNamePredicate_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueModuleClassList.createNamePredicate(null));
+    }
+
+    @Test
+    public void createNamePredicate_listChanged_followsList() {
+        Predicate<ModuleClass> predicate = uniqueModuleClassList.createNamePredicate(Arrays.asList("lab", "cs2103t"));
+        uniqueModuleClassList.setModuleClass(Arrays.asList(CS2103T_TUTORIAL, CS2100_TUTORIAL));
+        assertTrue(predicate.test(CS2103T_TUTORIAL));
+        assertFalse(predicate.test(CS2100_TUTORIAL));
+
+        ModuleClass renamedModuleClass = new ModuleClassBuilder(CS2100_TUTORIAL).withName("CS2100 Lab").build();
+        uniqueModuleClassList.setModuleClass(CS2100_TUTORIAL, renamedModuleClass);
+        assertTrue(predicate.test(renamedModuleClass));
+
+        uniqueModuleClassList.remove(CS2103T_TUTORIAL);
+        assertFalse(predicate.test(CS2103T_TUTORIAL));
+
+        uniqueModuleClassList.replaceModuleClasses(0, 1, Collections.singletonList(CS2103T_TUTORIAL));
+        assertFalse(predicate.test(renamedModuleClass));
+        assertTrue(predicate.test(CS2103T_TUTORIAL));
+    }
+
+    @Test
+    public void asUnmodifiableObservedList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueModuleClassList.asUnmodifiableObservableList().remove(0));
+            -> uniqueModuleClassList.asUnmodifiableObservedList().remove(0));
     }
 
     @Test
@@ -0,0 +1,143 @@
+package tutorspet.model.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.ParticipationStatistics;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.testutil.LessonBuilder;
+import tutorspet.testutil.ModuleClassBuilder;
+import tutorspet.testutil.StudentBuilder;
+
+public class ClassReportTest {
+
+    private static final Function<UUID, Student> TYPICAL_STUDENT_LOOKUP =
+            Map.of(ALICE.getUuid(), ALICE, BENSON.getUuid(), BENSON)::get;
+
+    @Test
+    public void of_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ClassReport.of(null, TYPICAL_STUDENT_LOOKUP));
+        assertThrows(NullPointerException.class, () -> ClassReport.of(List.of(CS2103T_TUTORIAL), null));
+    }
+
+    @Test
+    public void of_typicalClasses_reportsInOrder() {
+        List<ClassReport> classReports = ClassReport.of(List.of(CS2103T_TUTORIAL, CS2100_LAB), TYPICAL_STUDENT_LOOKUP);
+
+        assertEquals(2, classReports.size());
+        ClassReport tutorialReport = classReports.get(0);
+        assertEquals(CS2103T_TUTORIAL, tutorialReport.getModuleClass());
+        assertEquals(List.of(ALICE, BENSON), List.of(tutorialReport.getStudentReports().get(0).getStudent(),
+                tutorialReport.getStudentReports().get(1).getStudent()));
+        StudentReport aliceReport = tutorialReport.getStudentReports().get(0);
+        assertEquals(65.5, aliceReport.getStatistics().getAverageScore());
+        assertEquals(8, aliceReport.getNumberOfAbsentWeeks());
+
+        assertEquals(1, tutorialReport.getNumberOfStudentsInBand(ClassReport.getBand(33)));
+        assertEquals(1, tutorialReport.getNumberOfStudentsInBand(ClassReport.getBand(65.5)));
+        assertEquals(0, tutorialReport.getNumberOfStudentsWithoutAttendance());
+
+        assertEquals(new ClassReport(CS2100_LAB, List.of()), classReports.get(1));
+    }
+
+    @Test
+    public void of_largeClassInSeveralThreads_sameAsEachLesson() {
+        List<Student> students = new ArrayList<>();
+        Map<UUID, Student> studentsByUuid = new HashMap<>();
+        for (int i = 0; i < 3 * ClassReportTask.STUDENT_THRESHOLD; i++) {
+            Student student = new StudentBuilder().withUuid(new UUID(0, i).toString()).withName("Student " + i)
+                    .build();
+            students.add(student);
+            studentsByUuid.put(student.getUuid(), student);
+        }
+
+        List<Lesson> lessons = new ArrayList<>();
+        for (int lessonNumber = 0; lessonNumber < 3; lessonNumber++) {
+            AttendanceRecordList attendanceRecordList = new AttendanceRecordList(new NumberOfOccurrences(4));
+            for (int i = lessonNumber; i < students.size(); i += 2) {
+                Week week = new Week(Index.fromZeroBased(i % 4));
+                attendanceRecordList = attendanceRecordList.withAttendance(students.get(i), week,
+                        new Attendance((i * 7 + lessonNumber) % (Attendance.UPPER_BOUND + 1)));
+            }
+            lessons.add(new LessonBuilder().withDay(Day.values()[lessonNumber]).withNumberOfOccurrences(4)
+                    .withAttendanceRecordList(attendanceRecordList).build());
+        }
+        ModuleClass moduleClass = new ModuleClassBuilder().withStudentUuids(studentsByUuid.keySet()
+                .toArray(new UUID[0])).withLessons(lessons.toArray(new Lesson[0])).build();
+
+        ClassReport classReport = ClassReport.of(List.of(moduleClass), studentsByUuid::get, new ForkJoinPool(4))
+                .get(0);
+
+        assertEquals(students.size(), classReport.getStudentReports().size());
+        for (StudentReport studentReport : classReport.getStudentReports()) {
+            ParticipationStatistics expectedStatistics = ParticipationStatistics.NO_ATTENDANCE;
+            for (Lesson lesson : lessons) {
+                expectedStatistics = expectedStatistics.combine(lesson.getAttendanceRecordList()
+                        .getParticipationStatistics(studentReport.getStudent()));
+            }
+            assertEquals(new StudentReport(studentReport.getStudent(), expectedStatistics, 12), studentReport);
+        }
+    }
+
+    @Test
+    public void of_unknownStudent_throwsException() {
+        assertThrows(RuntimeException.class, () -> ClassReport.of(List.of(CS2103T_TUTORIAL),
+                uuid -> {
+                    throw new IllegalStateException();
+                }));
+    }
+
+    @Test
+    public void getBand() {
+        assertEquals(0, ClassReport.getBand(Attendance.LOWER_BOUND));
+        assertEquals(0, ClassReport.getBand(19.99));
+        assertEquals(1, ClassReport.getBand(20));
+        assertEquals(ClassReport.NUMBER_OF_BANDS - 1, ClassReport.getBand(80));
+        assertEquals(ClassReport.NUMBER_OF_BANDS - 1, ClassReport.getBand(Attendance.UPPER_BOUND));
+    }
+
+    @Test
+    public void equals() {
+        ClassReport classReport = new ClassReport(CS2100_LAB, List.of());
+
+        // same values -> returns true
+        assertTrue(classReport.equals(new ClassReport(CS2100_LAB, List.of())));
+
+        // same object -> returns true
+        assertTrue(classReport.equals(classReport));
+
+        // null -> returns false
+        assertFalse(classReport.equals(null));
+
+        // different class -> returns false
+        assertFalse(classReport.equals(new ClassReport(CS2103T_TUTORIAL, List.of())));
+
+        // different student reports -> returns false
+        assertFalse(classReport.equals(new ClassReport(CS2100_LAB, List.of(new StudentReport(ALICE,
+                ParticipationStatistics.NO_ATTENDANCE, 0)))));
+    }
+}
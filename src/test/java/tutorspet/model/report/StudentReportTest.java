@@ -0,0 +1,56 @@
+package tutorspet.model.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.ParticipationStatistics;
+import tutorspet.testutil.TypicalAttendanceRecord;
+
+public class StudentReportTest {
+
+    private static final ParticipationStatistics STATISTICS_ALICE =
+            new AttendanceRecordList(TypicalAttendanceRecord.getTypicalAttendanceRecord())
+                    .getParticipationStatistics(ALICE);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentReport(null, STATISTICS_ALICE, 3));
+        assertThrows(NullPointerException.class, () -> new StudentReport(ALICE, null, 3));
+    }
+
+    @Test
+    public void getNumberOfAbsentWeeks() {
+        assertEquals(1, new StudentReport(ALICE, STATISTICS_ALICE, 3).getNumberOfAbsentWeeks());
+        assertEquals(3, new StudentReport(ALICE, ParticipationStatistics.NO_ATTENDANCE, 3).getNumberOfAbsentWeeks());
+    }
+
+    @Test
+    public void equals() {
+        StudentReport studentReport = new StudentReport(ALICE, STATISTICS_ALICE, 3);
+
+        // same values -> returns true
+        assertTrue(studentReport.equals(new StudentReport(ALICE, STATISTICS_ALICE, 3)));
+
+        // same object -> returns true
+        assertTrue(studentReport.equals(studentReport));
+
+        // null -> returns false
+        assertFalse(studentReport.equals(null));
+
+        // different student -> returns false
+        assertFalse(studentReport.equals(new StudentReport(BENSON, STATISTICS_ALICE, 3)));
+
+        // different statistics -> returns false
+        assertFalse(studentReport.equals(new StudentReport(ALICE, ParticipationStatistics.NO_ATTENDANCE, 3)));
+
+        // different number of weeks -> returns false
+        assertFalse(studentReport.equals(new StudentReport(ALICE, STATISTICS_ALICE, 4)));
+    }
+}
@@ -2,9 +2,11 @@ package tutorspet.model.student;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.BENSON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -16,6 +18,11 @@ import org.junit.jupiter.api.Test;
 
 class StudentInUuidCollectionPredicateTest {
 
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentInUuidCollectionPredicate(null));
+    }
+
     @Test
     public void test_studentInCollection_returnsTrue() {
         // one student
@@ -42,6 +49,12 @@ class StudentInUuidCollectionPredicateTest {
         // non-matching student
         predicate = new StudentInUuidCollectionPredicate(Collections.singleton(BENSON.getUuid()));
         assertFalse(predicate.test(ALICE));
+
+        // collection changed after creation
+        List<UUID> studentUuids = new ArrayList<>(Collections.singletonList(BENSON.getUuid()));
+        predicate = new StudentInUuidCollectionPredicate(studentUuids);
+        studentUuids.add(ALICE.getUuid());
+        assertFalse(predicate.test(ALICE));
     }
 
     @Test
@@ -0,0 +1,68 @@
+package tutorspet.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalStudent.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.testutil.StudentBuilder;
+
+public class StudentRankingComparatorTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new StudentRankingComparator(null));
+        assertThrows(NullPointerException.class, () -> new StudentRankingComparator(Arrays.asList(ALICE, null)));
+    }
+
+    @Test
+    public void compare_rankedAndUnrankedStudents_rankedStudentsFirstInRankingOrder() {
+        StudentRankingComparator comparator = new StudentRankingComparator(Arrays.asList(CARL, ALICE));
+        List<Student> students = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL));
+        students.sort(comparator);
+
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), students);
+    }
+
+    @Test
+    public void compare_editedStudent_keepsRank() {
+        StudentRankingComparator comparator = new StudentRankingComparator(Arrays.asList(CARL, ALICE));
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alice Edited").build();
+
+        assertTrue(comparator.compare(editedAlice, CARL) > 0);
+        assertTrue(comparator.compare(editedAlice, BENSON) < 0);
+    }
+
+    @Test
+    public void equals() {
+        StudentRankingComparator comparator = new StudentRankingComparator(Arrays.asList(ALICE, BENSON));
+
+        // same object -> returns true
+        assertTrue(comparator.equals(comparator));
+
+        // same ranking -> returns true
+        StudentRankingComparator comparatorCopy = new StudentRankingComparator(Arrays.asList(ALICE, BENSON));
+        assertTrue(comparator.equals(comparatorCopy));
+        assertEquals(comparator.hashCode(), comparatorCopy.hashCode());
+
+        // different types -> returns false
+        assertFalse(comparator.equals(1));
+
+        // null -> returns false
+        assertFalse(comparator.equals(null));
+
+        // different ranking -> returns false
+        assertFalse(comparator.equals(new StudentRankingComparator(Arrays.asList(BENSON, ALICE))));
+        assertFalse(comparator.equals(new StudentRankingComparator(Collections.emptyList())));
+    }
+}
@@ -0,0 +1,135 @@
+package tutorspet.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.model.student.StudentSearchIndex.EXACT_MATCH_SCORE;
+import static tutorspet.model.student.StudentSearchIndex.FUZZY_MATCH_SCORE;
+import static tutorspet.model.student.StudentSearchIndex.PREFIX_MATCH_SCORE;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalStudent.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.testutil.StudentBuilder;
+
+public class StudentSearchIndexTest {
+
+    private final StudentSearchIndex searchIndex = new StudentSearchIndex();
+
+    @Test
+    public void search_noKeywords_returnsEmptyMap() {
+        searchIndex.add(ALICE);
+        assertEquals(Map.of(), searchIndex.search(Collections.emptyList()));
+        assertEquals(Map.of(), searchIndex.search(Collections.singletonList(" ")));
+    }
+
+    @Test
+    public void search_exactKeyword_matchesEveryField() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+
+        // name, ignoring case
+        assertEquals(Map.of(ALICE.getUuid(), EXACT_MATCH_SCORE), search("PAULINE"));
+
+        // telegram
+        assertEquals(Map.of(BENSON.getUuid(), EXACT_MATCH_SCORE), search("ben_10"));
+
+        // email, in full and in parts
+        assertEquals(Map.of(ALICE.getUuid(), EXACT_MATCH_SCORE), search("alice@example.com"));
+        assertEquals(Map.of(ALICE.getUuid(), EXACT_MATCH_SCORE, BENSON.getUuid(), EXACT_MATCH_SCORE),
+                search("example"));
+
+        // tag
+        assertEquals(Map.of(BENSON.getUuid(), EXACT_MATCH_SCORE), search("potentialta"));
+    }
+
+    @Test
+    public void search_prefixKeyword_matchesWordsWithPrefix() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+
+        assertEquals(Map.of(ALICE.getUuid(), PREFIX_MATCH_SCORE), search("pau"));
+        assertEquals(Map.of(BENSON.getUuid(), PREFIX_MATCH_SCORE), search("exp"));
+
+        // exact match of one word is preferred over prefix match of another
+        searchIndex.add(new StudentBuilder(ELLE).withName("Pau Elle").build());
+        assertEquals(Map.of(ALICE.getUuid(), PREFIX_MATCH_SCORE, ELLE.getUuid(), EXACT_MATCH_SCORE), search("pau"));
+    }
+
+    @Test
+    public void search_keywordWithTypo_matchesSimilarWords() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+
+        // one substitution
+        assertEquals(Map.of(BENSON.getUuid(), FUZZY_MATCH_SCORE), search("meyer"));
+
+        // one deletion
+        assertEquals(Map.of(ALICE.getUuid(), FUZZY_MATCH_SCORE), search("pauine"));
+
+        // two typos in a long keyword
+        assertEquals(Map.of(BENSON.getUuid(), FUZZY_MATCH_SCORE), search("experiancad"));
+
+        // two typos in a short keyword
+        assertEquals(Map.of(), search("meyar"));
+
+        // short keywords are not matched with typos
+        assertEquals(Map.of(), search("bem"));
+    }
+
+    @Test
+    public void search_multipleKeywords_sumsBestScoreOfEachKeyword() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+
+        assertEquals(Map.of(ALICE.getUuid(), EXACT_MATCH_SCORE + PREFIX_MATCH_SCORE + PREFIX_MATCH_SCORE,
+                BENSON.getUuid(), FUZZY_MATCH_SCORE), search("alice", "pau", "meyer", "alic"));
+    }
+
+    @Test
+    public void remove_student_removesWordsOnlyUsedByStudent() {
+        searchIndex.add(ALICE);
+        searchIndex.add(BENSON);
+        searchIndex.remove(ALICE);
+
+        assertEquals(Map.of(), search("alice"));
+        assertEquals(Map.of(), search("pauline"));
+        assertEquals(Map.of(BENSON.getUuid(), EXACT_MATCH_SCORE), search("example"));
+
+        searchIndex.remove(BENSON);
+        assertEquals(Map.of(), search("example"));
+    }
+
+    @Test
+    public void setAll_replacementIndex_copiesIndex() {
+        StudentSearchIndex replacement = new StudentSearchIndex();
+        replacement.add(ALICE);
+        searchIndex.add(BENSON);
+        searchIndex.setAll(replacement);
+
+        assertEquals(Map.of(ALICE.getUuid(), EXACT_MATCH_SCORE), search("alice"));
+        assertEquals(Map.of(), search("benson"));
+
+        // the copy is independent of the replacement
+        replacement.remove(ALICE);
+        assertEquals(Map.of(ALICE.getUuid(), EXACT_MATCH_SCORE), search("alice"));
+    }
+
+    @Test
+    public void clear_removesEveryStudent() {
+        searchIndex.add(ALICE);
+        searchIndex.clear();
+
+        assertEquals(Map.of(), search("alice"));
+    }
+
+    private Map<?, ?> search(String... keywords) {
+        List<String> keywordList = Arrays.asList(keywords);
+        return searchIndex.search(keywordList);
+    }
+}
@@ -3,6 +3,7 @@ package tutorspet.model.student;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_TAG_AVERAGE;
@@ -15,6 +16,7 @@ import static tutorspet.testutil.TypicalStudent.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -86,6 +88,45 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(BOB, editedAlice));
     }
 
+    @Test
+    public void containsUuid_nullStudent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.containsUuid(null));
+    }
+
+    @Test
+    public void containsUuid_studentNotInList_returnsFalse() {
+        uniqueStudentList.add(ALICE);
+        assertFalse(uniqueStudentList.containsUuid(BOB));
+    }
+
+    @Test
+    public void containsUuid_studentWithSameUuidInList_returnsTrue() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withTelegram(VALID_TELEGRAM_BOB).withEmail(VALID_EMAIL_BOB)
+                .build();
+        assertTrue(uniqueStudentList.containsUuid(editedAlice));
+    }
+
+    @Test
+    public void containsUuid_removedStudent_returnsFalse() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.containsUuid(ALICE));
+    }
+
+    @Test
+    public void getStudent_studentInList_returnsStudent() {
+        uniqueStudentList.add(ALICE);
+        assertSame(ALICE, uniqueStudentList.getStudent(ALICE.getUuid()));
+    }
+
+    @Test
+    public void getStudent_studentNotInList_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.getStudent(BOB.getUuid()));
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.getStudent(null));
+    }
+
     @Test
     public void add_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.add(null));
@@ -148,6 +189,23 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, BOB));
     }
 
+    @Test
+    public void setStudent_editedStudentSharesEmailWithAnotherStudent_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        Student editedAlice = new StudentBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setStudent_editedStudentHasNewIdentity_oldIdentityNoLongerContained() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+        assertFalse(uniqueStudentList.containsUuid(ALICE));
+    }
+
     @Test
     public void remove_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.remove(null));
@@ -166,6 +224,18 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_studentBeforeOthers_keepsPositionsOfLaterStudents() {
+        uniqueStudentList.setStudent(Arrays.asList(ALICE, BENSON, BOB));
+        uniqueStudentList.remove(ALICE);
+        Student editedBob = new StudentBuilder(BOB).withTags(VALID_TAG_AVERAGE).build();
+        uniqueStudentList.setStudent(BOB, editedBob);
+        assertEquals(Arrays.asList(BENSON, editedBob), uniqueStudentList.asUnmodifiableObservedList());
+
+        uniqueStudentList.remove(editedBob);
+        assertEquals(Collections.singletonList(BENSON), uniqueStudentList.asUnmodifiableObservedList());
+    }
+
     @Test
     public void setStudents_nullUniqueStudentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent((UniqueStudentList) null));
@@ -202,9 +272,114 @@ public class UniqueStudentListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+    public void setStudents_listWithSameTelegram_throwsDuplicateStudentException() {
+        Student editedBob = new StudentBuilder(BOB).withTelegram(ALICE.getTelegram().value).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, editedBob);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(listWithDuplicateStudents));
+    }
+
+    @Test
+    public void setStudents_list_replacesIdentityIndexes() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(Collections.singletonList(BOB));
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertFalse(uniqueStudentList.containsUuid(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+        assertTrue(uniqueStudentList.containsUuid(BOB));
+    }
+
+    @Test
+    public void replaceStudents_validReplacement_replacesRange() {
+        uniqueStudentList.setStudent(Arrays.asList(ALICE, BENSON));
+        uniqueStudentList.replaceStudents(0, 1, Arrays.asList(BOB, ALICE));
+        assertEquals(Arrays.asList(BOB, ALICE, BENSON), uniqueStudentList.asUnmodifiableObservedList());
+        assertTrue(uniqueStudentList.containsUuid(BOB));
+
+        uniqueStudentList.replaceStudents(1, 3, Collections.emptyList());
+        assertEquals(Collections.singletonList(BOB), uniqueStudentList.asUnmodifiableObservedList());
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
+    @Test
+    public void replaceStudents_differentSizeReplacement_keepsPositionsOfLaterStudents() {
+        uniqueStudentList.setStudent(Arrays.asList(ALICE, BENSON));
+        uniqueStudentList.replaceStudents(0, 1, Arrays.asList(BOB, ALICE));
+        uniqueStudentList.remove(BENSON);
+        assertEquals(Arrays.asList(BOB, ALICE), uniqueStudentList.asUnmodifiableObservedList());
+
+        uniqueStudentList.replaceStudents(0, 1, Collections.emptyList());
+        uniqueStudentList.setStudent(ALICE, BENSON);
+        assertEquals(Collections.singletonList(BENSON), uniqueStudentList.asUnmodifiableObservedList());
+    }
+
+    @Test
+    public void replaceStudents_duplicateReplacement_throwsDuplicateStudentExceptionAndKeepsList() {
+        uniqueStudentList.setStudent(Arrays.asList(ALICE, BENSON));
+        assertThrows(DuplicateStudentException.class, () ->
+                uniqueStudentList.replaceStudents(0, 1, Arrays.asList(BOB, BENSON)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueStudentList.asUnmodifiableObservedList());
+        assertTrue(uniqueStudentList.contains(ALICE));
+        assertFalse(uniqueStudentList.contains(BOB));
+    }
+
+    @Test
+    public void createNamePredicate_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.createNamePredicate(null));
+    }
+
+    @Test
+    public void createNamePredicate_listChanged_followsList() {
+        Predicate<Student> predicate = uniqueStudentList.createNamePredicate(Arrays.asList("alice", "meier"));
+        uniqueStudentList.setStudent(Arrays.asList(ALICE, BOB));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BOB));
+
+        Student renamedBob = new StudentBuilder(BOB).withName("Bob Meier").build();
+        uniqueStudentList.setStudent(BOB, renamedBob);
+        assertTrue(predicate.test(renamedBob));
+
+        uniqueStudentList.remove(ALICE);
+        assertFalse(predicate.test(ALICE));
+
+        uniqueStudentList.replaceStudents(0, 1, Collections.singletonList(BENSON));
+        assertFalse(predicate.test(renamedBob));
+        assertTrue(predicate.test(BENSON));
+    }
+
+    @Test
+    public void search_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.search(null));
+    }
+
+    @Test
+    public void search_keywords_returnsRankedStudents() {
+        uniqueStudentList.setStudent(Arrays.asList(BOB, BENSON, ALICE));
+
+        // ties are in the order of the list
+        assertEquals(Arrays.asList(BOB, BENSON, ALICE),
+                uniqueStudentList.search(Collections.singletonList("example")));
+
+        // closer matches rank higher
+        assertEquals(Arrays.asList(BENSON, BOB, ALICE),
+                uniqueStudentList.search(Arrays.asList("example", "meier")));
+
+        // edited students are searched by their new details
+        Student editedAlice = new StudentBuilder(ALICE).withTelegram("alice_pauline").build();
+        uniqueStudentList.setStudent(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), uniqueStudentList.search(Arrays.asList("alice_p")));
+        assertEquals(Collections.emptyList(), uniqueStudentList.search(Arrays.asList("a1ice_p")));
+
+        // replaced students are searched after the index is rebuilt
+        uniqueStudentList.setStudent(Collections.singletonList(ALICE));
+        assertEquals(Collections.singletonList(ALICE), uniqueStudentList.search(Arrays.asList("a1ice_p")));
+        uniqueStudentList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueStudentList.search(Collections.singletonList("example")));
+    }
+
+    @Test
+    public void asUnmodifiableObservedList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueStudentList.asUnmodifiableObservableList().remove(0));
+            -> uniqueStudentList.asUnmodifiableObservedList().remove(0));
     }
 
     @Test
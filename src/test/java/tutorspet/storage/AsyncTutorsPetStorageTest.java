@@ -0,0 +1,217 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalStudent.IDA;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+
+public class AsyncTutorsPetStorageTest {
+
+    private static final Path FILE_PATH = Paths.get("TempTutorsPet.json");
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncTutorsPetStorage(null));
+    }
+
+    @Test
+    public void saveTutorsPet_laterChanges_snapshotUnaffected() throws Exception {
+        TutorsPetStorageStub stub = new TutorsPetStorageStub();
+        AsyncTutorsPetStorage storage = new AsyncTutorsPetStorage(stub);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        TutorsPet expected = new TutorsPet(tutorsPet);
+
+        stub.blockSaves();
+        storage.saveTutorsPet(tutorsPet);
+        tutorsPet.addStudent(HOON);
+        stub.unblockSaves();
+        storage.flushTutorsPet();
+
+        assertEquals(List.of(expected), stub.savedTutorsPets);
+    }
+
+    @Test
+    public void saveTutorsPet_savesWhileWriterBusy_onlyLatestWritten() throws Exception {
+        TutorsPetStorageStub stub = new TutorsPetStorageStub();
+        AsyncTutorsPetStorage storage = new AsyncTutorsPetStorage(stub);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        stub.blockSaves();
+        storage.saveTutorsPet(tutorsPet);
+        stub.awaitSaveStarted();
+        TutorsPet first = new TutorsPet(tutorsPet);
+
+        tutorsPet.addStudent(HOON);
+        storage.saveTutorsPet(tutorsPet);
+        tutorsPet.addStudent(IDA);
+        storage.saveTutorsPet(tutorsPet);
+        tutorsPet.deleteStudent(ALICE);
+        storage.saveTutorsPet(tutorsPet);
+
+        stub.unblockSaves();
+        storage.flushTutorsPet();
+
+        assertEquals(List.of(first, tutorsPet), stub.savedTutorsPets);
+        assertTrue(stub.isFlushed);
+    }
+
+    @Test
+    public void hasPendingSaves_untilLatestSaveWritten_returnsTrue() throws Exception {
+        TutorsPetStorageStub stub = new TutorsPetStorageStub();
+        AsyncTutorsPetStorage storage = new AsyncTutorsPetStorage(stub);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        assertFalse(storage.hasPendingSaves());
+
+        stub.blockSaves();
+        storage.saveTutorsPet(tutorsPet);
+        stub.awaitSaveStarted();
+        tutorsPet.addStudent(HOON);
+        storage.saveTutorsPet(tutorsPet);
+        assertTrue(storage.hasPendingSaves());
+
+        stub.unblockSaves();
+        storage.flushTutorsPet();
+        assertFalse(storage.hasPendingSaves());
+    }
+
+    @Test
+    public void saveTutorsPet_ioException_reportedAndRetriedOnFlush() throws Exception {
+        TutorsPetStorageStub stub = new TutorsPetStorageStub();
+        AsyncTutorsPetStorage storage = new AsyncTutorsPetStorage(stub);
+        List<IOException> failures = new ArrayList<>();
+        CountDownLatch reported = new CountDownLatch(1);
+        storage.setSaveListener(new AsyncTutorsPetStorage.SaveListener() {
+            @Override
+            public void saveSucceeded() {}
+
+            @Override
+            public void saveFailed(IOException ioe) {
+                failures.add(ioe);
+                reported.countDown();
+            }
+        });
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        stub.failSaves = true;
+        storage.saveTutorsPet(tutorsPet);
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+        assertEquals(1, failures.size());
+
+        // the data is still unsaved, so flushing fails too
+        assertThrows(IOException.class, storage::flushTutorsPet);
+        assertTrue(storage.hasPendingSaves());
+
+        stub.failSaves = false;
+        storage.flushTutorsPet();
+        assertEquals(List.of(tutorsPet), stub.savedTutorsPets);
+        assertFalse(storage.hasPendingSaves());
+    }
+
+    @Test
+    public void saveTutorsPet_ownFilePath_notOverwrittenByPendingSnapshot() throws Exception {
+        TutorsPetStorageStub stub = new TutorsPetStorageStub();
+        AsyncTutorsPetStorage storage = new AsyncTutorsPetStorage(stub);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        stub.blockSaves();
+        storage.saveTutorsPet(tutorsPet);
+        stub.awaitSaveStarted();
+        tutorsPet.addStudent(HOON);
+        storage.saveTutorsPet(tutorsPet);
+        stub.unblockSaves();
+
+        tutorsPet.addStudent(IDA);
+        storage.saveTutorsPet(tutorsPet, FILE_PATH);
+        storage.flushTutorsPet();
+
+        // the pending snapshot may or may not have been written before, but never after
+        assertEquals(tutorsPet, stub.savedTutorsPets.get(stub.savedTutorsPets.size() - 1));
+        assertFalse(storage.hasPendingSaves());
+    }
+
+    /**
+     * A {@code TutorsPetStorage} stub that records saved data, and whose saves can be blocked or made to fail.
+     */
+    private static class TutorsPetStorageStub implements TutorsPetStorage {
+        private final List<TutorsPet> savedTutorsPets = new ArrayList<>();
+        private CountDownLatch saveStarted = new CountDownLatch(0);
+        private CountDownLatch saveAllowed = new CountDownLatch(0);
+        private volatile boolean failSaves = false;
+        private boolean isFlushed = false;
+
+        void blockSaves() {
+            saveStarted = new CountDownLatch(1);
+            saveAllowed = new CountDownLatch(1);
+        }
+
+        void unblockSaves() {
+            saveAllowed.countDown();
+        }
+
+        void awaitSaveStarted() throws InterruptedException {
+            assertTrue(saveStarted.await(10, TimeUnit.SECONDS));
+        }
+
+        @Override
+        public Path getTutorsPetFilePath() {
+            return FILE_PATH;
+        }
+
+        @Override
+        public Optional<ReadOnlyTutorsPet> readTutorsPet() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+            saveStarted.countDown();
+            try {
+                assertTrue(saveAllowed.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failSaves) {
+                throw new IOException("Save failed");
+            }
+            savedTutorsPets.add(new TutorsPet(tutorsPet));
+        }
+
+        @Override
+        public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) {
+            savedTutorsPets.add(new TutorsPet(tutorsPet));
+        }
+
+        @Override
+        public void flushTutorsPet() {
+            isFlushed = true;
+        }
+
+        @Override
+        public boolean hasPendingSaves() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.storage.BinaryTutorsPetReader.FORMAT_VERSION;
+import static tutorspet.storage.BinaryTutorsPetReader.MAGIC_NUMBER;
+import static tutorspet.storage.BinaryTutorsPetReader.MESSAGE_CORRUPTED;
+import static tutorspet.storage.BinaryTutorsPetReader.MESSAGE_NOT_BINARY;
+import static tutorspet.storage.BinaryTutorsPetReader.MESSAGE_UNSUPPORTED_VERSION;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.lesson.Lesson;
+
+public class BinaryTutorsPetReaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTutorsPet_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> BinaryTutorsPetReader.readTutorsPet(null));
+    }
+
+    @Test
+    public void readTutorsPet_typicalData_success() throws Exception {
+        Path filePath = testFolder.resolve("tutorsPet.bin");
+        BinaryTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), filePath);
+
+        assertEquals(getTypicalTutorsPet(), BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_lazyAttendance_attendanceLoadedWhenNeeded() throws Exception {
+        Path filePath = testFolder.resolve("tutorsPet.bin");
+        BinaryTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), filePath);
+
+        TutorsPet tutorsPet = BinaryTutorsPetReader.readTutorsPet(filePath, true);
+        Lesson lesson = tutorsPet.getModuleClassList().get(0).getLessons().get(0);
+        assertFalse(lesson.getAttendanceRecordList().isLoaded());
+
+        assertEquals(getTypicalTutorsPet(), tutorsPet);
+        assertTrue(lesson.getAttendanceRecordList().isLoaded());
+    }
+
+    @Test
+    public void readTutorsPet_noStudentsOrClasses_emptyTutorsPet() throws Exception {
+        Path filePath = writeFile(FORMAT_VERSION, 0, 0);
+        assertEquals(new TutorsPet(), BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_jsonFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("tutorsPet.json");
+        JsonTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), filePath, false);
+
+        assertThrows(IOException.class, MESSAGE_NOT_BINARY, () -> BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_checksumMismatch_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("tutorsPet.bin");
+        BinaryTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(IOException.class, MESSAGE_CORRUPTED, () -> BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("tutorsPet.bin");
+        BinaryTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), filePath);
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(IOException.class, () -> BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_missingData_throwsIoException() throws Exception {
+        // a valid checksum over data that ends before the classes
+        Path filePath = writeFile(FORMAT_VERSION, 0);
+        assertThrows(IOException.class, MESSAGE_CORRUPTED, () -> BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_unsupportedVersion_throwsIoException() throws Exception {
+        Path filePath = writeFile(FORMAT_VERSION + 1, 0, 0);
+        assertThrows(IOException.class, String.format(MESSAGE_UNSUPPORTED_VERSION, FORMAT_VERSION + 1), () ->
+                BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_unknownStudentInClass_throwsIllegalValueException() throws Exception {
+        byte[] name = "CS2103T Tutorial".getBytes(UTF_8);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(new byte[] {FORMAT_VERSION, 0, 1, (byte) name.length});
+        body.write(name);
+        // one student at position 0 of the empty list of students, and no lessons
+        body.write(new byte[] {1, 0, 0});
+        Path filePath = writeFile(body.toByteArray());
+
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_STUDENTS_IN_CLASS, () ->
+                BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_invalidClassName_throwsIllegalValueException() throws Exception {
+        // a class with an empty name, no students and no lessons
+        Path filePath = writeFile(FORMAT_VERSION, 0, 1, 0, 0, 0);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                BinaryTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        Path binaryFilePath = testFolder.resolve("tutorsPet.bin");
+        BinaryTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), binaryFilePath);
+        assertTrue(BinaryTutorsPetReader.isBinaryFile(binaryFilePath));
+
+        Path jsonFilePath = testFolder.resolve("tutorsPet.json");
+        JsonTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), jsonFilePath, true);
+        assertFalse(BinaryTutorsPetReader.isBinaryFile(jsonFilePath));
+
+        Path emptyFilePath = testFolder.resolve("empty.bin");
+        Files.write(emptyFilePath, new byte[0]);
+        assertFalse(BinaryTutorsPetReader.isBinaryFile(emptyFilePath));
+    }
+
+    private Path writeFile(int... body) throws IOException {
+        byte[] bytes = new byte[body.length];
+        for (int i = 0; i < body.length; i++) {
+            bytes[i] = (byte) body[i];
+        }
+        return writeFile(bytes);
+    }
+
+    /**
+     * Writes a binary data file with {@code body} between the magic number and a valid checksum.
+     */
+    private Path writeFile(byte[] body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeInt(MAGIC_NUMBER);
+        output.write(body);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        output.writeInt((int) checksum.getValue());
+
+        Path filePath = testFolder.resolve("tutorsPet.bin");
+        Files.write(filePath, bytes.toByteArray());
+        return filePath;
+    }
+}
@@ -0,0 +1,123 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalStudent.IDA;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+
+public class BinaryTutorsPetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTutorsPet_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryTutorsPetStorage(filePath).readTutorsPet(null));
+    }
+
+    @Test
+    public void readTutorsPet_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        assertFalse(new BinaryTutorsPetStorage(filePath).readTutorsPet().isPresent());
+    }
+
+    @Test
+    public void readTutorsPet_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        BinaryTutorsPetStorage storage = new BinaryTutorsPetStorage(filePath);
+        storage.saveTutorsPet(getTypicalTutorsPet());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, storage::readTutorsPet);
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        TutorsPet original = getTypicalTutorsPet();
+        BinaryTutorsPetStorage storage = new BinaryTutorsPetStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveTutorsPet(original, filePath);
+        ReadOnlyTutorsPet readBack = storage.readTutorsPet(filePath).get();
+        assertEquals(original, new TutorsPet(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addStudent(HOON);
+        original.deleteStudent(ALICE);
+        storage.saveTutorsPet(original, filePath);
+        readBack = storage.readTutorsPet(filePath).get();
+        assertEquals(original, new TutorsPet(readBack));
+
+        // Save and read without specifying file path
+        original.addStudent(IDA);
+        storage.saveTutorsPet(original);
+        readBack = storage.readTutorsPet().get();
+        assertEquals(original, new TutorsPet(readBack));
+    }
+
+    @Test
+    public void readTutorsPet_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+        new JsonTutorsPetStorage(filePath).saveTutorsPet(original);
+
+        BinaryTutorsPetStorage storage = new BinaryTutorsPetStorage(filePath);
+        assertEquals(original, new TutorsPet(storage.readTutorsPet().get()));
+
+        // the next save replaces the json file with a binary file
+        storage.saveTutorsPet(original);
+        assertTrue(BinaryTutorsPetReader.isBinaryFile(filePath));
+        assertEquals(original, new TutorsPet(storage.readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_binaryFileInJsonStorage_readAsBinary() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+        new BinaryTutorsPetStorage(filePath).saveTutorsPet(original);
+
+        assertEquals(original, new TutorsPet(new JsonTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_binaryFile_smallerThanCompactJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempTutorsPet.bin");
+        Path jsonFilePath = testFolder.resolve("TempTutorsPet.json");
+        new BinaryTutorsPetStorage(binaryFilePath).saveTutorsPet(getTypicalTutorsPet());
+        new JsonTutorsPetStorage(jsonFilePath, false).saveTutorsPet(getTypicalTutorsPet());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void saveTutorsPet_nullTutorsPet_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryTutorsPetStorage(filePath).saveTutorsPet(null));
+    }
+
+    @Test
+    public void saveTutorsPet_nullFilePath_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        assertThrows(NullPointerException.class, () ->
+                new BinaryTutorsPetStorage(filePath).saveTutorsPet(new TutorsPet(), null));
+    }
+}
@@ -0,0 +1,36 @@
+package tutorspet.storage;
+
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.model.TutorsPet;
+
+public class BinaryTutorsPetWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeTutorsPet_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("tutorsPet.bin");
+        assertThrows(NullPointerException.class, () -> BinaryTutorsPetWriter.writeTutorsPet(null, filePath));
+        assertThrows(NullPointerException.class, () -> BinaryTutorsPetWriter.writeTutorsPet(new TutorsPet(), null));
+    }
+
+    @Test
+    public void writeTutorsPet_classWithUnknownStudent_throwsIoException() {
+        Path filePath = testFolder.resolve("tutorsPet.bin");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        tutorsPet.setStudents(new TutorsPet().getStudentList());
+
+        assertThrows(IOException.class, MESSAGE_INVALID_STUDENTS_IN_CLASS, () ->
+                BinaryTutorsPetWriter.writeTutorsPet(tutorsPet, filePath));
+    }
+}
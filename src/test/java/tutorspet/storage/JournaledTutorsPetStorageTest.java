@@ -0,0 +1,255 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_80;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_VENUE_COM1_B111_LESSON_WED_2_TO_4;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalStudent.IDA;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.Venue;
+import tutorspet.testutil.ModuleClassBuilder;
+
+public class JournaledTutorsPetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledTutorsPetStorage(null));
+    }
+
+    @Test
+    public void readTutorsPet_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        assertFalse(new JournaledTutorsPetStorage(filePath).readTutorsPet().isPresent());
+    }
+
+    @Test
+    public void saveTutorsPet_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+
+        storage.saveTutorsPet(original);
+        String snapshot = Files.readString(filePath);
+        assertEquals(1, readJournal(filePath).size());
+
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+        original.deleteStudent(ALICE);
+        storage.saveTutorsPet(original);
+        original.addModuleClass(new ModuleClassBuilder().withName("CS2040 Tutorial").build());
+        storage.saveTutorsPet(original);
+
+        // snapshot is untouched, and each save is one entry in the journal
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, readJournal(filePath).size());
+        assertEquals(original, new TutorsPet(new JournaledTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_attendanceEdited_onlyEditedRecordAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+
+        Lesson lesson = CS2103T_TUTORIAL.getLessons().get(0);
+        AttendanceRecordList editedRecordList = lesson.getAttendanceRecordList()
+                .withAttendance(BENSON, new Week(Index.fromOneBased(1)), new Attendance(VALID_PARTICIPATION_SCORE_80));
+        Lesson editedLesson = new Lesson(lesson.getStartTime(), lesson.getEndTime(), lesson.getDay(),
+                lesson.getNumberOfOccurrences(), lesson.getVenue(), editedRecordList);
+        original.setModuleClass(CS2103T_TUTORIAL, CS2103T_TUTORIAL.withLesson(0, editedLesson));
+        storage.saveTutorsPet(original);
+
+        // neither the class nor the lesson is written, only the attendance record of the edited week
+        String entry = readJournal(filePath).get(1);
+        assertFalse(entry.contains(lesson.getVenue().toString()));
+        assertTrue(entry.length() < JsonUtil.toCompactJsonString(new JsonAdaptedLesson(editedLesson)).length());
+        assertEquals(original, new TutorsPet(new JournaledTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_lessonEdited_onlyEditedLessonAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+
+        Lesson lesson = CS2103T_TUTORIAL.getLessons().get(0);
+        Lesson editedLesson = new Lesson(lesson.getStartTime(), lesson.getEndTime(), lesson.getDay(),
+                lesson.getNumberOfOccurrences(), new Venue(VALID_VENUE_COM1_B111_LESSON_WED_2_TO_4),
+                lesson.getAttendanceRecordList());
+        original.setModuleClass(CS2103T_TUTORIAL, CS2103T_TUTORIAL.withLesson(0, editedLesson));
+        storage.saveTutorsPet(original);
+
+        // the class is not written, only the edited lesson
+        String entry = readJournal(filePath).get(1);
+        assertTrue(entry.contains("\"classes\":[]"));
+        assertTrue(entry.contains(VALID_VENUE_COM1_B111_LESSON_WED_2_TO_4));
+        assertEquals(original, new TutorsPet(new JournaledTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_noChanges_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+
+        storage.saveTutorsPet(original);
+        storage.saveTutorsPet(original);
+        assertEquals(1, readJournal(filePath).size());
+    }
+
+    @Test
+    public void saveTutorsPet_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath, 1, 1);
+        TutorsPet original = getTypicalTutorsPet();
+
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        // the header alone is past the threshold, so every save writes a new snapshot
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(original, new TutorsPet(new JsonTutorsPetStorage(filePath).readTutorsPet().get()));
+        assertEquals(original, new TutorsPet(new JournaledTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_afterRead_continuesFromReadData() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath);
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        JournaledTutorsPetStorage newStorage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet readBack = new TutorsPet(newStorage.readTutorsPet().get());
+        readBack.addStudent(IDA);
+        newStorage.saveTutorsPet(readBack);
+        readBack.deleteModuleClass(CS2100_LAB);
+        newStorage.saveTutorsPet(readBack);
+
+        assertEquals(readBack, new TutorsPet(new JournaledTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_journalOfOtherSnapshot_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        TutorsPet modified = new TutorsPet(original);
+        modified.addStudent(HOON);
+        storage.saveTutorsPet(modified);
+
+        // snapshot replaced without its journal, e.g. by an interrupted compaction
+        TutorsPet replacement = new TutorsPet(original);
+        replacement.addStudent(IDA);
+        new JsonTutorsPetStorage(filePath).saveTutorsPet(replacement, filePath);
+
+        assertEquals(replacement, new TutorsPet(new JournaledTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        Files.writeString(JournaledTutorsPetStorage.getJournalFilePath(filePath), "{\"students\":[{\"from\":",
+                UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(original, new TutorsPet(new JournaledTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void flushTutorsPet_pendingEntries_writtenToSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        original.deleteStudent(ALICE);
+        storage.saveTutorsPet(original);
+
+        storage.flushTutorsPet();
+
+        assertEquals(1, readJournal(filePath).size());
+        assertEquals(original, new TutorsPet(new JsonTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_otherFilePath_snapshotWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path otherFilePath = testFolder.resolve("OtherTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+
+        new JournaledTutorsPetStorage(filePath).saveTutorsPet(original, otherFilePath);
+
+        assertFalse(Files.exists(JournaledTutorsPetStorage.getJournalFilePath(otherFilePath)));
+        assertTrue(Files.exists(otherFilePath));
+        assertEquals(original, new TutorsPet(new JsonTutorsPetStorage(otherFilePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_binarySnapshot_changesAppendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.bin");
+        JournaledTutorsPetStorage storage = createBinaryJournaledStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        assertTrue(BinaryTutorsPetReader.isBinaryFile(filePath));
+        assertEquals(2, readJournal(filePath).size());
+        assertEquals(original, new TutorsPet(createBinaryJournaledStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_nullTutorsPet_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        assertThrows(NullPointerException.class, () -> new JournaledTutorsPetStorage(filePath).saveTutorsPet(null));
+    }
+
+    private JournaledTutorsPetStorage createBinaryJournaledStorage(Path filePath) {
+        return new JournaledTutorsPetStorage(new BinaryTutorsPetStorage(filePath),
+                JournaledTutorsPetStorage.DEFAULT_COMPACTION_THRESHOLD,
+                JournaledTutorsPetStorage.DEFAULT_SYNC_INTERVAL);
+    }
+
+    private List<String> readJournal(Path filePath) throws Exception {
+        return Files.readAllLines(JournaledTutorsPetStorage.getJournalFilePath(filePath), UTF_8);
+    }
+}
@@ -0,0 +1,125 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BOB;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.ListChange;
+import tutorspet.model.StateChanges;
+
+public class JsonStateArchiveTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullDirectory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonStateArchive(null));
+    }
+
+    @Test
+    public void archive_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonStateArchive(testFolder).archive(0, null));
+    }
+
+    @Test
+    public void archiveAndRetrieve_allInOrder_success() throws Exception {
+        JsonStateArchive archive = new JsonStateArchive(testFolder.resolve("history"));
+        StateChanges changes = new StateChanges(
+                List.of(new ListChange<>(0, List.of(ALICE), List.of(BOB)),
+                        new ListChange<>(1, List.of(), List.of(ALICE))),
+                List.of(new ListChange<>(2, List.of(CS2103T_TUTORIAL), List.of(CS2100_LAB))));
+
+        archive.archive(1, changes);
+        assertEquals(changes, archive.retrieve(1));
+
+        // overwrite existing state
+        StateChanges emptyChanges = new StateChanges(List.of(), List.of());
+        archive.archive(1, emptyChanges);
+        assertEquals(emptyChanges, archive.retrieve(1));
+    }
+
+    @Test
+    public void retrieve_missingState_throwsIoException() {
+        JsonStateArchive archive = new JsonStateArchive(testFolder);
+        assertThrows(IOException.class, () -> archive.retrieve(0));
+    }
+
+    @Test
+    public void retrieve_invalidState_throwsDataConversionException() throws Exception {
+        writeCompressed(testFolder.resolve("state-0.json.deflate"),
+                "{ \"studentChanges\" : [ { \"from\" : 0, \"added\" : [ { \"uuid\" : \"invalid\" } ] } ] }");
+        JsonStateArchive archive = new JsonStateArchive(testFolder);
+        assertThrows(DataConversionException.class, () -> archive.retrieve(0));
+    }
+
+    @Test
+    public void retrieve_notJsonState_throwsDataConversionException() throws Exception {
+        writeCompressed(testFolder.resolve("state-0.json.deflate"), "not json");
+        JsonStateArchive archive = new JsonStateArchive(testFolder);
+        assertThrows(DataConversionException.class, () -> archive.retrieve(0));
+    }
+
+    @Test
+    public void archive_largeState_compressesState() throws Exception {
+        JsonStateArchive archive = new JsonStateArchive(testFolder);
+        StateChanges changes = new StateChanges(
+                List.of(new ListChange<>(0, List.of(), Collections.nCopies(100, ALICE))), List.of());
+        archive.archive(0, changes);
+
+        long compressedSize = Files.size(testFolder.resolve("state-0.json.deflate"));
+        assertTrue(compressedSize * 10 < JsonUtil.toCompactJsonString(new JsonSerializableStateChanges(changes))
+                .length());
+        assertEquals(changes, archive.retrieve(0));
+    }
+
+    @Test
+    public void discard_archivedState_stateRemoved() throws Exception {
+        JsonStateArchive archive = new JsonStateArchive(testFolder);
+        archive.archive(3, new StateChanges(List.of(), List.of()));
+        archive.discard(3);
+        assertFalse(Files.exists(testFolder.resolve("state-3.json.deflate")));
+        assertThrows(IOException.class, () -> archive.retrieve(3));
+
+        // discarding a missing state does nothing
+        archive.discard(3);
+    }
+
+    @Test
+    public void deleteArchive_archivedStates_directoryRemoved() throws Exception {
+        Path archiveDirectory = testFolder.resolve("history");
+        JsonStateArchive archive = new JsonStateArchive(archiveDirectory);
+        archive.archive(0, new StateChanges(List.of(), List.of()));
+        archive.archive(1, new StateChanges(List.of(), List.of()));
+        archive.deleteArchive();
+        assertFalse(Files.exists(archiveDirectory));
+
+        // deleting a missing archive does nothing
+        archive.deleteArchive();
+    }
+
+    private static void writeCompressed(Path filePath, String content) throws IOException {
+        try (OutputStream outputStream = new DeflaterOutputStream(Files.newOutputStream(filePath))) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
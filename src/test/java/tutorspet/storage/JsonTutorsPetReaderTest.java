@@ -0,0 +1,204 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.exceptions.AttendanceLoadingException;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+
+public class JsonTutorsPetReaderTest {
+
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableTutorsPetTest");
+    private static final Path TYPICAL_TUTORS_PET_FILE = SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalTutorsPet.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readTutorsPet_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonTutorsPetReader.readTutorsPet(null));
+    }
+
+    @Test
+    public void readTutorsPet_typicalFile_success() throws Exception {
+        assertEquals(getTypicalTutorsPet(), JsonTutorsPetReader.readTutorsPet(TYPICAL_TUTORS_PET_FILE));
+    }
+
+    @Test
+    public void readTutorsPet_allSerializableTestData_sameResultAsJsonSerializableTutorsPet() throws Exception {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(SERIALIZABLE_TEST_DATA_FOLDER)) {
+            files = paths.filter(path -> path.toString().endsWith(".json")).collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            assertEquals(readWithJsonSerializableTutorsPet(file), readWithJsonTutorsPetReader(file), file.toString());
+        }
+    }
+
+    @Test
+    public void readTutorsPet_lazyAttendance_attendanceNotLoaded() throws Exception {
+        TutorsPet tutorsPet = JsonTutorsPetReader.readTutorsPet(TYPICAL_TUTORS_PET_FILE, true);
+
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            for (Lesson lesson : moduleClass.getLessons()) {
+                assertFalse(lesson.getAttendanceRecordList().isLoaded());
+            }
+        }
+        assertEquals(getTypicalTutorsPet(), tutorsPet);
+    }
+
+    @Test
+    public void readTutorsPet_lazyAttendanceOfAllSerializableTestData_sameResultWhenLoaded() throws Exception {
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(SERIALIZABLE_TEST_DATA_FOLDER)) {
+            files = paths.filter(path -> path.toString().endsWith(".json")).collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            assertEquals(readWithJsonTutorsPetReader(file), readLazilyAndLoadAttendance(file), file.toString());
+        }
+    }
+
+    @Test
+    public void readTutorsPet_classesBeforeStudents_success() throws Exception {
+        String classes = extractField("classes");
+        String students = extractField("students");
+        Path file = writeFile("{ " + classes + ", " + students + " }");
+
+        assertEquals(getTypicalTutorsPet(), JsonTutorsPetReader.readTutorsPet(file));
+    }
+
+    @Test
+    public void readTutorsPet_classesBeforeStudentsWithUnknownStudent_throwsIllegalValueException() throws Exception {
+        String classes = extractField("classes");
+        Path file = writeFile("{ " + classes + ", \"students\" : [ ] }");
+
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_STUDENTS_IN_CLASS, () ->
+                JsonTutorsPetReader.readTutorsPet(file));
+    }
+
+    @Test
+    public void readTutorsPet_unknownField_ignored() throws Exception {
+        Path file = writeFile("{ \"version\" : { \"major\" : [ 1, 2 ] }, \"students\" : [ ], \"classes\" : [ ] }");
+        assertEquals(new TutorsPet(), JsonTutorsPetReader.readTutorsPet(file));
+    }
+
+    @Test
+    public void readTutorsPet_missingField_throwsIoException() throws Exception {
+        Path file = writeFile("{ \"students\" : [ ] }");
+        assertThrows(IOException.class, () -> JsonTutorsPetReader.readTutorsPet(file));
+    }
+
+    @Test
+    public void readTutorsPet_fieldNotArray_throwsIoException() throws Exception {
+        Path file = writeFile("{ \"students\" : { }, \"classes\" : [ ] }");
+        assertThrows(IOException.class, () -> JsonTutorsPetReader.readTutorsPet(file));
+    }
+
+    @Test
+    public void readTutorsPet_notObject_throwsIoException() throws Exception {
+        Path file = writeFile("[ ]");
+        assertThrows(IOException.class, () -> JsonTutorsPetReader.readTutorsPet(file));
+    }
+
+    @Test
+    public void readTutorsPet_truncatedFile_throwsIoException() throws Exception {
+        String json = Files.readString(TYPICAL_TUTORS_PET_FILE, UTF_8);
+        Path file = writeFile(json.substring(0, json.length() / 2));
+        assertThrows(IOException.class, () -> JsonTutorsPetReader.readTutorsPet(file));
+    }
+
+    /**
+     * Returns the text of the array field {@code fieldName} of the typical TutorsPet data, including its name.
+     */
+    private String extractField(String fieldName) throws IOException {
+        String compact = JsonUtil.toCompactJsonString(new JsonSerializableTutorsPet(getTypicalTutorsPet()));
+        int start = compact.indexOf("\"" + fieldName + "\"");
+        int depth = 0;
+        int end = compact.indexOf('[', start);
+        do {
+            char c = compact.charAt(end);
+            if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            }
+            end++;
+        } while (depth > 0);
+        return compact.substring(start, end);
+    }
+
+    private Path writeFile(String json) throws IOException {
+        Path file = testFolder.resolve("tutorsPet.json");
+        Files.writeString(file, json, UTF_8);
+        return file;
+    }
+
+    /**
+     * Returns the data in {@code file} read in the same way as {@code JsonTutorsPetStorage} did before streaming,
+     * or a description of the failure.
+     */
+    private Object readWithJsonSerializableTutorsPet(Path file) {
+        try {
+            return JsonUtil.readJsonFile(file, JsonSerializableTutorsPet.class).get().toModelType();
+        } catch (DataConversionException e) {
+            return "format error";
+        } catch (IllegalValueException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Returns the data in {@code file} read with lazily loaded attendance, after loading the attendance of every
+     * lesson, or a description of the failure.
+     */
+    private Object readLazilyAndLoadAttendance(Path file) {
+        try {
+            TutorsPet tutorsPet = JsonTutorsPetReader.readTutorsPet(file, true);
+            for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+                for (Lesson lesson : moduleClass.getLessons()) {
+                    lesson.getAttendanceRecordList().getAttendanceRecordList();
+                }
+            }
+            return tutorsPet;
+        } catch (IOException e) {
+            return "format error";
+        } catch (IllegalValueException e) {
+            return e.getMessage();
+        } catch (AttendanceLoadingException e) {
+            return e.getCause() instanceof IOException ? "format error" : e.getCause().getMessage();
+        }
+    }
+
+    private Object readWithJsonTutorsPetReader(Path file) {
+        try {
+            return JsonTutorsPetReader.readTutorsPet(file);
+        } catch (IOException e) {
+            return "format error";
+        } catch (IllegalValueException e) {
+            return e.getMessage();
+        }
+    }
+}
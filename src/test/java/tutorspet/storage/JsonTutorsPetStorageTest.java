@@ -106,6 +106,21 @@ public class JsonTutorsPetStorageTest {
         assertEquals(original, new TutorsPet(readBack));
     }
 
+    @Test
+    public void readAndSaveTutorsPet_compact_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+        JsonTutorsPetStorage jsonTutorsPetStorage = new JsonTutorsPetStorage(filePath, false);
+
+        jsonTutorsPetStorage.saveTutorsPet(original);
+        ReadOnlyTutorsPet readBack = jsonTutorsPetStorage.readTutorsPet().get();
+        assertEquals(original, new TutorsPet(readBack));
+
+        // compact files can be read by storages that write pretty printed files
+        readBack = new JsonTutorsPetStorage(filePath).readTutorsPet().get();
+        assertEquals(original, new TutorsPet(readBack));
+    }
+
     @Test
     public void saveTutorsPet_nullTutorsPet_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTutorsPet(null, "SomeFile.json"));
@@ -0,0 +1,65 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.TutorsPet;
+
+public class JsonTutorsPetWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeTutorsPet_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("tutorsPet.json");
+        assertThrows(NullPointerException.class, () -> JsonTutorsPetWriter.writeTutorsPet(null, filePath, true));
+        assertThrows(NullPointerException.class, () ->
+                JsonTutorsPetWriter.writeTutorsPet(new TutorsPet(), null, true));
+    }
+
+    @Test
+    public void writeTutorsPet_prettyPrinted_sameAsJsonSerializableTutorsPet() throws Exception {
+        Path filePath = testFolder.resolve("tutorsPet.json");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        JsonTutorsPetWriter.writeTutorsPet(tutorsPet, filePath, true);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTutorsPet(tutorsPet)),
+                Files.readString(filePath, UTF_8));
+        assertEquals(tutorsPet, JsonTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void writeTutorsPet_compact_sameAsCompactJsonSerializableTutorsPet() throws Exception {
+        Path filePath = testFolder.resolve("tutorsPet.json");
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        JsonTutorsPetWriter.writeTutorsPet(tutorsPet, filePath, false);
+
+        String written = Files.readString(filePath, UTF_8);
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableTutorsPet(tutorsPet)), written);
+        assertFalse(written.contains(System.lineSeparator()));
+        assertEquals(tutorsPet, JsonTutorsPetReader.readTutorsPet(filePath));
+    }
+
+    @Test
+    public void writeTutorsPet_existingFile_replaced() throws Exception {
+        Path filePath = testFolder.resolve("tutorsPet.json");
+        JsonTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), filePath, true);
+
+        JsonTutorsPetWriter.writeTutorsPet(new TutorsPet(), filePath, true);
+
+        assertEquals(new TutorsPet(), JsonTutorsPetReader.readTutorsPet(filePath));
+    }
+}
@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tutorspet.commons.core.GuiSettings;
+import tutorspet.commons.core.HistorySettings;
+import tutorspet.commons.core.StorageFormat;
 import tutorspet.commons.exceptions.DataConversionException;
 import tutorspet.model.UserPrefs;
 import tutorspet.ui.stylesheet.Stylesheet;
@@ -76,7 +78,9 @@ public class JsonUserPrefsStorageTest {
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100, Stylesheet.LIGHT.toString()));
+        userPrefs.setHistorySettings(new HistorySettings(20, 1000));
         userPrefs.setTutorsPetFilePath(Paths.get("tutorspet.json"));
+        userPrefs.setStorageFormat(StorageFormat.BINARY);
         return userPrefs;
     }
 
@@ -0,0 +1,207 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.testutil.ModuleClassBuilder;
+
+public class ShardedTutorsPetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedTutorsPetStorage(null));
+    }
+
+    @Test
+    public void readTutorsPet_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        assertFalse(new ShardedTutorsPetStorage(filePath).readTutorsPet().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        TutorsPet original = getTypicalTutorsPet();
+
+        new ShardedTutorsPetStorage(filePath).saveTutorsPet(original);
+
+        assertTrue(ShardedTutorsPetStorage.isManifestFile(filePath));
+        // one shard for the students and one for each class
+        assertEquals(1 + original.getModuleClassList().size(), listShards(filePath).size());
+        assertEquals(original, new TutorsPet(new ShardedTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_lazyAttendance_attendanceNotLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        new ShardedTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+
+        TutorsPet readBack = new TutorsPet(new ShardedTutorsPetStorage(filePath, true).readTutorsPet().get());
+        for (ModuleClass moduleClass : readBack.getModuleClassList()) {
+            for (Lesson lesson : moduleClass.getLessons()) {
+                assertFalse(lesson.getAttendanceRecordList().isLoaded());
+            }
+        }
+        assertEquals(getTypicalTutorsPet(), readBack);
+    }
+
+    @Test
+    public void saveTutorsPet_oneClassChanged_onlyThatShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        ShardedTutorsPetStorage storage = new ShardedTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        Set<String> shards = listShards(filePath);
+
+        original.setModuleClass(CS2100_LAB, new ModuleClassBuilder(CS2100_LAB).withName("CS2040 Lab").build());
+        storage.saveTutorsPet(original);
+
+        Set<String> newShards = listShards(filePath);
+        Set<String> removedShards = new HashSet<>(shards);
+        removedShards.removeAll(newShards);
+        Set<String> addedShards = new HashSet<>(newShards);
+        addedShards.removeAll(shards);
+        assertEquals(1, removedShards.size());
+        assertEquals(1, addedShards.size());
+        assertTrue(addedShards.iterator().next().startsWith("class-"));
+        assertEquals(original, new TutorsPet(new ShardedTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_afterRead_continuesFromReadData() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        new ShardedTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+        Set<String> shards = listShards(filePath);
+
+        ShardedTutorsPetStorage storage = new ShardedTutorsPetStorage(filePath);
+        TutorsPet readBack = new TutorsPet(storage.readTutorsPet().get());
+        String manifest = Files.readString(filePath, UTF_8);
+
+        // no changes, so nothing is written
+        storage.saveTutorsPet(readBack);
+        assertEquals(manifest, Files.readString(filePath, UTF_8));
+        assertEquals(shards, listShards(filePath));
+
+        // only the students changed, so only the students shard is replaced
+        readBack.addStudent(HOON);
+        storage.saveTutorsPet(readBack);
+        Set<String> newShards = listShards(filePath);
+        newShards.retainAll(shards);
+        assertEquals(shards.size() - 1, newShards.size());
+        assertEquals(readBack, new TutorsPet(new ShardedTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_unlistedShards_deleted() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        ShardedTutorsPetStorage storage = new ShardedTutorsPetStorage(filePath);
+        storage.saveTutorsPet(getTypicalTutorsPet());
+        // left behind by an interrupted save
+        Path leftoverShard = ShardedTutorsPetStorage.getShardDirectoryPath(filePath).resolve("class-leftover.json");
+        Files.writeString(leftoverShard, "{}");
+
+        storage.saveTutorsPet(new TutorsPet());
+
+        assertFalse(Files.exists(leftoverShard));
+        assertEquals(1, listShards(filePath).size());
+    }
+
+    @Test
+    public void readTutorsPet_jsonFileWithJournal_replacedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JournaledTutorsPetStorage journaledStorage = new JournaledTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        journaledStorage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        journaledStorage.saveTutorsPet(original);
+
+        ShardedTutorsPetStorage storage = new ShardedTutorsPetStorage(filePath);
+        assertEquals(original, new TutorsPet(storage.readTutorsPet().get()));
+
+        storage.saveTutorsPet(original);
+        assertTrue(ShardedTutorsPetStorage.isManifestFile(filePath));
+        assertFalse(Files.exists(JournaledTutorsPetStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new TutorsPet(storage.readTutorsPet().get()));
+
+        // the manifest can still be read by the storages of the other formats
+        assertEquals(original, new TutorsPet(new JsonTutorsPetStorage(filePath).readTutorsPet().get()));
+    }
+
+    @Test
+    public void saveTutorsPet_otherFilePath_allShardsWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Path otherFilePath = testFolder.resolve("OtherTutorsPet.json");
+        ShardedTutorsPetStorage storage = new ShardedTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+
+        storage.saveTutorsPet(original, otherFilePath);
+
+        assertEquals(1 + original.getModuleClassList().size(), listShards(otherFilePath).size());
+        assertEquals(original, new TutorsPet(storage.readTutorsPet(otherFilePath).get()));
+    }
+
+    @Test
+    public void readTutorsPet_shardOutsideDirectory_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        Files.writeString(filePath, "{ \"manifestVersion\" : 1, \"students\" : \"../TempTutorsPet.json\", "
+                + "\"classes\" : [ ] }", UTF_8);
+
+        assertThrows(DataConversionException.class, () -> new ShardedTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    @Test
+    public void readTutorsPet_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        new ShardedTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+        Files.writeString(filePath, Files.readString(filePath, UTF_8).replaceFirst(": 1", ": 2"), UTF_8);
+
+        assertThrows(DataConversionException.class, () -> new ShardedTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    @Test
+    public void readTutorsPet_missingShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        new ShardedTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+        Path shardDirectoryPath = ShardedTutorsPetStorage.getShardDirectoryPath(filePath);
+        Files.delete(shardDirectoryPath.resolve(listShards(filePath).stream()
+                .filter(shard -> shard.startsWith("class-")).findFirst().get()));
+
+        assertThrows(DataConversionException.class, () -> new ShardedTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    @Test
+    public void saveTutorsPet_nullTutorsPet_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        assertThrows(NullPointerException.class, () -> new ShardedTutorsPetStorage(filePath).saveTutorsPet(null));
+    }
+
+    private Set<String> listShards(Path filePath) throws Exception {
+        try (Stream<Path> shards = Files.list(ShardedTutorsPetStorage.getShardDirectoryPath(filePath))) {
+            return shards.map(shard -> shard.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package tutorspet.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.core.StorageFormat;
+import tutorspet.model.TutorsPet;
+
+public class TutorsPetFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("tutorsPet.json");
+        assertThrows(NullPointerException.class, () -> TutorsPetFileConverter.createStorage(null, StorageFormat.JSON));
+        assertThrows(NullPointerException.class, () -> TutorsPetFileConverter.createStorage(filePath, null));
+    }
+
+    @Test
+    public void createStorage_eachFormat_writesInFormat() throws Exception {
+        Path jsonFilePath = testFolder.resolve("tutorsPet.json");
+        Path compactJsonFilePath = testFolder.resolve("tutorsPet.compact.json");
+        Path binaryFilePath = testFolder.resolve("tutorsPet.bin");
+
+        TutorsPetFileConverter.createStorage(jsonFilePath, StorageFormat.JSON).saveTutorsPet(getTypicalTutorsPet());
+        TutorsPetFileConverter.createStorage(compactJsonFilePath, StorageFormat.COMPACT_JSON)
+                .saveTutorsPet(getTypicalTutorsPet());
+        TutorsPetFileConverter.createStorage(binaryFilePath, StorageFormat.BINARY).saveTutorsPet(getTypicalTutorsPet());
+
+        assertTrue(Files.readString(jsonFilePath, UTF_8).contains(System.lineSeparator()));
+        assertFalse(Files.readString(compactJsonFilePath, UTF_8).contains(System.lineSeparator()));
+        assertTrue(BinaryTutorsPetReader.isBinaryFile(binaryFilePath));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonFilePath = testFolder.resolve("tutorsPet.json");
+        Path binaryFilePath = testFolder.resolve("tutorsPet.bin");
+        Path convertedBackFilePath = testFolder.resolve("convertedBack.json");
+        JsonTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), jsonFilePath, true);
+
+        TutorsPetFileConverter.convert(jsonFilePath, binaryFilePath, StorageFormat.BINARY);
+        assertTrue(BinaryTutorsPetReader.isBinaryFile(binaryFilePath));
+        assertEquals(getTypicalTutorsPet(), BinaryTutorsPetReader.readTutorsPet(binaryFilePath));
+
+        TutorsPetFileConverter.convert(binaryFilePath, convertedBackFilePath, StorageFormat.JSON);
+        assertEquals(Files.readString(jsonFilePath, UTF_8), Files.readString(convertedBackFilePath, UTF_8));
+    }
+
+    @Test
+    public void convert_jsonToShardedAndBack_lossless() throws Exception {
+        Path jsonFilePath = testFolder.resolve("tutorsPet.json");
+        Path shardedFilePath = testFolder.resolve("tutorsPet.manifest.json");
+        Path convertedBackFilePath = testFolder.resolve("convertedBack.json");
+        JsonTutorsPetWriter.writeTutorsPet(getTypicalTutorsPet(), jsonFilePath, true);
+
+        TutorsPetFileConverter.convert(jsonFilePath, shardedFilePath, StorageFormat.SHARDED);
+        assertTrue(ShardedTutorsPetStorage.isManifestFile(shardedFilePath));
+
+        TutorsPetFileConverter.convert(shardedFilePath, convertedBackFilePath, StorageFormat.JSON);
+        assertEquals(Files.readString(jsonFilePath, UTF_8), Files.readString(convertedBackFilePath, UTF_8));
+    }
+
+    @Test
+    public void convert_sourceWithJournal_journalApplied() throws Exception {
+        Path jsonFilePath = testFolder.resolve("tutorsPet.json");
+        Path binaryFilePath = testFolder.resolve("tutorsPet.bin");
+        JournaledTutorsPetStorage storage = new JournaledTutorsPetStorage(jsonFilePath);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+        storage.saveTutorsPet(tutorsPet);
+        tutorsPet.addStudent(HOON);
+        storage.saveTutorsPet(tutorsPet);
+
+        TutorsPetFileConverter.convert(jsonFilePath, binaryFilePath, StorageFormat.BINARY);
+
+        assertEquals(tutorsPet, BinaryTutorsPetReader.readTutorsPet(binaryFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_throwsIoException() {
+        Path sourceFilePath = testFolder.resolve("missing.json");
+        Path targetFilePath = testFolder.resolve("tutorsPet.bin");
+        assertThrows(IOException.class, String.format(TutorsPetFileConverter.MESSAGE_SOURCE_NOT_FOUND, sourceFilePath),
+                () -> TutorsPetFileConverter.convert(sourceFilePath, targetFilePath, StorageFormat.BINARY));
+    }
+}
@@ -1,15 +1,25 @@
 package tutorspet.testutil;
 
 import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
-import javafx.collections.ObservableList;
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.model.Model;
+import tutorspet.model.ObservedList;
 import tutorspet.model.ReadOnlyTutorsPet;
 import tutorspet.model.ReadOnlyUserPrefs;
 import tutorspet.model.StateRecords;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.TimeSlot;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.lesson.VenueBooking;
 import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.report.ClassReport;
 import tutorspet.model.student.Student;
 
 /**
@@ -57,11 +67,31 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void commit(String commitMessage) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void startTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitTransaction(String commitMessage) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean canUndo() {
         throw new AssertionError("This method should not be called.");
@@ -143,7 +173,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<Student> getFilteredStudentList() {
+    public ObservedList<Student> getFilteredStudentList() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -153,7 +183,22 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableList<ModuleClass> getFilteredModuleClassList() {
+    public void updateFilteredStudentList(Predicate<Student> predicate, Comparator<Student> comparator) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredStudentListByName(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Student> searchStudents(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservedList<ModuleClass> getFilteredModuleClassList() {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -161,4 +206,39 @@ public class ModelStub implements Model {
     public void updateFilteredModuleClassList(Predicate<ModuleClass> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void updateFilteredModuleClassListByName(List<String> keywords) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<ModuleClass> findClashingModuleClass(ModuleClass moduleClass, Lesson lesson) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<TimeSlot> getFreeTimeSlots(Day day, LocalTime startTime, LocalTime endTime) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<VenueBooking> getVenueBookings(Venue venue) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<VenueBooking> getVenueBookings(Venue venue, Day day) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<VenueBooking> getVenueConflicts() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<ClassReport> getClassReports(List<ModuleClass> moduleClasses) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
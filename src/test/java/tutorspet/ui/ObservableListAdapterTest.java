@@ -0,0 +1,53 @@
+package tutorspet.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import tutorspet.model.FilteredObservedList;
+import tutorspet.model.ObservedArrayList;
+
+public class ObservableListAdapterTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ObservableListAdapter.of(null));
+    }
+
+    @Test
+    public void of_sourceChanged_mirrorsSource() {
+        ObservedArrayList<String> source = new ObservedArrayList<>();
+        source.setAll(List.of("a", "b", "c"));
+        ObservableList<String> observableList = ObservableListAdapter.of(source);
+        assertEquals(List.of("a", "b", "c"), observableList);
+
+        source.append("d");
+        source.replace(0, "x");
+        source.delete(1);
+        source.replaceRange(0, 2, List.of("y"));
+        assertEquals(List.of("y", "d"), observableList);
+    }
+
+    @Test
+    public void of_filteredListChanged_mirrorsFilteredList() {
+        ObservedArrayList<String> source = new ObservedArrayList<>();
+        source.setAll(List.of("a", "b", "c"));
+        FilteredObservedList<String> filteredList = new FilteredObservedList<>(source, unused -> true);
+        ObservableList<String> observableList = ObservableListAdapter.of(filteredList);
+
+        filteredList.setPredicate(element -> !element.equals("b"));
+        assertEquals(List.of("a", "c"), observableList);
+        source.append("d");
+        assertEquals(List.of("a", "c", "d"), observableList);
+    }
+
+    @Test
+    public void modifyList_throwsUnsupportedOperationException() {
+        ObservableList<String> observableList = ObservableListAdapter.of(new ObservedArrayList<>());
+        assertThrows(UnsupportedOperationException.class, () -> observableList.add("a"));
+    }
+}